@@ -0,0 +1,54 @@
+package eli.braire.math.space;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares transforming a single point by a fixed-size {@link Matrix4} against the general {@link Matrix} product in homogeneous coordinates.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AffineTransformBenchmark
+{
+    private Matrix4 transform;
+    private Matrix  general;
+    private Vector3 vector;
+    private Point   point;
+
+    @Setup
+    public void setUp()
+    {
+        transform = Matrix4.rotation(Vector3.create(1, 1, 1), 0.3).translate(1, 2, 3);
+        general = transform.toMatrix();
+        vector = Vector3.create(1, 2, 3);
+        point = Point.create(1, 2, 3, 1);
+    }
+
+    @Benchmark
+    public Vector3 fixedSize()
+    {
+        return transform.transformPoint(vector);
+    }
+
+    @Benchmark
+    public Point generalMatrix()
+    {
+        return general.dotProduct(point);
+    }
+}
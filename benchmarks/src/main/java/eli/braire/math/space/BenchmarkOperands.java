@@ -0,0 +1,69 @@
+package eli.braire.math.space;
+
+import java.util.Random;
+
+/**
+ * Reproducible random operands for the benchmarks, drawn from generators with a fixed seed so that every run measures the same data.
+ *
+ * @author The Architect
+ */
+final class BenchmarkOperands
+{
+    private BenchmarkOperands()
+    {
+    }
+
+    /**
+     * @return a new generator, seeded identically for every benchmark.
+     */
+    static Random random()
+    {
+        return new Random(0L);
+    }
+
+    /**
+     * @return a new array of values uniformly distributed within [-1, 1).
+     */
+    static double[] values(final Random random, final int length)
+    {
+        final double[] values = new double[length];
+        for (int index = 0; index < length; index++)
+        {
+            values[index] = random.nextDouble() * 2 - 1;
+        }
+        return values;
+    }
+
+    /**
+     * @return a new {@link Matrix} of values uniformly distributed within [-1, 1).
+     */
+    static Matrix matrix(final Random random, final int rows, final int columns)
+    {
+        final double[][] elements = new double[rows][columns];
+        for (final double[] row : elements)
+        {
+            for (int j = 0; j < columns; j++)
+            {
+                row[j] = random.nextDouble() * 2 - 1;
+            }
+        }
+        return Matrix.create(elements);
+    }
+
+    /**
+     * @return a new {@link PointBuffer} of coordinates uniformly distributed within [-1, 1).
+     */
+    static PointBuffer points(final Random random, final int rank, final int size)
+    {
+        final PointBuffer buffer = PointBuffer.create(rank, size);
+        for (int axis = 1; axis <= rank; axis++)
+        {
+            final double[] coordinates = buffer.getAxis(axis);
+            for (int index = 0; index < size; index++)
+            {
+                coordinates[index] = random.nextDouble() * 2 - 1;
+            }
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,65 @@
+package eli.braire.math.space;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link BinaryFormat#save(Path, Matrix)} and {@link BinaryFormat#loadMatrix(Path)} of a 4096 x 4096 {@link Matrix}, a file of
+ * <code>8 &middot; 4096<sup>2</sup></code> bytes after its header, in a temporary file.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class BinaryFormatBenchmark
+{
+    static final int SIZE = 4096;
+
+    private Path   file;
+    private Matrix matrix;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        matrix = BenchmarkOperands.matrix(BenchmarkOperands.random(), SIZE, SIZE);
+        file = Files.createTempFile("matrix", ".bin");
+        BinaryFormat.save(file, matrix);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public Path save() throws IOException
+    {
+        BinaryFormat.save(file, matrix);
+        return file;
+    }
+
+    @Benchmark
+    public Matrix load() throws IOException
+    {
+        return BinaryFormat.loadMatrix(file);
+    }
+}
@@ -0,0 +1,54 @@
+package eli.braire.math.space;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the square product of a {@link FloatMatrix} against that of a {@link Matrix} holding the same values in double precision.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class FloatMatrixBenchmark
+{
+    @Param({ "512", "1024", "2048" })
+    public int          size;
+
+    private Matrix      matrix;
+    private FloatMatrix floatMatrix;
+
+    @Setup
+    public void setUp()
+    {
+        matrix = BenchmarkOperands.matrix(BenchmarkOperands.random(), size, size);
+        floatMatrix = FloatMatrix.of(matrix);
+    }
+
+    @Benchmark
+    public Matrix doublePrecision()
+    {
+        return matrix.dotProduct(matrix);
+    }
+
+    @Benchmark
+    public FloatMatrix singlePrecision()
+    {
+        return floatMatrix.dotProduct(floatMatrix);
+    }
+}
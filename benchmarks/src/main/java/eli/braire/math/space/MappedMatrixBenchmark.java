@@ -0,0 +1,89 @@
+package eli.braire.math.space;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the tiled out-of-core operations of {@link MappedMatrix} on 4096 x 4096 files in a temporary directory: the product, at
+ * <code>2 &middot; 4096<sup>3</sup></code> flops, and the transverse, which reads and writes <code>8 &middot; 4096<sup>2</sup></code> bytes
+ * each.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class MappedMatrixBenchmark
+{
+    static final int SIZE = 4096;
+
+    private Path         directory;
+    private MappedMatrix left;
+    private MappedMatrix right;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        final Random random = BenchmarkOperands.random();
+        directory = Files.createTempDirectory("mapped");
+        left = MappedMatrix.create(directory.resolve("left.bin"), SIZE, SIZE);
+        right = MappedMatrix.create(directory.resolve("right.bin"), SIZE, SIZE);
+        for (int i = 1; i <= SIZE; i++)
+        {
+            left.setRow(i, BenchmarkOperands.values(random, SIZE));
+            right.setRow(i, BenchmarkOperands.values(random, SIZE));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException
+    {
+        left.close();
+        right.close();
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory))
+        {
+            for (final Path file : files)
+            {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public MappedMatrix dotProduct() throws IOException
+    {
+        try (final MappedMatrix product = left.dotProduct(right, directory.resolve("product.bin")))
+        {
+            return product;
+        }
+    }
+
+    @Benchmark
+    public MappedMatrix transverse() throws IOException
+    {
+        try (final MappedMatrix transverse = left.transverse(directory.resolve("transverse.bin")))
+        {
+            return transverse;
+        }
+    }
+}
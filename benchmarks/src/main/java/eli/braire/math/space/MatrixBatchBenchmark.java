@@ -0,0 +1,75 @@
+package eli.braire.math.space;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the solutions and inverses of a {@link MatrixBatch} of small diagonally dominant systems, reported per matrix.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(MatrixBatchBenchmark.SIZE)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MatrixBatchBenchmark
+{
+    static final int SIZE = 4000000;
+
+    @Param({ "3", "4" })
+    public int          order;
+
+    private MatrixBatch batch;
+    private MatrixBatch inverses;
+    private PointBuffer rightHandSides;
+    private PointBuffer solutions;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = BenchmarkOperands.random();
+        batch = MatrixBatch.create(order, SIZE);
+        for (int i = 1; i <= order; i++)
+        {
+            for (int j = 1; j <= order; j++)
+            {
+                final double[] elements = batch.getElements(i, j);
+                for (int index = 0; index < SIZE; index++)
+                {
+                    elements[index] = random.nextDouble() * 2 - 1 + (i == j ? order : 0);
+                }
+            }
+        }
+        inverses = MatrixBatch.create(order, SIZE);
+        rightHandSides = BenchmarkOperands.points(random, order, SIZE);
+        solutions = PointBuffer.create(order, SIZE);
+    }
+
+    @Benchmark
+    public PointBuffer solve()
+    {
+        return batch.solve(rightHandSides, solutions);
+    }
+
+    @Benchmark
+    public MatrixBatch inverse()
+    {
+        return batch.inverse(inverses);
+    }
+}
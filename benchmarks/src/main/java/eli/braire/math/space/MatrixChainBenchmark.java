@@ -0,0 +1,64 @@
+package eli.braire.math.space;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the left to right product of a chain of 2000x100, 100x2000, 2000x100, 100x2000 and 2000x1 matrices against the order planned by
+ * {@link MatrixChain}.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class MatrixChainBenchmark
+{
+    private static final int[] DIMENSIONS = { 2000, 100, 2000, 100, 2000, 1 };
+
+    private Matrix[]           matrices;
+    private MatrixChain        plan;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = BenchmarkOperands.random();
+        matrices = new Matrix[DIMENSIONS.length - 1];
+        for (int index = 0; index < matrices.length; index++)
+        {
+            matrices[index] = BenchmarkOperands.matrix(random, DIMENSIONS[index], DIMENSIONS[index + 1]);
+        }
+        plan = MatrixChain.of(matrices);
+    }
+
+    @Benchmark
+    public Matrix leftToRight()
+    {
+        Matrix product = matrices[0];
+        for (int index = 1; index < matrices.length; index++)
+        {
+            product = product.dotProduct(matrices[index]);
+        }
+        return product;
+    }
+
+    @Benchmark
+    public Matrix planned()
+    {
+        return plan.multiply();
+    }
+}
@@ -0,0 +1,67 @@
+package eli.braire.math.space;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the eager evaluation of (a + b) * s - c, which allocates one intermediate {@link Matrix} per operation, against its fused
+ * {@link MatrixExpression}, both into a new {@link Matrix} and into a reused {@link MatrixBuffer}.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MatrixExpressionBenchmark
+{
+    @Param({ "2048" })
+    public int           size;
+
+    private Matrix       a;
+    private Matrix       b;
+    private Matrix       c;
+    private MatrixBuffer buffer;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = BenchmarkOperands.random();
+        a = BenchmarkOperands.matrix(random, size, size);
+        b = BenchmarkOperands.matrix(random, size, size);
+        c = BenchmarkOperands.matrix(random, size, size);
+        buffer = MatrixBuffer.create(size, size);
+    }
+
+    @Benchmark
+    public Matrix eager()
+    {
+        return a.add(b).multiply(2.5).subtract(c);
+    }
+
+    @Benchmark
+    public Matrix fused()
+    {
+        return a.lazy().add(b).multiply(2.5).subtract(c).evaluate();
+    }
+
+    @Benchmark
+    public MatrixBuffer fusedIntoBuffer()
+    {
+        return a.lazy().add(b).multiply(2.5).subtract(c).evaluateInto(buffer);
+    }
+}
@@ -0,0 +1,78 @@
+package eli.braire.math.space;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the functions of a dense 500 x 500 transition matrix, each row a probability distribution: the power by squaring
+ * <code>pow(10<sup>9</sup>)</code>, against the 30th power by repeated products, and the exponential.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class MatrixFunctionsBenchmark
+{
+    static final int SIZE = 500;
+
+    private Matrix transitions;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = BenchmarkOperands.random();
+        final double[][] probabilities = new double[SIZE][SIZE];
+        for (final double[] row : probabilities)
+        {
+            double sum = 0D;
+            for (int j = 0; j < SIZE; j++)
+            {
+                row[j] = random.nextDouble();
+                sum += row[j];
+            }
+            for (int j = 0; j < SIZE; j++)
+            {
+                row[j] /= sum;
+            }
+        }
+        transitions = Matrix.create(probabilities);
+    }
+
+    @Benchmark
+    public Matrix power()
+    {
+        return transitions.pow(1000000000L);
+    }
+
+    @Benchmark
+    public Matrix repeatedProducts()
+    {
+        Matrix repeated = transitions;
+        for (int step = 1; step < 30; step++)
+        {
+            repeated = repeated.dotProduct(transitions);
+        }
+        return repeated;
+    }
+
+    @Benchmark
+    public Matrix exponential()
+    {
+        return transitions.exp();
+    }
+}
@@ -0,0 +1,59 @@
+package eli.braire.math.space;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the blocked {@link MatrixMultiplication} kernel on square products, on the calling thread alone and with its row blocks split across
+ * the common fork-join pool. The throughput in GFLOP/s is <code>2 size<sup>3</sup></code> divided by the reported time in nanoseconds, which
+ * is the figure to compare against the <code>dgemm</code> of a native BLAS on the same machine.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class MatrixMultiplicationBenchmark
+{
+    @Param({ "1024", "2048", "4096" })
+    public int       size;
+    @Param({ "false", "true" })
+    public boolean   parallel;
+
+    private Matrix   left;
+    private Matrix   right;
+    private double[] result;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = BenchmarkOperands.random();
+        left = BenchmarkOperands.matrix(random, size, size);
+        right = BenchmarkOperands.matrix(random, size, size);
+        result = new double[size * size];
+    }
+
+    @Benchmark
+    public double[] multiply()
+    {
+        Arrays.fill(result, 0D);
+        MatrixMultiplication.multiplyAdd(left, right, result, 0, size, parallel);
+        return result;
+    }
+}
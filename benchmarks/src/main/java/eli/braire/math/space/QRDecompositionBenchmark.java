@@ -0,0 +1,47 @@
+package eli.braire.math.space;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a linear regression of 1000 observations of 20 variables by {@link Matrix#leastSquares(Vector)}.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class QRDecompositionBenchmark
+{
+    private Matrix observations;
+    private Vector responses;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = BenchmarkOperands.random();
+        observations = BenchmarkOperands.matrix(random, 1000, 20);
+        responses = Vector.create(BenchmarkOperands.values(random, 1000));
+    }
+
+    @Benchmark
+    public Vector leastSquares()
+    {
+        // A fresh copy each time, since the Matrix caches its decomposition
+        return observations.clone().leastSquares(responses);
+    }
+}
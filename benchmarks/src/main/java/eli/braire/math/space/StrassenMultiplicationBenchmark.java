@@ -0,0 +1,57 @@
+package eli.braire.math.space;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link StrassenMultiplication}, recursing down to 512 x 512 blocks, against the classic blocked product of
+ * {@link Matrix#dotProduct(Matrix)} on square matrices.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class StrassenMultiplicationBenchmark
+{
+    @Param({ "1024", "2048", "4096" })
+    public int     size;
+
+    private Matrix left;
+    private Matrix right;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = BenchmarkOperands.random();
+        left = BenchmarkOperands.matrix(random, size, size);
+        right = BenchmarkOperands.matrix(random, size, size);
+    }
+
+    @Benchmark
+    public Matrix classic()
+    {
+        return left.dotProduct(right);
+    }
+
+    @Benchmark
+    public Matrix strassen()
+    {
+        return StrassenMultiplication.multiply(left, right, 512);
+    }
+}
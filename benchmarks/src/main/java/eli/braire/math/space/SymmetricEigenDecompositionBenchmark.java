@@ -0,0 +1,55 @@
+package eli.braire.math.space;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the complete {@link SymmetricEigenDecomposition} of a random Gram matrix against the 10 largest eigenpairs found by Lanczos
+ * iteration.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class SymmetricEigenDecompositionBenchmark
+{
+    @Param({ "1500" })
+    public int     size;
+
+    private Matrix matrix;
+
+    @Setup
+    public void setUp()
+    {
+        final Matrix observations = BenchmarkOperands.matrix(BenchmarkOperands.random(), 2 * size, size);
+        matrix = observations.transposeView().dotProduct(observations);
+    }
+
+    @Benchmark
+    public SymmetricEigenDecomposition complete()
+    {
+        // A fresh copy each time, since the Matrix caches its decomposition
+        return matrix.clone().getSymmetricEigenDecomposition();
+    }
+
+    @Benchmark
+    public SymmetricEigenDecomposition largest()
+    {
+        return SymmetricEigenDecomposition.largest(matrix, 10);
+    }
+}
@@ -0,0 +1,113 @@
+package eli.braire.math.space;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares each kernel of {@link SimdKernels} against its portable counterpart in {@link ScalarKernels}, whichever of them {@link Kernels} would
+ * choose: dot products and <code>axpy</code> over 4096 elements, one 4 x 4 tile of the matrix multiplication micro-kernel over a depth of 256,
+ * and the affine transform of 3-dimensional points, reported per point.
+ *
+ * @author The Architect
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SimdKernelsBenchmark
+{
+    static final int LENGTH = 4096;
+    static final int DEPTH  = 256;
+    static final int POINTS = 1 << 20;
+
+    @Param({ "false", "true" })
+    public boolean     simd;
+
+    private double[]   x;
+    private double[]   y;
+    private double[]   a;
+    private double[]   b;
+    private double[]   c;
+    private double[]   m;
+    private double[][] source;
+    private double[][] target;
+
+    @Setup
+    public void setUp()
+    {
+        final Random random = BenchmarkOperands.random();
+        x = BenchmarkOperands.values(random, LENGTH);
+        y = BenchmarkOperands.values(random, LENGTH);
+        a = BenchmarkOperands.values(random, 4 * DEPTH);
+        b = BenchmarkOperands.values(random, 4 * DEPTH);
+        c = new double[16];
+        m = BenchmarkOperands.values(random, 16);
+        source = new double[][] { BenchmarkOperands.values(random, POINTS), BenchmarkOperands.values(random, POINTS),
+                                  BenchmarkOperands.values(random, POINTS) };
+        target = new double[3][POINTS];
+    }
+
+    @Benchmark
+    public double dot()
+    {
+        return simd ? SimdKernels.dot(x, 0, y, 0, LENGTH) : ScalarKernels.dot(x, 0, y, 0, LENGTH);
+    }
+
+    @Benchmark
+    public double[] axpy()
+    {
+        if (simd)
+        {
+            SimdKernels.axpy(1E-9, x, 0, y, 0, LENGTH);
+        }
+        else
+        {
+            ScalarKernels.axpy(1E-9, x, 0, y, 0, LENGTH);
+        }
+        return y;
+    }
+
+    @Benchmark
+    public double[] multiply4x4()
+    {
+        if (simd)
+        {
+            SimdKernels.multiply4x4(DEPTH, a, 0, b, 0, c, 0, 4);
+        }
+        else
+        {
+            ScalarKernels.multiply4x4(DEPTH, a, 0, b, 0, c, 0, 4);
+        }
+        return c;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public double[][] transform()
+    {
+        if (simd)
+        {
+            SimdKernels.transformAffine3(m, source, target, 0, POINTS);
+        }
+        else
+        {
+            ScalarKernels.transformAffine3(m, source, target, 0, POINTS);
+        }
+        return target;
+    }
+}
@@ -1,6 +1,8 @@
 package eli.braire.algorithm.trie;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Interface of a cache used to implement a Trie data structure.
@@ -14,6 +16,17 @@ public interface Cache
      */
     public void insertWord(String word);
 
+    /**
+     * Inserts a slice of a character sequence as a word, without requiring a {@link String} to be
+     * created for it.
+     *
+     * @param word a character sequence containing the word. (Possibly null)
+     * @param start the index of the first character of the word (inclusive).
+     * @param end the index after the last character of the word (exclusive).
+     * @throws IndexOutOfBoundsException If the slice is outside of the bounds of <code>word</code>.
+     */
+    public void insertWord(CharSequence word, int start, int end);
+
     /**
      * @param word
      */
@@ -24,4 +37,22 @@ public interface Cache
      * @return
      */
     public List<Node> parseWord(String word);
+
+    /**
+     * @return a read-only {@link Map} of the first {@link Node} of every word in the Trie, by
+     *         {@link Character}. (Cannot be null, but possibly empty if the Trie is empty)
+     */
+    public Map<Character, Node> getRootNodes();
+
+    /**
+     * @param pattern a {@link TriePattern} expression to match against every word in the Trie.
+     *            (Possibly null)
+     * @return a lazily evaluated {@link Stream} of the words matching <code>pattern</code>, in no
+     *         particular order. Branches of the Trie that cannot match are never visited. (Cannot be
+     *         null, but possibly empty if <code>pattern</code> is null or empty, or if no words
+     *         match)
+     * @throws IllegalArgumentException If <code>pattern</code> is malformed.
+     * @see TriePattern#compile(String)
+     */
+    public Stream<String> findWords(String pattern);
 }
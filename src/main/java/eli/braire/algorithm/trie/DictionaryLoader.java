@@ -0,0 +1,224 @@
+package eli.braire.algorithm.trie;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Loads the words of a dictionary file into a {@link Cache}. The file is memory-mapped in fixed-size windows, decoded straight into a reusable
+ * character buffer, and each word is inserted directly from that buffer by {@link Cache#insertWord(CharSequence, int, int)}, so that no
+ * {@link String} or line object is created per word. Words are separated by any whitespace, which includes one word per line.
+ *
+ * @author The Architect
+ */
+public final class DictionaryLoader
+{
+    /**
+     * Callback notified as a dictionary file is loaded.
+     */
+    @FunctionalInterface
+    public static interface ProgressListener
+    {
+        /**
+         * @param bytesRead the number of bytes of the file processed so far.
+         * @param totalBytes the total number of bytes in the file.
+         * @param wordCount the number of words inserted so far.
+         */
+        public void onProgress(long bytesRead, long totalBytes, long wordCount);
+    }
+
+    /**
+     * The number of bytes mapped at a time by default. This also bounds how often progress is reported.
+     */
+    static final int         WINDOW_SIZE = 16 * 1024 * 1024;
+    /**
+     * The initial capacity of the decoded character buffer, which grows only to fit a single word longer than this.
+     */
+    static final int         BUFFER_SIZE = 64 * 1024;
+
+    private final Cache   cache;
+    private final Charset charset;
+    private final int     windowSize;
+
+    private DictionaryLoader(final Cache cache, final Charset charset, final int windowSize)
+    {
+        this.cache = cache;
+        this.charset = charset;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @param cache the {@link Cache} to insert words into. (Cannot be null)
+     * @return a new {@link DictionaryLoader} for UTF-8 encoded dictionaries. (Cannot be null)
+     * @throws IllegalArgumentException If <code>cache</code> is null.
+     */
+    public static DictionaryLoader create(final Cache cache)
+    {
+        return create(cache, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param cache the {@link Cache} to insert words into. (Cannot be null)
+     * @param charset the encoding of the dictionary files. (Cannot be null)
+     * @return a new {@link DictionaryLoader}. (Cannot be null)
+     * @throws IllegalArgumentException If <code>cache</code> or <code>charset</code> is null.
+     */
+    public static DictionaryLoader create(final Cache cache, final Charset charset)
+    {
+        return create(cache, charset, WINDOW_SIZE);
+    }
+
+    /**
+     * @param cache the {@link Cache} to insert words into. (Cannot be null)
+     * @param charset the encoding of the dictionary files. (Cannot be null)
+     * @param windowSize the number of bytes mapped at a time, which must hold at least the encoding of a surrogate pair.
+     * @return a new {@link DictionaryLoader}. (Cannot be null)
+     * @throws IllegalArgumentException If <code>cache</code> or <code>charset</code> is null, or the window is too small.
+     */
+    static DictionaryLoader create(final Cache cache, final Charset charset, final int windowSize)
+    {
+        if (cache == null || charset == null)
+        {
+            throw new IllegalArgumentException("Dictionary loader requires a non-null Cache and Charset.");
+        }
+        // Each window must complete at least one character, or decoding would make no progress
+        if (windowSize < 2 * Math.ceil(charset.newEncoder().maxBytesPerChar()))
+        {
+            throw new IllegalArgumentException("Dictionary loader window must hold the encoding of a surrogate pair.");
+        }
+
+        return new DictionaryLoader(cache, charset, windowSize);
+    }
+
+    /**
+     * @param file the dictionary file to load. (Cannot be null)
+     * @return the number of words inserted, including any duplicates.
+     * @throws IOException If the file cannot be read, or contains byte sequences that are invalid for the {@link Charset}.
+     */
+    public long load(final Path file) throws IOException
+    {
+        return load(file, null);
+    }
+
+    /**
+     * @param file the dictionary file to load. (Cannot be null)
+     * @param listener a {@link ProgressListener} notified after each window of the file is processed. (Possibly null)
+     * @return the number of words inserted, including any duplicates.
+     * @throws IOException If the file cannot be read, or contains byte sequences that are invalid for the {@link Charset}.
+     */
+    public long load(final Path file, final ProgressListener listener) throws IOException
+    {
+        final CharsetDecoder decoder = charset.newDecoder()
+                                              .onMalformedInput(CodingErrorAction.REPORT)
+                                              .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer characters = CharBuffer.allocate(BUFFER_SIZE);
+        long wordCount = 0L;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            final long size = channel.size();
+            long position = 0L;
+            while (position < size)
+            {
+                final long length = Math.min(windowSize, size - position);
+                final boolean endOfInput = position + length == size;
+                final MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                while (true)
+                {
+                    final int consumed = bytes.position();
+                    final CoderResult result = decoder.decode(bytes, characters, endOfInput);
+                    if (result.isError())
+                    {
+                        result.throwException();
+                    }
+                    wordCount += insertWords(characters, false);
+                    if (result.isUnderflow())
+                    {
+                        break;
+                    }
+                    // The buffer overflowed without decoding anything, since the rest of it cannot hold the next character, such as a surrogate
+                    // pair after a word which fills all but one character, so it must grow to fit the word and that character
+                    if (bytes.position() == consumed)
+                    {
+                        characters = grow(characters);
+                    }
+                }
+                // Any trailing bytes of an incomplete character are decoded again from the next window
+                position += bytes.position();
+                if (listener != null)
+                {
+                    listener.onProgress(position, size, wordCount);
+                }
+                if (!endOfInput && bytes.position() == 0)
+                {
+                    throw new CharacterCodingException();
+                }
+            }
+
+            // Flush the decoder and insert the final word, which may not have a trailing delimiter
+            decoder.decode(ByteBuffer.allocate(0), characters, true);
+            while (decoder.flush(characters).isOverflow())
+            {
+                characters = grow(characters);
+            }
+            wordCount += insertWords(characters, true);
+        }
+
+        return wordCount;
+    }
+
+    /**
+     * Inserts every complete word held by the buffer, then compacts the buffer so that it only holds the characters of an incomplete word.
+     *
+     * @param characters a buffer in write mode holding decoded characters.
+     * @param endOfInput true if no more characters will follow, so that a trailing word is complete.
+     * @return the number of words inserted.
+     */
+    private int insertWords(final CharBuffer characters, final boolean endOfInput)
+    {
+        characters.flip();
+        final int limit = characters.limit();
+        int words = 0;
+        int start = 0;
+        for (int index = 0; index < limit; index++)
+        {
+            if (Character.isWhitespace(characters.get(index)))
+            {
+                if (index > start)
+                {
+                    cache.insertWord(characters, start, index);
+                    words++;
+                }
+                start = index + 1;
+            }
+        }
+        if (endOfInput && limit > start)
+        {
+            cache.insertWord(characters, start, limit);
+            words++;
+            start = limit;
+        }
+        characters.position(start);
+        characters.compact();
+
+        return words;
+    }
+
+    private static CharBuffer grow(final CharBuffer characters)
+    {
+        final CharBuffer grown = CharBuffer.allocate(characters.capacity() * 2);
+        characters.flip();
+        grown.put(characters);
+
+        return grown;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,210 @@
+package eli.braire.algorithm.trie;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * A read-only, compact form of a {@link PrefixTable}. The Trie is flattened in breadth-first order into parallel arrays, so that the children of
+ * every node occupy a contiguous, sorted range that is searched without any per-node objects, boxing or hashing. Instances are immutable and safe
+ * to share between threads.
+ *
+ * @author The Architect
+ * @param <V> the type of value associated with each prefix.
+ * @see PrefixTable#freeze()
+ */
+public final class FrozenPrefixTable<V>
+{
+    /**
+     * Child ranges of at most this many nodes are scanned linearly rather than by binary search.
+     */
+    private static final int LINEAR_SEARCH_LIMIT = 8;
+
+    /**
+     * The character of each node. The node at index 0 is the root, and has no character.
+     */
+    private final char[]     characters;
+    /**
+     * The children of node <code>i</code> occupy indices <code>[firstChild[i], firstChild[i + 1])</code>.
+     */
+    private final int[]      firstChild;
+    private final Object[]   values;
+    private final int        size;
+
+    private FrozenPrefixTable(final char[] characters, final int[] firstChild, final Object[] values, final int size)
+    {
+        this.characters = characters;
+        this.firstChild = firstChild;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * @param root the root {@link Node}s of the Trie to flatten.
+     * @param defaultValue the value associated with the empty prefix. (Possibly null)
+     * @param size the number of registered prefixes.
+     * @return a new {@link FrozenPrefixTable} holding the contents of the Trie.
+     */
+    static <V> FrozenPrefixTable<V> of(final Map<Character, Node> root, final V defaultValue, final int size)
+    {
+        // Count the nodes to size the arrays exactly
+        int nodeCount = 1;
+        final Deque<Node> pending = new ArrayDeque<>(root.values());
+        while (!pending.isEmpty())
+        {
+            nodeCount++;
+            pending.addAll(pending.pop().getChildNodes().values());
+        }
+
+        final char[] characters = new char[nodeCount];
+        final int[] firstChild = new int[nodeCount + 1];
+        final Object[] values = new Object[nodeCount];
+        values[0] = defaultValue;
+
+        // Breadth-first layout, where each node's children are appended as one sorted range
+        final Node[] queue = new Node[nodeCount];
+        int next = 1;
+        next = append(root, queue, characters, values, next);
+        firstChild[0] = 1;
+        for (int index = 1; index < nodeCount; index++)
+        {
+            firstChild[index] = next;
+            next = append(queue[index].getChildNodes(), queue, characters, values, next);
+        }
+        firstChild[nodeCount] = next;
+
+        return new FrozenPrefixTable<>(characters, firstChild, values, size);
+    }
+
+    private static int append(final Map<Character, Node> children, final Node[] queue, final char[] characters, final Object[] values,
+                              final int start)
+    {
+        final Node[] sorted = children.values().toArray(new Node[children.size()]);
+        Arrays.sort(sorted, (a, b) -> Character.compare(a.getCharacter(), b.getCharacter()));
+        int index = start;
+        for (final Node child : sorted)
+        {
+            queue[index] = child;
+            characters[index] = child.getCharacter();
+            values[index] = child.getValue();
+            index++;
+        }
+
+        return index;
+    }
+
+    /**
+     * @param key a key to classify. (Possibly null)
+     * @return the value associated with the longest registered prefix of <code>key</code>. (Possibly null if <code>key</code> is null or no
+     *         registered prefix matches)
+     */
+    @SuppressWarnings("unchecked")
+    public V lookupLongest(final CharSequence key)
+    {
+        if (key == null)
+        {
+            return null;
+        }
+
+        Object longest = values[0];
+        int node = 0;
+        for (int index = 0; index < key.length(); index++)
+        {
+            node = findChild(node, key.charAt(index));
+            if (node < 0)
+            {
+                break;
+            }
+            if (values[node] != null)
+            {
+                longest = values[node];
+            }
+        }
+
+        return (V) longest;
+    }
+
+    /**
+     * @param key a key to classify. (Possibly null)
+     * @return the length of the longest registered prefix of <code>key</code>, or -1 if no registered prefix matches.
+     */
+    public int lookupLongestLength(final CharSequence key)
+    {
+        if (key == null)
+        {
+            return -1;
+        }
+
+        int longest = values[0] == null ? -1 : 0;
+        int node = 0;
+        for (int index = 0; index < key.length(); index++)
+        {
+            node = findChild(node, key.charAt(index));
+            if (node < 0)
+            {
+                break;
+            }
+            if (values[node] != null)
+            {
+                longest = index + 1;
+            }
+        }
+
+        return longest;
+    }
+
+    /**
+     * @param prefix a prefix to look up exactly. (Possibly null)
+     * @return the value associated with exactly <code>prefix</code>. (Possibly null if <code>prefix</code> is null or not registered)
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final CharSequence prefix)
+    {
+        if (prefix == null)
+        {
+            return null;
+        }
+
+        int node = 0;
+        for (int index = 0; index < prefix.length() && node >= 0; index++)
+        {
+            node = findChild(node, prefix.charAt(index));
+        }
+
+        return node < 0 ? null : (V) values[node];
+    }
+
+    /**
+     * @return the number of registered prefixes.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @param node the index of the parent node.
+     * @param character the character of the child to find.
+     * @return the index of the matching child node, or a negative value if there is no match.
+     */
+    private int findChild(final int node, final char character)
+    {
+        final int from = firstChild[node];
+        final int to = firstChild[node + 1];
+        if (to - from <= LINEAR_SEARCH_LIMIT)
+        {
+            for (int index = from; index < to; index++)
+            {
+                if (characters[index] == character)
+                {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        final int index = Arrays.binarySearch(characters, from, to, character);
+        return index < 0 ? -1 : index;
+    }
+}
\ No newline at end of file
@@ -29,6 +29,30 @@ public interface Node
      */
     public Node getChildNode(char character);
 
+    /**
+     * @return true if the character sequence ending at this node corresponds to a complete word
+     *         inserted into the Trie, otherwise false if the node is only part of a longer word.
+     */
+    public boolean isTerminal();
+
+    /**
+     * @param terminal true if the character sequence ending at this node corresponds to a complete
+     *            word, otherwise false.
+     */
+    public void setTerminal(boolean terminal);
+
+    /**
+     * @return the value associated with the character sequence ending at this node. (Possibly null
+     *         if no value has been associated)
+     */
+    public Object getValue();
+
+    /**
+     * @param value the value to associate with the character sequence ending at this node.
+     *            (Possibly null to remove any associated value)
+     */
+    public void setValue(Object value);
+
     /**
      * @param suffix a string search to compare against sequential {@link Node}s in the Trie.
      *            (Possibly null)
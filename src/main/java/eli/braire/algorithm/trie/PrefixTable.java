@@ -0,0 +1,194 @@
+package eli.braire.algorithm.trie;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A longest-prefix-match table backed by a Trie. Values are associated with prefixes, and a key is resolved to the value of the longest registered
+ * prefix of that key in a single descent of the Trie, regardless of how many prefixes are registered. This suits routing and classification of
+ * keys such as URL paths or dotted names.
+ * <p>
+ * Instances are not thread-safe while being modified. Tables that are built once and then only read should be converted with {@link #freeze()}.
+ *
+ * @author The Architect
+ * @param <V> the type of value associated with each prefix.
+ */
+public class PrefixTable<V>
+{
+    private final Map<Character, Node> root;
+    /**
+     * The value associated with the empty prefix, which matches every key.
+     */
+    private V                          defaultValue = null;
+    private int                        size         = 0;
+
+    private PrefixTable()
+    {
+        root = new HashMap<>();
+    }
+
+    /**
+     * @param <V> the type of value associated with each prefix.
+     * @return a new empty {@link PrefixTable}. (Cannot be null)
+     */
+    public static <V> PrefixTable<V> create()
+    {
+        return new PrefixTable<>();
+    }
+
+    /**
+     * @param prefix the prefix to register. An empty prefix matches every key. (Cannot be null)
+     * @param value the value to associate with <code>prefix</code>. (Cannot be null)
+     * @return the value previously associated with <code>prefix</code>. (Possibly null if <code>prefix</code> was not registered)
+     * @throws IllegalArgumentException If <code>prefix</code> or <code>value</code> is null.
+     */
+    public V put(final CharSequence prefix, final V value)
+    {
+        if (prefix == null || value == null)
+        {
+            throw new IllegalArgumentException("Prefix table entries must have a non-null prefix and value.");
+        }
+        if (prefix.length() == 0)
+        {
+            final V previous = defaultValue;
+            defaultValue = value;
+            size += previous == null ? 1 : 0;
+            return previous;
+        }
+
+        // Follow or create the path of nodes for the prefix
+        Node node = root.get(prefix.charAt(0));
+        if (node == null)
+        {
+            node = TrieNode.create(prefix.charAt(0));
+            root.put(prefix.charAt(0), node);
+        }
+        for (int index = 1; index < prefix.length(); index++)
+        {
+            final Node child = node.getChildNode(prefix.charAt(index));
+            node = child == null ? node.addChildNode(prefix.charAt(index)) : child;
+        }
+        final V previous = valueOf(node);
+        node.setTerminal(true);
+        node.setValue(value);
+        size += previous == null ? 1 : 0;
+
+        return previous;
+    }
+
+    /**
+     * @param prefix the registered prefix to remove. (Possibly null)
+     * @return the value that was associated with <code>prefix</code>. (Possibly null if <code>prefix</code> was not registered)
+     */
+    public V remove(final CharSequence prefix)
+    {
+        if (prefix == null)
+        {
+            return null;
+        }
+        if (prefix.length() == 0)
+        {
+            final V previous = defaultValue;
+            defaultValue = null;
+            size -= previous == null ? 0 : 1;
+            return previous;
+        }
+
+        final Node node = find(prefix);
+        final V previous = valueOf(node);
+        if (previous != null)
+        {
+            // The branch is retained, as it may still lead to longer prefixes
+            node.setTerminal(false);
+            node.setValue(null);
+            size--;
+        }
+
+        return previous;
+    }
+
+    /**
+     * @param prefix a prefix to look up exactly. (Possibly null)
+     * @return the value associated with exactly <code>prefix</code>. (Possibly null if <code>prefix</code> is null or not registered)
+     */
+    public V get(final CharSequence prefix)
+    {
+        if (prefix == null)
+        {
+            return null;
+        }
+        if (prefix.length() == 0)
+        {
+            return defaultValue;
+        }
+
+        return valueOf(find(prefix));
+    }
+
+    /**
+     * @param key a key to classify. (Possibly null)
+     * @return the value associated with the longest registered prefix of <code>key</code>. (Possibly null if <code>key</code> is null or no
+     *         registered prefix matches)
+     */
+    public V lookupLongest(final CharSequence key)
+    {
+        if (key == null)
+        {
+            return null;
+        }
+
+        V longest = defaultValue;
+        Node node = key.length() == 0 ? null : root.get(key.charAt(0));
+        int index = 1;
+        while (node != null)
+        {
+            // Remember the deepest value passed on the way down
+            final V value = valueOf(node);
+            if (value != null)
+            {
+                longest = value;
+            }
+            if (index == key.length())
+            {
+                break;
+            }
+            node = node.getChildNode(key.charAt(index++));
+        }
+
+        return longest;
+    }
+
+    /**
+     * @return the number of registered prefixes.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return a new read-only {@link FrozenPrefixTable} holding a compact copy of the current entries. Later changes to this table are not
+     *         reflected by the frozen copy. (Cannot be null)
+     */
+    public FrozenPrefixTable<V> freeze()
+    {
+        return FrozenPrefixTable.of(root, defaultValue, size);
+    }
+
+    private Node find(final CharSequence prefix)
+    {
+        Node node = root.get(prefix.charAt(0));
+        for (int index = 1; node != null && index < prefix.length(); index++)
+        {
+            node = node.getChildNode(prefix.charAt(index));
+        }
+
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueOf(final Node node)
+    {
+        return node == null ? null : (V) node.getValue();
+    }
+}
\ No newline at end of file
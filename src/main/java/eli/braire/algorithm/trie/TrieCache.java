@@ -1,9 +1,10 @@
 package eli.braire.algorithm.trie;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import com.google.common.base.Strings;
 
@@ -21,6 +22,11 @@ public class TrieCache implements Cache
         root = new HashMap<>();
     }
 
+    TrieCache(final Map<Character, Node> root)
+    {
+        this.root = root;
+    }
+
     /**
      * @return a new empty {@link TrieCache} that can be used to hold a set of character sequences for quick retrieval. (Cannot be null)
      */
@@ -40,38 +46,40 @@ public class TrieCache implements Cache
         {
             return;
         }
+        insertWord(word, 0, word.length());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void insertWord(final CharSequence word, final int start, final int end)
+    {
+        // If word is null or the slice is empty, nothing to insert, so return
+        if (word == null || start >= end)
+        {
+            return;
+        }
         // Peel off first character of the word
-        final char character = word.charAt(0);
-        // Create initial node
-        final Node node = root.get(character);
+        final char character = word.charAt(start);
+        Node node = root.get(character);
         if (node == null)
         {
-            // If no match from the root map, then create entire node sequence
-            final List<Node> nodes = TrieNode.create(word);
-            // Insert new branch of nodes to root
-            root.put(character, nodes.get(0));
+            // If no match from the root map, then start a new branch
+            node = TrieNode.create(character);
+            root.put(character, node);
         }
-        else
+        for (int index = start + 1; index < end; index++)
         {
-            // Match from the root map, then follow then follow the path down the branch until word
-            // no longer matches sequence, or branch terminates
-            final List<Node> nodes = new ArrayList<>(1);
-            nodes.add(node);
-            // Insert initial node to root
-            root.put(character, node);
-            if (word.length() > 1)
-            {
-                // Find longest character sequence match
-                nodes.addAll(node.parseSuffix(word.substring(1)));
-            }
-            final int nodeLength = nodes.size();
-            Node lastNode = nodes.get(nodeLength - 1);
-            for (int index = nodeLength; index < word.length(); index++)
-            {
-                // Append new child nodes if only a partial match
-                lastNode = lastNode.addChildNode(word.charAt(index));
-            }
+            // Follow the path down the branch, appending new child nodes once the word no longer
+            // matches the sequence
+            final char next = word.charAt(index);
+            final Node child = node.getChildNode(next);
+            node = child == null ? node.addChildNode(next) : child;
         }
+        // Flag the last node as the end of a complete word, even if the word was already a prefix
+        // of another word
+        node.setTerminal(true);
     }
 
     /**
@@ -91,4 +99,28 @@ public class TrieCache implements Cache
     {
         return null;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Character, Node> getRootNodes()
+    {
+        return Collections.unmodifiableMap(root);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<String> findWords(final String pattern)
+    {
+        // If pattern is null or empty, nothing can match, so return an empty stream
+        if (Strings.isNullOrEmpty(pattern))
+        {
+            return Stream.empty();
+        }
+
+        return TriePattern.compile(pattern).match(root);
+    }
 }
\ No newline at end of file
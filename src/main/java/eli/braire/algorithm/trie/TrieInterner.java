@@ -0,0 +1,245 @@
+package eli.braire.algorithm.trie;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A string interning (de-duplication) pool backed by a Trie. Each distinct character sequence is stored once as a canonical {@link String} on the
+ * terminal {@link Node} of its path, so that looking up a previously seen sequence walks the Trie directly from the source characters and returns
+ * the canonical instance without allocating a new {@link String}. Sequences may be provided as a slice of a <code>char[]</code> or of any
+ * {@link CharSequence}, such as a parser's reusable buffer.
+ * <p>
+ * Instances are not thread-safe, and are intended to be confined to a single parsing thread.
+ *
+ * @author The Architect
+ */
+public class TrieInterner
+{
+    /**
+     * Estimated shallow size in bytes of a {@link String} object (header, array reference and hash) on a 64-bit JVM with compressed references.
+     */
+    private static final int STRING_OVERHEAD = 24;
+    /**
+     * Estimated header size in bytes of a <code>char[]</code> object on a 64-bit JVM with compressed references.
+     */
+    private static final int ARRAY_OVERHEAD  = 16;
+
+    private final Map<Character, Node> root;
+    private long                       size       = 0L;
+    private long                       nodeCount  = 0L;
+    private long                       hitCount   = 0L;
+    private long                       missCount  = 0L;
+    private long                       savedBytes = 0L;
+
+    private TrieInterner()
+    {
+        root = new HashMap<>();
+    }
+
+    /**
+     * @return a new empty {@link TrieInterner}. (Cannot be null)
+     */
+    public static TrieInterner create()
+    {
+        return new TrieInterner();
+    }
+
+    /**
+     * @param sequence the character sequence to intern. (Possibly null)
+     * @return the canonical {@link String} equal to <code>sequence</code>. If <code>sequence</code> has not been seen before and is itself a
+     *         {@link String}, then it becomes the canonical instance. (Possibly null if <code>sequence</code> is null)
+     */
+    public String intern(final CharSequence sequence)
+    {
+        if (sequence == null)
+        {
+            return null;
+        }
+
+        return intern(sequence, 0, sequence.length());
+    }
+
+    /**
+     * @param sequence the character sequence containing the slice to intern. (Cannot be null)
+     * @param start the index of the first character of the slice (inclusive).
+     * @param end the index after the last character of the slice (exclusive).
+     * @return the canonical {@link String} equal to the characters of <code>sequence</code> between <code>start</code> and <code>end</code>.
+     *         (Cannot be null)
+     * @throws IndexOutOfBoundsException If <code>start</code> or <code>end</code> are outside of the bounds of <code>sequence</code>, or if
+     *             <code>start</code> is greater than <code>end</code>.
+     */
+    public String intern(final CharSequence sequence, final int start, final int end)
+    {
+        if (start < 0 || end > sequence.length() || start > end)
+        {
+            throw new IndexOutOfBoundsException("Invalid slice [" + start + ", " + end + ") of a sequence of length " + sequence.length());
+        }
+        if (start == end)
+        {
+            return "";
+        }
+
+        // Follow the existing path as far as it matches the sequence
+        Node node = root.get(sequence.charAt(start));
+        int index = start + 1;
+        while (node != null && index < end)
+        {
+            final Node child = node.getChildNode(sequence.charAt(index));
+            if (child == null)
+            {
+                break;
+            }
+            node = child;
+            index++;
+        }
+        if (index == end && node != null && node.getValue() != null)
+        {
+            return hit(node);
+        }
+
+        // Reuse the sequence itself as the canonical instance where possible, otherwise copy the slice once
+        final String canonical = sequence instanceof String && start == 0 && end == sequence.length() ? (String) sequence
+                : sequence.subSequence(start, end).toString();
+
+        return miss(node, canonical, index - start);
+    }
+
+    /**
+     * @param characters the character array containing the slice to intern. (Cannot be null)
+     * @param offset the index of the first character of the slice.
+     * @param length the number of characters in the slice.
+     * @return the canonical {@link String} equal to the <code>length</code> characters of <code>characters</code> starting at
+     *         <code>offset</code>. (Cannot be null)
+     * @throws IndexOutOfBoundsException If the slice is outside of the bounds of <code>characters</code>.
+     */
+    public String intern(final char[] characters, final int offset, final int length)
+    {
+        if (offset < 0 || length < 0 || offset > characters.length - length)
+        {
+            throw new IndexOutOfBoundsException("Invalid slice [" + offset + ", " + (offset + length) + ") of an array of length " + characters.length);
+        }
+        if (length == 0)
+        {
+            return "";
+        }
+
+        // Follow the existing path as far as it matches the characters
+        final int end = offset + length;
+        Node node = root.get(characters[offset]);
+        int index = offset + 1;
+        while (node != null && index < end)
+        {
+            final Node child = node.getChildNode(characters[index]);
+            if (child == null)
+            {
+                break;
+            }
+            node = child;
+            index++;
+        }
+        if (index == end && node != null && node.getValue() != null)
+        {
+            return hit(node);
+        }
+
+        return miss(node, new String(characters, offset, length), index - offset);
+    }
+
+    private String hit(final Node node)
+    {
+        final String canonical = (String) node.getValue();
+        hitCount++;
+        savedBytes += estimateSize(canonical.length());
+
+        return canonical;
+    }
+
+    /**
+     * @param node the last {@link Node} matched by the canonical string. (Possibly null if not even the first character matched)
+     * @param canonical the new canonical instance to store.
+     * @param matched the number of leading characters of <code>canonical</code> already present in the Trie.
+     * @return <code>canonical</code>
+     */
+    private String miss(final Node node, final String canonical, final int matched)
+    {
+        Node lastNode = node;
+        int index = matched;
+        if (lastNode == null)
+        {
+            // No match from the root map, so start a new branch
+            lastNode = TrieNode.create(canonical.charAt(0));
+            root.put(canonical.charAt(0), lastNode);
+            nodeCount++;
+            index = 1;
+        }
+        for (; index < canonical.length(); index++)
+        {
+            // Append new child nodes for the unmatched remainder
+            lastNode = lastNode.addChildNode(canonical.charAt(index));
+            nodeCount++;
+        }
+        lastNode.setTerminal(true);
+        lastNode.setValue(canonical);
+        missCount++;
+        size++;
+
+        return canonical;
+    }
+
+    private static long estimateSize(final int length)
+    {
+        // Arrays are aligned to 8 bytes
+        return STRING_OVERHEAD + (ARRAY_OVERHEAD + 2L * length + 7L & ~7L);
+    }
+
+    /**
+     * @return the number of distinct canonical strings held by the pool.
+     */
+    public long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * @return the number of Trie {@link Node}s allocated by the pool, as a measure of its own memory footprint.
+     */
+    public long getNodeCount()
+    {
+        return nodeCount;
+    }
+
+    /**
+     * @return the number of lookups that returned an existing canonical string.
+     */
+    public long getHitCount()
+    {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of lookups that added a new canonical string.
+     */
+    public long getMissCount()
+    {
+        return missCount;
+    }
+
+    /**
+     * @return an estimate of the number of bytes saved by returning canonical strings rather than retaining a new {@link String} for every hit.
+     *         This assumes a 64-bit JVM with compressed references and UTF-16 string storage.
+     */
+    public long getSavedBytes()
+    {
+        return savedBytes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return "TrieInterner[size=" + size + ", nodes=" + nodeCount + ", hits=" + hitCount + ", misses=" + missCount + ", savedBytes=" + savedBytes
+               + "]";
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package eli.braire.algorithm.trie;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +17,8 @@ public class TrieNode implements Node
 {
     private final char           character;
     private Map<Character, Node> children = null;
+    private boolean              terminal = false;
+    private Object               value    = null;
 
     private TrieNode(final char character)
     {
@@ -82,8 +85,8 @@ public class TrieNode implements Node
             return ImmutableMap.of();
         }
 
-        // Otherwise return a populated immutable map
-        return ImmutableMap.copyOf(children);
+        // Otherwise return a read-only view of the populated map, avoiding a copy on every traversal
+        return Collections.unmodifiableMap(children);
     }
 
     /**
@@ -103,6 +106,42 @@ public class TrieNode implements Node
         return children.get(character);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTerminal()
+    {
+        return terminal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setTerminal(final boolean terminal)
+    {
+        this.terminal = terminal;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getValue()
+    {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setValue(final Object value)
+    {
+        this.value = value;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -136,6 +175,20 @@ public class TrieNode implements Node
         return nodes;
     }
 
+    /**
+     * @param node an existing detached {@link TrieNode} to append to the current node as a child node, replacing any child node with the same
+     *            character.
+     */
+    void addChildNode(final TrieNode node)
+    {
+        // If no children, then initialize the map of child nodes
+        if (children == null)
+        {
+            children = new HashMap<>(1);
+        }
+        children.put(node.character, node);
+    }
+
     /**
      * {@inheritDoc}
      */
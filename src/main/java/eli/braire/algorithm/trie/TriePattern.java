@@ -0,0 +1,433 @@
+package eli.braire.algorithm.trie;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A compiled pattern used to query the words contained by a Trie. Patterns are matched by walking the {@link Node}s of the Trie directly, so any
+ * branch that cannot satisfy the pattern is pruned without being visited. The following syntax is supported:
+ * <ul>
+ * <li><code>?</code> matches any single character.</li>
+ * <li><code>*</code> matches any (possibly empty) sequence of characters, and is only supported as the final character of a pattern.</li>
+ * <li><code>[abc]</code>, <code>[a-z]</code> match any single character within the set or range.</li>
+ * <li><code>[^abc]</code>, <code>[!a-z]</code> match any single character outside of the set or range.</li>
+ * <li><code>\</code> escapes the following character so that it is matched literally.</li>
+ * </ul>
+ * Any other character is matched literally. For example <code>c?t</code> matches "cat" and "cot", and <code>pre*</code> matches "pre", "prefix" and
+ * "present".
+ *
+ * @author The Architect
+ */
+public final class TriePattern
+{
+    private static final char ANY_CHARACTER = '?';
+    private static final char ANY_SUFFIX    = '*';
+    private static final char SET_START     = '[';
+    private static final char SET_END       = ']';
+    private static final char ESCAPE        = '\\';
+
+    /**
+     * Character sets with at most this many members are matched by probing each member directly, rather than by scanning every child node.
+     */
+    private static final int PROBE_LIMIT = 8;
+
+    private final String         pattern;
+    private final CharacterSet[] tokens;
+    private final boolean        anySuffix;
+
+    private TriePattern(final String pattern, final CharacterSet[] tokens, final boolean anySuffix)
+    {
+        this.pattern = pattern;
+        this.tokens = tokens;
+        this.anySuffix = anySuffix;
+    }
+
+    /**
+     * @param pattern a pattern expression following the syntax described by {@link TriePattern}. (Cannot be null)
+     * @return a new {@link TriePattern} that can be matched repeatedly against any Trie. (Cannot be null)
+     * @throws IllegalArgumentException If any of the following are true:
+     *             <ul>
+     *             <li>pattern is null</li>
+     *             <li>pattern contains a <code>*</code> that is not the final character</li>
+     *             <li>pattern contains an unterminated or empty character set</li>
+     *             <li>pattern ends with an unescaped <code>\</code></li>
+     *             </ul>
+     */
+    public static TriePattern compile(final String pattern)
+    {
+        if (pattern == null)
+        {
+            throw new IllegalArgumentException("Trie pattern must not be null.");
+        }
+
+        final List<CharacterSet> tokens = new ArrayList<>(pattern.length());
+        boolean anySuffix = false;
+        int index = 0;
+        while (index < pattern.length())
+        {
+            final char character = pattern.charAt(index);
+            switch (character)
+            {
+                case ANY_CHARACTER:
+                    tokens.add(CharacterSet.ANY);
+                    index++;
+                    break;
+                case ANY_SUFFIX:
+                    if (index != pattern.length() - 1)
+                    {
+                        throw new IllegalArgumentException("Trie pattern wildcard '*' is only supported as the final character: " + pattern);
+                    }
+                    anySuffix = true;
+                    index++;
+                    break;
+                case SET_START:
+                    index = parseSet(pattern, index + 1, tokens);
+                    break;
+                case ESCAPE:
+                    if (index == pattern.length() - 1)
+                    {
+                        throw new IllegalArgumentException("Trie pattern must not end with an unescaped '\\': " + pattern);
+                    }
+                    tokens.add(CharacterSet.literal(pattern.charAt(index + 1)));
+                    index += 2;
+                    break;
+                default:
+                    tokens.add(CharacterSet.literal(character));
+                    index++;
+                    break;
+            }
+        }
+
+        return new TriePattern(pattern, tokens.toArray(new CharacterSet[tokens.size()]), anySuffix);
+    }
+
+    /**
+     * @param pattern the full pattern being compiled.
+     * @param start the index of the first character after the opening <code>[</code>.
+     * @param tokens the list of tokens to append the parsed set to.
+     * @return the index of the first character after the closing <code>]</code>.
+     */
+    private static int parseSet(final String pattern, final int start, final List<CharacterSet> tokens)
+    {
+        int index = start;
+        boolean negated = false;
+        if (index < pattern.length() && (pattern.charAt(index) == '^' || pattern.charAt(index) == '!'))
+        {
+            negated = true;
+            index++;
+        }
+
+        // Ranges are stored as pairs of inclusive lower and upper bounds
+        char[] ranges = new char[8];
+        int rangeLength = 0;
+        while (index < pattern.length() && pattern.charAt(index) != SET_END)
+        {
+            char lower = pattern.charAt(index);
+            if (lower == ESCAPE && index + 1 < pattern.length())
+            {
+                lower = pattern.charAt(++index);
+            }
+            index++;
+            char upper = lower;
+            // A '-' denotes a range, unless it is the last character of the set
+            if (index + 1 < pattern.length() && pattern.charAt(index) == '-' && pattern.charAt(index + 1) != SET_END)
+            {
+                index++;
+                upper = pattern.charAt(index);
+                if (upper == ESCAPE && index + 1 < pattern.length())
+                {
+                    upper = pattern.charAt(++index);
+                }
+                index++;
+                if (upper < lower)
+                {
+                    throw new IllegalArgumentException("Trie pattern character range is reversed: " + pattern);
+                }
+            }
+            if (rangeLength == ranges.length)
+            {
+                ranges = Arrays.copyOf(ranges, rangeLength * 2);
+            }
+            ranges[rangeLength++] = lower;
+            ranges[rangeLength++] = upper;
+        }
+
+        if (index >= pattern.length())
+        {
+            throw new IllegalArgumentException("Trie pattern character set is not terminated: " + pattern);
+        }
+        if (rangeLength == 0)
+        {
+            throw new IllegalArgumentException("Trie pattern character set must not be empty: " + pattern);
+        }
+        tokens.add(CharacterSet.of(Arrays.copyOf(ranges, rangeLength), negated));
+
+        // Skip the closing bracket
+        return index + 1;
+    }
+
+    /**
+     * @param word a character sequence to test against this pattern. (Possibly null)
+     * @return true if <code>word</code> satisfies this pattern, otherwise false.
+     */
+    public boolean matches(final CharSequence word)
+    {
+        if (word == null || word.length() < tokens.length || !anySuffix && word.length() != tokens.length)
+        {
+            return false;
+        }
+        for (int index = 0; index < tokens.length; index++)
+        {
+            if (!tokens[index].contains(word.charAt(index)))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param nodes the root {@link Node}s of a Trie, by {@link Character}. (Cannot be null)
+     * @return a lazily evaluated {@link Stream} of every terminal word beneath <code>nodes</code> that satisfies this pattern. (Cannot be null)
+     */
+    Stream<String> match(final Map<Character, Node> nodes)
+    {
+        final Iterator<String> iterator = new Matcher(nodes);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString()
+    {
+        return pattern;
+    }
+
+    /**
+     * A pending visit of a {@link Node} during a depth-first traversal of the Trie.
+     */
+    private static final class Frame
+    {
+        private final Node node;
+        private final int  depth;
+        private final int  token;
+
+        private Frame(final Node node, final int depth, final int token)
+        {
+            this.node = node;
+            this.depth = depth;
+            this.token = token;
+        }
+    }
+
+    /**
+     * Iterates the matching words of a Trie by an explicit depth-first traversal, so that only as much of the Trie is visited as is needed to
+     * produce the next word.
+     */
+    private final class Matcher implements Iterator<String>
+    {
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private char[]             buffer = new char[Math.max(16, tokens.length)];
+        private String             next   = null;
+
+        private Matcher(final Map<Character, Node> nodes)
+        {
+            push(nodes, 0, 0);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext()
+        {
+            if (next == null)
+            {
+                next = advance();
+            }
+
+            return next != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            final String word = next;
+            next = null;
+
+            return word;
+        }
+
+        private String advance()
+        {
+            while (!frames.isEmpty())
+            {
+                final Frame frame = frames.pop();
+                if (frame.depth == buffer.length)
+                {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                // Siblings share the same depth, so the buffer always holds the path to the current node
+                buffer[frame.depth] = frame.node.getCharacter();
+                // Descend before emitting, so that the traversal can resume from the children
+                push(frame.node.getChildNodes(), frame.depth + 1, frame.token);
+                if (frame.token == tokens.length && frame.node.isTerminal())
+                {
+                    return new String(buffer, 0, frame.depth + 1);
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * @param children the candidate child {@link Node}s to visit.
+         * @param depth the depth of the children within the Trie.
+         * @param token the index of the pattern token the children must satisfy.
+         */
+        private void push(final Map<Character, Node> children, final int depth, final int token)
+        {
+            if (children.isEmpty())
+            {
+                return;
+            }
+            if (token == tokens.length)
+            {
+                // The pattern is fully matched, so only a suffix wildcard permits longer words
+                if (anySuffix)
+                {
+                    for (final Node child : children.values())
+                    {
+                        frames.push(new Frame(child, depth, token));
+                    }
+                }
+                return;
+            }
+
+            final CharacterSet set = tokens[token];
+            final char[] members = set.members;
+            if (members != null && members.length <= children.size())
+            {
+                // Probe each member of a small set directly, skipping every other branch
+                for (final char member : members)
+                {
+                    final Node child = children.get(member);
+                    if (child != null)
+                    {
+                        frames.push(new Frame(child, depth, token + 1));
+                    }
+                }
+            }
+            else
+            {
+                for (final Node child : children.values())
+                {
+                    if (set.contains(child.getCharacter()))
+                    {
+                        frames.push(new Frame(child, depth, token + 1));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * An immutable set of characters matched by a single pattern token.
+     */
+    private static final class CharacterSet
+    {
+        private static final CharacterSet ANY = new CharacterSet(new char[] { Character.MIN_VALUE, Character.MAX_VALUE }, false);
+
+        private final char[]  ranges;
+        private final boolean negated;
+        /**
+         * The enumerated members of the set, or null if the set is too large to probe member-by-member.
+         */
+        private final char[]  members;
+
+        private CharacterSet(final char[] ranges, final boolean negated)
+        {
+            this.ranges = ranges;
+            this.negated = negated;
+            members = negated ? null : enumerate(ranges);
+        }
+
+        private static CharacterSet literal(final char character)
+        {
+            return new CharacterSet(new char[] { character, character }, false);
+        }
+
+        private static CharacterSet of(final char[] ranges, final boolean negated)
+        {
+            return new CharacterSet(ranges, negated);
+        }
+
+        private static char[] enumerate(final char[] ranges)
+        {
+            int size = 0;
+            for (int index = 0; index < ranges.length; index += 2)
+            {
+                size += ranges[index + 1] - ranges[index] + 1;
+                if (size > PROBE_LIMIT)
+                {
+                    return null;
+                }
+            }
+            final char[] members = new char[size];
+            int position = 0;
+            for (int index = 0; index < ranges.length; index += 2)
+            {
+                for (int character = ranges[index]; character <= ranges[index + 1]; character++)
+                {
+                    members[position++] = (char) character;
+                }
+            }
+            // Remove duplicate members of overlapping ranges, so that no branch is visited twice
+            Arrays.sort(members);
+            int unique = 0;
+            for (int index = 0; index < members.length; index++)
+            {
+                if (index == 0 || members[index] != members[index - 1])
+                {
+                    members[unique++] = members[index];
+                }
+            }
+
+            return Arrays.copyOf(members, unique);
+        }
+
+        private boolean contains(final char character)
+        {
+            for (int index = 0; index < ranges.length; index += 2)
+            {
+                if (character >= ranges[index] && character <= ranges[index + 1])
+                {
+                    return !negated;
+                }
+            }
+
+            return negated;
+        }
+    }
+}
\ No newline at end of file
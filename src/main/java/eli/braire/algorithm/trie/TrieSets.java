@@ -0,0 +1,334 @@
+package eli.braire.algorithm.trie;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Set operations between the words of two Tries. Both Tries are walked in lockstep by character, so shared prefixes are compared once rather than
+ * once per word, and a branch present in only one Trie is either copied or skipped as a whole. Intersections only ever visit branches common to
+ * both Tries. Results are available either as a new {@link Cache}, or as a lazily evaluated {@link Stream} of words.
+ *
+ * @author The Architect
+ */
+public final class TrieSets
+{
+    private TrieSets()
+    {
+    }
+
+    /**
+     * Enumerates the supported set operations.
+     */
+    private static enum Operation
+    {
+     UNION,
+     INTERSECTION,
+     DIFFERENCE;
+
+        /**
+         * @param left the left-hand {@link Node}. (Possibly null if the branch is absent from the left-hand Trie)
+         * @param right the right-hand {@link Node}. (Possibly null if the branch is absent from the right-hand Trie)
+         * @return true if the word ending at the pair of nodes belongs to the result of this operation.
+         */
+        private boolean isTerminal(final Node left, final Node right)
+        {
+            final boolean inLeft = left != null && left.isTerminal();
+            final boolean inRight = right != null && right.isTerminal();
+            switch (this)
+            {
+                case UNION:
+                    return inLeft || inRight;
+                case INTERSECTION:
+                    return inLeft && inRight;
+                default:
+                    return inLeft && !inRight;
+            }
+        }
+    }
+
+    /**
+     * @param left a Trie of words. (Cannot be null)
+     * @param right a Trie of words. (Cannot be null)
+     * @return a new {@link Cache} containing every word contained by either <code>left</code> or <code>right</code>. (Cannot be null)
+     */
+    public static Cache union(final Cache left, final Cache right)
+    {
+        return combine(left, right, Operation.UNION);
+    }
+
+    /**
+     * @param left a Trie of words. (Cannot be null)
+     * @param right a Trie of words. (Cannot be null)
+     * @return a new {@link Cache} containing every word contained by both <code>left</code> and <code>right</code>. (Cannot be null)
+     */
+    public static Cache intersection(final Cache left, final Cache right)
+    {
+        return combine(left, right, Operation.INTERSECTION);
+    }
+
+    /**
+     * @param left a Trie of words. (Cannot be null)
+     * @param right a Trie of words to exclude. (Cannot be null)
+     * @return a new {@link Cache} containing every word contained by <code>left</code> but not by <code>right</code>. (Cannot be null)
+     */
+    public static Cache difference(final Cache left, final Cache right)
+    {
+        return combine(left, right, Operation.DIFFERENCE);
+    }
+
+    /**
+     * @param left a Trie of words. (Cannot be null)
+     * @param right a Trie of words. (Cannot be null)
+     * @return a lazily evaluated {@link Stream} of every word contained by either <code>left</code> or <code>right</code>, in no particular
+     *         order. (Cannot be null)
+     */
+    public static Stream<String> streamUnion(final Cache left, final Cache right)
+    {
+        return stream(left, right, Operation.UNION);
+    }
+
+    /**
+     * @param left a Trie of words. (Cannot be null)
+     * @param right a Trie of words. (Cannot be null)
+     * @return a lazily evaluated {@link Stream} of every word contained by both <code>left</code> and <code>right</code>, in no particular order.
+     *         (Cannot be null)
+     */
+    public static Stream<String> streamIntersection(final Cache left, final Cache right)
+    {
+        return stream(left, right, Operation.INTERSECTION);
+    }
+
+    /**
+     * @param left a Trie of words. (Cannot be null)
+     * @param right a Trie of words to exclude. (Cannot be null)
+     * @return a lazily evaluated {@link Stream} of every word contained by <code>left</code> but not by <code>right</code>, in no particular
+     *         order. (Cannot be null)
+     */
+    public static Stream<String> streamDifference(final Cache left, final Cache right)
+    {
+        return stream(left, right, Operation.DIFFERENCE);
+    }
+
+    private static Cache combine(final Cache left, final Cache right, final Operation operation)
+    {
+        if (left == null || right == null)
+        {
+            throw new IllegalArgumentException("Trie set operations require two non-null Tries.");
+        }
+
+        final Map<Character, Node> root = new HashMap<>();
+        for (final Map.Entry<Character, Node> entry : children(left.getRootNodes(), right.getRootNodes(), operation).entrySet())
+        {
+            final TrieNode node = combine(entry.getKey(), left.getRootNodes().get(entry.getKey()), right.getRootNodes().get(entry.getKey()), operation);
+            if (node != null)
+            {
+                root.put(entry.getKey(), node);
+            }
+        }
+
+        return new TrieCache(root);
+    }
+
+    /**
+     * @return a new detached {@link TrieNode} holding the result of <code>operation</code> beneath the pair of nodes. (Possibly null if the result
+     *         contains no words beneath the pair of nodes)
+     */
+    private static TrieNode combine(final char character, final Node left, final Node right, final Operation operation)
+    {
+        TrieNode node = null;
+        final Map<Character, Node> leftChildren = left == null ? null : left.getChildNodes();
+        final Map<Character, Node> rightChildren = right == null ? null : right.getChildNodes();
+        for (final Character key : children(leftChildren, rightChildren, operation).keySet())
+        {
+            final TrieNode child = combine(key, leftChildren == null ? null : leftChildren.get(key), rightChildren == null ? null
+                    : rightChildren.get(key), operation);
+            if (child != null)
+            {
+                if (node == null)
+                {
+                    node = (TrieNode) TrieNode.create(character);
+                }
+                node.addChildNode(child);
+            }
+        }
+        if (operation.isTerminal(left, right))
+        {
+            if (node == null)
+            {
+                node = (TrieNode) TrieNode.create(character);
+            }
+            node.setTerminal(true);
+        }
+
+        return node;
+    }
+
+    /**
+     * @return the children worth visiting for <code>operation</code>, which are those of both sides for a union, those common to both sides for
+     *         an intersection, and those of the left side for a difference.
+     */
+    private static Map<Character, Node> children(final Map<Character, Node> left, final Map<Character, Node> right, final Operation operation)
+    {
+        final Map<Character, Node> none = Collections.emptyMap();
+        final Map<Character, Node> leftChildren = left == null ? none : left;
+        final Map<Character, Node> rightChildren = right == null ? none : right;
+        switch (operation)
+        {
+            case UNION:
+                if (rightChildren.isEmpty())
+                {
+                    return leftChildren;
+                }
+                if (leftChildren.isEmpty())
+                {
+                    return rightChildren;
+                }
+                final Map<Character, Node> union = new HashMap<>(leftChildren);
+                for (final Map.Entry<Character, Node> entry : rightChildren.entrySet())
+                {
+                    union.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+                return union;
+            case INTERSECTION:
+                if (leftChildren.isEmpty() || rightChildren.isEmpty())
+                {
+                    return none;
+                }
+                // Probe the larger side with the keys of the smaller side
+                final Map<Character, Node> smaller = leftChildren.size() <= rightChildren.size() ? leftChildren : rightChildren;
+                final Map<Character, Node> larger = smaller == leftChildren ? rightChildren : leftChildren;
+                if (smaller.size() == 1)
+                {
+                    final Character key = smaller.keySet().iterator().next();
+                    return larger.containsKey(key) ? smaller : none;
+                }
+                final Map<Character, Node> intersection = new HashMap<>(smaller.size());
+                for (final Map.Entry<Character, Node> entry : smaller.entrySet())
+                {
+                    if (larger.containsKey(entry.getKey()))
+                    {
+                        intersection.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                return intersection;
+            default:
+                return leftChildren;
+        }
+    }
+
+    private static Stream<String> stream(final Cache left, final Cache right, final Operation operation)
+    {
+        if (left == null || right == null)
+        {
+            throw new IllegalArgumentException("Trie set operations require two non-null Tries.");
+        }
+        final Iterator<String> iterator = new Walker(left.getRootNodes(), right.getRootNodes(), operation);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * A pending visit of a pair of {@link Node}s during a lockstep depth-first traversal of two Tries.
+     */
+    private static final class Frame
+    {
+        private final char character;
+        private final Node left;
+        private final Node right;
+        private final int  depth;
+
+        private Frame(final char character, final Node left, final Node right, final int depth)
+        {
+            this.character = character;
+            this.left = left;
+            this.right = right;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * Iterates the words resulting from a set operation by an explicit lockstep depth-first traversal, so that only as much of either Trie is
+     * visited as is needed to produce the next word.
+     */
+    private static final class Walker implements Iterator<String>
+    {
+        private final Operation    operation;
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private char[]             buffer = new char[16];
+        private String             next   = null;
+
+        private Walker(final Map<Character, Node> left, final Map<Character, Node> right, final Operation operation)
+        {
+            this.operation = operation;
+            push(left, right, 0);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext()
+        {
+            if (next == null)
+            {
+                next = advance();
+            }
+
+            return next != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            final String word = next;
+            next = null;
+
+            return word;
+        }
+
+        private String advance()
+        {
+            while (!frames.isEmpty())
+            {
+                final Frame frame = frames.pop();
+                if (frame.depth == buffer.length)
+                {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                buffer[frame.depth] = frame.character;
+                push(frame.left == null ? null : frame.left.getChildNodes(), frame.right == null ? null : frame.right.getChildNodes(), frame.depth + 1);
+                if (operation.isTerminal(frame.left, frame.right))
+                {
+                    return new String(buffer, 0, frame.depth + 1);
+                }
+            }
+
+            return null;
+        }
+
+        private void push(final Map<Character, Node> left, final Map<Character, Node> right, final int depth)
+        {
+            for (final Character key : children(left, right, operation).keySet())
+            {
+                frames.push(new Frame(key, left == null ? null : left.get(key), right == null ? null : right.get(key), depth));
+            }
+        }
+    }
+}
\ No newline at end of file
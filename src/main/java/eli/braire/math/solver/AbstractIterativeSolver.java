@@ -0,0 +1,82 @@
+package eli.braire.math.solver;
+
+import eli.braire.math.space.LinearOperator;
+import eli.braire.math.space.Vector;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The validation, bookkeeping and timing shared by the {@link IterativeSolver}s, which only implement the iteration itself.
+ *
+ * @author The Architect
+ */
+abstract class AbstractIterativeSolver implements IterativeSolver
+{
+    protected final ConvergenceCriteria criteria;
+    protected final Preconditioner      preconditioner;
+
+    protected AbstractIterativeSolver(final ConvergenceCriteria criteria, final Preconditioner preconditioner)
+    {
+        Verifier.assertNotNull("The convergence criteria must not be null.", criteria);
+        Verifier.assertNotNull("The preconditioner must not be null.", preconditioner);
+
+        this.criteria = criteria;
+        this.preconditioner = preconditioner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SolverResult solve(final LinearOperator operator, final Vector rightHandSide)
+    {
+        Verifier.assertNotNull("Cannot solve with a null operator.", operator);
+        Verifier.assertNotNull("Cannot solve for a null right-hand side.", rightHandSide);
+
+        return solve(operator, rightHandSide.toArray(), new double[rightHandSide.RANK]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SolverResult solve(final LinearOperator operator, final Vector rightHandSide, final Vector initialGuess)
+    {
+        Verifier.assertNotNull("Cannot solve with a null operator.", operator);
+        Verifier.assertNotNull("Cannot solve for a null right-hand side.", rightHandSide);
+        Verifier.assertNotNull("The initial guess must not be null.", initialGuess);
+        Verifier.Equality.assertEqual("The initial guess must have as many dimensions as the right-hand side.", initialGuess.RANK,
+                                      rightHandSide.RANK);
+
+        return solve(operator, rightHandSide.toArray(), initialGuess.toArray());
+    }
+
+    private SolverResult solve(final LinearOperator operator, final double[] b, final double[] x)
+    {
+        Verifier.Equality.assertEqual("Only square operators can be solved iteratively.", operator.getRows(), operator.getColumns());
+        Verifier.Equality.assertEqual("The right-hand side must have as many dimensions as the operator has rows.", b.length, operator.getRows());
+
+        final long start = System.nanoTime();
+        final double rightHandNorm = VectorKernels.norm(b);
+        final IterationMonitor monitor = new IterationMonitor(operator, criteria, rightHandNorm);
+        iterate(monitor, b, x);
+
+        // The recurrences only estimate the residual, which drifts from the truth in finite precision
+        final double[] residual = new double[b.length];
+        VectorKernels.residual(operator, b, x, residual);
+        final double residualNorm = VectorKernels.norm(residual);
+        final long elapsed = System.nanoTime() - start;
+
+        return new SolverResult(Vector.create(x), monitor.isConverged(), monitor.getIterations(), residualNorm, rightHandNorm,
+                                monitor.getHistory(), monitor.getApplications(), elapsed);
+    }
+
+    /**
+     * Improves the approximation <code>x</code> in place until the monitor reports convergence or exhaustion.
+     *
+     * @param monitor The operator to apply, which also counts iterations and must be told of each iteration's residual norm.
+     * @param b The right-hand side.
+     * @param x The initial guess, which is overwritten by the solution.
+     */
+    abstract void iterate(IterationMonitor monitor, double[] b, double[] x);
+}
@@ -0,0 +1,132 @@
+package eli.braire.math.solver;
+
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The stabilised bi-conjugate gradient method (BiCGSTAB), for general non-singular systems. Each iteration applies the operator and the
+ * preconditioner twice but needs only a fixed eight vectors, so it suits large non-symmetric systems where the memory of {@link GmresSolver}
+ * would be prohibitive. Preconditioning is applied on the right, so the residual monitored is that of the original system.
+ * <p>
+ * The method breaks down when the shadow residual becomes orthogonal to the residual or to the search direction. Iteration then stops, and
+ * the last approximation is returned as not converged, rather than continuing with NaN.
+ *
+ * @author The Architect
+ */
+public final class BiCgStabSolver extends AbstractIterativeSolver
+{
+    private BiCgStabSolver(final ConvergenceCriteria criteria, final Preconditioner preconditioner)
+    {
+        super(criteria, preconditioner);
+    }
+
+    /**
+     * @return a new unpreconditioned {@link BiCgStabSolver} with the default {@link ConvergenceCriteria}.
+     */
+    public static BiCgStabSolver create()
+    {
+        return create(ConvergenceCriteria.defaults());
+    }
+
+    /**
+     * @param criteria When to stop iterating. (Cannot be null)
+     * @return a new unpreconditioned {@link BiCgStabSolver}.
+     * @throws AssertionException If criteria is null.
+     */
+    public static BiCgStabSolver create(final ConvergenceCriteria criteria)
+    {
+        return create(criteria, Preconditioner.IDENTITY);
+    }
+
+    /**
+     * @param criteria When to stop iterating. (Cannot be null)
+     * @param preconditioner The {@link Preconditioner} to apply. (Cannot be null)
+     * @return a new {@link BiCgStabSolver}.
+     * @throws AssertionException If either argument is null.
+     */
+    public static BiCgStabSolver create(final ConvergenceCriteria criteria, final Preconditioner preconditioner)
+    {
+        return new BiCgStabSolver(criteria, preconditioner);
+    }
+
+    @Override
+    void iterate(final IterationMonitor monitor, final double[] b, final double[] x)
+    {
+        final int size = b.length;
+        final double[] r = new double[size];
+        VectorKernels.residual(monitor, b, x, r);
+        if (monitor.start(VectorKernels.norm(r)))
+        {
+            return;
+        }
+
+        final double[] shadow = r.clone();
+        final double[] p = new double[size];
+        final double[] v = new double[size];
+        final double[] s = new double[size];
+        final double[] t = new double[size];
+        final double[] preconditionedP = new double[size];
+        final double[] preconditionedS = new double[size];
+        double rho = 1D;
+        double alpha = 1D;
+        double omega = 1D;
+        while (monitor.hasNext())
+        {
+            final double next = VectorKernels.dot(shadow, r);
+            if (isBreakdown(next))
+            {
+                // The shadow residual has become orthogonal to the residual, so the method has broken down
+                break;
+            }
+            final double beta = next / rho * (alpha / omega);
+            for (int index = 0; index < size; index++)
+            {
+                p[index] = r[index] + beta * (p[index] - omega * v[index]);
+            }
+            rho = next;
+
+            preconditioner.apply(p, preconditionedP);
+            monitor.apply(preconditionedP, v);
+            final double projection = VectorKernels.dot(shadow, v);
+            if (isBreakdown(projection))
+            {
+                // The shadow residual is orthogonal to the search direction, so no step length exists
+                break;
+            }
+            alpha = rho / projection;
+            for (int index = 0; index < size; index++)
+            {
+                s[index] = r[index] - alpha * v[index];
+            }
+            final double halfNorm = VectorKernels.norm(s);
+            if (monitor.test(halfNorm))
+            {
+                VectorKernels.axpy(alpha, preconditionedP, x);
+                monitor.next(halfNorm);
+                break;
+            }
+
+            preconditioner.apply(s, preconditionedS);
+            monitor.apply(preconditionedS, t);
+            final double tt = VectorKernels.dot(t, t);
+            omega = tt == 0D ? 0D : VectorKernels.dot(t, s) / tt;
+            for (int index = 0; index < size; index++)
+            {
+                x[index] += alpha * preconditionedP[index] + omega * preconditionedS[index];
+                r[index] = s[index] - omega * t[index];
+            }
+            if (monitor.next(VectorKernels.norm(r)) || omega == 0D)
+            {
+                // A zero omega would divide the next beta by zero
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return true if the denominator of a recurrence coefficient is zero, or already NaN, either of which would spread NaN through the iterates.
+     */
+    private static boolean isBreakdown(final double denominator)
+    {
+        return !(Math.abs(denominator) > 0D);
+    }
+}
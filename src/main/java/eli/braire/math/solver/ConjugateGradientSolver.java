@@ -0,0 +1,87 @@
+package eli.braire.math.solver;
+
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The preconditioned conjugate gradient method, for symmetric positive-definite systems. Each iteration applies the operator and the
+ * preconditioner once, and keeps only four vectors, so it is the cheapest of the {@link IterativeSolver}s wherever it applies. The preconditioner
+ * must itself be symmetric positive-definite, as are {@link JacobiPreconditioner} and, for symmetric operators,
+ * {@link IncompleteLUPreconditioner}.
+ *
+ * @author The Architect
+ */
+public final class ConjugateGradientSolver extends AbstractIterativeSolver
+{
+    private ConjugateGradientSolver(final ConvergenceCriteria criteria, final Preconditioner preconditioner)
+    {
+        super(criteria, preconditioner);
+    }
+
+    /**
+     * @return a new unpreconditioned {@link ConjugateGradientSolver} with the default {@link ConvergenceCriteria}.
+     */
+    public static ConjugateGradientSolver create()
+    {
+        return create(ConvergenceCriteria.defaults());
+    }
+
+    /**
+     * @param criteria When to stop iterating. (Cannot be null)
+     * @return a new unpreconditioned {@link ConjugateGradientSolver}.
+     * @throws AssertionException If criteria is null.
+     */
+    public static ConjugateGradientSolver create(final ConvergenceCriteria criteria)
+    {
+        return create(criteria, Preconditioner.IDENTITY);
+    }
+
+    /**
+     * @param criteria When to stop iterating. (Cannot be null)
+     * @param preconditioner A symmetric positive-definite {@link Preconditioner}. (Cannot be null)
+     * @return a new {@link ConjugateGradientSolver}.
+     * @throws AssertionException If either argument is null.
+     */
+    public static ConjugateGradientSolver create(final ConvergenceCriteria criteria, final Preconditioner preconditioner)
+    {
+        return new ConjugateGradientSolver(criteria, preconditioner);
+    }
+
+    @Override
+    void iterate(final IterationMonitor monitor, final double[] b, final double[] x)
+    {
+        final double[] r = new double[b.length];
+        VectorKernels.residual(monitor, b, x, r);
+        if (monitor.start(VectorKernels.norm(r)))
+        {
+            return;
+        }
+
+        final double[] z = new double[b.length];
+        final double[] q = new double[b.length];
+        preconditioner.apply(r, z);
+        final double[] p = z.clone();
+        double rz = VectorKernels.dot(r, z);
+        while (monitor.hasNext())
+        {
+            monitor.apply(p, q);
+            final double curvature = VectorKernels.dot(p, q);
+            if (curvature == 0D)
+            {
+                // The search direction vanished, so no further progress is possible
+                break;
+            }
+            final double alpha = rz / curvature;
+            VectorKernels.axpy(alpha, p, x);
+            VectorKernels.axpy(-alpha, q, r);
+            if (monitor.next(VectorKernels.norm(r)))
+            {
+                break;
+            }
+
+            preconditioner.apply(r, z);
+            final double previous = rz;
+            rz = VectorKernels.dot(r, z);
+            VectorKernels.xpby(z, rz / previous, p);
+        }
+    }
+}
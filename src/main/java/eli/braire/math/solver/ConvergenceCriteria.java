@@ -0,0 +1,84 @@
+package eli.braire.math.solver;
+
+import java.text.MessageFormat;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * When an iterative solver stops. Iteration stops as soon as the residual norm satisfies
+ * <code>||b - A &middot; x|| &lt;= max(relativeTolerance &middot; ||b||, absoluteTolerance)</code>, or once the maximum number of iterations has
+ * been spent, whichever comes first. Instances are immutable.
+ *
+ * @author The Architect
+ */
+public final class ConvergenceCriteria
+{
+    private static final ConvergenceCriteria DEFAULTS = new ConvergenceCriteria(1E-8D, 0D, 10000);
+
+    private final double relativeTolerance;
+    private final double absoluteTolerance;
+    private final int    maximumIterations;
+
+    private ConvergenceCriteria(final double relativeTolerance, final double absoluteTolerance, final int maximumIterations)
+    {
+        this.relativeTolerance = relativeTolerance;
+        this.absoluteTolerance = absoluteTolerance;
+        this.maximumIterations = maximumIterations;
+    }
+
+    /**
+     * @return the default {@link ConvergenceCriteria}, with a relative tolerance of <code>10<sup>-8</sup></code>, no absolute tolerance, and at
+     *         most 10,000 iterations.
+     */
+    public static ConvergenceCriteria defaults()
+    {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param relativeTolerance The residual norm, as a fraction of the norm of the right-hand side, at which to stop. (Negative is treated as 0)
+     * @param absoluteTolerance The residual norm at which to stop, regardless of the right-hand side. (Negative is treated as 0)
+     * @param maximumIterations The maximum number of iterations to perform.
+     * @return a new {@link ConvergenceCriteria}.
+     * @throws AssertionException If neither tolerance is positive, or if maximumIterations is less than 1.
+     */
+    public static ConvergenceCriteria create(final double relativeTolerance, final double absoluteTolerance, final int maximumIterations)
+    {
+        Verifier.Inequality.assertGreaterThan("At least one tolerance must be positive.", Math.max(relativeTolerance, absoluteTolerance), 0D, 0D);
+        Verifier.Inequality.assertGreaterThan("At least one iteration must be allowed.", maximumIterations, 0);
+
+        return new ConvergenceCriteria(Math.max(relativeTolerance, 0D), Math.max(absoluteTolerance, 0D), maximumIterations);
+    }
+
+    public double getRelativeTolerance()
+    {
+        return relativeTolerance;
+    }
+
+    public double getAbsoluteTolerance()
+    {
+        return absoluteTolerance;
+    }
+
+    public int getMaximumIterations()
+    {
+        return maximumIterations;
+    }
+
+    /**
+     * @param rightHandNorm The norm of the right-hand side <code>b</code>.
+     * @return the residual norm at or below which iteration stops.
+     */
+    double threshold(final double rightHandNorm)
+    {
+        return Math.max(relativeTolerance * rightHandNorm, absoluteTolerance);
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("ConvergenceCriteria[relative={0}, absolute={1}, iterations={2}]", relativeTolerance, absoluteTolerance,
+                                    maximumIterations);
+    }
+}
@@ -0,0 +1,178 @@
+package eli.braire.math.solver;
+
+import java.util.Arrays;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The restarted generalised minimal residual method, GMRES(m), for general non-singular systems. Each iteration applies the operator and the
+ * preconditioner once and minimises the residual over the Krylov subspace built so far, so the residual never increases; the price is one stored
+ * basis vector per iteration, bounded by restarting every <code>m</code> iterations. The basis is orthogonalised by modified Gram-Schmidt and the
+ * least-squares problem is solved incrementally with Givens rotations. Preconditioning is applied on the right, so the residual monitored is that
+ * of the original system.
+ *
+ * @author The Architect
+ */
+public final class GmresSolver extends AbstractIterativeSolver
+{
+    /**
+     * The default number of iterations between restarts.
+     */
+    public static final int DEFAULT_RESTART = 30;
+
+    private final int restart;
+
+    private GmresSolver(final ConvergenceCriteria criteria, final Preconditioner preconditioner, final int restart)
+    {
+        super(criteria, preconditioner);
+        this.restart = restart;
+    }
+
+    /**
+     * @return a new unpreconditioned {@link GmresSolver} with the default {@link ConvergenceCriteria}, restarting every
+     *         {@value #DEFAULT_RESTART} iterations.
+     */
+    public static GmresSolver create()
+    {
+        return create(ConvergenceCriteria.defaults());
+    }
+
+    /**
+     * @param criteria When to stop iterating. (Cannot be null)
+     * @return a new unpreconditioned {@link GmresSolver}, restarting every {@value #DEFAULT_RESTART} iterations.
+     * @throws AssertionException If criteria is null.
+     */
+    public static GmresSolver create(final ConvergenceCriteria criteria)
+    {
+        return create(criteria, Preconditioner.IDENTITY);
+    }
+
+    /**
+     * @param criteria When to stop iterating. (Cannot be null)
+     * @param preconditioner The {@link Preconditioner} to apply. (Cannot be null)
+     * @return a new {@link GmresSolver}, restarting every {@value #DEFAULT_RESTART} iterations.
+     * @throws AssertionException If either argument is null.
+     */
+    public static GmresSolver create(final ConvergenceCriteria criteria, final Preconditioner preconditioner)
+    {
+        return create(criteria, preconditioner, DEFAULT_RESTART);
+    }
+
+    /**
+     * @param criteria When to stop iterating. (Cannot be null)
+     * @param preconditioner The {@link Preconditioner} to apply. (Cannot be null)
+     * @param restart The number of iterations between restarts, and so the number of basis vectors stored.
+     * @return a new {@link GmresSolver}.
+     * @throws AssertionException If either object is null, or if restart is less than 1.
+     */
+    public static GmresSolver create(final ConvergenceCriteria criteria, final Preconditioner preconditioner, final int restart)
+    {
+        Verifier.Inequality.assertGreaterThan("GMRES must perform at least 1 iteration between restarts.", restart, 0);
+
+        return new GmresSolver(criteria, preconditioner, restart);
+    }
+
+    public int getRestart()
+    {
+        return restart;
+    }
+
+    @Override
+    void iterate(final IterationMonitor monitor, final double[] b, final double[] x)
+    {
+        final int size = b.length;
+        final int m = Math.min(restart, size);
+        final double[][] basis = new double[m + 1][size];
+        final double[][] hessenberg = new double[m + 1][m];
+        final double[] cosines = new double[m];
+        final double[] sines = new double[m];
+        final double[] g = new double[m + 1];
+        final double[] y = new double[m];
+        final double[] w = new double[size];
+        final double[] z = new double[size];
+
+        VectorKernels.residual(monitor, b, x, basis[0]);
+        double beta = VectorKernels.norm(basis[0]);
+        if (monitor.start(beta))
+        {
+            return;
+        }
+        while (monitor.hasNext())
+        {
+            VectorKernels.scale(1D / beta, basis[0], basis[0]);
+            Arrays.fill(g, 0D);
+            g[0] = beta;
+
+            int k = 0;
+            while (k < m && monitor.hasNext())
+            {
+                preconditioner.apply(basis[k], z);
+                monitor.apply(z, w);
+                for (int i = 0; i <= k; i++)
+                {
+                    final double h = VectorKernels.dot(w, basis[i]);
+                    hessenberg[i][k] = h;
+                    VectorKernels.axpy(-h, basis[i], w);
+                }
+                final double subdiagonal = VectorKernels.norm(w);
+                if (subdiagonal != 0D)
+                {
+                    VectorKernels.scale(1D / subdiagonal, w, basis[k + 1]);
+                }
+
+                // Apply the earlier rotations to the new column, then eliminate its subdiagonal with a new one
+                for (int i = 0; i < k; i++)
+                {
+                    final double upper = hessenberg[i][k];
+                    final double lower = hessenberg[i + 1][k];
+                    hessenberg[i][k] = cosines[i] * upper + sines[i] * lower;
+                    hessenberg[i + 1][k] = -sines[i] * upper + cosines[i] * lower;
+                }
+                final double diagonal = hessenberg[k][k];
+                final double radius = Math.hypot(diagonal, subdiagonal);
+                cosines[k] = radius == 0D ? 1D : diagonal / radius;
+                sines[k] = radius == 0D ? 0D : subdiagonal / radius;
+                hessenberg[k][k] = radius;
+                g[k + 1] = -sines[k] * g[k];
+                g[k] = cosines[k] * g[k];
+                k++;
+
+                if (monitor.next(Math.abs(g[k])) || subdiagonal == 0D)
+                {
+                    // A zero subdiagonal means the Krylov subspace is invariant, so the solution within it is exact
+                    break;
+                }
+            }
+
+            // Solve the triangular least-squares system, then x += M^-1 * (V * y)
+            for (int i = k - 1; i >= 0; i--)
+            {
+                double sum = g[i];
+                for (int j = i + 1; j < k; j++)
+                {
+                    sum -= hessenberg[i][j] * y[j];
+                }
+                y[i] = hessenberg[i][i] == 0D ? 0D : sum / hessenberg[i][i];
+            }
+            Arrays.fill(w, 0D);
+            for (int i = 0; i < k; i++)
+            {
+                VectorKernels.axpy(y[i], basis[i], w);
+            }
+            preconditioner.apply(w, z);
+            VectorKernels.axpy(1D, z, x);
+
+            if (!monitor.hasNext())
+            {
+                break;
+            }
+            VectorKernels.residual(monitor, b, x, basis[0]);
+            beta = VectorKernels.norm(basis[0]);
+            if (monitor.test(beta))
+            {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package eli.braire.math.solver;
+
+import java.util.Arrays;
+
+import eli.braire.math.space.CsrMatrix;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The zero fill-in incomplete LU {@link Preconditioner}, ILU(0). Gaussian elimination is performed on the sparsity pattern of <code>A</code>
+ * only, discarding any fill-in, so that <code>M = L &middot; U</code> costs no more memory than <code>A</code> itself and is applied by one
+ * sparse forward and one sparse backward substitution.
+ *
+ * @author The Architect
+ */
+public final class IncompleteLUPreconditioner implements Preconditioner
+{
+    private final int[]    rowPointers;
+    private final int[]    columnIndices;
+    /**
+     * The factors in the sparsity pattern of <code>A</code>, with the multipliers of the unit lower triangular <code>L</code> below the diagonal,
+     * and <code>U</code> on and above it.
+     */
+    private final double[] factors;
+    /**
+     * The index within {@link #factors} of the diagonal element of each row.
+     */
+    private final int[]    diagonal;
+
+    private IncompleteLUPreconditioner(final int[] rowPointers, final int[] columnIndices, final double[] factors, final int[] diagonal)
+    {
+        this.rowPointers = rowPointers;
+        this.columnIndices = columnIndices;
+        this.factors = factors;
+        this.diagonal = diagonal;
+    }
+
+    /**
+     * @param matrix A square {@link CsrMatrix} which stores every element of its diagonal.
+     * @return a new {@link IncompleteLUPreconditioner} for the Matrix.
+     * @throws AssertionException If matrix is null, is not square, or is missing a diagonal element, or if elimination meets a zero pivot.
+     */
+    public static IncompleteLUPreconditioner of(final CsrMatrix matrix)
+    {
+        Verifier.assertNotNull("Cannot precondition a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("Only square Matrices can be preconditioned.", matrix.ROWS, matrix.COLUMNS);
+
+        final int size = matrix.ROWS;
+        final int[] rowPointers = matrix.getRowPointers();
+        final int[] columnIndices = matrix.getColumnIndices();
+        final double[] factors = matrix.getValues();
+        final int[] diagonal = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            diagonal[i] = Arrays.binarySearch(columnIndices, rowPointers[i], rowPointers[i + 1], i);
+            Verifier.Inequality.assertGreaterThanOrEqual("ILU(0) requires every diagonal element to be stored.", diagonal[i], 0);
+        }
+
+        // Eliminate row by row, where position[j] locates column j within the current row, if it is part of the pattern
+        final int[] position = new int[size];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < size; i++)
+        {
+            for (int index = rowPointers[i]; index < rowPointers[i + 1]; index++)
+            {
+                position[columnIndices[index]] = index;
+            }
+            for (int index = rowPointers[i]; index < diagonal[i]; index++)
+            {
+                final int k = columnIndices[index];
+                final double multiplier = factors[index] / factors[diagonal[k]];
+                factors[index] = multiplier;
+                for (int other = diagonal[k] + 1; other < rowPointers[k + 1]; other++)
+                {
+                    final int target = position[columnIndices[other]];
+                    if (target >= 0)
+                    {
+                        factors[target] -= multiplier * factors[other];
+                    }
+                }
+            }
+            Verifier.Equality.assertNotEqual("ILU(0) met a zero pivot.", factors[diagonal[i]], 0D, 0D);
+            for (int index = rowPointers[i]; index < rowPointers[i + 1]; index++)
+            {
+                position[columnIndices[index]] = -1;
+            }
+        }
+
+        return new IncompleteLUPreconditioner(rowPointers, columnIndices, factors, diagonal);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(final double[] residual, final double[] target)
+    {
+        final int size = diagonal.length;
+        for (int i = 0; i < size; i++)
+        {
+            double sum = residual[i];
+            for (int index = rowPointers[i]; index < diagonal[i]; index++)
+            {
+                sum -= factors[index] * target[columnIndices[index]];
+            }
+            target[i] = sum;
+        }
+        for (int i = size - 1; i >= 0; i--)
+        {
+            double sum = target[i];
+            for (int index = diagonal[i] + 1; index < rowPointers[i + 1]; index++)
+            {
+                sum -= factors[index] * target[columnIndices[index]];
+            }
+            target[i] = sum / factors[diagonal[i]];
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package eli.braire.math.solver;
+
+import java.util.Arrays;
+
+import eli.braire.math.space.LinearOperator;
+
+/**
+ * Tracks the progress of a single solve: it counts iterations and applications of the operator it wraps, records the history of the residual
+ * norm, and decides when the {@link ConvergenceCriteria} have been met.
+ *
+ * @author The Architect
+ */
+final class IterationMonitor implements LinearOperator
+{
+    private final LinearOperator operator;
+    private final double         threshold;
+    private final int            maximumIterations;
+
+    private double[]             history;
+    private int                  iterations;
+    private int                  applications;
+    private boolean              converged;
+
+    IterationMonitor(final LinearOperator operator, final ConvergenceCriteria criteria, final double rightHandNorm)
+    {
+        this.operator = operator;
+        threshold = criteria.threshold(rightHandNorm);
+        maximumIterations = criteria.getMaximumIterations();
+        history = new double[Math.min(maximumIterations + 1, 64)];
+    }
+
+    @Override
+    public int getRows()
+    {
+        return operator.getRows();
+    }
+
+    @Override
+    public int getColumns()
+    {
+        return operator.getColumns();
+    }
+
+    @Override
+    public void apply(final double[] source, final double[] target)
+    {
+        applications++;
+        operator.apply(source, target);
+    }
+
+    /**
+     * Records the residual norm of the initial guess.
+     *
+     * @return true if the initial guess already satisfies the criteria.
+     */
+    boolean start(final double residualNorm)
+    {
+        history[0] = residualNorm;
+        return test(residualNorm);
+    }
+
+    /**
+     * Completes an iteration, recording the residual norm it reached.
+     *
+     * @return true if the criteria are now satisfied.
+     */
+    boolean next(final double residualNorm)
+    {
+        iterations++;
+        if (iterations == history.length)
+        {
+            history = Arrays.copyOf(history, Math.min(history.length * 2, maximumIterations + 1));
+        }
+        history[iterations] = residualNorm;
+        return test(residualNorm);
+    }
+
+    /**
+     * @return true if the residual norm satisfies the criteria, which is then remembered as converged.
+     */
+    boolean test(final double residualNorm)
+    {
+        converged = residualNorm <= threshold;
+        return converged;
+    }
+
+    /**
+     * @return true while neither the criteria have been met nor the iterations exhausted.
+     */
+    boolean hasNext()
+    {
+        return !converged && iterations < maximumIterations;
+    }
+
+    boolean isConverged()
+    {
+        return converged;
+    }
+
+    int getIterations()
+    {
+        return iterations;
+    }
+
+    int getApplications()
+    {
+        return applications;
+    }
+
+    double[] getHistory()
+    {
+        return Arrays.copyOf(history, iterations + 1);
+    }
+}
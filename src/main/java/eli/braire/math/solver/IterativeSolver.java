@@ -0,0 +1,37 @@
+package eli.braire.math.solver;
+
+import eli.braire.math.space.LinearOperator;
+import eli.braire.math.space.Vector;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * Solves a linear system <code>A &middot; x = b</code> by successive approximation, touching <code>A</code> only through
+ * {@link LinearOperator#apply(double[], double[])}. Each iteration costs one or two operator applications and a handful of vector operations, so a
+ * sparse system is solved in memory and time proportional to its non-zeros times the number of iterations.
+ *
+ * @author The Architect
+ * @see ConjugateGradientSolver
+ * @see BiCgStabSolver
+ * @see GmresSolver
+ */
+public interface IterativeSolver
+{
+    /**
+     * Solves starting from the zero vector.
+     *
+     * @param operator The square operator <code>A</code>.
+     * @param rightHandSide The right-hand side <code>b</code>, with as many dimensions as the operator has rows.
+     * @return the {@link SolverResult}, whose solution is the best approximation found even if iteration did not converge.
+     * @throws AssertionException If either argument is null, or if the dimensions differ.
+     */
+    public SolverResult solve(LinearOperator operator, Vector rightHandSide);
+
+    /**
+     * @param operator The square operator <code>A</code>.
+     * @param rightHandSide The right-hand side <code>b</code>, with as many dimensions as the operator has rows.
+     * @param initialGuess The first approximation of <code>x</code>, such as the solution of a similar system.
+     * @return the {@link SolverResult}, whose solution is the best approximation found even if iteration did not converge.
+     * @throws AssertionException If any argument is null, or if the dimensions differ.
+     */
+    public SolverResult solve(LinearOperator operator, Vector rightHandSide, Vector initialGuess);
+}
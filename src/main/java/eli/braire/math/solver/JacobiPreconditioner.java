@@ -0,0 +1,83 @@
+package eli.braire.math.solver;
+
+import eli.braire.math.space.CsrMatrix;
+import eli.braire.math.space.Matrix;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The Jacobi (diagonal) {@link Preconditioner}, <code>M = diag(A)</code>. It costs a single multiplication per element to apply, and is
+ * effective for diagonally dominant systems whose rows are scaled very differently.
+ *
+ * @author The Architect
+ */
+public final class JacobiPreconditioner implements Preconditioner
+{
+    private final double[] inverseDiagonal;
+
+    private JacobiPreconditioner(final double[] inverseDiagonal)
+    {
+        this.inverseDiagonal = inverseDiagonal;
+    }
+
+    /**
+     * @param matrix A square {@link Matrix} without zeros on its diagonal.
+     * @return a new {@link JacobiPreconditioner} for the Matrix.
+     * @throws AssertionException If matrix is null, is not square, or has a zero on its diagonal.
+     */
+    public static JacobiPreconditioner of(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot precondition a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("Only square Matrices can be preconditioned.", matrix.ROWS, matrix.COLUMNS);
+
+        final double[] diagonal = new double[matrix.ROWS];
+        for (int i = 0; i < diagonal.length; i++)
+        {
+            diagonal[i] = matrix.getElement(i + 1, i + 1);
+        }
+
+        return create(diagonal);
+    }
+
+    /**
+     * @param matrix A square {@link CsrMatrix} without zeros on its diagonal.
+     * @return a new {@link JacobiPreconditioner} for the Matrix.
+     * @throws AssertionException If matrix is null, is not square, or has a zero on its diagonal.
+     */
+    public static JacobiPreconditioner of(final CsrMatrix matrix)
+    {
+        Verifier.assertNotNull("Cannot precondition a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("Only square Matrices can be preconditioned.", matrix.ROWS, matrix.COLUMNS);
+
+        final double[] diagonal = new double[matrix.ROWS];
+        for (int i = 0; i < diagonal.length; i++)
+        {
+            diagonal[i] = matrix.getElement(i + 1, i + 1);
+        }
+
+        return create(diagonal);
+    }
+
+    private static JacobiPreconditioner create(final double[] diagonal)
+    {
+        for (int i = 0; i < diagonal.length; i++)
+        {
+            Verifier.Equality.assertNotEqual("The Jacobi preconditioner requires a diagonal without zeros.", diagonal[i], 0D, 0D);
+            diagonal[i] = 1D / diagonal[i];
+        }
+
+        return new JacobiPreconditioner(diagonal);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(final double[] residual, final double[] target)
+    {
+        for (int index = 0; index < inverseDiagonal.length; index++)
+        {
+            target[index] = inverseDiagonal[index] * residual[index];
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package eli.braire.math.solver;
+
+/**
+ * An approximation <code>M</code> of a linear operator <code>A</code> whose inverse is cheap to apply. Iterative solvers converge in far fewer
+ * iterations on the preconditioned system, as <code>M<sup>-1</sup> &middot; A</code> is much closer to the identity than <code>A</code> is.
+ *
+ * @author The Architect
+ * @see JacobiPreconditioner
+ * @see IncompleteLUPreconditioner
+ */
+@FunctionalInterface
+public interface Preconditioner
+{
+    /**
+     * The trivial preconditioner, <code>M = I</code>.
+     */
+    public static final Preconditioner IDENTITY = (residual, target) -> System.arraycopy(residual, 0, target, 0, residual.length);
+
+    /**
+     * Computes <code>target = M<sup>-1</sup> &middot; residual</code>.
+     *
+     * @param residual The array to precondition, which must not be modified.
+     * @param target An array of the same length, which is overwritten and is never the same as the residual.
+     */
+    public void apply(double[] residual, double[] target);
+}
@@ -0,0 +1,106 @@
+package eli.braire.math.solver;
+
+import java.text.MessageFormat;
+
+import eli.braire.math.space.Vector;
+
+/**
+ * The outcome of an {@link IterativeSolver}, holding the approximate solution together with the metrics of the iteration that produced it.
+ *
+ * @author The Architect
+ */
+public final class SolverResult
+{
+    private final Vector   solution;
+    private final boolean  converged;
+    private final int      iterations;
+    private final double   residualNorm;
+    private final double   rightHandNorm;
+    private final double[] residualHistory;
+    private final int      operatorApplications;
+    private final long     elapsedNanos;
+
+    SolverResult(final Vector solution, final boolean converged, final int iterations, final double residualNorm, final double rightHandNorm,
+                 final double[] residualHistory, final int operatorApplications, final long elapsedNanos)
+    {
+        this.solution = solution;
+        this.converged = converged;
+        this.iterations = iterations;
+        this.residualNorm = residualNorm;
+        this.rightHandNorm = rightHandNorm;
+        this.residualHistory = residualHistory;
+        this.operatorApplications = operatorApplications;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the approximate solution <code>x</code>, which is the best available even if iteration did not converge.
+     */
+    public Vector getSolution()
+    {
+        return solution;
+    }
+
+    /**
+     * @return true if the {@link ConvergenceCriteria} were met within the maximum number of iterations.
+     */
+    public boolean isConverged()
+    {
+        return converged;
+    }
+
+    /**
+     * @return the number of iterations performed.
+     */
+    public int getIterations()
+    {
+        return iterations;
+    }
+
+    /**
+     * @return the norm of the true residual <code>||b - A &middot; x||</code> of the solution, recomputed after the final iteration.
+     */
+    public double getResidualNorm()
+    {
+        return residualNorm;
+    }
+
+    /**
+     * @return the residual norm as a fraction of the norm of the right-hand side <code>||b||</code>.
+     */
+    public double getRelativeResidual()
+    {
+        return rightHandNorm == 0D ? residualNorm : residualNorm / rightHandNorm;
+    }
+
+    /**
+     * @return a copy of the residual norm estimated by the solver before the first iteration and after each iteration.
+     */
+    public double[] getResidualHistory()
+    {
+        return residualHistory.clone();
+    }
+
+    /**
+     * @return the number of times the linear operator was applied, which usually dominates the cost of solving.
+     */
+    public int getOperatorApplications()
+    {
+        return operatorApplications;
+    }
+
+    /**
+     * @return the time taken to solve, in nanoseconds.
+     */
+    public long getElapsedNanos()
+    {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("SolverResult[converged={0}, iterations={1,number,#}, relativeResidual={2,number,0.###E0}, operatorApplications={3,number,#}, elapsed={4,number,0.000} ms]",
+                                    converged, iterations, getRelativeResidual(), operatorApplications, elapsedNanos / 1000000D);
+    }
+}
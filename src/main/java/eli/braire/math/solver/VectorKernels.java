@@ -0,0 +1,76 @@
+package eli.braire.math.solver;
+
+import eli.braire.math.space.LinearOperator;
+
+/**
+ * The dense vector primitives shared by the iterative solvers, each a single pass over plain arrays of the same length.
+ *
+ * @author The Architect
+ */
+final class VectorKernels
+{
+    private VectorKernels()
+    {
+    }
+
+    static double dot(final double[] x, final double[] y)
+    {
+        double sum = 0D;
+        for (int index = 0; index < x.length; index++)
+        {
+            sum += x[index] * y[index];
+        }
+
+        return sum;
+    }
+
+    static double norm(final double[] x)
+    {
+        return Math.sqrt(dot(x, x));
+    }
+
+    /**
+     * <code>y = y + alpha &middot; x</code>
+     */
+    static void axpy(final double alpha, final double[] x, final double[] y)
+    {
+        for (int index = 0; index < x.length; index++)
+        {
+            y[index] += alpha * x[index];
+        }
+    }
+
+    /**
+     * <code>y = x + beta &middot; y</code>
+     */
+    static void xpby(final double[] x, final double beta, final double[] y)
+    {
+        for (int index = 0; index < x.length; index++)
+        {
+            y[index] = x[index] + beta * y[index];
+        }
+    }
+
+    /**
+     * <code>y = alpha &middot; x</code>
+     */
+    static void scale(final double alpha, final double[] x, final double[] y)
+    {
+        for (int index = 0; index < x.length; index++)
+        {
+            y[index] = alpha * x[index];
+        }
+    }
+
+    /**
+     * <code>residual = b - operator &middot; x</code>
+     */
+    static void residual(final LinearOperator operator, final double[] b, final double[] x, final double[] residual)
+    {
+        operator.apply(x, residual);
+        for (int index = 0; index < b.length; index++)
+        {
+            residual[index] = b[index] - residual[index];
+        }
+    }
+}
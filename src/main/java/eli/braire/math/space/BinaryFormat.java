@@ -0,0 +1,606 @@
+package eli.braire.math.space;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A compact binary format for {@link Matrix}, {@link FloatMatrix}, {@link Vector}, {@link Point} and {@link PointBuffer} instances, which are
+ * written and read at the speed of the underlying channel rather than parsed from text.
+ * <p>
+ * A stream holds any number of records, one after another. Each record is a 32-byte little-endian header followed by its elements:
+ * <ul>
+ * <li>The magic number {@link #MAGIC}, as a <code>long</code>.</li>
+ * <li>The {@link Kind} code, and the number of bytes of each element (8 for doubles, 4 for floats), as <code>int</code>s.</li>
+ * <li>The number of rows and of columns, as <code>int</code>s. A Vector or Point is a single column, and a PointBuffer has a row per axis and a
+ * column per point.</li>
+ * <li>The number of bytes of the elements which follow, as a <code>long</code>.</li>
+ * </ul>
+ * The elements follow in row-major order as little-endian IEEE 754 values, so a PointBuffer is stored one whole axis after another, exactly as
+ * it is held in memory.
+ * <p>
+ * Elements are copied in bulk between arrays and direct buffers, never one value at a time. When a {@link Reader} reads from a file, large element
+ * ranges are memory-mapped and copied straight into the destination array, without passing through the channel. For matrices which should stay on
+ * disk rather than be loaded, see {@link MappedMatrix}.
+ *
+ * @author The Architect
+ */
+public final class BinaryFormat
+{
+    /**
+     * "ELIBBIN1"
+     */
+    static final long        MAGIC   = 0x454C494242494E31L;
+    static final int         HEADER  = 32;
+    /**
+     * The capacity of the buffer of each {@link Writer} and {@link Reader}, and the least number of remaining bytes which a {@link Reader} maps
+     * rather than reads.
+     */
+    static final int         BUFFER  = 1 << 20;
+    private static final int SEGMENT = 1 << 30;
+
+    private BinaryFormat()
+    {
+    }
+
+    /**
+     * The type of object held by a record.
+     */
+    public static enum Kind
+    {
+        MATRIX(1, Double.BYTES), FLOAT_MATRIX(2, Float.BYTES), VECTOR(3, Double.BYTES), POINT(4, Double.BYTES), POINT_BUFFER(5, Double.BYTES);
+
+        private final int code;
+        private final int elementBytes;
+
+        private Kind(final int code, final int elementBytes)
+        {
+            this.code = code;
+            this.elementBytes = elementBytes;
+        }
+
+        private static Kind of(final int code)
+        {
+            for (final Kind kind : values())
+            {
+                if (kind.code == code)
+                {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * @param file The file to create, replacing any existing file. (Cannot be null)
+     * @return a new {@link Writer} of the file.
+     * @throws AssertionException If file is null.
+     * @throws IOException If the file cannot be created.
+     */
+    public static Writer writer(final Path file) throws IOException
+    {
+        Verifier.assertNotNull("Cannot write to a null file.", file);
+
+        return new Writer(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * @param channel The channel to write to, which the {@link Writer} closes when it is closed. (Cannot be null)
+     * @return a new {@link Writer} of the channel.
+     * @throws AssertionException If channel is null.
+     */
+    public static Writer writer(final WritableByteChannel channel)
+    {
+        Verifier.assertNotNull("Cannot write to a null channel.", channel);
+
+        return new Writer(channel);
+    }
+
+    /**
+     * @param file The file to read. (Cannot be null)
+     * @return a new {@link Reader} of the file, which maps large element ranges rather than reading them.
+     * @throws AssertionException If file is null.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static Reader reader(final Path file) throws IOException
+    {
+        Verifier.assertNotNull("Cannot read from a null file.", file);
+
+        return new Reader(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    /**
+     * @param channel The channel to read from, which the {@link Reader} closes when it is closed. If it is a {@link FileChannel}, large element
+     *            ranges are mapped rather than read. (Cannot be null)
+     * @return a new {@link Reader} of the channel.
+     * @throws AssertionException If channel is null.
+     */
+    public static Reader reader(final ReadableByteChannel channel)
+    {
+        Verifier.assertNotNull("Cannot read from a null channel.", channel);
+
+        return new Reader(channel);
+    }
+
+    /**
+     * @param file The file to create, replacing any existing file. (Cannot be null)
+     * @param matrix The {@link Matrix} to write, as the only record of the file. (Cannot be null)
+     * @throws AssertionException If either argument is null.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void save(final Path file, final Matrix matrix) throws IOException
+    {
+        try (final Writer writer = writer(file))
+        {
+            writer.write(matrix);
+        }
+    }
+
+    /**
+     * @param file The file to create, replacing any existing file. (Cannot be null)
+     * @param matrix The {@link FloatMatrix} to write, as the only record of the file. (Cannot be null)
+     * @throws AssertionException If either argument is null.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void save(final Path file, final FloatMatrix matrix) throws IOException
+    {
+        try (final Writer writer = writer(file))
+        {
+            writer.write(matrix);
+        }
+    }
+
+    /**
+     * @param file The file to create, replacing any existing file. (Cannot be null)
+     * @param buffer The {@link PointBuffer} to write, as the only record of the file. (Cannot be null)
+     * @throws AssertionException If either argument is null.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void save(final Path file, final PointBuffer buffer) throws IOException
+    {
+        try (final Writer writer = writer(file))
+        {
+            writer.write(buffer);
+        }
+    }
+
+    /**
+     * @param file A file whose first record is a {@link Matrix}. (Cannot be null)
+     * @return a new {@link Matrix} read from the first record of the file.
+     * @throws AssertionException If file is null.
+     * @throws IOException If the file cannot be read, or does not start with a Matrix.
+     */
+    public static Matrix loadMatrix(final Path file) throws IOException
+    {
+        try (final Reader reader = reader(file))
+        {
+            return reader.readMatrix();
+        }
+    }
+
+    /**
+     * @param file A file whose first record is a {@link FloatMatrix}. (Cannot be null)
+     * @return a new {@link FloatMatrix} read from the first record of the file.
+     * @throws AssertionException If file is null.
+     * @throws IOException If the file cannot be read, or does not start with a FloatMatrix.
+     */
+    public static FloatMatrix loadFloatMatrix(final Path file) throws IOException
+    {
+        try (final Reader reader = reader(file))
+        {
+            return reader.readFloatMatrix();
+        }
+    }
+
+    /**
+     * @param file A file whose first record is a {@link PointBuffer}. (Cannot be null)
+     * @return a new {@link PointBuffer} read from the first record of the file.
+     * @throws AssertionException If file is null.
+     * @throws IOException If the file cannot be read, or does not start with a PointBuffer.
+     */
+    public static PointBuffer loadPointBuffer(final Path file) throws IOException
+    {
+        try (final Reader reader = reader(file))
+        {
+            return reader.readPointBuffer();
+        }
+    }
+
+    /**
+     * Writes records to a channel through a direct buffer, which is written out whenever it fills, on {@link #flush()} and on {@link #close()}.
+     * Instances are not safe for concurrent use.
+     */
+    public static final class Writer implements Closeable
+    {
+        private final WritableByteChannel channel;
+        private final ByteBuffer          buffer = ByteBuffer.allocateDirect(BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+
+        private Writer(final WritableByteChannel channel)
+        {
+            this.channel = channel;
+        }
+
+        /**
+         * @param matrix The {@link Matrix} to write. (Cannot be null)
+         * @return this {@link Writer}.
+         * @throws AssertionException If matrix is null.
+         * @throws IOException If the channel cannot be written.
+         */
+        public Writer write(final Matrix matrix) throws IOException
+        {
+            Verifier.assertNotNull("Cannot write a null Matrix.", matrix);
+
+            final Matrix contiguous = matrix.isContiguous() ? matrix : matrix.clone();
+            header(Kind.MATRIX, matrix.ROWS, matrix.COLUMNS);
+            put(contiguous.elements, contiguous.offset, matrix.ROWS * matrix.COLUMNS);
+            return this;
+        }
+
+        /**
+         * @param matrix The {@link FloatMatrix} to write. (Cannot be null)
+         * @return this {@link Writer}.
+         * @throws AssertionException If matrix is null.
+         * @throws IOException If the channel cannot be written.
+         */
+        public Writer write(final FloatMatrix matrix) throws IOException
+        {
+            Verifier.assertNotNull("Cannot write a null Matrix.", matrix);
+
+            final FloatMatrix contiguous = matrix.isContiguous() ? matrix : matrix.clone();
+            header(Kind.FLOAT_MATRIX, matrix.ROWS, matrix.COLUMNS);
+            int index = contiguous.offset;
+            for (int remaining = matrix.ROWS * matrix.COLUMNS; remaining > 0;)
+            {
+                final int count = Math.min(remaining, room(Float.BYTES));
+                buffer.asFloatBuffer().put(contiguous.elements, index, count);
+                buffer.position(buffer.position() + count * Float.BYTES);
+                index += count;
+                remaining -= count;
+            }
+            return this;
+        }
+
+        /**
+         * @param vector The {@link Vector} to write, which is read back as a {@link Point} if it is one. (Cannot be null)
+         * @return this {@link Writer}.
+         * @throws AssertionException If vector is null.
+         * @throws IOException If the channel cannot be written.
+         */
+        public Writer write(final Vector vector) throws IOException
+        {
+            Verifier.assertNotNull("Cannot write a null Vector.", vector);
+
+            header(vector instanceof Point ? Kind.POINT : Kind.VECTOR, vector.RANK, 1);
+            put(vector.elements, 0, vector.RANK);
+            return this;
+        }
+
+        /**
+         * @param points The {@link PointBuffer} to write, one whole axis at a time. (Cannot be null)
+         * @return this {@link Writer}.
+         * @throws AssertionException If points is null.
+         * @throws IOException If the channel cannot be written.
+         */
+        public Writer write(final PointBuffer points) throws IOException
+        {
+            Verifier.assertNotNull("Cannot write a null PointBuffer.", points);
+
+            header(Kind.POINT_BUFFER, points.RANK, points.SIZE);
+            for (final double[] axis : points.axes)
+            {
+                put(axis, 0, points.SIZE);
+            }
+            return this;
+        }
+
+        private void header(final Kind kind, final int rows, final int columns) throws IOException
+        {
+            room(HEADER);
+            buffer.putLong(MAGIC).putInt(kind.code).putInt(kind.elementBytes).putInt(rows).putInt(columns);
+            buffer.putLong((long) rows * columns * kind.elementBytes);
+        }
+
+        private void put(final double[] elements, final int offset, final int length) throws IOException
+        {
+            for (int index = offset, remaining = length; remaining > 0;)
+            {
+                final int count = Math.min(remaining, room(Double.BYTES));
+                buffer.asDoubleBuffer().put(elements, index, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                index += count;
+                remaining -= count;
+            }
+        }
+
+        /**
+         * Writes out the buffer if it has fewer than the specified number of bytes free.
+         *
+         * @return the number of whole elements of the specified size which fit in the buffer.
+         */
+        private int room(final int bytes) throws IOException
+        {
+            if (buffer.remaining() < bytes)
+            {
+                drain();
+            }
+            return buffer.remaining() / bytes;
+        }
+
+        private void drain() throws IOException
+        {
+            buffer.flip();
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Writes any buffered records to the channel.
+         *
+         * @throws IOException If the channel cannot be written.
+         */
+        public void flush() throws IOException
+        {
+            drain();
+        }
+
+        /**
+         * Flushes any buffered records, and closes the channel.
+         */
+        @Override
+        public void close() throws IOException
+        {
+            try
+            {
+                flush();
+            }
+            finally
+            {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Reads records from a channel, one after another, through a direct buffer. Instances are not safe for concurrent use.
+     */
+    public static final class Reader implements Closeable
+    {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer          buffer = ByteBuffer.allocateDirect(BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+
+        private Reader(final ReadableByteChannel channel)
+        {
+            this.channel = channel;
+            buffer.flip();
+        }
+
+        /**
+         * @return the {@link Kind} of the next record, without reading it, or null at the end of the channel.
+         * @throws IOException If the channel cannot be read, or the next record is damaged.
+         */
+        public Kind peek() throws IOException
+        {
+            if (!fill(HEADER))
+            {
+                if (buffer.hasRemaining())
+                {
+                    throw new EOFException("The channel ends within a record header.");
+                }
+                return null;
+            }
+
+            final int start = buffer.position();
+            final Kind kind = Kind.of(buffer.getInt(start + Long.BYTES));
+            if (buffer.getLong(start) != MAGIC || kind == null)
+            {
+                throw new IOException("The channel does not hold a binary record.");
+            }
+            final int rows = buffer.getInt(start + 16);
+            final int columns = buffer.getInt(start + 20);
+            // Only a PointBuffer may be empty
+            if (buffer.getInt(start + 12) != kind.elementBytes || rows <= 0 || columns < (kind == Kind.POINT_BUFFER ? 0 : 1)
+                || buffer.getLong(start + 24) != (long) rows * columns * kind.elementBytes)
+            {
+                throw new IOException(MessageFormat.format("The channel holds a damaged {0} record.", kind));
+            }
+            return kind;
+        }
+
+        /**
+         * @return a new {@link Matrix} read from the next record.
+         * @throws IOException If the channel cannot be read, or the next record is not a Matrix.
+         */
+        public Matrix readMatrix() throws IOException
+        {
+            final int[] shape = header(Kind.MATRIX);
+            return Matrix.wrap(get(new double[shape[0] * shape[1]]), shape[0], shape[1]);
+        }
+
+        /**
+         * @return a new {@link FloatMatrix} read from the next record.
+         * @throws IOException If the channel cannot be read, or the next record is not a FloatMatrix.
+         */
+        public FloatMatrix readFloatMatrix() throws IOException
+        {
+            final int[] shape = header(Kind.FLOAT_MATRIX);
+            final float[] elements = new float[shape[0] * shape[1]];
+            for (int index = 0; index < elements.length;)
+            {
+                final int count = Math.min(elements.length - index, available(Float.BYTES));
+                buffer.asFloatBuffer().get(elements, index, count);
+                buffer.position(buffer.position() + count * Float.BYTES);
+                index += count;
+            }
+            return new FloatMatrix(elements, shape[0], shape[1], 0, shape[1], 1);
+        }
+
+        /**
+         * @return a new {@link Vector} read from the next record, which may also be a {@link Point}.
+         * @throws IOException If the channel cannot be read, or the next record is neither a Vector nor a Point.
+         */
+        public Vector readVector() throws IOException
+        {
+            return Vector.create(get(new double[header(peek() == Kind.POINT ? Kind.POINT : Kind.VECTOR)[0]]));
+        }
+
+        /**
+         * @return a new {@link Point} read from the next record, which may also be a {@link Vector}.
+         * @throws IOException If the channel cannot be read, or the next record is neither a Point nor a Vector.
+         */
+        public Point readPoint() throws IOException
+        {
+            return Point.create(get(new double[header(peek() == Kind.VECTOR ? Kind.VECTOR : Kind.POINT)[0]]));
+        }
+
+        /**
+         * @return a new {@link PointBuffer} read from the next record, one whole axis at a time.
+         * @throws IOException If the channel cannot be read, or the next record is not a PointBuffer.
+         */
+        public PointBuffer readPointBuffer() throws IOException
+        {
+            final int[] shape = header(Kind.POINT_BUFFER);
+            final PointBuffer points = PointBuffer.create(shape[0], shape[1]);
+            for (final double[] axis : points.axes)
+            {
+                get(axis);
+            }
+            return points;
+        }
+
+        /**
+         * Reads the next record header, which must be of the specified {@link Kind}.
+         *
+         * @return the rows and columns of the record.
+         */
+        private int[] header(final Kind expected) throws IOException
+        {
+            final Kind kind = peek();
+            if (kind != expected)
+            {
+                throw kind == null ? new EOFException(MessageFormat.format("The channel ends before a {0} record.", expected))
+                                   : new IOException(MessageFormat.format("Expected a {0} record rather than a {1} record.", expected, kind));
+            }
+            if ((long) buffer.getInt(buffer.position() + 16) * buffer.getInt(buffer.position() + 20) > Integer.MAX_VALUE - 8)
+            {
+                throw new IOException(MessageFormat.format("The {0} record has too many elements to be held in an array.", kind));
+            }
+
+            buffer.position(buffer.position() + 16);
+            final int[] shape = { buffer.getInt(), buffer.getInt() };
+            buffer.getLong();
+            return shape;
+        }
+
+        /**
+         * Fills the array with the next elements, mapping them directly from a file once the buffered bytes are used up.
+         */
+        private double[] get(final double[] elements) throws IOException
+        {
+            int index = 0;
+            while (index < elements.length)
+            {
+                final int remaining = elements.length - index;
+                if (!buffer.hasRemaining() && channel instanceof FileChannel && (long) remaining * Double.BYTES >= BUFFER)
+                {
+                    index += map((FileChannel) channel, elements, index, remaining);
+                    continue;
+                }
+
+                final int count = Math.min(remaining, available(Double.BYTES));
+                buffer.asDoubleBuffer().get(elements, index, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                index += count;
+            }
+            return elements;
+        }
+
+        /**
+         * Copies the next elements of a file into the array from a read-only mapping, at most {@link #SEGMENT} bytes at a time, and advances
+         * the file position past them.
+         *
+         * @return the number of elements copied.
+         */
+        private static int map(final FileChannel file, final double[] elements, final int index, final int remaining) throws IOException
+        {
+            final long position = file.position();
+            final int count = (int) Math.min(remaining, Math.min(SEGMENT, file.size() - position) / Double.BYTES);
+            if (count == 0)
+            {
+                throw new EOFException("The channel ends within a record.");
+            }
+
+            final MappedByteBuffer mapping = file.map(MapMode.READ_ONLY, position, (long) count * Double.BYTES);
+            mapping.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(elements, index, count);
+            file.position(position + (long) count * Double.BYTES);
+            return count;
+        }
+
+        /**
+         * @return the number of whole elements of the specified size in the buffer, after refilling it if it holds less than one.
+         */
+        private int available(final int bytes) throws IOException
+        {
+            if (!fill(bytes))
+            {
+                throw new EOFException("The channel ends within a record.");
+            }
+            return buffer.remaining() / bytes;
+        }
+
+        /**
+         * Reads from the channel until the buffer holds at least the specified number of bytes.
+         *
+         * @return false if the channel ends first.
+         */
+        private boolean fill(final int bytes) throws IOException
+        {
+            if (buffer.remaining() >= bytes)
+            {
+                return true;
+            }
+
+            buffer.compact();
+            try
+            {
+                while (buffer.position() < bytes)
+                {
+                    if (channel.read(buffer) < 0)
+                    {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            finally
+            {
+                buffer.flip();
+            }
+        }
+
+        /**
+         * Closes the channel.
+         */
+        @Override
+        public void close() throws IOException
+        {
+            channel.close();
+        }
+    }
+}
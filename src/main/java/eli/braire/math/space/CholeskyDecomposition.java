@@ -0,0 +1,155 @@
+package eli.braire.math.space;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The Cholesky factorisation of a symmetric positive definite {@link Matrix}, such that <code>A == L &middot; L<sup>t</sup></code>, where
+ * <code>L</code> is lower triangular with a positive diagonal.
+ * <p>
+ * It takes half the work of the {@link LUDecomposition} and needs no pivoting, which makes it the fastest way to solve the systems arising from
+ * covariance matrices, normal equations and other Gram matrices. Each element of <code>L</code> is the dot product of two contiguous partial rows,
+ * so the factorisation runs on the same kernels as {@link Matrix} itself.
+ * <p>
+ * As symmetry is assumed, only the diagonal and the lower triangle of the factorised Matrix are read. Instances are immutable and are cached by
+ * {@link Matrix#getCholeskyDecomposition()}.
+ *
+ * @author The Architect
+ */
+public final class CholeskyDecomposition
+{
+    /**
+     * The total number of rows and columns of the factorised {@link Matrix}.
+     */
+    public final int       SIZE;
+    /**
+     * The row-major factor <code>L</code>, which is zero above the diagonal.
+     */
+    private final double[] lower;
+
+    private CholeskyDecomposition(final Matrix matrix)
+    {
+        SIZE = matrix.ROWS;
+        lower = matrix.clone().elements;
+
+        for (int i = 0; i < SIZE; i++)
+        {
+            final int row = i * SIZE;
+            for (int j = 0; j < i; j++)
+            {
+                lower[row + j] = (lower[row + j] - Kernels.dot(lower, row, lower, j * SIZE, j)) / lower[j * SIZE + j];
+            }
+            final double pivot = lower[row + i] - Kernels.dot(lower, row, lower, row, i);
+            Verifier.Inequality.assertGreaterThan("Only positive definite Matrices have a Cholesky factorisation.", pivot, 0D, 0D);
+            lower[row + i] = Math.sqrt(pivot);
+        }
+        // The upper triangle still holds the original elements
+        for (int i = 0; i < SIZE; i++)
+        {
+            for (int j = i + 1; j < SIZE; j++)
+            {
+                lower[i * SIZE + j] = 0D;
+            }
+        }
+    }
+
+    /**
+     * @param matrix The square, symmetric and positive definite {@link Matrix} to factorise.
+     * @return a new {@link CholeskyDecomposition} of the specified {@link Matrix}.
+     * @throws AssertionException If the Matrix is not square or not positive definite.
+     */
+    static CholeskyDecomposition of(final Matrix matrix)
+    {
+        Verifier.Equality.assertEqual("Only square Matrices have a Cholesky factorisation.", matrix.COLUMNS, matrix.ROWS);
+
+        return new CholeskyDecomposition(matrix);
+    }
+
+    /**
+     * @return a new lower triangular {@link Matrix} <code>L</code>, with a positive diagonal.
+     */
+    public Matrix getLower()
+    {
+        return Matrix.wrap(lower.clone(), SIZE, SIZE);
+    }
+
+    /**
+     * @return the determinant of the factorised {@link Matrix}, which is the squared product of the diagonal of <code>L</code>.
+     */
+    public double determinant()
+    {
+        double product = 1D;
+        for (int i = 0; i < SIZE; i++)
+        {
+            product *= lower[i * SIZE + i];
+        }
+
+        return product * product;
+    }
+
+    /**
+     * @return a new inverse of the factorised {@link Matrix}.
+     */
+    public Matrix inverse()
+    {
+        return Matrix.wrap(substitute(Matrix.identity(SIZE).elements.clone(), SIZE), SIZE, SIZE);
+    }
+
+    /**
+     * @param vector The right-hand side <code>b</code>, with as many dimensions as the factorised Matrix has rows. (Cannot be null)
+     * @return a new {@link Vector} <code>x</code> such that <code>A &middot; x == b</code>.
+     * @throws AssertionException If vector is null, or does not have as many dimensions as the factorised Matrix has rows.
+     */
+    public Vector solve(final Vector vector)
+    {
+        Verifier.assertNotNull("Cannot solve for a null Vector.", vector);
+        Verifier.Equality.assertEqual("The Vector dimensions must match the Matrix rows.", vector.RANK, SIZE);
+
+        return Vector.create(substitute(vector.elements.clone(), 1));
+    }
+
+    /**
+     * @param matrix The right-hand sides <code>B</code>, with as many rows as the factorised Matrix. (Cannot be null)
+     * @return a new {@link Matrix} <code>X</code> such that <code>A &middot; X == B</code>.
+     * @throws AssertionException If matrix is null, or does not have as many rows as the factorised Matrix.
+     */
+    public Matrix solve(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot solve for a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("The right-hand Matrix rows must match the Matrix rows.", matrix.ROWS, SIZE);
+
+        return Matrix.wrap(substitute(matrix.clone().elements, matrix.COLUMNS), SIZE, matrix.COLUMNS);
+    }
+
+    /**
+     * Solves <code>L &middot; L<sup>t</sup> &middot; X == B</code> in place by forward then backward substitution. Each step updates a whole
+     * contiguous row of right-hand sides at once.
+     *
+     * @param solution The row-major right-hand sides, overwritten by the solutions.
+     * @param columns The number of right-hand sides.
+     * @return the solution.
+     */
+    private double[] substitute(final double[] solution, final int columns)
+    {
+        for (int i = 0; i < SIZE; i++)
+        {
+            final int target = i * columns;
+            for (int k = 0; k < i; k++)
+            {
+                Kernels.axpy(-lower[i * SIZE + k], solution, k * columns, solution, target, columns);
+            }
+            Kernels.scale(1D / lower[i * SIZE + i], solution, target, solution, target, columns);
+        }
+        for (int i = SIZE - 1; i >= 0; i--)
+        {
+            final int target = i * columns;
+            for (int k = i + 1; k < SIZE; k++)
+            {
+                Kernels.axpy(-lower[k * SIZE + i], solution, k * columns, solution, target, columns);
+            }
+            Kernels.scale(1D / lower[i * SIZE + i], solution, target, solution, target, columns);
+        }
+
+        return solution;
+    }
+}
@@ -0,0 +1,208 @@
+package eli.braire.math.space;
+
+import java.util.Arrays;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * Assembles a sparse Matrix from coordinate (COO) triplets, which may be added in any order. Triplets at the same position are summed, which
+ * suits the assembly of finite element and graph systems. The triplets are compressed into a {@link CsrMatrix} or {@link CscMatrix} by two
+ * stable counting sorts, in <code>O(non-zeros + rows + columns)</code> time. Builders are not thread-safe.
+ *
+ * @author The Architect
+ */
+public final class CooMatrixBuilder
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The total number of row dimensions for the built Matrix.
+     */
+    public final int ROWS;
+    /**
+     * The total number of column dimensions for the built Matrix.
+     */
+    public final int COLUMNS;
+    private int[]    rows;
+    private int[]    columns;
+    private double[] values;
+    private int      size;
+
+    private CooMatrixBuilder(final int rows, final int columns, final int capacity)
+    {
+        ROWS = rows;
+        COLUMNS = columns;
+        this.rows = new int[capacity];
+        this.columns = new int[capacity];
+        this.values = new double[capacity];
+    }
+
+    /**
+     * @param rows The total (positive) number of rows.
+     * @param columns The total (positive) number of columns.
+     * @return a new empty {@link CooMatrixBuilder}.
+     * @throws AssertionException If rows or columns is less than 1.
+     */
+    public static CooMatrixBuilder create(final int rows, final int columns)
+    {
+        return create(rows, columns, INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param rows The total (positive) number of rows.
+     * @param columns The total (positive) number of columns.
+     * @param expectedNonZeros The number of triplets expected, which avoids growing the builder when known in advance.
+     * @return a new empty {@link CooMatrixBuilder}.
+     * @throws AssertionException If rows or columns is less than 1, or if expectedNonZeros is negative.
+     */
+    public static CooMatrixBuilder create(final int rows, final int columns, final int expectedNonZeros)
+    {
+        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 row.", rows, 0);
+        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 column.", columns, 0);
+        Verifier.Inequality.assertGreaterThanOrEqual("The expected number of non-zeros cannot be negative.", expectedNonZeros, 0);
+
+        return new CooMatrixBuilder(rows, columns, Math.max(expectedNonZeros, 1));
+    }
+
+    /**
+     * @param rowDimension A row dimension [1, total rows].
+     * @param columnDimension A column dimension [1, total columns].
+     * @param value The value to add to the element at the specified position.
+     * @return this {@link CooMatrixBuilder}.
+     * @throws AssertionException If either dimension is outside of the defined range.
+     */
+    public CooMatrixBuilder add(final int rowDimension, final int columnDimension, final double value)
+    {
+        Verifier.Ranges.assertInsideRange_Inclusive("Matrix row index must be within the defined range.", rowDimension, 1, ROWS);
+        Verifier.Ranges.assertInsideRange_Inclusive("Matrix column index must be within the defined range.", columnDimension, 1, COLUMNS);
+
+        if (size == values.length)
+        {
+            final int capacity = size + (size >> 1) + 1;
+            rows = Arrays.copyOf(rows, capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        rows[size] = rowDimension - 1;
+        columns[size] = columnDimension - 1;
+        values[size++] = value;
+        return this;
+    }
+
+    /**
+     * @return the number of triplets added so far, including any at the same position.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return a new {@link CsrMatrix} holding the sum of the triplets at each position. Positions whose triplets sum to zero are not stored.
+     */
+    public CsrMatrix toCsr()
+    {
+        return compress(ROWS, COLUMNS, rows, columns);
+    }
+
+    /**
+     * @return a new {@link CscMatrix} holding the sum of the triplets at each position. Positions whose triplets sum to zero are not stored.
+     */
+    public CscMatrix toCsc()
+    {
+        return compress(COLUMNS, ROWS, columns, rows).transposeView();
+    }
+
+    /**
+     * Sorts the triplets by major then minor index, and merges those at the same position.
+     *
+     * @return a new {@link CsrMatrix} with a row for each major index, and a column for each minor index.
+     */
+    private CsrMatrix compress(final int majorCount, final int minorCount, final int[] major, final int[] minor)
+    {
+        // Order by minor index first, so that the stable sort by major index leaves each major index sorted by minor index
+        final int[] byMinor = new int[size];
+        countingSort(identity(size), minor, minorCount, byMinor);
+        final int[] order = new int[size];
+        final int[] pointers = countingSort(byMinor, major, majorCount, order);
+
+        final int[] indices = new int[size];
+        final double[] sums = new double[size];
+        int count = 0;
+        for (int i = 0; i < majorCount; i++)
+        {
+            final int start = count;
+            for (int index = pointers[i]; index < pointers[i + 1]; index++)
+            {
+                final int triplet = order[index];
+                if (count > start && indices[count - 1] == minor[triplet])
+                {
+                    sums[count - 1] += values[triplet];
+                }
+                else
+                {
+                    indices[count] = minor[triplet];
+                    sums[count++] = values[triplet];
+                }
+            }
+
+            // Drop any positions that cancelled out
+            int kept = start;
+            for (int index = start; index < count; index++)
+            {
+                if (sums[index] != 0D)
+                {
+                    indices[kept] = indices[index];
+                    sums[kept++] = sums[index];
+                }
+            }
+            count = kept;
+            pointers[i] = start;
+        }
+        pointers[majorCount] = count;
+
+        return new CsrMatrix(majorCount, minorCount, pointers, Arrays.copyOf(indices, count), Arrays.copyOf(sums, count));
+    }
+
+    private static int[] identity(final int size)
+    {
+        final int[] identity = new int[size];
+        for (int index = 0; index < size; index++)
+        {
+            identity[index] = index;
+        }
+
+        return identity;
+    }
+
+    /**
+     * Stably sorts triplet numbers by a key.
+     *
+     * @param source The triplet numbers to sort.
+     * @param keys The key of each triplet number.
+     * @param keyCount The number of distinct keys.
+     * @param target The sorted triplet numbers.
+     * @return the start of each key within the target, followed by the total number of triplets.
+     */
+    private int[] countingSort(final int[] source, final int[] keys, final int keyCount, final int[] target)
+    {
+        final int[] pointers = new int[keyCount + 1];
+        for (int index = 0; index < size; index++)
+        {
+            pointers[keys[index] + 1]++;
+        }
+        for (int key = 0; key < keyCount; key++)
+        {
+            pointers[key + 1] += pointers[key];
+        }
+        final int[] next = Arrays.copyOf(pointers, keyCount);
+        for (int index = 0; index < size; index++)
+        {
+            final int triplet = source[index];
+            target[next[keys[triplet]]++] = triplet;
+        }
+
+        return pointers;
+    }
+}
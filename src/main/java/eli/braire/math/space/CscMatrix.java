@@ -0,0 +1,272 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * An immutable sparse counterpart of {@link Matrix} in Compressed Sparse Column (CSC) form. Only the non-zero elements are stored, column by
+ * column, so that memory and the time of every operation scale with the number of non-zeros rather than with the dimensions.
+ * <p>
+ * The non-zeros of column <code>j</code> occupy the range <code>[columnPointers[j], columnPointers[j + 1])</code> of {@link #rowIndices} and
+ * {@link #values}, sorted by row without duplicates. These are exactly the arrays of the {@link CsrMatrix} of the transverse, so conversions
+ * between the two forms through {@link #transposeView()} are free, and sparse-sparse products are delegated to the row-parallel CSR kernels.
+ *
+ * @author The Architect
+ * @see CsrMatrix
+ */
+public final class CscMatrix implements LinearOperator
+{
+    /**
+     * The total number of row dimensions for the defined {@link CscMatrix}.
+     */
+    public final int ROWS;
+    /**
+     * The total number of column dimensions for the defined {@link CscMatrix}.
+     */
+    public final int COLUMNS;
+    final int[]      columnPointers;
+    final int[]      rowIndices;
+    final double[]   values;
+
+    CscMatrix(final int rows, final int columns, final int[] columnPointers, final int[] rowIndices, final double[] values)
+    {
+        ROWS = rows;
+        COLUMNS = columns;
+        this.columnPointers = columnPointers;
+        this.rowIndices = rowIndices;
+        this.values = values;
+    }
+
+    /**
+     * @param matrix A dense {@link Matrix}.
+     * @return a new {@link CscMatrix} holding the non-zero elements of the Matrix.
+     * @throws AssertionException If matrix is null.
+     */
+    public static CscMatrix of(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot convert a null Matrix.", matrix);
+
+        return CsrMatrix.of(matrix.transposeView()).transposeView();
+    }
+
+    /**
+     * @return the total number of stored (non-zero) elements.
+     */
+    public int getNonZeroCount()
+    {
+        return columnPointers[COLUMNS];
+    }
+
+    /**
+     * @param rowDimension A row dimension [1, total rows].
+     * @param columnDimension A column dimension [1, total columns].
+     * @return the <code>double</code> value corresponding to the element at the specified position, which is found by binary search within its
+     *         column.
+     * @throws AssertionException If either dimension is outside of the defined range.
+     */
+    public double getElement(final int rowDimension, final int columnDimension)
+    {
+        return transposeView().getElement(columnDimension, rowDimension);
+    }
+
+    /**
+     * @return a copy of the column pointers, where the non-zeros of the zero-based column <code>j</code> occupy the indices
+     *         <code>[columnPointers[j], columnPointers[j + 1])</code>.
+     */
+    public int[] getColumnPointers()
+    {
+        return columnPointers.clone();
+    }
+
+    /**
+     * @return a copy of the zero-based row index of each non-zero.
+     */
+    public int[] getRowIndices()
+    {
+        return rowIndices.clone();
+    }
+
+    /**
+     * @return a copy of the value of each non-zero.
+     */
+    public double[] getValues()
+    {
+        return values.clone();
+    }
+
+    /**
+     * @return a view of the transverse of this Matrix in {@link CsrMatrix} form, which shares the same arrays without copying them.
+     */
+    public CsrMatrix transposeView()
+    {
+        return new CsrMatrix(COLUMNS, ROWS, columnPointers, rowIndices, values);
+    }
+
+    /**
+     * @return a new {@link CscMatrix} holding the transverse of this Matrix.
+     */
+    public CscMatrix transverse()
+    {
+        return toCsr().transposeView();
+    }
+
+    /**
+     * @return a new {@link CsrMatrix} holding the same elements as this Matrix.
+     */
+    public CsrMatrix toCsr()
+    {
+        return transposeView().transverse();
+    }
+
+    /**
+     * @return a new dense {@link Matrix} holding the same elements as this Matrix.
+     */
+    public Matrix toMatrix()
+    {
+        final double[] dense = new double[ROWS * COLUMNS];
+        for (int j = 0; j < COLUMNS; j++)
+        {
+            for (int index = columnPointers[j]; index < columnPointers[j + 1]; index++)
+            {
+                dense[rowIndices[index] * COLUMNS + j] = values[index];
+            }
+        }
+
+        return Matrix.wrap(dense, ROWS, COLUMNS);
+    }
+
+    /**
+     * @param vector A {@link Vector} with as many dimensions as this Matrix has columns.
+     * @return a new {@link Vector} holding the product <code>matrix &middot; vector</code>.
+     * @throws AssertionException If vector is null or has the wrong number of dimensions.
+     */
+    public Vector dotProduct(final Vector vector)
+    {
+        return dotProductInto(vector, VectorBuffer.create(ROWS)).toVector();
+    }
+
+    /**
+     * Each column scatters into the result, so this product runs on the calling thread. Prefer {@link CsrMatrix} for repeated products.
+     *
+     * @param vector A {@link Vector} with as many dimensions as this Matrix has columns.
+     * @param destination The {@link VectorBuffer} to overwrite with the product, which must not be the same as the operand.
+     * @return the destination.
+     * @throws AssertionException If the vector or destination is null, if any dimensions differ, or if the destination is the operand.
+     */
+    public VectorBuffer dotProductInto(final Vector vector, final VectorBuffer destination)
+    {
+        Verifier.assertNotNull("Cannot perform operations with a null Vector.", vector);
+        Verifier.assertNotNull("Cannot write into a null VectorBuffer.", destination);
+        Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Vector dimensions.", vector.RANK, COLUMNS);
+        Verifier.Equality.assertEqual("The destination dimensions must match the Left-Matrix rows.", destination.RANK, ROWS);
+        Verifier.Equality.assertNotEqual("The destination cannot share elements with the Right-Vector.", destination.elements, vector.elements);
+
+        multiplyVector(vector.elements, destination.elements);
+        return destination;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRows()
+    {
+        return ROWS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumns()
+    {
+        return COLUMNS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(final double[] source, final double[] target)
+    {
+        Verifier.assertNotNull("Cannot apply an operator to a null array.", source);
+        Verifier.assertNotNull("Cannot apply an operator into a null array.", target);
+        Verifier.Inequality.assertGreaterThanOrEqual("The source must have an element for each column.", source.length, COLUMNS);
+        Verifier.Inequality.assertGreaterThanOrEqual("The target must have an element for each row.", target.length, ROWS);
+        Verifier.Equality.assertNotEqual("The target cannot be the same array as the source.", target, source);
+
+        multiplyVector(source, target);
+    }
+
+    /**
+     * Computes <code>target = matrix &middot; source</code>, one scattered column at a time.
+     */
+    void multiplyVector(final double[] source, final double[] target)
+    {
+        Arrays.fill(target, 0, ROWS, 0D);
+        for (int j = 0; j < COLUMNS; j++)
+        {
+            final double scalar = source[j];
+            for (int index = columnPointers[j]; index < columnPointers[j + 1]; index++)
+            {
+                target[rowIndices[index]] += values[index] * scalar;
+            }
+        }
+    }
+
+    /**
+     * @param matrix A dense {@link Matrix} with as many rows as this Matrix has columns.
+     * @return a new dense {@link Matrix} holding the product <code>this &middot; matrix</code>.
+     * @throws AssertionException If matrix is null or has the wrong number of rows.
+     */
+    public Matrix dotProduct(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrix.ROWS, COLUMNS);
+
+        // Each non-zero scatters into a whole row of the product, so the product is split between threads by column instead
+        final int columns = matrix.COLUMNS;
+        final double[] product = new double[ROWS * columns];
+        ParallelRanges.forEach(columns, (long) getNonZeroCount() * columns >= CsrMatrix.PARALLEL_THRESHOLD, (from, to) ->
+        {
+            for (int k = 0; k < COLUMNS; k++)
+            {
+                final int source = matrix.index(k, from);
+                for (int index = columnPointers[k]; index < columnPointers[k + 1]; index++)
+                {
+                    final double scalar = values[index];
+                    final int target = rowIndices[index] * columns;
+                    for (int j = from, element = source; j < to; j++, element += matrix.columnStride)
+                    {
+                        product[target + j] += scalar * matrix.elements[element];
+                    }
+                }
+            }
+        });
+
+        return Matrix.wrap(product, ROWS, columns);
+    }
+
+    /**
+     * @param matrix A {@link CscMatrix} with as many rows as this Matrix has columns.
+     * @return a new {@link CscMatrix} holding the product <code>this &middot; matrix</code>, computed as the transverse of the row-parallel CSR
+     *         product <code>matrix<sup>t</sup> &middot; this<sup>t</sup></code>.
+     * @throws AssertionException If matrix is null or has the wrong number of rows.
+     */
+    public CscMatrix dotProduct(final CscMatrix matrix)
+    {
+        Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrix.ROWS, COLUMNS);
+
+        return matrix.transposeView().dotProduct(transposeView()).transposeView();
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("CSC[{0} x {1}, {2} non-zeros]", ROWS, COLUMNS, getNonZeroCount());
+    }
+}
@@ -0,0 +1,408 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * An immutable sparse counterpart of {@link Matrix} in Compressed Sparse Row (CSR) form. Only the non-zero elements are stored, row by row, so
+ * that memory and the time of every operation scale with the number of non-zeros rather than with the dimensions.
+ * <p>
+ * The non-zeros of row <code>i</code> occupy the range <code>[rowPointers[i], rowPointers[i + 1])</code> of {@link #columnIndices} and
+ * {@link #values}, sorted by column without duplicates. Products are computed row by row, and rows are distributed across the common fork-join
+ * pool once there are enough non-zeros to be worth it. Instances are created by a {@link CooMatrixBuilder}, or by {@link #of(Matrix)}.
+ *
+ * @author The Architect
+ * @see CscMatrix
+ */
+public final class CsrMatrix implements LinearOperator
+{
+    /**
+     * Products with fewer non-zeros than this are computed on the calling thread.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    /**
+     * The total number of row dimensions for the defined {@link CsrMatrix}.
+     */
+    public final int ROWS;
+    /**
+     * The total number of column dimensions for the defined {@link CsrMatrix}.
+     */
+    public final int COLUMNS;
+    final int[]      rowPointers;
+    final int[]      columnIndices;
+    final double[]   values;
+
+    CsrMatrix(final int rows, final int columns, final int[] rowPointers, final int[] columnIndices, final double[] values)
+    {
+        ROWS = rows;
+        COLUMNS = columns;
+        this.rowPointers = rowPointers;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    /**
+     * @param matrix A dense {@link Matrix}.
+     * @return a new {@link CsrMatrix} holding the non-zero elements of the Matrix.
+     * @throws AssertionException If matrix is null.
+     */
+    public static CsrMatrix of(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot convert a null Matrix.", matrix);
+
+        int count = 0;
+        for (int i = 0; i < matrix.ROWS; i++)
+        {
+            for (int j = 0, source = matrix.index(i, 0); j < matrix.COLUMNS; j++, source += matrix.columnStride)
+            {
+                if (matrix.elements[source] != 0D)
+                {
+                    count++;
+                }
+            }
+        }
+
+        final int[] rowPointers = new int[matrix.ROWS + 1];
+        final int[] columnIndices = new int[count];
+        final double[] values = new double[count];
+        int target = 0;
+        for (int i = 0; i < matrix.ROWS; i++)
+        {
+            for (int j = 0, source = matrix.index(i, 0); j < matrix.COLUMNS; j++, source += matrix.columnStride)
+            {
+                if (matrix.elements[source] != 0D)
+                {
+                    columnIndices[target] = j;
+                    values[target++] = matrix.elements[source];
+                }
+            }
+            rowPointers[i + 1] = target;
+        }
+
+        return new CsrMatrix(matrix.ROWS, matrix.COLUMNS, rowPointers, columnIndices, values);
+    }
+
+    /**
+     * @return the total number of stored (non-zero) elements.
+     */
+    public int getNonZeroCount()
+    {
+        return rowPointers[ROWS];
+    }
+
+    /**
+     * @param rowDimension A row dimension [1, total rows].
+     * @param columnDimension A column dimension [1, total columns].
+     * @return the <code>double</code> value corresponding to the element at the specified position, which is found by binary search within its
+     *         row.
+     * @throws AssertionException If either dimension is outside of the defined range.
+     */
+    public double getElement(final int rowDimension, final int columnDimension)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix row index must be within the defined range.", rowDimension, 1, ROWS);
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix column index must be within the defined range.", columnDimension, 1, COLUMNS);
+        }
+
+        final int index = Arrays.binarySearch(columnIndices, rowPointers[rowDimension - 1], rowPointers[rowDimension], columnDimension - 1);
+        return index < 0 ? 0D : values[index];
+    }
+
+    /**
+     * @return a copy of the row pointers, where the non-zeros of the zero-based row <code>i</code> occupy the indices
+     *         <code>[rowPointers[i], rowPointers[i + 1])</code>.
+     */
+    public int[] getRowPointers()
+    {
+        return rowPointers.clone();
+    }
+
+    /**
+     * @return a copy of the zero-based column index of each non-zero.
+     */
+    public int[] getColumnIndices()
+    {
+        return columnIndices.clone();
+    }
+
+    /**
+     * @return a copy of the value of each non-zero.
+     */
+    public double[] getValues()
+    {
+        return values.clone();
+    }
+
+    /**
+     * @return a view of the transverse of this Matrix in {@link CscMatrix} form, which shares the same arrays without copying them.
+     */
+    public CscMatrix transposeView()
+    {
+        return new CscMatrix(COLUMNS, ROWS, rowPointers, columnIndices, values);
+    }
+
+    /**
+     * @return a new {@link CsrMatrix} holding the transverse of this Matrix, computed by a counting sort in <code>O(non-zeros + columns)</code>.
+     */
+    public CsrMatrix transverse()
+    {
+        final int count = getNonZeroCount();
+        final int[] pointers = new int[COLUMNS + 1];
+        for (int index = 0; index < count; index++)
+        {
+            pointers[columnIndices[index] + 1]++;
+        }
+        for (int j = 0; j < COLUMNS; j++)
+        {
+            pointers[j + 1] += pointers[j];
+        }
+
+        // Scatter the rows in ascending order, which leaves each transposed row sorted
+        final int[] next = Arrays.copyOf(pointers, COLUMNS);
+        final int[] indices = new int[count];
+        final double[] transposed = new double[count];
+        for (int i = 0; i < ROWS; i++)
+        {
+            for (int index = rowPointers[i]; index < rowPointers[i + 1]; index++)
+            {
+                final int target = next[columnIndices[index]]++;
+                indices[target] = i;
+                transposed[target] = values[index];
+            }
+        }
+
+        return new CsrMatrix(COLUMNS, ROWS, pointers, indices, transposed);
+    }
+
+    /**
+     * @return a new {@link CscMatrix} holding the same elements as this Matrix.
+     */
+    public CscMatrix toCsc()
+    {
+        return transverse().transposeView();
+    }
+
+    /**
+     * @return a new dense {@link Matrix} holding the same elements as this Matrix.
+     */
+    public Matrix toMatrix()
+    {
+        final double[] dense = new double[ROWS * COLUMNS];
+        for (int i = 0; i < ROWS; i++)
+        {
+            for (int index = rowPointers[i]; index < rowPointers[i + 1]; index++)
+            {
+                dense[i * COLUMNS + columnIndices[index]] = values[index];
+            }
+        }
+
+        return Matrix.wrap(dense, ROWS, COLUMNS);
+    }
+
+    /**
+     * @param vector A {@link Vector} with as many dimensions as this Matrix has columns.
+     * @return a new {@link Vector} holding the product <code>matrix &middot; vector</code>.
+     * @throws AssertionException If vector is null or has the wrong number of dimensions.
+     */
+    public Vector dotProduct(final Vector vector)
+    {
+        return dotProductInto(vector, VectorBuffer.create(ROWS)).toVector();
+    }
+
+    /**
+     * @param vector A {@link Vector} with as many dimensions as this Matrix has columns.
+     * @param destination The {@link VectorBuffer} to overwrite with the product, which must not be the same as the operand.
+     * @return the destination.
+     * @throws AssertionException If the vector or destination is null, if any dimensions differ, or if the destination is the operand.
+     */
+    public VectorBuffer dotProductInto(final Vector vector, final VectorBuffer destination)
+    {
+        Verifier.assertNotNull("Cannot perform operations with a null Vector.", vector);
+        Verifier.assertNotNull("Cannot write into a null VectorBuffer.", destination);
+        Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Vector dimensions.", vector.RANK, COLUMNS);
+        Verifier.Equality.assertEqual("The destination dimensions must match the Left-Matrix rows.", destination.RANK, ROWS);
+        Verifier.Equality.assertNotEqual("The destination cannot share elements with the Right-Vector.", destination.elements, vector.elements);
+
+        multiplyVector(vector.elements, destination.elements);
+        return destination;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRows()
+    {
+        return ROWS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumns()
+    {
+        return COLUMNS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(final double[] source, final double[] target)
+    {
+        Verifier.assertNotNull("Cannot apply an operator to a null array.", source);
+        Verifier.assertNotNull("Cannot apply an operator into a null array.", target);
+        Verifier.Inequality.assertGreaterThanOrEqual("The source must have an element for each column.", source.length, COLUMNS);
+        Verifier.Inequality.assertGreaterThanOrEqual("The target must have an element for each row.", target.length, ROWS);
+        Verifier.Equality.assertNotEqual("The target cannot be the same array as the source.", target, source);
+
+        multiplyVector(source, target);
+    }
+
+    /**
+     * Computes <code>target = matrix &middot; source</code>, one row per dot product.
+     */
+    void multiplyVector(final double[] source, final double[] target)
+    {
+        ParallelRanges.forEach(ROWS, getNonZeroCount() >= PARALLEL_THRESHOLD, (from, to) ->
+        {
+            for (int i = from; i < to; i++)
+            {
+                double sum = 0D;
+                for (int index = rowPointers[i]; index < rowPointers[i + 1]; index++)
+                {
+                    sum += values[index] * source[columnIndices[index]];
+                }
+                target[i] = sum;
+            }
+        });
+    }
+
+    /**
+     * @param matrix A dense {@link Matrix} with as many rows as this Matrix has columns.
+     * @return a new dense {@link Matrix} holding the product <code>this &middot; matrix</code>, where each row is a sum of the rows of the dense
+     *         Matrix selected by the non-zeros of the same row of this Matrix.
+     * @throws AssertionException If matrix is null or has the wrong number of rows.
+     */
+    public Matrix dotProduct(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrix.ROWS, COLUMNS);
+
+        final int columns = matrix.COLUMNS;
+        final double[] product = new double[ROWS * columns];
+        ParallelRanges.forEach(ROWS, (long) getNonZeroCount() * columns >= PARALLEL_THRESHOLD, (from, to) ->
+        {
+            for (int i = from; i < to; i++)
+            {
+                final int target = i * columns;
+                for (int index = rowPointers[i]; index < rowPointers[i + 1]; index++)
+                {
+                    final double scalar = values[index];
+                    for (int j = 0, source = matrix.index(columnIndices[index], 0); j < columns; j++, source += matrix.columnStride)
+                    {
+                        product[target + j] += scalar * matrix.elements[source];
+                    }
+                }
+            }
+        });
+
+        return Matrix.wrap(product, ROWS, columns);
+    }
+
+    /**
+     * @param matrix A {@link CsrMatrix} with as many rows as this Matrix has columns.
+     * @return a new {@link CsrMatrix} holding the product <code>this &middot; matrix</code>, computed row by row with Gustavson's algorithm, so
+     *         that the time taken is proportional to the number of multiplications of non-zeros.
+     * @throws AssertionException If matrix is null or has the wrong number of rows.
+     */
+    public CsrMatrix dotProduct(final CsrMatrix matrix)
+    {
+        Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrix.ROWS, COLUMNS);
+
+        final int columns = matrix.COLUMNS;
+        final boolean parallel = getNonZeroCount() + matrix.getNonZeroCount() >= PARALLEL_THRESHOLD;
+
+        // Count the distinct columns of each row of the product
+        final int[] pointers = new int[ROWS + 1];
+        ParallelRanges.forEach(ROWS, parallel, (from, to) ->
+        {
+            final int[] marker = new int[columns];
+            Arrays.fill(marker, -1);
+            for (int i = from; i < to; i++)
+            {
+                int count = 0;
+                for (int index = rowPointers[i]; index < rowPointers[i + 1]; index++)
+                {
+                    final int k = columnIndices[index];
+                    for (int other = matrix.rowPointers[k]; other < matrix.rowPointers[k + 1]; other++)
+                    {
+                        final int j = matrix.columnIndices[other];
+                        if (marker[j] != i)
+                        {
+                            marker[j] = i;
+                            count++;
+                        }
+                    }
+                }
+                pointers[i + 1] = count;
+            }
+        });
+        for (int i = 0; i < ROWS; i++)
+        {
+            pointers[i + 1] += pointers[i];
+        }
+
+        // Accumulate each row of the product densely, then gather its non-zeros in column order
+        final int[] indices = new int[pointers[ROWS]];
+        final double[] product = new double[pointers[ROWS]];
+        ParallelRanges.forEach(ROWS, parallel, (from, to) ->
+        {
+            final double[] accumulator = new double[columns];
+            final boolean[] occupied = new boolean[columns];
+            for (int i = from; i < to; i++)
+            {
+                int target = pointers[i];
+                for (int index = rowPointers[i]; index < rowPointers[i + 1]; index++)
+                {
+                    final int k = columnIndices[index];
+                    final double scalar = values[index];
+                    for (int other = matrix.rowPointers[k]; other < matrix.rowPointers[k + 1]; other++)
+                    {
+                        final int j = matrix.columnIndices[other];
+                        if (!occupied[j])
+                        {
+                            occupied[j] = true;
+                            indices[target++] = j;
+                        }
+                        accumulator[j] += scalar * matrix.values[other];
+                    }
+                }
+                Arrays.sort(indices, pointers[i], target);
+                for (int index = pointers[i]; index < target; index++)
+                {
+                    final int j = indices[index];
+                    product[index] = accumulator[j];
+                    accumulator[j] = 0D;
+                    occupied[j] = false;
+                }
+            }
+        });
+
+        return new CsrMatrix(ROWS, columns, pointers, indices, product);
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("CSR[{0} x {1}, {2} non-zeros]", ROWS, COLUMNS, getNonZeroCount());
+    }
+}
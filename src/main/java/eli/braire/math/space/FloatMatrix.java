@@ -0,0 +1,551 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A single-precision {@link Matrix}, holding its elements as <code>float</code> rather than <code>double</code>. It occupies half the memory of a
+ * Matrix of the same dimensions, which roughly doubles the speed of operations limited by memory bandwidth, and its bulk operations run twice as
+ * many elements per SIMD instruction. Arithmetic is carried out in single precision throughout, so results carry about 7 significant digits.
+ * <p>
+ * Elements are laid out exactly as for {@link Matrix}, and views such as {@link #transposeView()} likewise share the backing array. Factorisations
+ * are not offered, as they are rarely stable enough in single precision; convert with {@link Matrix#of(FloatMatrix)} first.
+ *
+ * @author The Architect
+ */
+public class FloatMatrix
+{
+    /**
+     * The total number of row dimensions for the defined {@link FloatMatrix}.
+     */
+    public final int       ROWS;
+    /**
+     * The total number of column dimensions for the defined {@link FloatMatrix}.
+     */
+    public final int       COLUMNS;
+    /**
+     * The backing array, which may be shared with other {@link FloatMatrix} views.
+     */
+    final float[]          elements;
+    /**
+     * The index of the first element within {@link #elements}.
+     */
+    final int              offset;
+    /**
+     * The distance within {@link #elements} between vertically adjacent elements.
+     */
+    final int              rowStride;
+    /**
+     * The distance within {@link #elements} between horizontally adjacent elements.
+     */
+    final int              columnStride;
+
+    private FloatMatrix(final int rows, final int columns)
+    {
+        this(new float[rows * columns], rows, columns, 0, columns, 1);
+    }
+
+    private FloatMatrix(final float[][] elements)
+    {
+        this(elements.length, elements[0].length);
+        for (int i = 0; i < ROWS; i++)
+        {
+            System.arraycopy(elements[i], 0, this.elements, i * COLUMNS, COLUMNS);
+        }
+    }
+
+    FloatMatrix(final float[] elements, final int rows, final int columns, final int offset, final int rowStride, final int columnStride)
+    {
+        ROWS = rows;
+        COLUMNS = columns;
+        this.elements = elements;
+        this.offset = offset;
+        this.rowStride = rowStride;
+        this.columnStride = columnStride;
+    }
+
+    /**
+     * @param elements A non-empty array of non-empty <code>float</code> arrays. Each row must have the same number of columns.
+     * @return a new non-empty {@link FloatMatrix} containing the specified elements.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>Elements is null</li>
+     *             <li>Elements has less than 1 row</li>
+     *             <li>Elements contains any empty or null rows</li>
+     *             <li>The first elements row must have at least 1 column</li>
+     *             <li>Any row does not contain the same number of columns as the first</li>
+     *             </ul>
+     */
+    public static FloatMatrix create(final float[] ... elements)
+    {
+        Verifier.Collections.assertNotEmpty("Matrix element rows must not be null or empty.", elements);
+        Verifier.Collections.assertContainsNoValue("Matrix element columns must not be null or empty.", elements, (float[]) null);
+        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 column.", elements[0].length, 0);
+
+        final int columns = elements[0].length;
+        for (int iRow = 1; iRow < elements.length; iRow++)
+        {
+            Verifier.Equality.assertEqual("All Matrix rows must have the same number of columns.", elements[iRow].length, columns);
+        }
+
+        return new FloatMatrix(elements);
+    }
+
+    /**
+     * @param matrix The {@link Matrix} to convert, which may be a view. (Cannot be null)
+     * @return a new contiguous {@link FloatMatrix} holding each element of the matrix rounded to the nearest <code>float</code>.
+     * @throws AssertionException If matrix is null.
+     */
+    public static FloatMatrix of(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot convert a null Matrix.", matrix);
+
+        final FloatMatrix newMatrix = new FloatMatrix(matrix.ROWS, matrix.COLUMNS);
+        for (int i = 0, target = 0; i < matrix.ROWS; i++)
+        {
+            for (int j = 0, source = matrix.index(i, 0); j < matrix.COLUMNS; j++, source += matrix.columnStride)
+            {
+                newMatrix.elements[target++] = (float) matrix.elements[source];
+            }
+        }
+
+        return newMatrix;
+    }
+
+    /**
+     * @param size The total (positive) number of rows/columns for the new {@link FloatMatrix}.
+     * @return a new non-empty identity {@link FloatMatrix}.
+     * @throws AssertionException If size is less than 1.
+     */
+    public static FloatMatrix identity(final int size)
+    {
+        Verifier.Inequality.assertGreaterThan("Identity Matrix must have a positive size.", size, 0);
+
+        final FloatMatrix newMatrix = new FloatMatrix(size, size);
+        for (int index = 0; index < size; index++)
+        {
+            newMatrix.elements[index * size + index] = 1F;
+        }
+
+        return newMatrix;
+    }
+
+    /**
+     * @return a new non-empty {@link FloatMatrix} with identical element values. The new FloatMatrix has its own contiguous backing array, even if
+     *         this FloatMatrix is a view.
+     */
+    @Override
+    public FloatMatrix clone()
+    {
+        if (isContiguous())
+        {
+            return new FloatMatrix(Arrays.copyOfRange(elements, offset, offset + ROWS * COLUMNS), ROWS, COLUMNS, 0, COLUMNS, 1);
+        }
+
+        final FloatMatrix newMatrix = new FloatMatrix(ROWS, COLUMNS);
+        for (int i = 0, target = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                newMatrix.elements[target++] = elements[source];
+            }
+        }
+
+        return newMatrix;
+    }
+
+    /**
+     * @return true if the elements of this {@link FloatMatrix} are laid out row-major without gaps.
+     */
+    final boolean isContiguous()
+    {
+        return columnStride == 1 && rowStride == COLUMNS;
+    }
+
+    /**
+     * @param row A zero-based row index.
+     * @param column A zero-based column index.
+     * @return the index within {@link #elements} of the specified element.
+     */
+    final int index(final int row, final int column)
+    {
+        return offset + row * rowStride + column * columnStride;
+    }
+
+    /**
+     * @param rowDimension A row dimension [1, total rows].
+     * @param columnDimension A column dimension [1, total columns].
+     * @return the <code>float</code> value corresponding to the {@link FloatMatrix} element at the specified position.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>rowDimension &lt;= 0 OR rowDimension &gt; {@link #ROWS}</li>
+     *             <li>columnDimension &lt;= 0 OR columnDimension &gt; {@link #COLUMNS}</li>
+     *             </ul>
+     */
+    public float getElement(final int rowDimension, final int columnDimension)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix row index must be within the defined range.", rowDimension, 1, ROWS);
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix column index must be within the defined range.", columnDimension, 1, COLUMNS);
+        }
+
+        return elements[index(rowDimension - 1, columnDimension - 1)];
+    }
+
+    /**
+     * @return a new non-empty transverse {@link FloatMatrix}.
+     * @see #transposeView()
+     */
+    public FloatMatrix transverse()
+    {
+        return transposeView().clone();
+    }
+
+    /**
+     * @return a transverse view of this {@link FloatMatrix}, which shares the same elements without copying them.
+     * @see #transverse()
+     */
+    public FloatMatrix transposeView()
+    {
+        return new FloatMatrix(elements, COLUMNS, ROWS, offset, columnStride, rowStride);
+    }
+
+    /**
+     * @param firstRow The first row of the block [1, total rows].
+     * @param firstColumn The first column of the block [1, total columns].
+     * @param rows The total number of rows of the block.
+     * @param columns The total number of columns of the block.
+     * @return a view of the rectangular block of this {@link FloatMatrix} starting at the specified position, which shares the same elements
+     *         without copying them.
+     * @throws AssertionException If the block does not lie entirely within this {@link FloatMatrix}.
+     */
+    public FloatMatrix blockView(final int firstRow, final int firstColumn, final int rows, final int columns)
+    {
+        Verifier.Ranges.assertInsideRange_Inclusive("Block first row must be within the defined range.", firstRow, 1, ROWS);
+        Verifier.Ranges.assertInsideRange_Inclusive("Block first column must be within the defined range.", firstColumn, 1, COLUMNS);
+        Verifier.Ranges.assertInsideRange_Inclusive("Block rows must fit within the defined range.", rows, 1, ROWS - firstRow + 1);
+        Verifier.Ranges.assertInsideRange_Inclusive("Block columns must fit within the defined range.", columns, 1, COLUMNS - firstColumn + 1);
+
+        return new FloatMatrix(elements, rows, columns, index(firstRow - 1, firstColumn - 1), rowStride, columnStride);
+    }
+
+    /**
+     * @param rowDimension A row dimension [1, total rows].
+     * @return a 1-row view of the specified row of this {@link FloatMatrix}, which shares the same elements without copying them.
+     * @throws AssertionException If rowDimension is outside of the defined range.
+     */
+    public FloatMatrix rowView(final int rowDimension)
+    {
+        return blockView(rowDimension, 1, 1, COLUMNS);
+    }
+
+    /**
+     * @param columnDimension A column dimension [1, total columns].
+     * @return a 1-column view of the specified column of this {@link FloatMatrix}, which shares the same elements without copying them.
+     * @throws AssertionException If columnDimension is outside of the defined range.
+     */
+    public FloatMatrix columnView(final int columnDimension)
+    {
+        return blockView(1, columnDimension, ROWS, 1);
+    }
+
+    /**
+     * @return a new non-empty {@link FloatMatrix} where each element is the negative of the original.
+     */
+    public FloatMatrix negate()
+    {
+        return multiply(-1F);
+    }
+
+    /**
+     * @param matrix A {@link FloatMatrix} with the same number of rows and columns. (Cannot be null)
+     * @return a new {@link FloatMatrix} holding <code>this + matrix</code>.
+     * @throws AssertionException If matrix is null or has different dimensions.
+     */
+    public FloatMatrix add(final FloatMatrix matrix)
+    {
+        verifyElementwise(matrix);
+
+        final FloatMatrix newMatrix = new FloatMatrix(ROWS, COLUMNS);
+        addScaledElements(matrix, 1F, newMatrix.elements);
+
+        return newMatrix;
+    }
+
+    /**
+     * @param matrix A {@link FloatMatrix} with the same number of rows and columns. (Cannot be null)
+     * @return a new {@link FloatMatrix} holding <code>this - matrix</code>.
+     * @throws AssertionException If matrix is null or has different dimensions.
+     */
+    public FloatMatrix subtract(final FloatMatrix matrix)
+    {
+        verifyElementwise(matrix);
+
+        final FloatMatrix newMatrix = new FloatMatrix(ROWS, COLUMNS);
+        addScaledElements(matrix, -1F, newMatrix.elements);
+
+        return newMatrix;
+    }
+
+    private void verifyElementwise(final FloatMatrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of rows.", matrix.ROWS, ROWS);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of columns.", matrix.COLUMNS, COLUMNS);
+        }
+    }
+
+    /**
+     * Writes <code>this + scalar &middot; matrix</code> row-major into a new contiguous target.
+     */
+    private void addScaledElements(final FloatMatrix matrix, final float scalar, final float[] target)
+    {
+        if (columnStride == 1 && matrix.columnStride == 1)
+        {
+            for (int i = 0; i < ROWS; i++)
+            {
+                Kernels.addScaled(elements, index(i, 0), scalar, matrix.elements, matrix.index(i, 0), target, i * COLUMNS, COLUMNS);
+            }
+            return;
+        }
+
+        for (int i = 0, index = 0; i < ROWS; i++)
+        {
+            for (int j = 0, left = index(i, 0), right = matrix.index(i, 0); j < COLUMNS; j++, left += columnStride, right += matrix.columnStride)
+            {
+                target[index++] = elements[left] + scalar * matrix.elements[right];
+            }
+        }
+    }
+
+    /**
+     * @param scalar The factor applied to each element.
+     * @return a new {@link FloatMatrix} holding <code>scalar &middot; this</code>.
+     */
+    public FloatMatrix multiply(final float scalar)
+    {
+        final FloatMatrix newMatrix = new FloatMatrix(ROWS, COLUMNS);
+        if (columnStride == 1)
+        {
+            for (int i = 0; i < ROWS; i++)
+            {
+                Kernels.scale(scalar, elements, index(i, 0), newMatrix.elements, i * COLUMNS, COLUMNS);
+            }
+            return newMatrix;
+        }
+
+        for (int i = 0, target = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                newMatrix.elements[target++] = elements[source] * scalar;
+            }
+        }
+
+        return newMatrix;
+    }
+
+    /**
+     * @param scalar The non-zero divisor of each element.
+     * @return a new {@link FloatMatrix} holding <code>this / scalar</code>.
+     * @throws AssertionException If scalar is zero.
+     */
+    public FloatMatrix divide(final float scalar)
+    {
+        Verifier.Equality.assertNotEqual("Cannot divide Matrix elements by zero scalar.", scalar, 0, 0.0000001D);
+
+        final FloatMatrix newMatrix = new FloatMatrix(ROWS, COLUMNS);
+        for (int i = 0, target = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                newMatrix.elements[target++] = elements[source] / scalar;
+            }
+        }
+
+        return newMatrix;
+    }
+
+    /**
+     * @param matrix A {@link FloatMatrix} with as many rows as this Matrix has columns. (Cannot be null)
+     * @return a new {@link FloatMatrix} holding <code>this &middot; matrix</code>.
+     * @throws AssertionException If matrix is null, or if its rows do not match the columns of this Matrix.
+     */
+    public FloatMatrix dotProduct(final FloatMatrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrix.ROWS, COLUMNS);
+        }
+
+        return FloatMatrixMultiplication.multiply(this, matrix);
+    }
+
+    /**
+     * @param vector A {@link FloatVector} with as many dimensions as this Matrix has columns. (Cannot be null)
+     * @return a new {@link FloatVector} holding <code>this &middot; vector</code>.
+     * @throws AssertionException If vector is null, or if its dimensions do not match the columns of this Matrix.
+     */
+    public FloatVector dotProduct(final FloatVector vector)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Vector.", vector);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Vector dimensions.", vector.RANK, COLUMNS);
+        }
+
+        final float[] newElements = new float[ROWS];
+        multiplyElements(vector.elements, newElements);
+
+        return FloatVector.create(newElements);
+    }
+
+    /**
+     * @param point A {@link FloatPoint} with as many dimensions as this Matrix has columns. (Cannot be null)
+     * @return a new {@link FloatPoint} holding <code>this &middot; point</code>.
+     * @throws AssertionException If point is null, or if its dimensions do not match the columns of this Matrix.
+     */
+    public FloatPoint dotProduct(final FloatPoint point)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Point.", point);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Point dimensions.", point.RANK, COLUMNS);
+        }
+
+        final float[] newElements = new float[ROWS];
+        multiplyElements(point.elements, newElements);
+
+        return FloatPoint.create(newElements);
+    }
+
+    /**
+     * Computes <code>target = matrix &middot; source</code> over plain arrays, so that it can be applied repeatedly without allocating.
+     *
+     * @param source An array of at least {@link #COLUMNS} elements.
+     * @param target An array of at least {@link #ROWS} elements, which is overwritten and must not be the same as the source.
+     * @throws AssertionException If either array is null or too short, or if both are the same array.
+     */
+    public void apply(final float[] source, final float[] target)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot apply an operator to a null array.", source);
+            Verifier.assertNotNull("Cannot apply an operator into a null array.", target);
+            Verifier.Inequality.assertGreaterThanOrEqual("The source must have an element for each column.", source.length, COLUMNS);
+            Verifier.Inequality.assertGreaterThanOrEqual("The target must have an element for each row.", target.length, ROWS);
+            Verifier.Equality.assertNotEqual("The target cannot be the same array as the source.", target, source);
+        }
+
+        multiplyElements(source, target);
+    }
+
+    private void multiplyElements(final float[] vectorElements, final float[] target)
+    {
+        if (columnStride == 1)
+        {
+            for (int i = 0; i < ROWS; i++)
+            {
+                target[i] = Kernels.dot(elements, index(i, 0), vectorElements, 0, COLUMNS);
+            }
+            return;
+        }
+
+        for (int i = 0; i < ROWS; i++)
+        {
+            float sum = 0F;
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                sum += elements[source] * vectorElements[j];
+            }
+            target[i] = sum;
+        }
+    }
+
+    /**
+     * @return a new array of rows holding a copy of the elements of this {@link FloatMatrix}.
+     */
+    public float[][] toArray()
+    {
+        final float[][] rows = new float[ROWS][COLUMNS];
+        for (int i = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                rows[i][j] = elements[source];
+            }
+        }
+
+        return rows;
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("[{0}]", Arrays.deepToString(toArray()));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + COLUMNS;
+        int elementsHash = 1;
+        for (int i = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                elementsHash = prime * elementsHash + Float.floatToIntBits(elements[source]);
+            }
+        }
+        result = prime * result + elementsHash;
+        result = prime * result + ROWS;
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (obj == null)
+        {
+            return false;
+        }
+        if (!(obj instanceof FloatMatrix))
+        {
+            return false;
+        }
+        final FloatMatrix other = (FloatMatrix) obj;
+        if (COLUMNS != other.COLUMNS)
+        {
+            return false;
+        }
+        if (ROWS != other.ROWS)
+        {
+            return false;
+        }
+        for (int i = 0; i < ROWS; i++)
+        {
+            for (int j = 0; j < COLUMNS; j++)
+            {
+                if (Float.floatToIntBits(elements[index(i, j)]) != Float.floatToIntBits(other.elements[other.index(i, j)]))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,223 @@
+package eli.braire.math.space;
+
+/**
+ * Cache-blocked general matrix multiplication (GEMM) kernels for {@link FloatMatrix}.
+ * <p>
+ * This follows the same GotoBLAS order as {@link MatrixMultiplication}, packing panels of both operands into contiguous strips and accumulating
+ * each tile of the result in registers. The tile is <code>4 x 8</code> rather than <code>4 x 4</code>, so that each of its rows still fills one
+ * 256-bit vector, and the product therefore performs twice as many multiply-adds per instruction as its double-precision counterpart.
+ *
+ * @author The Architect
+ */
+final class FloatMatrixMultiplication
+{
+    /**
+     * The number of rows of the register-blocked micro-kernel.
+     */
+    static final int          MR                 = 4;
+    /**
+     * The number of columns of the register-blocked micro-kernel.
+     */
+    static final int          NR                 = 8;
+    /**
+     * The depth of each packed panel, sized so that a packed strip of each operand remains in the L1 cache.
+     */
+    static final int          KC                 = 256;
+    /**
+     * The number of rows of the left operand packed at a time, sized so that the packed block remains in the L2 cache.
+     */
+    static final int          MC                 = 128;
+    /**
+     * The number of columns of the right operand packed at a time, sized so that the packed panel remains in the L3 cache.
+     */
+    static final int          NC                 = 2048;
+    /**
+     * Products with fewer multiply-adds than this use a simple loop, as packing would cost more than it saves.
+     */
+    private static final long BLOCKED_THRESHOLD  = 32L * 32L * 32L;
+    /**
+     * Products with fewer multiply-adds than this are not worth distributing across threads.
+     */
+    private static final long PARALLEL_THRESHOLD = 128L * 128L * 128L;
+    /**
+     * Packing buffers for the left operand, reused by each thread.
+     */
+    private static final ThreadLocal<float[]> PACKED_LEFT = ThreadLocal.withInitial(() -> new float[MC * KC]);
+
+    private FloatMatrixMultiplication()
+    {
+    }
+
+    /**
+     * @param left The left operand.
+     * @param right The right operand, with as many rows as <code>left</code> has columns.
+     * @return a new contiguous {@link FloatMatrix} holding <code>left &middot; right</code>.
+     */
+    static FloatMatrix multiply(final FloatMatrix left, final FloatMatrix right)
+    {
+        final int m = left.ROWS;
+        final int k = left.COLUMNS;
+        final int n = right.COLUMNS;
+        final float[] result = new float[m * n];
+        final long work = (long) m * n * k;
+        if (work < BLOCKED_THRESHOLD || m < MR || n < NR)
+        {
+            multiplySimple(left, right, result);
+            return new FloatMatrix(result, m, n, 0, n, 1);
+        }
+
+        final float[] packedRight = new float[KC * roundUp(Math.min(NC, n), NR)];
+        final int rowBlocks = (m + MC - 1) / MC;
+        final boolean parallel = work >= PARALLEL_THRESHOLD;
+        for (int jc = 0; jc < n; jc += NC)
+        {
+            final int nc = Math.min(NC, n - jc);
+            for (int pc = 0; pc < k; pc += KC)
+            {
+                final int kc = Math.min(KC, k - pc);
+                final int column = jc;
+                final int depth = pc;
+                packRight(right, pc, kc, jc, nc, packedRight);
+                ParallelRanges.forEach(rowBlocks, parallel, (from, to) -> multiplyPanel(left, packedRight, depth, kc, column, nc, result, n, from, to));
+            }
+        }
+
+        return new FloatMatrix(result, m, n, 0, n, 1);
+    }
+
+    /**
+     * A straightforward i-k-j loop, which walks both the right operand and the result along their rows.
+     */
+    private static void multiplySimple(final FloatMatrix left, final FloatMatrix right, final float[] result)
+    {
+        final float[] a = left.elements;
+        final float[] b = right.elements;
+        for (int i = 0; i < left.ROWS; i++)
+        {
+            final int row = i * right.COLUMNS;
+            for (int p = 0, aIndex = left.index(i, 0); p < left.COLUMNS; p++, aIndex += left.columnStride)
+            {
+                final float scalar = a[aIndex];
+                for (int j = 0, bIndex = right.index(p, 0); j < right.COLUMNS; j++, bIndex += right.columnStride)
+                {
+                    result[row + j] += scalar * b[bIndex];
+                }
+            }
+        }
+    }
+
+    private static int roundUp(final int value, final int multiple)
+    {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+
+    /**
+     * Packs <code>right[pc, pc + kc)[jc, jc + nc)</code> into strips of {@link #NR} columns, each stored row by row, padding the final strip with
+     * zeros.
+     */
+    private static void packRight(final FloatMatrix right, final int pc, final int kc, final int jc, final int nc, final float[] packed)
+    {
+        final float[] b = right.elements;
+        int target = 0;
+        for (int jr = 0; jr < nc; jr += NR)
+        {
+            final int nr = Math.min(NR, nc - jr);
+            for (int p = 0; p < kc; p++)
+            {
+                int source = right.index(pc + p, jc + jr);
+                for (int jj = 0; jj < nr; jj++, source += right.columnStride)
+                {
+                    packed[target++] = b[source];
+                }
+                for (int jj = nr; jj < NR; jj++)
+                {
+                    packed[target++] = 0F;
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs <code>left[ic, ic + mc)[pc, pc + kc)</code> into strips of {@link #MR} rows, each stored column by column, padding the final strip
+     * with zeros.
+     */
+    private static void packLeft(final FloatMatrix left, final int ic, final int mc, final int pc, final int kc, final float[] packed)
+    {
+        final float[] a = left.elements;
+        int target = 0;
+        for (int ir = 0; ir < mc; ir += MR)
+        {
+            final int mr = Math.min(MR, mc - ir);
+            for (int p = 0; p < kc; p++)
+            {
+                int source = left.index(ic + ir, pc + p);
+                for (int ii = 0; ii < mr; ii++, source += left.rowStride)
+                {
+                    packed[target++] = a[source];
+                }
+                for (int ii = mr; ii < MR; ii++)
+                {
+                    packed[target++] = 0F;
+                }
+            }
+        }
+    }
+
+    /**
+     * Accumulates a partial <code>mr x nr</code> tile at the bottom or right edge of the result.
+     */
+    private static void edgeKernel(final int kc, final float[] a, final int aStart, final float[] b, final int bStart, final float[] c,
+                                   final int cStart, final int stride, final int mr, final int nr)
+    {
+        for (int ii = 0; ii < mr; ii++)
+        {
+            for (int jj = 0; jj < nr; jj++)
+            {
+                float sum = 0F;
+                for (int p = 0, ai = aStart + ii, bi = bStart + jj; p < kc; p++, ai += MR, bi += NR)
+                {
+                    sum += a[ai] * b[bi];
+                }
+                c[cStart + ii * stride + jj] += sum;
+            }
+        }
+    }
+
+    /**
+     * Multiplies a range of row blocks of the left operand against a packed panel of the right operand. Each row block writes a disjoint set of
+     * rows of the result, and packs into the left-hand buffer of the thread which computes it.
+     *
+     * @param fromBlock The first row block to compute (inclusive).
+     * @param toBlock The last row block to compute (exclusive).
+     */
+    private static void multiplyPanel(final FloatMatrix left, final float[] packedRight, final int pc, final int kc, final int jc, final int nc,
+                                      final float[] result, final int stride, final int fromBlock, final int toBlock)
+    {
+        final float[] packedLeft = PACKED_LEFT.get();
+        for (int block = fromBlock; block < toBlock; block++)
+        {
+            final int ic = block * MC;
+            final int mc = Math.min(MC, left.ROWS - ic);
+            packLeft(left, ic, mc, pc, kc, packedLeft);
+            for (int jr = 0; jr < nc; jr += NR)
+            {
+                final int nr = Math.min(NR, nc - jr);
+                final int bStart = jr * kc;
+                for (int ir = 0; ir < mc; ir += MR)
+                {
+                    final int mr = Math.min(MR, mc - ir);
+                    final int aStart = ir * kc;
+                    final int cStart = (ic + ir) * stride + jc + jr;
+                    if (mr == MR && nr == NR)
+                    {
+                        Kernels.multiply4x8(kc, packedLeft, aStart, packedRight, bStart, result, cStart, stride);
+                    }
+                    else
+                    {
+                        edgeKernel(kc, packedLeft, aStart, packedRight, bStart, result, cStart, stride, mr, nr);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A single-precision {@link Point}, holding its coordinates as <code>float</code> rather than <code>double</code>.
+ * <p>
+ * Use {@link #of(Point)} and {@link Point#of(FloatPoint)} to convert between the two precisions.
+ *
+ * @author The Architect
+ * @see FloatVector
+ */
+public class FloatPoint extends FloatVector
+{
+    private FloatPoint(final int dimensions)
+    {
+        super(dimensions);
+    }
+
+    private FloatPoint(final float ... coordinates)
+    {
+        super(coordinates);
+    }
+
+    /**
+     * @param coordinates A non-empty <code>float</code> array.
+     * @return a new non-empty {@link FloatPoint} containing the specified elements.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>coordinates is null OR empty</li>
+     *             </ul>
+     */
+    public static FloatPoint create(final float ... coordinates)
+    {
+        Verifier.Collections.assertNotEmpty("Point coordinates must not be null or empty.", coordinates);
+
+        return new FloatPoint(coordinates);
+    }
+
+    /**
+     * @param point The {@link Point} to convert. (Cannot be null)
+     * @return a new {@link FloatPoint} holding each coordinate of the point rounded to the nearest <code>float</code>.
+     * @throws AssertionException If point is null.
+     */
+    public static FloatPoint of(final Point point)
+    {
+        Verifier.assertNotNull("Cannot convert a null Point.", point);
+
+        final FloatPoint newPoint = new FloatPoint(point.RANK);
+        for (int i = 0; i < point.RANK; i++)
+        {
+            newPoint.elements[i] = (float) point.elements[i];
+        }
+
+        return newPoint;
+    }
+
+    /**
+     * @return a new non-empty {@link FloatPoint} with identical element values.
+     */
+    @Override
+    public FloatPoint clone()
+    {
+        return new FloatPoint(elements);
+    }
+
+    /**
+     * @param dimension A dimension index. The index must be between 1 (inclusive) and the total number of dimensions (inclusive).
+     * @return the <code>float</code> value corresponding to the {@link FloatPoint} element at the specified position.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>dimension &lt;= 0 OR dimension &gt; {@link #RANK}</li>
+     *             </ul>
+     */
+    @Override
+    public float d(final int dimension)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Point coordinate index must be within the defined range.", dimension, 1, RANK);
+        }
+
+        return elements[dimension - 1];
+    }
+
+    @Override
+    public FloatPoint dotProduct(final FloatMatrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null matrix.", matrix);
+            Verifier.Equality.assertEqual("Left-Point dimensions must match the Right-Matrix rows.", matrix.ROWS, RANK);
+        }
+
+        final FloatPoint newPoint = new FloatPoint(matrix.COLUMNS);
+        multiplyElements(matrix, newPoint.elements);
+
+        return newPoint;
+    }
+
+    public FloatPoint add(final FloatPoint b)
+    {
+        verifyPoint(b);
+
+        final FloatPoint newPoint = new FloatPoint(RANK);
+        Kernels.addScaled(elements, 0, 1F, b.elements, 0, newPoint.elements, 0, RANK);
+
+        return newPoint;
+    }
+
+    public FloatPoint subtract(final FloatPoint b)
+    {
+        verifyPoint(b);
+
+        final FloatPoint newPoint = new FloatPoint(RANK);
+        Kernels.addScaled(elements, 0, -1F, b.elements, 0, newPoint.elements, 0, RANK);
+
+        return newPoint;
+    }
+
+    private void verifyPoint(final FloatPoint b)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Origin Point must be provided.", b);
+            Verifier.Equality.assertEqual("Both origin and terminator Points must have the same dimensionality.", b.RANK, RANK);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("({0})", Arrays.toString(elements));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + RANK;
+        result = prime * result + Arrays.hashCode(elements);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (obj == null)
+        {
+            return false;
+        }
+        if (!(obj instanceof FloatPoint))
+        {
+            return false;
+        }
+        final FloatPoint other = (FloatPoint) obj;
+        if (RANK != other.RANK)
+        {
+            return false;
+        }
+        if (!Arrays.equals(elements, other.elements))
+        {
+            return false;
+        }
+        return true;
+    }
+}
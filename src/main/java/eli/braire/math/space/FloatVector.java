@@ -0,0 +1,285 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A single-precision {@link Vector}, holding its elements as <code>float</code> rather than <code>double</code>. It occupies half the memory of a
+ * Vector of the same dimensions, and its bulk operations run twice as many elements per SIMD instruction, at the cost of about 7 significant digits
+ * rather than 16. Arithmetic is carried out in single precision throughout, including the accumulation of dot products.
+ * <p>
+ * Use {@link #of(Vector)} and {@link Vector#of(FloatVector)} to convert between the two precisions.
+ *
+ * @author The Architect
+ */
+public class FloatVector extends AbstractLinearConstruct
+{
+    protected final float[] elements;
+
+    protected FloatVector(final int rank)
+    {
+        super(rank);
+        elements = new float[rank];
+    }
+
+    protected FloatVector(final float ... elements)
+    {
+        super(elements.length);
+        this.elements = elements.clone();
+    }
+
+    /**
+     * @param elements A non-empty <code>float</code> array.
+     * @return a new non-empty {@link FloatVector} containing the specified elements.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>Elements is null</li>
+     *             <li>Elements has less than 1 dimension</li>
+     *             </ul>
+     */
+    public static FloatVector create(final float ... elements)
+    {
+        Verifier.Collections.assertNotEmpty("Vector elements must not be null or empty.", elements);
+        Verifier.Inequality.assertGreaterThan("A Vector must have at least 1 element.", elements.length, 0);
+
+        return new FloatVector(elements);
+    }
+
+    /**
+     * @param vector The {@link Vector} to convert. (Cannot be null)
+     * @return a new {@link FloatVector} holding each element of the vector rounded to the nearest <code>float</code>.
+     * @throws AssertionException If vector is null.
+     */
+    public static FloatVector of(final Vector vector)
+    {
+        Verifier.assertNotNull("Cannot convert a null Vector.", vector);
+
+        final FloatVector newVector = new FloatVector(vector.RANK);
+        for (int i = 0; i < vector.RANK; i++)
+        {
+            newVector.elements[i] = (float) vector.elements[i];
+        }
+
+        return newVector;
+    }
+
+    /**
+     * @return a new non-empty {@link FloatVector} with identical element values.
+     */
+    @Override
+    public FloatVector clone()
+    {
+        return new FloatVector(elements);
+    }
+
+    public FloatPoint toPoint()
+    {
+        return FloatPoint.create(elements);
+    }
+
+    /**
+     * @param dimension A dimension index. The index must be between 1 (inclusive) and the total number of dimensions (inclusive).
+     * @return the <code>float</code> value corresponding to the {@link FloatVector} element at the specified position.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>dimension &lt;= 0 OR dimension &gt; {@link #RANK}</li>
+     *             </ul>
+     */
+    public float d(final int dimension)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Vector element index must be within the defined range.", dimension, 1, RANK);
+        }
+
+        return elements[dimension - 1];
+    }
+
+    /**
+     * @return a new {@link FloatVector} where each element is the negative of the original.
+     */
+    public FloatVector negate()
+    {
+        return multiply(-1F);
+    }
+
+    /**
+     * @param vector A {@link FloatVector} with the same number of dimensions. (Cannot be null)
+     * @return a new {@link FloatVector} holding <code>this + vector</code>.
+     * @throws AssertionException If vector is null or has different dimensions.
+     */
+    public FloatVector add(final FloatVector vector)
+    {
+        verifyElementwise(vector);
+
+        final FloatVector newVector = new FloatVector(RANK);
+        Kernels.addScaled(elements, 0, 1F, vector.elements, 0, newVector.elements, 0, RANK);
+
+        return newVector;
+    }
+
+    /**
+     * @param vector A {@link FloatVector} with the same number of dimensions. (Cannot be null)
+     * @return a new {@link FloatVector} holding <code>this - vector</code>.
+     * @throws AssertionException If vector is null or has different dimensions.
+     */
+    public FloatVector subtract(final FloatVector vector)
+    {
+        verifyElementwise(vector);
+
+        final FloatVector newVector = new FloatVector(RANK);
+        Kernels.addScaled(elements, 0, -1F, vector.elements, 0, newVector.elements, 0, RANK);
+
+        return newVector;
+    }
+
+    private void verifyElementwise(final FloatVector vector)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Vector.", vector);
+            Verifier.Equality.assertEqual("Both Vectors must have the same number of dimensions.", vector.RANK, RANK);
+        }
+    }
+
+    /**
+     * @param scalar The factor applied to each element.
+     * @return a new {@link FloatVector} holding <code>scalar &middot; this</code>.
+     */
+    public FloatVector multiply(final float scalar)
+    {
+        final FloatVector newVector = new FloatVector(RANK);
+        Kernels.scale(scalar, elements, 0, newVector.elements, 0, RANK);
+
+        return newVector;
+    }
+
+    /**
+     * @param scalar The non-zero divisor of each element.
+     * @return a new {@link FloatVector} holding <code>this / scalar</code>.
+     * @throws AssertionException If scalar is zero.
+     */
+    public FloatVector divide(final float scalar)
+    {
+        Verifier.Equality.assertNotEqual("Cannot divide Vector elements by zero scalar.", scalar, 0, 0.0000001D);
+
+        final FloatVector newVector = new FloatVector(RANK);
+        for (int i = 0; i < RANK; i++)
+        {
+            newVector.elements[i] = elements[i] / scalar;
+        }
+
+        return newVector;
+    }
+
+    /**
+     * @param vector A {@link FloatVector} with the same number of dimensions. (Cannot be null)
+     * @return the sum of the products of corresponding elements.
+     * @throws AssertionException If vector is null or has different dimensions.
+     */
+    public float dotProduct(final FloatVector vector)
+    {
+        verifyElementwise(vector);
+
+        return Kernels.dot(elements, 0, vector.elements, 0, RANK);
+    }
+
+    /**
+     * @param matrix A {@link FloatMatrix} with as many rows as this Vector has dimensions. (Cannot be null)
+     * @return a new {@link FloatVector} holding the row vector product <code>this &middot; matrix</code>.
+     * @throws AssertionException If matrix is null, or if its rows do not match the dimensions of this Vector.
+     */
+    public FloatVector dotProduct(final FloatMatrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.Equality.assertEqual("Left-Vector dimensions must match Right-Matrix rows.", matrix.ROWS, RANK);
+        }
+
+        final FloatVector newVector = new FloatVector(matrix.COLUMNS);
+        multiplyElements(matrix, newVector.elements);
+
+        return newVector;
+    }
+
+    /**
+     * Accumulates <code>this &middot; matrix</code> into a zeroed target, one whole row of the Matrix at a time.
+     */
+    final void multiplyElements(final FloatMatrix matrix, final float[] target)
+    {
+        for (int i = 0; i < RANK; i++)
+        {
+            if (matrix.columnStride == 1)
+            {
+                Kernels.axpy(elements[i], matrix.elements, matrix.index(i, 0), target, 0, matrix.COLUMNS);
+                continue;
+            }
+            for (int j = 0, source = matrix.index(i, 0); j < matrix.COLUMNS; j++, source += matrix.columnStride)
+            {
+                target[j] += elements[i] * matrix.elements[source];
+            }
+        }
+    }
+
+    /**
+     * @return a new array holding a copy of the elements of this {@link FloatVector}.
+     */
+    public float[] toArray()
+    {
+        return elements.clone();
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("<{0}>", Arrays.toString(elements));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + RANK;
+        result = prime * result + Arrays.hashCode(elements);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (obj == null)
+        {
+            return false;
+        }
+        if (!(obj instanceof FloatVector))
+        {
+            return false;
+        }
+        final FloatVector other = (FloatVector) obj;
+        if (RANK != other.RANK)
+        {
+            return false;
+        }
+        if (!Arrays.equals(elements, other.elements))
+        {
+            return false;
+        }
+        return true;
+    }
+}
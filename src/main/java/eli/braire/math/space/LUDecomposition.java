@@ -0,0 +1,462 @@
+package eli.braire.math.space;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The LU factorisation of a {@link Matrix} with partial (row) pivoting, such that <code>P &middot; A == L &middot; U</code>, where
+ * <code>P</code> is a row permutation, <code>L</code> is unit lower triangular and <code>U</code> is in row echelon form.
+ * <p>
+ * The factorisation is computed once by Gaussian elimination in <code>O(n<sup>3</sup>)</code> time, and is then reused to derive the
+ * determinant, rank, inverse and the solutions of any number of linear systems in <code>O(n<sup>2</sup>)</code> time each. Columns without a
+ * usable pivot are skipped rather than failing, so rectangular and singular matrices are also factorised, which is how their rank and echelon
+ * forms are found. Instances are immutable and are cached by {@link Matrix#getLUDecomposition()}.
+ * <p>
+ * The rank and the echelon forms treat pivots within the rounding error of the largest element as zero, so that numerically dependent rows are
+ * recognised. The determinant, inverse and solutions instead only treat exactly zero pivots as singular, so that non-singular matrices whose
+ * elements differ greatly in magnitude, such as <code>diag(10<sup>20</sup>, 1)</code>, are still solved exactly as elimination allows. When a
+ * square Matrix reaches full rank both views share the same factors; otherwise the strict factorisation is computed separately.
+ *
+ * @author The Architect
+ */
+public final class LUDecomposition
+{
+    /**
+     * The total number of rows of the factorised {@link Matrix}.
+     */
+    public final int       ROWS;
+    /**
+     * The total number of columns of the factorised {@link Matrix}.
+     */
+    public final int       COLUMNS;
+    /**
+     * The row-major factors, with <code>U</code> on and above the pivots, and the multipliers of <code>L</code> below them.
+     */
+    private final double[] lu;
+    /**
+     * Row <code>i</code> of the factors originates from row <code>pivot[i]</code> of the original {@link Matrix}.
+     */
+    private final int[]    pivot;
+    /**
+     * Row <code>i</code> of <code>U</code> has its pivot in column <code>pivotColumns[i]</code>, for every <code>i &lt; rank</code>.
+     */
+    private final int[]    pivotColumns;
+    private final int      rank;
+    /**
+     * The factors of a square Matrix which only skip exactly zero pivots, used to find the determinant, inverse and solutions. They are
+     * {@link #lu} itself unless a pivot fell within the rounding error, and null for a rectangular Matrix.
+     */
+    private final double[] factors;
+    private final int[]    factorPivot;
+    /**
+     * True if a square Matrix has an exactly zero pivot, even after row exchanges.
+     */
+    private final boolean  singular;
+    /**
+     * The sign of the row permutation of {@link #factors}, which is <code>-1</code> for an odd number of row exchanges.
+     */
+    private final int      permutationSign;
+
+    private LUDecomposition(final Matrix matrix)
+    {
+        ROWS = matrix.ROWS;
+        COLUMNS = matrix.COLUMNS;
+        lu = matrix.clone().elements;
+        pivot = new int[ROWS];
+        pivotColumns = new int[Math.min(ROWS, COLUMNS)];
+
+        // Pivots no larger than the accumulated rounding error are treated as zero
+        double largest = 0D;
+        for (final double element : lu)
+        {
+            largest = Math.max(largest, Math.abs(element));
+        }
+        rank = eliminate(lu, ROWS, COLUMNS, pivot, pivotColumns, Math.max(ROWS, COLUMNS) * Math.ulp(largest));
+
+        if (ROWS != COLUMNS)
+        {
+            factors = null;
+            factorPivot = null;
+            singular = true;
+        }
+        else if (rank == ROWS)
+        {
+            factors = lu;
+            factorPivot = pivot;
+            singular = false;
+        }
+        else
+        {
+            factors = matrix.clone().elements;
+            factorPivot = new int[ROWS];
+            singular = eliminate(factors, ROWS, COLUMNS, factorPivot, new int[ROWS], 0D) < ROWS;
+        }
+        permutationSign = factorPivot == null ? 1 : permutationSign(factorPivot);
+    }
+
+    /**
+     * Eliminates in place with partial pivoting, skipping every column whose largest candidate pivot is no larger than the tolerance.
+     *
+     * @param lu The row-major Matrix, overwritten by its factors.
+     * @param rows The number of rows.
+     * @param columns The number of columns.
+     * @param pivot Overwritten by the original row of each row of the factors.
+     * @param pivotColumns Overwritten by the pivot column of each row of the factors, up to the rank.
+     * @param tolerance The largest magnitude which is treated as zero.
+     * @return the number of pivots found.
+     */
+    private static int eliminate(final double[] lu, final int rows, final int columns, final int[] pivot, final int[] pivotColumns,
+                                 final double tolerance)
+    {
+        for (int i = 0; i < rows; i++)
+        {
+            pivot[i] = i;
+        }
+
+        int row = 0;
+        for (int column = 0; column < columns && row < rows; column++)
+        {
+            // Find the largest candidate pivot within the column
+            int best = row;
+            double bestValue = Math.abs(lu[row * columns + column]);
+            for (int i = row + 1; i < rows; i++)
+            {
+                final double value = Math.abs(lu[i * columns + column]);
+                if (value > bestValue)
+                {
+                    best = i;
+                    bestValue = value;
+                }
+            }
+            if (bestValue <= tolerance)
+            {
+                continue;
+            }
+
+            if (best != row)
+            {
+                swapRows(lu, columns, best, row);
+                final int swapped = pivot[best];
+                pivot[best] = pivot[row];
+                pivot[row] = swapped;
+            }
+
+            // Eliminate the column beneath the pivot, one contiguous row at a time
+            final int pivotRow = row * columns;
+            final double pivotValue = lu[pivotRow + column];
+            for (int i = row + 1; i < rows; i++)
+            {
+                final int target = i * columns;
+                final double multiplier = lu[target + column] / pivotValue;
+                lu[target + column] = multiplier;
+                if (multiplier != 0D)
+                {
+                    for (int j = column + 1; j < columns; j++)
+                    {
+                        lu[target + j] -= multiplier * lu[pivotRow + j];
+                    }
+                }
+            }
+            pivotColumns[row++] = column;
+        }
+
+        return row;
+    }
+
+    /**
+     * @return <code>-1</code> if the permutation is odd, counting one exchange fewer than the length of each of its cycles.
+     */
+    private static int permutationSign(final int[] permutation)
+    {
+        final boolean[] visited = new boolean[permutation.length];
+        int sign = 1;
+        for (int start = 0; start < permutation.length; start++)
+        {
+            for (int i = permutation[start]; !visited[start] && i != start; i = permutation[i])
+            {
+                visited[i] = true;
+                sign = -sign;
+            }
+            visited[start] = true;
+        }
+
+        return sign;
+    }
+
+    /**
+     * @param matrix The {@link Matrix} to factorise.
+     * @return a new {@link LUDecomposition} of the specified {@link Matrix}.
+     */
+    static LUDecomposition of(final Matrix matrix)
+    {
+        return new LUDecomposition(matrix);
+    }
+
+    private static void swapRows(final double[] lu, final int columns, final int first, final int second)
+    {
+        final int firstStart = first * columns;
+        final int secondStart = second * columns;
+        for (int j = 0; j < columns; j++)
+        {
+            final double swapped = lu[firstStart + j];
+            lu[firstStart + j] = lu[secondStart + j];
+            lu[secondStart + j] = swapped;
+        }
+    }
+
+    /**
+     * @return the total number of linearly independent rows of the factorised {@link Matrix}, treating pivots within the rounding error of its
+     *         largest element as zero.
+     */
+    public int getRank()
+    {
+        return rank;
+    }
+
+    /**
+     * @return true if the factorised {@link Matrix} is square and has no exactly zero pivot, so that it can be inverted.
+     */
+    public boolean isNonSingular()
+    {
+        return !singular;
+    }
+
+    /**
+     * @return the determinant of the factorised {@link Matrix}, which is the signed product of the pivots, however small, and zero only if a
+     *         pivot is exactly zero.
+     * @throws AssertionException If the factorised Matrix is not square.
+     */
+    public double determinant()
+    {
+        Verifier.Equality.assertEqual("Determinants are only defined for square Matrices.", ROWS, COLUMNS);
+
+        if (singular)
+        {
+            return 0D;
+        }
+        double determinant = permutationSign;
+        for (int i = 0; i < ROWS; i++)
+        {
+            determinant *= factors[i * COLUMNS + i];
+        }
+
+        return determinant;
+    }
+
+    /**
+     * @return the row dimensions [1, total rows] of the original {@link Matrix}, in the order that they appear within the factors.
+     */
+    public int[] getPivot()
+    {
+        final int[] dimensions = new int[ROWS];
+        for (int i = 0; i < ROWS; i++)
+        {
+            dimensions[i] = pivot[i] + 1;
+        }
+
+        return dimensions;
+    }
+
+    /**
+     * @return a new unit lower triangular {@link Matrix} <code>L</code>, with as many rows and columns as the factorised Matrix has rows.
+     */
+    public Matrix getLower()
+    {
+        final double[] lower = new double[ROWS * ROWS];
+        for (int i = 0; i < ROWS; i++)
+        {
+            lower[i * ROWS + i] = 1D;
+        }
+        for (int r = 0; r < rank; r++)
+        {
+            final int column = pivotColumns[r];
+            for (int i = r + 1; i < ROWS; i++)
+            {
+                lower[i * ROWS + r] = lu[i * COLUMNS + column];
+            }
+        }
+
+        return Matrix.wrap(lower, ROWS, ROWS);
+    }
+
+    /**
+     * @return a new {@link Matrix} <code>U</code> in row echelon form, with the same number of rows and columns as the factorised Matrix.
+     */
+    public Matrix getUpper()
+    {
+        return Matrix.wrap(upper(), ROWS, COLUMNS);
+    }
+
+    /**
+     * @return a new {@link Matrix} in reduced row echelon form, which is row equivalent to the factorised Matrix.
+     */
+    public Matrix getReducedUpper()
+    {
+        final double[] reduced = upper();
+        for (int r = rank - 1; r >= 0; r--)
+        {
+            // Normalise the pivot row, then clear its pivot column from every row above it
+            final int column = pivotColumns[r];
+            final int pivotRow = r * COLUMNS;
+            final double pivotValue = reduced[pivotRow + column];
+            reduced[pivotRow + column] = 1D;
+            for (int j = column + 1; j < COLUMNS; j++)
+            {
+                reduced[pivotRow + j] /= pivotValue;
+            }
+            for (int i = 0; i < r; i++)
+            {
+                final int target = i * COLUMNS;
+                final double multiplier = reduced[target + column];
+                if (multiplier != 0D)
+                {
+                    reduced[target + column] = 0D;
+                    for (int j = column + 1; j < COLUMNS; j++)
+                    {
+                        reduced[target + j] -= multiplier * reduced[pivotRow + j];
+                    }
+                }
+            }
+        }
+
+        return Matrix.wrap(reduced, ROWS, COLUMNS);
+    }
+
+    private double[] upper()
+    {
+        final double[] upper = new double[ROWS * COLUMNS];
+        for (int r = 0; r < rank; r++)
+        {
+            final int start = r * COLUMNS + pivotColumns[r];
+            System.arraycopy(lu, start, upper, start, COLUMNS - pivotColumns[r]);
+        }
+
+        return upper;
+    }
+
+    /**
+     * @return a new inverse of the factorised {@link Matrix}.
+     * @throws AssertionException If the factorised Matrix is not square, or has an exactly zero pivot.
+     */
+    public Matrix inverse()
+    {
+        verifyNonSingular();
+
+        final double[] solution = new double[ROWS * ROWS];
+        for (int i = 0; i < ROWS; i++)
+        {
+            solution[i * ROWS + factorPivot[i]] = 1D;
+        }
+        substitute(solution, ROWS);
+
+        return Matrix.wrap(solution, ROWS, ROWS);
+    }
+
+    /**
+     * @param vector The right-hand side <code>b</code>, with as many dimensions as the factorised Matrix has rows.
+     * @return a new {@link Vector} <code>x</code> such that <code>A &middot; x == b</code>.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>The factorised Matrix is not square, or is singular</li>
+     *             <li>Vector is null, or does not have as many dimensions as the factorised Matrix has rows</li>
+     *             </ul>
+     */
+    public Vector solve(final Vector vector)
+    {
+        Verifier.assertNotNull("Cannot solve for a null Vector.", vector);
+        Verifier.Equality.assertEqual("The Vector dimensions must match the Matrix rows.", vector.RANK, ROWS);
+        verifyNonSingular();
+
+        final double[] solution = new double[ROWS];
+        for (int i = 0; i < ROWS; i++)
+        {
+            solution[i] = vector.elements[factorPivot[i]];
+        }
+        substitute(solution, 1);
+
+        return Vector.create(solution);
+    }
+
+    /**
+     * @param matrix The right-hand sides <code>B</code>, with as many rows as the factorised Matrix.
+     * @return a new {@link Matrix} <code>X</code> such that <code>A &middot; X == B</code>.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>The factorised Matrix is not square, or is singular</li>
+     *             <li>Matrix is null, or does not have as many rows as the factorised Matrix</li>
+     *             </ul>
+     */
+    public Matrix solve(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot solve for a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("The right-hand Matrix rows must match the Matrix rows.", matrix.ROWS, ROWS);
+        verifyNonSingular();
+
+        final int columns = matrix.COLUMNS;
+        final double[] solution = new double[ROWS * columns];
+        for (int i = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = matrix.index(factorPivot[i], 0); j < columns; j++, source += matrix.columnStride)
+            {
+                solution[i * columns + j] = matrix.elements[source];
+            }
+        }
+        substitute(solution, columns);
+
+        return Matrix.wrap(solution, ROWS, columns);
+    }
+
+    private void verifyNonSingular()
+    {
+        Verifier.Equality.assertEqual("Only square Matrices can be inverted or solved.", ROWS, COLUMNS);
+        Verifier.Equality.assertEqual("Cannot invert or solve a singular Matrix.", singular, false);
+    }
+
+    /**
+     * Solves <code>L &middot; U &middot; X == B</code> in place by forward then backward substitution, where <code>B</code> is already permuted.
+     * Each step updates a whole contiguous row of right-hand sides at once.
+     *
+     * @param solution The row-major right-hand sides, overwritten by the solutions.
+     * @param columns The number of right-hand sides.
+     */
+    private void substitute(final double[] solution, final int columns)
+    {
+        for (int i = 1; i < ROWS; i++)
+        {
+            final int target = i * columns;
+            for (int k = 0; k < i; k++)
+            {
+                final double multiplier = factors[i * COLUMNS + k];
+                if (multiplier != 0D)
+                {
+                    final int source = k * columns;
+                    for (int j = 0; j < columns; j++)
+                    {
+                        solution[target + j] -= multiplier * solution[source + j];
+                    }
+                }
+            }
+        }
+        for (int i = ROWS - 1; i >= 0; i--)
+        {
+            final int target = i * columns;
+            for (int k = i + 1; k < ROWS; k++)
+            {
+                final double factor = factors[i * COLUMNS + k];
+                if (factor != 0D)
+                {
+                    final int source = k * columns;
+                    for (int j = 0; j < columns; j++)
+                    {
+                        solution[target + j] -= factor * solution[source + j];
+                    }
+                }
+            }
+            final double pivotValue = factors[i * COLUMNS + i];
+            for (int j = 0; j < columns; j++)
+            {
+                solution[target + j] /= pivotValue;
+            }
+        }
+    }
+}
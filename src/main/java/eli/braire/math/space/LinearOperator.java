@@ -0,0 +1,37 @@
+package eli.braire.math.space;
+
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A linear map from a space of {@link #getColumns()} dimensions to a space of {@link #getRows()} dimensions, known only through its action on
+ * vectors. This is all that iterative methods such as those of <code>eli.braire.math.solver</code> require, so dense and sparse matrices, or
+ * entirely matrix-free operators, can be used interchangeably.
+ * <p>
+ * The action is expressed over plain arrays, so that it can be applied repeatedly within an iteration without allocating.
+ *
+ * @author The Architect
+ * @see Matrix
+ * @see CsrMatrix
+ * @see CscMatrix
+ */
+public interface LinearOperator
+{
+    /**
+     * @return the number of dimensions of the results of this operator.
+     */
+    public int getRows();
+
+    /**
+     * @return the number of dimensions of the arguments of this operator.
+     */
+    public int getColumns();
+
+    /**
+     * Computes <code>target = operator &middot; source</code>.
+     *
+     * @param source An array of at least {@link #getColumns()} elements.
+     * @param target An array of at least {@link #getRows()} elements, which is overwritten and must not be the same as the source.
+     * @throws AssertionException If either array is null or too short, or if both are the same array.
+     */
+    public void apply(double[] source, double[] target);
+}
@@ -0,0 +1,594 @@
+package eli.braire.math.space;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A mutable matrix stored in a file rather than on the heap, for matrices larger than memory. The file is memory-mapped, so the operating system
+ * pages elements in and out on demand, and every bulk operation works one square tile at a time such that each tile is read a bounded number of
+ * times:
+ * <ul>
+ * <li>{@link #transverse(Path)}, {@link #apply(double[], double[])} and {@link #forEachRow(RowAction)} read each tile once.</li>
+ * <li>{@link #dotProduct(MappedMatrix, Path)} reads each tile of the left operand once per tile column of the product, and each tile of the
+ * right operand once per tile row of the product, and writes each tile of the product once.</li>
+ * </ul>
+ * The heap used by an operation is a few tiles, except for {@link #forEachRow(RowAction)} which holds a band of {@link #TILE} rows.
+ * <p>
+ * The file holds a 64-byte header, followed by the tiles in row-major order, each a row-major block of <code>TILE x TILE</code> little-endian
+ * doubles. Tiles on the bottom and right edges are padded with zeros. The file is mapped in segments of whole tiles of up to 1 GiB, since a
+ * single mapping cannot exceed 2 GiB.
+ * <p>
+ * This is not a storage backend of {@link Matrix}, and none of its operations accept a MappedMatrix. A Matrix is a strided view over a single heap
+ * array of at most 2<sup>31</sup> elements, which its operations and kernels index directly, so a file of tiles would either have to be copied
+ * onto the heap, defeating the purpose, or slow down every in-memory operation with an indirection. A MappedMatrix is instead a
+ * {@link LinearOperator}, so the iterative solvers run on it unchanged. {@link #of(Matrix, Path)} and {@link #toMatrix()} convert to and from
+ * a Matrix that fits in memory.
+ * <p>
+ * Instances are not safe for concurrent modification. Mappings outlive {@link #close()} until they are garbage collected, so the file may not be
+ * deletable until then on some platforms.
+ *
+ * @author The Architect
+ */
+public final class MappedMatrix implements LinearOperator, Closeable
+{
+    /**
+     * The tile size of {@link #create(Path, int, int)}: 2 MiB per tile, large enough for the matrix multiplication kernel to run at full speed.
+     */
+    public static final int         DEFAULT_TILE = 512;
+    /**
+     * The largest tile size, at which a tile occupies 512 MiB.
+     */
+    public static final int         MAXIMUM_TILE = 8192;
+    /**
+     * "ELIBMAP1"
+     */
+    static final long               MAGIC        = 0x454C49424D415031L;
+    static final int                HEADER       = 64;
+    private static final long       SEGMENT      = 1L << 30;
+
+    /**
+     * The total number of row dimensions for the defined {@link MappedMatrix}.
+     */
+    public final int                ROWS;
+    /**
+     * The total number of column dimensions for the defined {@link MappedMatrix}.
+     */
+    public final int                COLUMNS;
+    /**
+     * The number of rows and of columns in each tile.
+     */
+    public final int                TILE;
+    final int                       tileRows;
+    final int                       tileColumns;
+    private final Path              file;
+    private final FileChannel       channel;
+    private final MappedByteBuffer[] mappings;
+    private final DoubleBuffer[]    segments;
+    private final int               tilesPerSegment;
+
+    private MappedMatrix(final Path file, final FileChannel channel, final int rows, final int columns, final int tile) throws IOException
+    {
+        ROWS = rows;
+        COLUMNS = columns;
+        TILE = tile;
+        tileRows = (rows + tile - 1) / tile;
+        tileColumns = (columns + tile - 1) / tile;
+        this.file = file;
+        this.channel = channel;
+
+        final long tileBytes = (long) tile * tile * Double.BYTES;
+        final long tiles = (long) tileRows * tileColumns;
+        tilesPerSegment = (int) Math.max(1L, SEGMENT / tileBytes);
+        final int segmentCount = (int) ((tiles + tilesPerSegment - 1) / tilesPerSegment);
+        mappings = new MappedByteBuffer[segmentCount];
+        segments = new DoubleBuffer[segmentCount];
+        for (int segment = 0; segment < segmentCount; segment++)
+        {
+            final long first = (long) segment * tilesPerSegment;
+            final long count = Math.min(tilesPerSegment, tiles - first);
+            mappings[segment] = channel.map(MapMode.READ_WRITE, HEADER + first * tileBytes, count * tileBytes);
+            mappings[segment].order(ByteOrder.LITTLE_ENDIAN);
+            segments[segment] = mappings[segment].asDoubleBuffer();
+        }
+    }
+
+    /**
+     * @param file The file to create, replacing any existing file. (Cannot be null)
+     * @param rows The total number of rows.
+     * @param columns The total number of columns.
+     * @return a new {@link MappedMatrix} of zeros, with tiles of {@link #DEFAULT_TILE}.
+     * @throws AssertionException If file is null, or if either dimension is not positive.
+     * @throws IOException If the file cannot be created or mapped.
+     */
+    public static MappedMatrix create(final Path file, final int rows, final int columns) throws IOException
+    {
+        return create(file, rows, columns, DEFAULT_TILE);
+    }
+
+    /**
+     * @param file The file to create, replacing any existing file. (Cannot be null)
+     * @param rows The total number of rows.
+     * @param columns The total number of columns.
+     * @param tile The number of rows and of columns in each tile, between 1 (inclusive) and {@link #MAXIMUM_TILE} (inclusive).
+     * @return a new {@link MappedMatrix} of zeros.
+     * @throws AssertionException If file is null, if either dimension is not positive, or if the tile size is out of range.
+     * @throws IOException If the file cannot be created or mapped.
+     */
+    public static MappedMatrix create(final Path file, final int rows, final int columns, final int tile) throws IOException
+    {
+        Verifier.assertNotNull("A MappedMatrix must have a file.", file);
+        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 row.", rows, 0);
+        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 column.", columns, 0);
+        Verifier.Ranges.assertInsideRange_Inclusive("The tile size must be within the defined range.", tile, 1, MAXIMUM_TILE);
+
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                                                     StandardOpenOption.WRITE);
+        try
+        {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC).putInt(rows).putInt(columns).putInt(tile).rewind();
+            while (header.hasRemaining())
+            {
+                channel.write(header);
+            }
+            return new MappedMatrix(file, channel, rows, columns, tile);
+        }
+        catch (final IOException | RuntimeException e)
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @param file A file written by a {@link MappedMatrix}. (Cannot be null)
+     * @return a {@link MappedMatrix} over the existing contents of the file, whose changes are written back to it.
+     * @throws AssertionException If file is null.
+     * @throws IOException If the file cannot be opened or mapped, or does not hold a {@link MappedMatrix}.
+     */
+    public static MappedMatrix open(final Path file) throws IOException
+    {
+        Verifier.assertNotNull("A MappedMatrix must have a file.", file);
+
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try
+        {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0)
+            {
+                // Read the whole header
+            }
+            header.flip();
+            if (header.remaining() < HEADER || header.getLong() != MAGIC)
+            {
+                throw new IOException(MessageFormat.format("{0} does not hold a MappedMatrix.", file));
+            }
+            final int rows = header.getInt();
+            final int columns = header.getInt();
+            final int tile = header.getInt();
+            final long tiles = (long) ((rows + tile - 1) / tile) * ((columns + tile - 1) / tile);
+            if (rows <= 0 || columns <= 0 || tile <= 0 || tile > MAXIMUM_TILE || channel.size() < HEADER + tiles * tile * tile * Double.BYTES)
+            {
+                throw new IOException(MessageFormat.format("{0} holds a damaged MappedMatrix.", file));
+            }
+            return new MappedMatrix(file, channel, rows, columns, tile);
+        }
+        catch (final IOException | RuntimeException e)
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @param matrix The {@link Matrix} to copy. (Cannot be null)
+     * @param file The file to create, replacing any existing file. (Cannot be null)
+     * @return a new {@link MappedMatrix} holding the elements of the Matrix, with tiles of {@link #DEFAULT_TILE}.
+     * @throws AssertionException If either argument is null.
+     * @throws IOException If the file cannot be created or mapped.
+     */
+    public static MappedMatrix of(final Matrix matrix, final Path file) throws IOException
+    {
+        Verifier.assertNotNull("Cannot copy a null Matrix.", matrix);
+
+        final MappedMatrix mapped = create(file, matrix.ROWS, matrix.COLUMNS);
+        final double[] tile = new double[mapped.TILE * mapped.TILE];
+        for (int tr = 0; tr < mapped.tileRows; tr++)
+        {
+            for (int tc = 0; tc < mapped.tileColumns; tc++)
+            {
+                final int rows = mapped.tileHeight(tr);
+                final int columns = mapped.tileWidth(tc);
+                if (rows < mapped.TILE || columns < mapped.TILE)
+                {
+                    // The padding of an edge tile would otherwise hold the elements of the previous tile
+                    Arrays.fill(tile, 0D);
+                }
+                for (int r = 0; r < rows; r++)
+                {
+                    for (int c = 0, index = matrix.index(tr * mapped.TILE + r, tc * mapped.TILE); c < columns; c++, index += matrix.columnStride)
+                    {
+                        tile[r * mapped.TILE + c] = matrix.elements[index];
+                    }
+                }
+                mapped.writeTile(tr, tc, tile);
+            }
+        }
+
+        return mapped;
+    }
+
+    /**
+     * @return the number of rows of the tiles in tile row <code>tr</code> which lie within the matrix.
+     */
+    final int tileHeight(final int tr)
+    {
+        return Math.min(TILE, ROWS - tr * TILE);
+    }
+
+    /**
+     * @return the number of columns of the tiles in tile column <code>tc</code> which lie within the matrix.
+     */
+    final int tileWidth(final int tc)
+    {
+        return Math.min(TILE, COLUMNS - tc * TILE);
+    }
+
+    /**
+     * @return a buffer positioned at the first element of a tile, independent of any other caller's.
+     */
+    private DoubleBuffer tile(final int tr, final int tc)
+    {
+        final long index = (long) tr * tileColumns + tc;
+        final DoubleBuffer buffer = segments[(int) (index / tilesPerSegment)].duplicate();
+        buffer.position((int) (index % tilesPerSegment) * TILE * TILE);
+        return buffer;
+    }
+
+    /**
+     * Copies a whole tile, including any padding, into the first <code>TILE * TILE</code> elements of the target.
+     */
+    final void readTile(final int tr, final int tc, final double[] target)
+    {
+        tile(tr, tc).get(target, 0, TILE * TILE);
+    }
+
+    /**
+     * Overwrites a whole tile, including any padding, from the first <code>TILE * TILE</code> elements of the source. Padding must be written as
+     * zeros.
+     */
+    final void writeTile(final int tr, final int tc, final double[] source)
+    {
+        tile(tr, tc).put(source, 0, TILE * TILE);
+    }
+
+    /**
+     * @return the position of the 0-based element within its segment.
+     */
+    private int elementPosition(final int row, final int column)
+    {
+        final long index = (long) (row / TILE) * tileColumns + column / TILE;
+        return (int) (index % tilesPerSegment) * TILE * TILE + (row % TILE) * TILE + column % TILE;
+    }
+
+    /**
+     * @return the segment holding the 0-based element.
+     */
+    private DoubleBuffer elementSegment(final int row, final int column)
+    {
+        return segments[(int) (((long) (row / TILE) * tileColumns + column / TILE) / tilesPerSegment)];
+    }
+
+    /**
+     * @param rowDimension A row index between 1 (inclusive) and {@link #ROWS} (inclusive).
+     * @param columnDimension A column index between 1 (inclusive) and {@link #COLUMNS} (inclusive).
+     * @return the element at the specified position.
+     * @throws AssertionException If either index is out of range.
+     */
+    public double getElement(final int rowDimension, final int columnDimension)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix row index must be within the defined range.", rowDimension, 1, ROWS);
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix column index must be within the defined range.", columnDimension, 1, COLUMNS);
+        }
+
+        final int row = rowDimension - 1;
+        final int column = columnDimension - 1;
+        return elementSegment(row, column).get(elementPosition(row, column));
+    }
+
+    /**
+     * @param rowDimension A row index between 1 (inclusive) and {@link #ROWS} (inclusive).
+     * @param columnDimension A column index between 1 (inclusive) and {@link #COLUMNS} (inclusive).
+     * @param value The new value of the element.
+     * @return this {@link MappedMatrix}.
+     * @throws AssertionException If either index is out of range.
+     */
+    public MappedMatrix setElement(final int rowDimension, final int columnDimension, final double value)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix row index must be within the defined range.", rowDimension, 1, ROWS);
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix column index must be within the defined range.", columnDimension, 1, COLUMNS);
+        }
+
+        final int row = rowDimension - 1;
+        final int column = columnDimension - 1;
+        elementSegment(row, column).put(elementPosition(row, column), value);
+        return this;
+    }
+
+    /**
+     * @param rowDimension A row index between 1 (inclusive) and {@link #ROWS} (inclusive).
+     * @param elements The new values of the row, of at least {@link #COLUMNS} elements. (Cannot be null)
+     * @return this {@link MappedMatrix}.
+     * @throws AssertionException If the index is out of range, or if elements is null or too short.
+     */
+    public MappedMatrix setRow(final int rowDimension, final double[] elements)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix row index must be within the defined range.", rowDimension, 1, ROWS);
+            Verifier.assertNotNull("Cannot copy a null row.", elements);
+            Verifier.Inequality.assertGreaterThanOrEqual("The row must have an element for each column.", elements.length, COLUMNS);
+        }
+
+        final int tr = (rowDimension - 1) / TILE;
+        final int offset = (rowDimension - 1) % TILE * TILE;
+        for (int tc = 0; tc < tileColumns; tc++)
+        {
+            final DoubleBuffer buffer = tile(tr, tc);
+            buffer.position(buffer.position() + offset);
+            buffer.put(elements, tc * TILE, tileWidth(tc));
+        }
+        return this;
+    }
+
+    /**
+     * Receives the rows of a {@link MappedMatrix} in order.
+     */
+    public static interface RowAction
+    {
+        /**
+         * @param rowDimension The index of the row, from 1.
+         * @param elements The elements of the row, in the first {@link MappedMatrix#COLUMNS} elements of an array which is reused for each
+         *            row.
+         */
+        void accept(int rowDimension, double[] elements);
+    }
+
+    /**
+     * Streams every row, in order, reading each tile once. Each band of {@link #TILE} rows is held on the heap while its rows are visited.
+     *
+     * @param action The receiver of each row. (Cannot be null)
+     * @throws AssertionException If action is null.
+     */
+    public void forEachRow(final RowAction action)
+    {
+        Verifier.assertNotNull("Cannot visit rows with a null action.", action);
+
+        final double[] tile = new double[TILE * TILE];
+        final double[][] band = new double[TILE][COLUMNS];
+        for (int tr = 0; tr < tileRows; tr++)
+        {
+            final int rows = tileHeight(tr);
+            for (int tc = 0; tc < tileColumns; tc++)
+            {
+                readTile(tr, tc, tile);
+                final int columns = tileWidth(tc);
+                for (int r = 0; r < rows; r++)
+                {
+                    System.arraycopy(tile, r * TILE, band[r], tc * TILE, columns);
+                }
+            }
+            for (int r = 0; r < rows; r++)
+            {
+                action.accept(tr * TILE + r + 1, band[r]);
+            }
+        }
+    }
+
+    /**
+     * @param file The file of the result, replacing any existing file. (Cannot be null)
+     * @return a new {@link MappedMatrix} holding the transverse of this one, with the same tile size.
+     * @throws AssertionException If file is null or is the file of this MappedMatrix.
+     * @throws IOException If the file cannot be created or mapped.
+     */
+    public MappedMatrix transverse(final Path file) throws IOException
+    {
+        Verifier.Equality.assertNotEqual("The result cannot overwrite its operand.", file, this.file);
+
+        final MappedMatrix result = create(file, COLUMNS, ROWS, TILE);
+        final double[] source = new double[TILE * TILE];
+        final double[] target = new double[TILE * TILE];
+        for (int tr = 0; tr < tileRows; tr++)
+        {
+            for (int tc = 0; tc < tileColumns; tc++)
+            {
+                readTile(tr, tc, source);
+                for (int r = 0; r < TILE; r++)
+                {
+                    for (int c = 0; c < TILE; c++)
+                    {
+                        target[c * TILE + r] = source[r * TILE + c];
+                    }
+                }
+                result.writeTile(tc, tr, target);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Multiplies tile by tile: each tile of the product is accumulated on the heap from the products of the tiles along a tile row of this
+     * Matrix and a tile column of the other, with the kernel of {@link Matrix#dotProduct(Matrix)}, and written once.
+     *
+     * @param matrix The right operand, with as many rows as this Matrix has columns and the same tile size. (Cannot be null)
+     * @param file The file of the product, replacing any existing file. (Cannot be null)
+     * @return a new {@link MappedMatrix} holding <code>this &middot; matrix</code>, with the same tile size.
+     * @throws AssertionException If either argument is null, if the dimensions or tile sizes do not match, or if file is the file of either
+     *             operand.
+     * @throws IOException If the file cannot be created or mapped.
+     */
+    public MappedMatrix dotProduct(final MappedMatrix matrix, final Path file) throws IOException
+    {
+        Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrix.ROWS, COLUMNS);
+        Verifier.Equality.assertEqual("Both Matrices must have the same tile size.", matrix.TILE, TILE);
+        Verifier.Equality.assertNotEqual("The product cannot overwrite the Left-Matrix.", file, this.file);
+        Verifier.Equality.assertNotEqual("The product cannot overwrite the Right-Matrix.", file, matrix.file);
+
+        final MappedMatrix result = create(file, ROWS, matrix.COLUMNS, TILE);
+        final double[] left = new double[TILE * TILE];
+        final double[] right = new double[TILE * TILE];
+        final double[] product = new double[TILE * TILE];
+        for (int tr = 0; tr < result.tileRows; tr++)
+        {
+            final int rows = tileHeight(tr);
+            for (int tc = 0; tc < result.tileColumns; tc++)
+            {
+                final int columns = result.tileWidth(tc);
+                Arrays.fill(product, 0D);
+                for (int tk = 0; tk < tileColumns; tk++)
+                {
+                    final int inner = tileWidth(tk);
+                    readTile(tr, tk, left);
+                    matrix.readTile(tk, tc, right);
+                    MatrixMultiplication.multiplyAdd(new Matrix(left, rows, inner, 0, TILE, 1), new Matrix(right, inner, columns, 0, TILE, 1), product, 0,
+                                                     TILE, true);
+                }
+                result.writeTile(tr, tc, product);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @return a new in-memory {@link Matrix} holding the elements of this one.
+     * @throws AssertionException If the Matrix has too many elements to be held in an array.
+     */
+    public Matrix toMatrix()
+    {
+        Verifier.Inequality.assertLessThanOrEqual("The Matrix has too many elements to be held in memory.", (long) ROWS * COLUMNS,
+                                                   (long) Integer.MAX_VALUE - 8);
+
+        final double[] elements = new double[ROWS * COLUMNS];
+        final double[] tile = new double[TILE * TILE];
+        for (int tr = 0; tr < tileRows; tr++)
+        {
+            for (int tc = 0; tc < tileColumns; tc++)
+            {
+                readTile(tr, tc, tile);
+                final int columns = tileWidth(tc);
+                for (int r = 0, rows = tileHeight(tr); r < rows; r++)
+                {
+                    System.arraycopy(tile, r * TILE, elements, (tr * TILE + r) * COLUMNS + tc * TILE, columns);
+                }
+            }
+        }
+
+        return Matrix.wrap(elements, ROWS, COLUMNS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRows()
+    {
+        return ROWS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumns()
+    {
+        return COLUMNS;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Reads each tile once, with the tile rows distributed across the common fork-join pool.
+     */
+    @Override
+    public void apply(final double[] source, final double[] target)
+    {
+        Verifier.assertNotNull("Cannot apply an operator to a null array.", source);
+        Verifier.assertNotNull("Cannot apply an operator into a null array.", target);
+        Verifier.Inequality.assertGreaterThanOrEqual("The source must have an element for each column.", source.length, COLUMNS);
+        Verifier.Inequality.assertGreaterThanOrEqual("The target must have an element for each row.", target.length, ROWS);
+        Verifier.Equality.assertNotEqual("The target cannot be the same array as the source.", target, source);
+
+        ParallelRanges.forEach(tileRows, tileRows > 1, (from, to) ->
+        {
+            final double[] tile = new double[TILE * TILE];
+            for (int tr = from; tr < to; tr++)
+            {
+                final int rows = tileHeight(tr);
+                Arrays.fill(target, tr * TILE, tr * TILE + rows, 0D);
+                for (int tc = 0; tc < tileColumns; tc++)
+                {
+                    readTile(tr, tc, tile);
+                    final int columns = tileWidth(tc);
+                    for (int r = 0; r < rows; r++)
+                    {
+                        target[tr * TILE + r] += Kernels.dot(tile, r * TILE, source, tc * TILE, columns);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes any changes still held in memory to the file.
+     */
+    public void flush()
+    {
+        for (final MappedByteBuffer mapping : mappings)
+        {
+            mapping.force();
+        }
+    }
+
+    /**
+     * Flushes any changes to the file, and closes it.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        try
+        {
+            flush();
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("Mapped[{0} x {1}, tiles of {2}, {3}]", ROWS, COLUMNS, TILE, file);
+    }
+}
@@ -1,547 +1,1197 @@
-//package eli.braire.math.space;
-//
-//import java.text.MessageFormat;
-//import java.util.Arrays;
-//
-//import eli.veritas.Verifier;
-//import eli.veritas.exception.AssertionException;
-//
-///**
-// * An object corresponding to the abstract mathematical notion of a Matrix. Matrices are linear systems of coefficients arranged as a row-major
-// * 2-dimensional array of double values. This also supports typical and relevant Matrix transformations and operations.
-// *
-// * @author The Architect
-// */
-//public class Matrix
-//{
-//
-//    /**
-//     * The total number of row dimensions for the defined {@link Matrix}.
-//     */
-//    public final int         ROWS;
-//    /**
-//     * The total number of column dimensions for the defined {@link Matrix}.
-//     */
-//    public final int         COLUMNS;
-//    private final int        RANK    = -1;
-//    private final double[][] elements;
-//    private final double     EPSILON = 0.0000001d;
-//
-//    private Matrix(final int rows, final int columns)
-//    {
-//        ROWS = rows;
-//        COLUMNS = columns;
-//        elements = new double[rows][];
-//        for (int i = 0; i < rows; i++)
-//        {
-//            elements[i] = new double[columns];
-//        }
-//    }
-//
-//    private Matrix(final double[][] elements)
-//    {
-//        ROWS = elements.length;
-//        COLUMNS = elements[0].length;
-//        this.elements = new double[ROWS][];
-//        for (int i = 0; i < ROWS; i++)
-//        {
-//            this.elements[i] = elements[i].clone();
-//        }
-//    }
-//
-//    private Matrix(final Vector[] columns)
-//    {
-//        COLUMNS = columns.length;
-//        ROWS = columns[0].RANK;
-//        elements = new double[ROWS][];
-//        for (int iRow = 0; iRow < ROWS; iRow++)
-//        {
-//            elements[iRow] = new double[COLUMNS];
-//            for (int iColumn = 0; iColumn < COLUMNS; iColumn++)
-//            {
-//                elements[iRow][iColumn] = columns[iColumn].d(iRow);
-//            }
-//        }
-//    }
-//
-//    /**
-//     * @param elements A non-empty array of non-empty <code>double</code> arrays. Each row must have the same number of columns.
-//     * @return a new non-empty {@link Matrix} containing the specified elements.
-//     * @throws AssertionException If any of the following are true:
-//     *             <ul>
-//     *             <li>Elements is null</li>
-//     *             <li>Elements has less than 1 row</li>
-//     *             <li>Elements contains any empty or null rows</li>
-//     *             <li>The first elements row must have at least 1 column</li>
-//     *             <li>Any row does not contain the same number of columns as the first</li>
-//     *             </ul>
-//     */
-//    public static Matrix create(final double[] ... elements)
-//    {
-//        Verifier.Collections.assertNotEmpty("Matrix element rows must not be null or empty.", elements);
-//        Verifier.Collections.assertContainsNoValue("Matrix element columns must not be null or empty.", elements, (double[]) null);
-//        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 column.", elements[0].length, 0);
-//
-//        final int columns = elements[0].length;
-//        for (int iRow = 1; iRow < elements.length; iRow++)
-//        {
-//            Verifier.Equality.assertEqual("All Matrix rows must have the same number of columns.", elements[iRow].length, columns);
-//        }
-//
-//        return new Matrix(elements);
-//    }
-//
-//    public static Matrix create(final Vector ... columns)
-//    {
-//        Verifier.Collections.assertNotEmpty("Matrix element columns must not be null or empty.", columns);
-//        Verifier.Collections.assertContainsNoValue("Matrix element rows must not be null or empty.", columns, null);
-//        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 row.", columns[0].RANK, 0);
-//
-//        final int rowCount = columns[0].RANK;
-//        for (int iColumn = 1; iColumn < columns.length; iColumn++)
-//        {
-//            Verifier.Equality.assertEqual("All Matrix columns must have the same number of rows.", columns[iColumn], rowCount);
-//        }
-//
-//        return new Matrix(columns);
-//    }
-//
-//    /**
-//     * @param size The total (positive) number of rows/columns for the new {@link Matrix}.
-//     * @return a new non-empty identity {@link Matrix}. An identity Matrix is a square Matrix defined as follows:<br />
-//     *         <code>if (i == j) -> 1; else 0</code>.
-//     * @throws AssertionException If size is less than 1.
-//     */
-//    public static Matrix identity(final int size)
-//    {
-//        Verifier.Inequality.assertGreaterThan("Identity Matrix must have a positive size.", size, 0);
-//
-//        final Matrix newMatrix = new Matrix(size, size);
-//        final double[][] elements = newMatrix.elements;
-//        for (int index = 0; index < size; index++)
-//        {
-//            elements[index][index] = 1D;
-//        }
-//
-//        return newMatrix;
-//    }
-//
-//    /**
-//     * @return a new non-empty {@link Matrix} with identical element values.
-//     */
-//    @Override
-//    public Matrix clone()
-//    {
-//        return new Matrix(elements);
-//    }
-//
-//    /**
-//     * @param rowDimension A row dimension [1, total rows].
-//     * @param columnDimension A column dimension [1, total columns].
-//     * @return the <code>double</code> value corresponding to the {@link Matrix} element at the specified position.
-//     * @throws AssertionException If any of the following are true:
-//     *             <ul>
-//     *             <li>rowDimension &lt;= 0 OR rowDimension &gt; {@link #RANK}</li>
-//     *             <li>columnDimension &lt;= 0 OR columnDimension &gt; {@link #RANK}</li>
-//     *             </ul>
-//     */
-//    public double getElement(final int rowDimension, final int columnDimension)
-//    {
-//        Verifier.Ranges.assertInsideRange_Inclusive("Matrix row index must be within the defined range.", rowDimension, 1, ROWS);
-//        Verifier.Ranges.assertInsideRange_Inclusive("Matrix column index must be within the defined range.", columnDimension, 1, COLUMNS);
-//
-//        return elements[rowDimension][columnDimension];
-//    }
-//
-//    /**
-//     * @return the total number of linearly independent rows of the {@link Matrix}.
-//     */
-//    @SuppressWarnings("unused")
-//    public int getRank()
-//    {
-//        if (RANK < 0)
-//        {
-//            // TODO Implementation needed
-//            return 0;
-//        }
-//
-//        return RANK;
-//    }
-//
-//    /**
-//     * @return a new non-empty transverse {@link Matrix}. A transverse Matrix is defined as follows:<br />
-//     *         <code>matrix<sup>t</sup><sub>[i][j]</sub> == matrix<sub>[j][i]</sub></code> .
-//     */
-//    public Matrix transverse()
-//    {
-//        final Matrix newMatrix = new Matrix(COLUMNS, ROWS);
-//        for (int i = 0; i < COLUMNS; i++)
-//        {
-//            for (int j = 0; j < ROWS; j++)
-//            {
-//                newMatrix.elements[i][j] = elements[j][i];
-//            }
-//        }
-//
-//        return newMatrix;
-//    }
-//
-//    /**
-//     * @return a new non-empty inverse {@link Matrix}. An inverse Matrix is defined as follows:
-//     *         <code>matrix &middot; matrix<sup>inverse</sup> == matrix<sup>identity</sup></code> .
-//     * @throws AssertionException If any of the following are true:
-//     *             <ul>
-//     *             <li>The original Matrix is not square</li>
-//     *             <li>The original Matrix Rank != the total number of rows (this implies that the linear system is linearly dependent)</li>
-//     *             </ul>
-//     */
-//    public Matrix inverse()
-//    {
-//        // TODO Implementation needed
-//        return null;
-//    }
-//
-//    /**
-//     * @return a scalar value corresponding to a square {@link Matrix}. The determinant is defined as follows:<br />
-//     *         <code>det(A) = Sum<sub>i,j</sub>( -1<sup>i+j</sup> * a<sub>i,j</sub> * det(M<sub>i,j</sub>) )</code> .
-//     * @throws AssertionException If the original Matrix is not square.
-//     */
-//    public double determinant()
-//    {
-//        // TODO Implementation needed
-//        return 0D;
-//    }
-//
-//    /**
-//     * @param excludeRowIndex The original row index to exclude from the sub-matrix [1, total rows].
-//     * @param excludeColumnIndex The original column index to exclude from the sub-matrix [1, total columns].
-//     * @return a new non-empty {@link Matrix} consisting of all rows and columns excluding those specified by the parameters.
-//     * @throws AssertionException If any of the parameter conditions are not met;<br />
-//     *             The current {@link Matrix} must have:
-//     *             <ul>
-//     *             <li>More than 1 row</li>
-//     *             <li>More than 1 column</li>
-//     *             </ul>
-//     */
-//    public Matrix subMatrix(final int excludeRowIndex, final int excludeColumnIndex)
-//    {
-//        Verifier.Ranges.assertInsideRange_Inclusive("", excludeRowIndex, 1, ROWS);
-//        Verifier.Ranges.assertInsideRange_Inclusive("", excludeColumnIndex, 1, COLUMNS);
-//
-//        final Matrix newMatrix = new Matrix(ROWS - 1, COLUMNS - 1);
-//        for (int i = 0, effectiveRow = 0; i < ROWS; i++, effectiveRow++)
-//        {
-//            if (i != excludeRowIndex)
-//            {
-//                for (int j = 0, effectiveColumn = 0; j < COLUMNS; j++, effectiveColumn++)
-//                {
-//                    if (j != excludeColumnIndex)
-//                    {
-//                        newMatrix.elements[effectiveRow][effectiveColumn] = elements[i][j];
-//                    }
-//                    else
-//                    {
-//                        effectiveColumn--;
-//                    }
-//                }
-//            }
-//            else
-//            {
-//                effectiveRow--;
-//            }
-//        }
-//
-//        return newMatrix;
-//    }
-//
-//    public Matrix echelonForm()
-//    {
-//        // TODO Implementation needed
-//        return null;
-//    }
-//
-//    public Matrix reducedEchelonForm()
-//    {
-//        // TODO Implementation needed
-//        return null;
-//    }
-//
-//    /**
-//     * @return a new non-empty {@link Matrix} where each element is the negative of the original.
-//     */
-//    public Matrix negate()
-//    {
-//        final Matrix newMatrix = new Matrix(ROWS, COLUMNS);
-//        for (int i = 0; i < ROWS; i++)
-//        {
-//            for (int j = 0; j < COLUMNS; j++)
-//            {
-//                newMatrix.elements[i][j] = -elements[i][j];
-//            }
-//        }
-//
-//        return newMatrix;
-//    }
-//
-//    /**
-//     * @param matrix
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Matrix add(final Matrix matrix)
-//    {
-//        Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
-//        Verifier.Equality.assertEqual("Both Matrices must have the same number of rows.", matrix.ROWS, ROWS);
-//        Verifier.Equality.assertEqual("Both Matrices must have the same number of columns.", matrix.COLUMNS, COLUMNS);
-//
-//        final Matrix newMatrix = new Matrix(ROWS, COLUMNS);
-//        for (int i = 0; i < ROWS; i++)
-//        {
-//            for (int j = 0; j < COLUMNS; j++)
-//            {
-//                newMatrix.elements[i][j] = elements[i][j] + matrix.elements[i][j];
-//            }
-//        }
-//
-//        return newMatrix;
-//    }
-//
-//    /**
-//     * @param matrix
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Matrix subtract(final Matrix matrix)
-//    {
-//        Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
-//        Verifier.Equality.assertEqual("Both Matrices must have the same number of rows.", matrix.ROWS, ROWS);
-//        Verifier.Equality.assertEqual("Both Matrices must have the same number of columns.", matrix.COLUMNS, COLUMNS);
-//
-//        final Matrix newMatrix = new Matrix(ROWS, COLUMNS);
-//        for (int i = 0; i < ROWS; i++)
-//        {
-//            for (int j = 0; j < COLUMNS; j++)
-//            {
-//                newMatrix.elements[i][j] = elements[i][j] - matrix.elements[i][j];
-//            }
-//        }
-//
-//        return newMatrix;
-//    }
-//
-//    /**
-//     * @param scalar
-//     * @return
-//     */
-//    public Matrix multiply(final double scalar)
-//    {
-//        final Matrix newMatrix = new Matrix(ROWS, COLUMNS);
-//        for (int i = 0; i < ROWS; i++)
-//        {
-//            for (int j = 0; j < COLUMNS; j++)
-//            {
-//                newMatrix.elements[i][j] = elements[i][j] * scalar;
-//            }
-//        }
-//
-//        return newMatrix;
-//    }
-//
-//    /**
-//     * @param scalar
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Matrix divide(final double scalar)
-//    {
-//        Verifier.Equality.assertNotEqual("Cannot divide Matrix elements by zero scalar.", scalar, 0, EPSILON);
-//
-//        final Matrix newMatrix = new Matrix(ROWS, COLUMNS);
-//        for (int i = 0; i < ROWS; i++)
-//        {
-//            for (int j = 0; j < COLUMNS; j++)
-//            {
-//                newMatrix.elements[i][j] = elements[i][j] / scalar;
-//            }
-//        }
-//
-//        return newMatrix;
-//    }
-//
-//    /**
-//     * @param matrix
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Matrix dotProduct(final Matrix matrix)
-//    {
-//        Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
-//        Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrix.ROWS, COLUMNS);
-//
-//        final Matrix newMatrix = new Matrix(ROWS, matrix.COLUMNS);
-//        for (int i = 0; i < ROWS; i++)
-//        {
-//            for (int j = 0; j < matrix.COLUMNS; j++)
-//            {
-//                for (int k = 0; k < COLUMNS; k++)
-//                {
-//                    newMatrix.elements[i][j] += elements[i][k] * matrix.elements[k][i];
-//                }
-//            }
-//        }
-//
-//        return newMatrix;
-//    }
-//
-//    /**
-//     * @param vector
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Vector dotProduct(final Vector vector)
-//    {
-//        Verifier.assertNotNull("Cannot perform operations with a null Vector.", vector);
-//        Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Vector dimensions.", vector.RANK, COLUMNS);
-//
-//        final double[] newElements = new double[ROWS];
-//        for (int i = 0; i < ROWS; i++)
-//        {
-//            for (int j = 0; j < COLUMNS; j++)
-//            {
-//                newElements[i] += elements[i][j] * vector.d(j);
-//            }
-//        }
-//
-//        return Vector.create(newElements);
-//    }
-//
-//    /**
-//     * @param point
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Point dotProduct(final Point point)
-//    {
-//        Verifier.assertNotNull("Cannot perform operations with a null Point.", point);
-//        Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Point dimensions.", point.RANK, COLUMNS);
-//
-//        final double[] coordinates = new double[ROWS];
-//        for (int i = 0; i < ROWS; i++)
-//        {
-//            for (int j = 0; j < COLUMNS; j++)
-//            {
-//                coordinates[i] += elements[i][j] * point.d(j);
-//            }
-//        }
-//
-//        return Point.create(coordinates);
-//    }
-//
-//    /**
-//     * @param shiftingVector
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Matrix translate(final Vector shiftingVector)
-//    {
-//        Verifier.assertNotNull("", shiftingVector);
-//        Verifier.Equality.assertEqual("", shiftingVector.RANK, ROWS);
-//
-//        return null;
-//    }
-//
-//    /**
-//     * @param scalingVector
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Matrix scale(final Vector scalingVector)
-//    {
-//        Verifier.assertNotNull("", scalingVector);
-//        Verifier.Equality.assertEqual("", scalingVector.RANK, ROWS);
-//
-//        // TODO Implementation needed
-//        return null;
-//    }
-//
-//    /**
-//     * @param rotatingVector
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Matrix rotate(final Vector rotatingVector)
-//    {
-//        Verifier.assertNotNull("", rotatingVector);
-//        Verifier.Equality.assertEqual("", rotatingVector.RANK, ROWS);
-//
-//        // TODO Implementation needed
-//        return null;
-//    }
-//
-//    /**
-//     * @param shearingVectors
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Matrix shear(final Vector[] shearingVectors)
-//    {
-//        Verifier.assertNotNull("", shearingVectors);
-//        Verifier.Inequality.assertGreaterThan("", shearingVectors.length, 0);
-//        Verifier.Collections.assertContainsNoValue("", shearingVectors, null);
-//
-//        // TODO Implementation needed
-//        return null;
-//    }
-//
-//    @Override
-//    public String toString()
-//    {
-//        return MessageFormat.format("[{0}]", Arrays.deepToString(elements));
-//    }
-//
-//    @Override
-//    public int hashCode()
-//    {
-//        final int prime = 31;
-//        int result = 1;
-//        result = prime * result + COLUMNS;
-//        result = prime * result + Arrays.deepHashCode(elements);
-//        result = prime * result + ROWS;
-//        return result;
-//    }
-//
-//    @Override
-//    public boolean equals(final Object obj)
-//    {
-//        if (this == obj)
-//        {
-//            return true;
-//        }
-//        if (obj == null)
-//        {
-//            return false;
-//        }
-//        if (!(obj instanceof Matrix))
-//        {
-//            return false;
-//        }
-//        final Matrix other = (Matrix) obj;
-//        if (COLUMNS != other.COLUMNS)
-//        {
-//            return false;
-//        }
-//        if (!Arrays.deepEquals(elements, other.elements))
-//        {
-//            return false;
-//        }
-//        if (RANK != other.RANK)
-//        {
-//            return false;
-//        }
-//        if (ROWS != other.ROWS)
-//        {
-//            return false;
-//        }
-//        return true;
-//    }
-//}
\ No newline at end of file
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * An object corresponding to the abstract mathematical notion of a Matrix. Matrices are linear systems of coefficients arranged as a row-major
+ * 2-dimensional array of double values. This also supports typical and relevant Matrix transformations and operations.
+ * <p>
+ * Elements are held in a single contiguous <code>double</code> array, addressed through an offset, a row stride and a column stride. Matrices are
+ * immutable, so views such as {@link #transposeView()} and {@link #blockView(int, int, int, int)} share the backing array of the original
+ * {@link Matrix} rather than copying it. The only exception is {@link MatrixBuffer}, a mutable Matrix that operations such as
+ * {@link #addInto(Matrix, MatrixBuffer)} write their results into, so that repeated computations need not allocate.
+ *
+ * @author The Architect
+ */
+public class Matrix implements LinearOperator
+{
+    /**
+     * Products with a vector of fewer elements than this are not worth distributing across threads.
+     */
+    private static final long PARALLEL_THRESHOLD = 256L * 256L;
+
+    /**
+     * The total number of row dimensions for the defined {@link Matrix}.
+     */
+    public final int       ROWS;
+    /**
+     * The total number of column dimensions for the defined {@link Matrix}.
+     */
+    public final int       COLUMNS;
+    private final double   EPSILON = 0.0000001d;
+    /**
+     * The backing array, which may be shared with other {@link Matrix} views.
+     */
+    final double[]         elements;
+    /**
+     * The index of the first element within {@link #elements}.
+     */
+    final int              offset;
+    /**
+     * The distance within {@link #elements} between vertically adjacent elements.
+     */
+    final int              rowStride;
+    /**
+     * The distance within {@link #elements} between horizontally adjacent elements.
+     */
+    final int              columnStride;
+    /**
+     * The lazily computed factorisations. Racing threads may each compute them, but always to equal, immutable results.
+     */
+    private LUDecomposition decomposition;
+    private QRDecomposition qrDecomposition;
+    private CholeskyDecomposition choleskyDecomposition;
+    private SingularValueDecomposition singularValueDecomposition;
+    private SymmetricEigenDecomposition eigenDecomposition;
+
+    private Matrix(final int rows, final int columns)
+    {
+        this(new double[rows * columns], rows, columns, 0, columns, 1);
+    }
+
+    private Matrix(final double[][] elements)
+    {
+        this(elements.length, elements[0].length);
+        for (int i = 0; i < ROWS; i++)
+        {
+            System.arraycopy(elements[i], 0, this.elements, i * COLUMNS, COLUMNS);
+        }
+    }
+
+    private Matrix(final Vector[] columns)
+    {
+        this(columns[0].RANK, columns.length);
+        for (int iRow = 0; iRow < ROWS; iRow++)
+        {
+            for (int iColumn = 0; iColumn < COLUMNS; iColumn++)
+            {
+                elements[iRow * COLUMNS + iColumn] = columns[iColumn].elements[iRow];
+            }
+        }
+    }
+
+    Matrix(final double[] elements, final int rows, final int columns, final int offset, final int rowStride, final int columnStride)
+    {
+        ROWS = rows;
+        COLUMNS = columns;
+        this.elements = elements;
+        this.offset = offset;
+        this.rowStride = rowStride;
+        this.columnStride = columnStride;
+    }
+
+    /**
+     * @param elements A row-major array of exactly <code>rows * columns</code> elements, which is adopted without being copied.
+     * @param rows The total number of rows.
+     * @param columns The total number of columns.
+     * @return a new {@link Matrix} backed by <code>elements</code>.
+     */
+    static Matrix wrap(final double[] elements, final int rows, final int columns)
+    {
+        return new Matrix(elements, rows, columns, 0, columns, 1);
+    }
+
+    /**
+     * @param elements A non-empty array of non-empty <code>double</code> arrays. Each row must have the same number of columns.
+     * @return a new non-empty {@link Matrix} containing the specified elements.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>Elements is null</li>
+     *             <li>Elements has less than 1 row</li>
+     *             <li>Elements contains any empty or null rows</li>
+     *             <li>The first elements row must have at least 1 column</li>
+     *             <li>Any row does not contain the same number of columns as the first</li>
+     *             </ul>
+     */
+    public static Matrix create(final double[] ... elements)
+    {
+        Verifier.Collections.assertNotEmpty("Matrix element rows must not be null or empty.", elements);
+        Verifier.Collections.assertContainsNoValue("Matrix element columns must not be null or empty.", elements, (double[]) null);
+        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 column.", elements[0].length, 0);
+
+        final int columns = elements[0].length;
+        for (int iRow = 1; iRow < elements.length; iRow++)
+        {
+            Verifier.Equality.assertEqual("All Matrix rows must have the same number of columns.", elements[iRow].length, columns);
+        }
+
+        return new Matrix(elements);
+    }
+
+    /**
+     * @param matrix The {@link FloatMatrix} to convert, which may be a view. (Cannot be null)
+     * @return a new contiguous {@link Matrix} holding the elements of the matrix, which are represented exactly.
+     * @throws AssertionException If matrix is null.
+     */
+    public static Matrix of(final FloatMatrix matrix)
+    {
+        Verifier.assertNotNull("Cannot convert a null Matrix.", matrix);
+
+        final Matrix newMatrix = new Matrix(matrix.ROWS, matrix.COLUMNS);
+        for (int i = 0, target = 0; i < matrix.ROWS; i++)
+        {
+            for (int j = 0, source = matrix.index(i, 0); j < matrix.COLUMNS; j++, source += matrix.columnStride)
+            {
+                newMatrix.elements[target++] = matrix.elements[source];
+            }
+        }
+
+        return newMatrix;
+    }
+
+    public static Matrix create(final Vector ... columns)
+    {
+        Verifier.Collections.assertNotEmpty("Matrix element columns must not be null or empty.", columns);
+        Verifier.Collections.assertContainsNoValue("Matrix element rows must not be null or empty.", columns, null);
+        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 row.", columns[0].RANK, 0);
+
+        final int rowCount = columns[0].RANK;
+        for (int iColumn = 1; iColumn < columns.length; iColumn++)
+        {
+            Verifier.Equality.assertEqual("All Matrix columns must have the same number of rows.", columns[iColumn].RANK, rowCount);
+        }
+
+        return new Matrix(columns);
+    }
+
+    /**
+     * @param size The total (positive) number of rows/columns for the new {@link Matrix}.
+     * @return a new non-empty identity {@link Matrix}. An identity Matrix is a square Matrix defined as follows:<br />
+     *         <code>if (i == j) -> 1; else 0</code>.
+     * @throws AssertionException If size is less than 1.
+     */
+    public static Matrix identity(final int size)
+    {
+        Verifier.Inequality.assertGreaterThan("Identity Matrix must have a positive size.", size, 0);
+
+        final Matrix newMatrix = new Matrix(size, size);
+        final double[] elements = newMatrix.elements;
+        for (int index = 0; index < size; index++)
+        {
+            elements[index * size + index] = 1D;
+        }
+
+        return newMatrix;
+    }
+
+    /**
+     * @return a new non-empty {@link Matrix} with identical element values. The new Matrix has its own contiguous backing array, even if this
+     *         Matrix is a view.
+     */
+    @Override
+    public Matrix clone()
+    {
+        if (isContiguous())
+        {
+            return wrap(Arrays.copyOfRange(elements, offset, offset + ROWS * COLUMNS), ROWS, COLUMNS);
+        }
+
+        final Matrix newMatrix = new Matrix(ROWS, COLUMNS);
+        for (int i = 0, target = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = offset + i * rowStride; j < COLUMNS; j++, source += columnStride)
+            {
+                newMatrix.elements[target++] = elements[source];
+            }
+        }
+
+        return newMatrix;
+    }
+
+    /**
+     * @return true if the elements of this {@link Matrix} are laid out row-major without gaps, so that they can be traversed as one flat range of
+     *         {@link #elements} starting at {@link #offset}.
+     */
+    final boolean isContiguous()
+    {
+        return columnStride == 1 && rowStride == COLUMNS;
+    }
+
+    /**
+     * @param row A zero-based row index.
+     * @param column A zero-based column index.
+     * @return the index within {@link #elements} of the specified element.
+     */
+    final int index(final int row, final int column)
+    {
+        return offset + row * rowStride + column * columnStride;
+    }
+
+    /**
+     * @param rowDimension A row dimension [1, total rows].
+     * @param columnDimension A column dimension [1, total columns].
+     * @return the <code>double</code> value corresponding to the {@link Matrix} element at the specified position.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>rowDimension &lt;= 0 OR rowDimension &gt; {@link #ROWS}</li>
+     *             <li>columnDimension &lt;= 0 OR columnDimension &gt; {@link #COLUMNS}</li>
+     *             </ul>
+     */
+    public double getElement(final int rowDimension, final int columnDimension)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix row index must be within the defined range.", rowDimension, 1, ROWS);
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix column index must be within the defined range.", columnDimension, 1, COLUMNS);
+        }
+
+        return elements[index(rowDimension - 1, columnDimension - 1)];
+    }
+
+    /**
+     * @return the total number of linearly independent rows of the {@link Matrix}, which is revealed by its column-pivoted
+     *         {@link QRDecomposition}.
+     */
+    public int getRank()
+    {
+        return getQRDecomposition().getRank();
+    }
+
+    /**
+     * @return the {@link LUDecomposition} of this {@link Matrix}, which is computed on first use and then reused by every subsequent call.
+     */
+    public LUDecomposition getLUDecomposition()
+    {
+        LUDecomposition result = decomposition;
+        if (result == null)
+        {
+            result = LUDecomposition.of(this);
+            decomposition = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the {@link QRDecomposition} of this {@link Matrix}, which is computed on first use and then reused by every subsequent call.
+     */
+    public QRDecomposition getQRDecomposition()
+    {
+        QRDecomposition result = qrDecomposition;
+        if (result == null)
+        {
+            result = QRDecomposition.of(this);
+            qrDecomposition = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the {@link CholeskyDecomposition} of this {@link Matrix}, which is computed on first use and then reused by every subsequent call.
+     * @throws AssertionException If the Matrix is not square or not positive definite.
+     */
+    public CholeskyDecomposition getCholeskyDecomposition()
+    {
+        CholeskyDecomposition result = choleskyDecomposition;
+        if (result == null)
+        {
+            result = CholeskyDecomposition.of(this);
+            choleskyDecomposition = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the {@link SingularValueDecomposition} of this {@link Matrix}, which is computed on first use and then reused by every subsequent
+     *         call.
+     */
+    public SingularValueDecomposition getSingularValueDecomposition()
+    {
+        SingularValueDecomposition result = singularValueDecomposition;
+        if (result == null)
+        {
+            result = SingularValueDecomposition.of(this);
+            singularValueDecomposition = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the complete {@link SymmetricEigenDecomposition} of this symmetric {@link Matrix}, which is computed on first use and then reused by
+     *         every subsequent call. Only the diagonal and the lower triangle are read.
+     * @throws AssertionException If the Matrix is not square.
+     * @see SymmetricEigenDecomposition#largest(LinearOperator, int)
+     */
+    public SymmetricEigenDecomposition getSymmetricEigenDecomposition()
+    {
+        SymmetricEigenDecomposition result = eigenDecomposition;
+        if (result == null)
+        {
+            result = SymmetricEigenDecomposition.of(this);
+            eigenDecomposition = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * @return a new non-empty transverse {@link Matrix}. A transverse Matrix is defined as follows:<br />
+     *         <code>matrix<sup>t</sup><sub>[i][j]</sub> == matrix<sub>[j][i]</sub></code> .
+     * @see #transposeView()
+     */
+    public Matrix transverse()
+    {
+        return transposeView().clone();
+    }
+
+    /**
+     * @return a transverse view of this {@link Matrix}, which shares the same elements without copying them.
+     * @see #transverse()
+     */
+    public Matrix transposeView()
+    {
+        return new Matrix(elements, COLUMNS, ROWS, offset, columnStride, rowStride);
+    }
+
+    /**
+     * @param firstRow The first row of the block [1, total rows].
+     * @param firstColumn The first column of the block [1, total columns].
+     * @param rows The total number of rows of the block.
+     * @param columns The total number of columns of the block.
+     * @return a view of the rectangular block of this {@link Matrix} starting at the specified position, which shares the same elements without
+     *         copying them.
+     * @throws AssertionException If the block does not lie entirely within this {@link Matrix}.
+     */
+    public Matrix blockView(final int firstRow, final int firstColumn, final int rows, final int columns)
+    {
+        Verifier.Ranges.assertInsideRange_Inclusive("Block first row must be within the defined range.", firstRow, 1, ROWS);
+        Verifier.Ranges.assertInsideRange_Inclusive("Block first column must be within the defined range.", firstColumn, 1, COLUMNS);
+        Verifier.Ranges.assertInsideRange_Inclusive("Block rows must fit within the defined range.", rows, 1, ROWS - firstRow + 1);
+        Verifier.Ranges.assertInsideRange_Inclusive("Block columns must fit within the defined range.", columns, 1, COLUMNS - firstColumn + 1);
+
+        return new Matrix(elements, rows, columns, index(firstRow - 1, firstColumn - 1), rowStride, columnStride);
+    }
+
+    /**
+     * @param rowDimension A row dimension [1, total rows].
+     * @return a 1-row view of the specified row of this {@link Matrix}, which shares the same elements without copying them.
+     * @throws AssertionException If rowDimension is outside of the defined range.
+     */
+    public Matrix rowView(final int rowDimension)
+    {
+        return blockView(rowDimension, 1, 1, COLUMNS);
+    }
+
+    /**
+     * @param columnDimension A column dimension [1, total columns].
+     * @return a 1-column view of the specified column of this {@link Matrix}, which shares the same elements without copying them.
+     * @throws AssertionException If columnDimension is outside of the defined range.
+     */
+    public Matrix columnView(final int columnDimension)
+    {
+        return blockView(1, columnDimension, ROWS, 1);
+    }
+
+    /**
+     * @return a new non-empty inverse {@link Matrix}. An inverse Matrix is defined as follows:
+     *         <code>matrix &middot; matrix<sup>inverse</sup> == matrix<sup>identity</sup></code> .
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>The original Matrix is not square</li>
+     *             <li>The original Matrix Rank != the total number of rows (this implies that the linear system is linearly dependent)</li>
+     *             </ul>
+     */
+    public Matrix inverse()
+    {
+        return getLUDecomposition().inverse();
+    }
+
+    /**
+     * @return a scalar value corresponding to a square {@link Matrix}. The determinant is defined as follows:<br />
+     *         <code>det(A) = Sum<sub>i,j</sub>( -1<sup>i+j</sup> * a<sub>i,j</sub> * det(M<sub>i,j</sub>) )</code> .<br />
+     *         It is computed as the signed product of the pivots of the {@link LUDecomposition}, rather than by cofactor expansion.
+     * @throws AssertionException If the original Matrix is not square.
+     */
+    public double determinant()
+    {
+        return getLUDecomposition().determinant();
+    }
+
+    /**
+     * @param vector The right-hand side <code>b</code>, with as many dimensions as this {@link Matrix} has rows.
+     * @return a new {@link Vector} <code>x</code> such that <code>matrix &middot; x == b</code>.
+     * @throws AssertionException If the original Matrix is not square or is singular, or if vector is null or of the wrong dimensions.
+     * @see LUDecomposition#solve(Vector)
+     */
+    public Vector solve(final Vector vector)
+    {
+        return getLUDecomposition().solve(vector);
+    }
+
+    /**
+     * @param matrix The right-hand sides <code>B</code>, with as many rows as this {@link Matrix}.
+     * @return a new {@link Matrix} <code>X</code> such that <code>matrix &middot; X == B</code>.
+     * @throws AssertionException If the original Matrix is not square or is singular, or if matrix is null or of the wrong dimensions.
+     * @see LUDecomposition#solve(Matrix)
+     */
+    public Matrix solve(final Matrix matrix)
+    {
+        return getLUDecomposition().solve(matrix);
+    }
+
+    /**
+     * @return a new Moore-Penrose pseudo-inverse of this {@link Matrix}, with its rows and columns exchanged. It is defined for every Matrix,
+     *         and equals the inverse of a non-singular one.
+     * @see SingularValueDecomposition#pseudoInverse()
+     */
+    public Matrix pseudoInverse()
+    {
+        return getSingularValueDecomposition().pseudoInverse();
+    }
+
+    /**
+     * @param vector The right-hand side <code>b</code>, with as many dimensions as this {@link Matrix} has rows.
+     * @return a new {@link Vector} <code>x</code> which minimises <code>|matrix &middot; x - b|</code>, such as the coefficients of a linear
+     *         regression whose observations are the rows of this Matrix.
+     * @throws AssertionException If vector is null or of the wrong dimensions.
+     * @see QRDecomposition#solve(Vector)
+     */
+    public Vector leastSquares(final Vector vector)
+    {
+        return getQRDecomposition().solve(vector);
+    }
+
+    /**
+     * @param matrix The right-hand sides <code>B</code>, with as many rows as this {@link Matrix}.
+     * @return a new {@link Matrix} <code>X</code> whose columns each minimise <code>|matrix &middot; x - b|</code> for the columns of
+     *         <code>B</code>.
+     * @throws AssertionException If matrix is null or of the wrong dimensions.
+     * @see QRDecomposition#solve(Matrix)
+     */
+    public Matrix leastSquares(final Matrix matrix)
+    {
+        return getQRDecomposition().solve(matrix);
+    }
+
+    /**
+     * @param excludeRowIndex The original row index to exclude from the sub-matrix [1, total rows].
+     * @param excludeColumnIndex The original column index to exclude from the sub-matrix [1, total columns].
+     * @return a new non-empty {@link Matrix} consisting of all rows and columns excluding those specified by the parameters.
+     * @throws AssertionException If any of the parameter conditions are not met;<br />
+     *             The current {@link Matrix} must have:
+     *             <ul>
+     *             <li>More than 1 row</li>
+     *             <li>More than 1 column</li>
+     *             </ul>
+     */
+    public Matrix subMatrix(final int excludeRowIndex, final int excludeColumnIndex)
+    {
+        Verifier.Ranges.assertInsideRange_Inclusive("", excludeRowIndex, 1, ROWS);
+        Verifier.Ranges.assertInsideRange_Inclusive("", excludeColumnIndex, 1, COLUMNS);
+
+        final Matrix newMatrix = new Matrix(ROWS - 1, COLUMNS - 1);
+        int target = 0;
+        for (int i = 0; i < ROWS; i++)
+        {
+            if (i != excludeRowIndex - 1)
+            {
+                for (int j = 0; j < COLUMNS; j++)
+                {
+                    if (j != excludeColumnIndex - 1)
+                    {
+                        newMatrix.elements[target++] = elements[index(i, j)];
+                    }
+                }
+            }
+        }
+
+        return newMatrix;
+    }
+
+    /**
+     * @return a new {@link Matrix} in row echelon form, which is row equivalent to this Matrix.
+     * @see LUDecomposition#getUpper()
+     */
+    public Matrix echelonForm()
+    {
+        return getLUDecomposition().getUpper();
+    }
+
+    /**
+     * @return a new {@link Matrix} in reduced row echelon form, which is row equivalent to this Matrix.
+     * @see LUDecomposition#getReducedUpper()
+     */
+    public Matrix reducedEchelonForm()
+    {
+        return getLUDecomposition().getReducedUpper();
+    }
+
+    /**
+     * @return a new {@link MatrixExpression} over this {@link Matrix}, which records subsequent element-wise operations and evaluates them in a
+     *         single fused pass, rather than allocating an intermediate Matrix at each step.
+     */
+    public MatrixExpression lazy()
+    {
+        return MatrixExpression.of(this);
+    }
+
+    /**
+     * @return a new non-empty {@link Matrix} where each element is the negative of the original.
+     */
+    public Matrix negate()
+    {
+        return multiply(-1D);
+    }
+
+    /**
+     * @param matrix
+     * @return
+     * @throws AssertionException
+     */
+    public Matrix add(final Matrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of rows.", matrix.ROWS, ROWS);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of columns.", matrix.COLUMNS, COLUMNS);
+        }
+
+        final Matrix newMatrix = new Matrix(ROWS, COLUMNS);
+        addScaledElements(matrix, 1D, newMatrix.elements);
+
+        return newMatrix;
+    }
+
+    /**
+     * @param matrix A {@link Matrix} with the same number of rows and columns.
+     * @param destination The {@link MatrixBuffer} to overwrite with the sum, which may be this Matrix or the other operand.
+     * @return the destination.
+     * @throws AssertionException If either Matrix is null, if any dimensions differ, or if the destination shares elements with a view of an
+     *             operand.
+     */
+    public MatrixBuffer addInto(final Matrix matrix, final MatrixBuffer destination)
+    {
+        verifyElementwise(matrix, destination);
+
+        addScaledElements(matrix, 1D, destination.elements);
+        return destination;
+    }
+
+    /**
+     * @param matrix
+     * @return
+     * @throws AssertionException
+     */
+    public Matrix subtract(final Matrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of rows.", matrix.ROWS, ROWS);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of columns.", matrix.COLUMNS, COLUMNS);
+        }
+
+        final Matrix newMatrix = new Matrix(ROWS, COLUMNS);
+        addScaledElements(matrix, -1D, newMatrix.elements);
+
+        return newMatrix;
+    }
+
+    /**
+     * @param matrix A {@link Matrix} with the same number of rows and columns.
+     * @param destination The {@link MatrixBuffer} to overwrite with the difference, which may be this Matrix or the other operand.
+     * @return the destination.
+     * @throws AssertionException If either Matrix is null, if any dimensions differ, or if the destination shares elements with a view of an
+     *             operand.
+     */
+    public MatrixBuffer subtractInto(final Matrix matrix, final MatrixBuffer destination)
+    {
+        verifyElementwise(matrix, destination);
+
+        addScaledElements(matrix, -1D, destination.elements);
+        return destination;
+    }
+
+    /**
+     * @param scalar
+     * @return
+     */
+    public Matrix multiply(final double scalar)
+    {
+        final Matrix newMatrix = new Matrix(ROWS, COLUMNS);
+        scaleElements(scalar, newMatrix.elements);
+
+        return newMatrix;
+    }
+
+    /**
+     * @param scalar The factor applied to each element.
+     * @param destination The {@link MatrixBuffer} to overwrite with the scaled elements, which may be this Matrix.
+     * @return the destination.
+     * @throws AssertionException If the destination is null, has different dimensions, or shares elements with a view of this Matrix.
+     */
+    public MatrixBuffer multiplyInto(final double scalar, final MatrixBuffer destination)
+    {
+        verifyElementwise(this, destination);
+
+        scaleElements(scalar, destination.elements);
+        return destination;
+    }
+
+    /**
+     * @param destination The {@link MatrixBuffer} to overwrite with the negated elements, which may be this Matrix.
+     * @return the destination.
+     * @throws AssertionException If the destination is null, has different dimensions, or shares elements with a view of this Matrix.
+     */
+    public MatrixBuffer negateInto(final MatrixBuffer destination)
+    {
+        return multiplyInto(-1D, destination);
+    }
+
+    /**
+     * Writes <code>this + scalar &middot; matrix</code> row-major into a contiguous target, which may only alias operands that are themselves
+     * contiguous from index 0.
+     */
+    final void addScaledElements(final Matrix matrix, final double scalar, final double[] target)
+    {
+        if (columnStride == 1 && matrix.columnStride == 1)
+        {
+            for (int i = 0; i < ROWS; i++)
+            {
+                Kernels.addScaled(elements, index(i, 0), scalar, matrix.elements, matrix.index(i, 0), target, i * COLUMNS, COLUMNS);
+            }
+            return;
+        }
+
+        for (int i = 0, index = 0; i < ROWS; i++)
+        {
+            for (int j = 0, left = index(i, 0), right = matrix.index(i, 0); j < COLUMNS; j++, left += columnStride, right += matrix.columnStride)
+            {
+                target[index++] = elements[left] + scalar * matrix.elements[right];
+            }
+        }
+    }
+
+    /**
+     * Writes <code>scalar &middot; this</code> row-major into a contiguous target, which may only alias this Matrix if it is itself contiguous
+     * from index 0.
+     */
+    final void scaleElements(final double scalar, final double[] target)
+    {
+        if (columnStride == 1)
+        {
+            for (int i = 0; i < ROWS; i++)
+            {
+                Kernels.scale(scalar, elements, index(i, 0), target, i * COLUMNS, COLUMNS);
+            }
+            return;
+        }
+
+        for (int i = 0, index = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                target[index++] = elements[source] * scalar;
+            }
+        }
+    }
+
+    private void verifyElementwise(final Matrix matrix, final MatrixBuffer destination)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.assertNotNull("Cannot write into a null MatrixBuffer.", destination);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of rows.", matrix.ROWS, ROWS);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of columns.", matrix.COLUMNS, COLUMNS);
+            Verifier.Equality.assertEqual("The destination must have the same number of rows.", destination.ROWS, ROWS);
+            Verifier.Equality.assertEqual("The destination must have the same number of columns.", destination.COLUMNS, COLUMNS);
+        }
+        destination.verifyNotViewed(this);
+        destination.verifyNotViewed(matrix);
+    }
+
+    /**
+     * @param scalar
+     * @return
+     * @throws AssertionException
+     */
+    public Matrix divide(final double scalar)
+    {
+        Verifier.Equality.assertNotEqual("Cannot divide Matrix elements by zero scalar.", scalar, 0, EPSILON);
+
+        final Matrix newMatrix = new Matrix(ROWS, COLUMNS);
+        final double[] newElements = newMatrix.elements;
+        for (int i = 0, target = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                newElements[target++] = elements[source] / scalar;
+            }
+        }
+
+        return newMatrix;
+    }
+
+    /**
+     * @param matrix
+     * @return
+     * @throws AssertionException
+     */
+    public Matrix dotProduct(final Matrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrix.ROWS, COLUMNS);
+        }
+
+        return MatrixMultiplication.multiply(this, matrix);
+    }
+
+    /**
+     * Multiplies a chain of matrices in the order with the fewest floating-point operations, which for chains of differing shapes may be orders of
+     * magnitude fewer than evaluating from left to right. Use {@link MatrixChain#of(Matrix...)} directly to inspect the chosen order and its cost.
+     *
+     * @param matrices The non-empty chain of operands, each with as many rows as the previous one has columns.
+     * @return a new {@link Matrix} holding the product of the chain, or the single operand of a chain of one.
+     * @throws AssertionException If matrices is null or empty, contains a null Matrix, or if any adjacent dimensions do not match.
+     */
+    public static Matrix multiplyChain(final Matrix ... matrices)
+    {
+        return MatrixChain.of(matrices).multiply();
+    }
+
+    /**
+     * Raises this Matrix to a power by repeated squaring, in at most <code>2 log<sub>2</sub>|exponent|</code> products rather than
+     * <code>|exponent|</code>, such as the distribution of a Markov chain after billions of transitions. The products alternate between two
+     * buffers, so that no step allocates.
+     *
+     * @param exponent The exponent. A negative exponent raises the inverse, and zero gives the identity.
+     * @return a new {@link Matrix} holding <code>matrix<sup>exponent</sup></code>.
+     * @throws AssertionException If this Matrix is not square, or if the exponent is negative and this Matrix is singular.
+     */
+    public Matrix pow(final long exponent)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.Equality.assertEqual("Only square Matrices can be raised to a power.", COLUMNS, ROWS);
+        }
+
+        return MatrixFunctions.power(this, exponent);
+    }
+
+    /**
+     * Computes the matrix exponential <code>e<sup>matrix</sup> = I + matrix + matrix<sup>2</sup> / 2! + ...</code>, such as the transition
+     * probabilities of a continuous-time Markov chain from its rate matrix, or the solution <code>e<sup>A t</sup> &middot; x<sub>0</sub></code> of
+     * <code>dx / dt = A &middot; x</code>. It is accurate to double precision by scaling and squaring with a Pad&eacute; approximant, in at most
+     * seven products and one solve plus one squaring per doubling of the norm beyond about 5.4.
+     *
+     * @return a new {@link Matrix} holding <code>e<sup>matrix</sup></code>, which is NaN throughout if this Matrix holds a non-finite element.
+     * @throws AssertionException If this Matrix is not square.
+     */
+    public Matrix exp()
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.Equality.assertEqual("Only square Matrices have an exponential.", COLUMNS, ROWS);
+        }
+
+        return MatrixFunctions.exponential(this);
+    }
+
+    /**
+     * Multiplies by the recursive Strassen-Winograd algorithm, which performs <code>O(n^2.81)</code> multiplications rather than
+     * <code>O(n^3)</code>, and runs its sub-products across the common fork-join pool. It is faster than {@link #dotProduct(Matrix)} once every
+     * dimension is several thousand, and is the same product below a cutoff of about a thousand.
+     * <p>
+     * The price is accuracy: elements are no longer each accurate relative to their own magnitude, but only relative to the magnitude of the
+     * operands as a whole, by a margin which grows with each level of recursion. Products whose elements vary widely in magnitude should use
+     * {@link #dotProduct(Matrix)}.
+     *
+     * @param matrix A {@link Matrix} with as many rows as this Matrix has columns. (Cannot be null)
+     * @return a new {@link Matrix} holding <code>this &middot; matrix</code>.
+     * @throws AssertionException If matrix is null, or if its rows do not match the columns of this Matrix.
+     */
+    public Matrix strassenDotProduct(final Matrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrix.ROWS, COLUMNS);
+        }
+
+        return StrassenMultiplication.multiply(this, matrix, StrassenMultiplication.CUTOFF);
+    }
+
+    /**
+     * @param matrix A {@link Matrix} with as many rows as this Matrix has columns.
+     * @param destination The {@link MatrixBuffer} to overwrite with the product, which must not share elements with either operand.
+     * @return the destination.
+     * @throws AssertionException If either Matrix is null, if any dimensions differ, or if the destination shares elements with an operand.
+     */
+    public MatrixBuffer dotProductInto(final Matrix matrix, final MatrixBuffer destination)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.assertNotNull("Cannot write into a null MatrixBuffer.", destination);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrix.ROWS, COLUMNS);
+            Verifier.Equality.assertEqual("The destination must have as many rows as the Left-Matrix.", destination.ROWS, ROWS);
+            Verifier.Equality.assertEqual("The destination must have as many columns as the Right-Matrix.", destination.COLUMNS, matrix.COLUMNS);
+            Verifier.Equality.assertNotEqual("The destination cannot share elements with the Left-Matrix.", destination.elements, elements);
+            Verifier.Equality.assertNotEqual("The destination cannot share elements with the Right-Matrix.", destination.elements, matrix.elements);
+        }
+
+        Arrays.fill(destination.elements, 0D);
+        MatrixMultiplication.multiplyAdd(this, matrix, destination.elements, 0, destination.COLUMNS, true);
+        return destination;
+    }
+
+    /**
+     * @param vector
+     * @return
+     * @throws AssertionException
+     */
+    public Vector dotProduct(final Vector vector)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Vector.", vector);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Vector dimensions.", vector.RANK, COLUMNS);
+        }
+
+        final double[] newElements = new double[ROWS];
+        multiplyElements(vector.elements, newElements);
+
+        return Vector.create(newElements);
+    }
+
+    /**
+     * @param vector A {@link Vector} with as many dimensions as this Matrix has columns.
+     * @param destination The {@link VectorBuffer} to overwrite with the product, which must not be the same as the operand.
+     * @return the destination.
+     * @throws AssertionException If the vector or destination is null, if any dimensions differ, or if the destination is the operand.
+     */
+    public VectorBuffer dotProductInto(final Vector vector, final VectorBuffer destination)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Vector.", vector);
+            Verifier.assertNotNull("Cannot write into a null VectorBuffer.", destination);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Vector dimensions.", vector.RANK, COLUMNS);
+            Verifier.Equality.assertEqual("The destination dimensions must match the Left-Matrix rows.", destination.RANK, ROWS);
+            Verifier.Equality.assertNotEqual("The destination cannot share elements with the Right-Vector.", destination.elements, vector.elements);
+        }
+
+        multiplyElements(vector.elements, destination.elements);
+        return destination;
+    }
+
+    /**
+     * @param point
+     * @return
+     * @throws AssertionException
+     */
+    public Point dotProduct(final Point point)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Point.", point);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Point dimensions.", point.RANK, COLUMNS);
+        }
+
+        final double[] newElements = new double[ROWS];
+        multiplyElements(point.elements, newElements);
+
+        return Point.create(newElements);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRows()
+    {
+        return ROWS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumns()
+    {
+        return COLUMNS;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void apply(final double[] source, final double[] target)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot apply an operator to a null array.", source);
+            Verifier.assertNotNull("Cannot apply an operator into a null array.", target);
+            Verifier.Inequality.assertGreaterThanOrEqual("The source must have an element for each column.", source.length, COLUMNS);
+            Verifier.Inequality.assertGreaterThanOrEqual("The target must have an element for each row.", target.length, ROWS);
+            Verifier.Equality.assertNotEqual("The target cannot be the same array as the source.", target, source);
+        }
+
+        multiplyElements(source, target);
+    }
+
+    private void multiplyElements(final double[] vectorElements, final double[] target)
+    {
+        // Only a parallel product captures a lambda, so that products below the threshold allocate nothing
+        if (columnStride == 1 && (long) ROWS * COLUMNS >= PARALLEL_THRESHOLD)
+        {
+            ParallelRanges.forEach(ROWS, true, (from, to) -> multiplyRows(vectorElements, target, from, to));
+            return;
+        }
+
+        multiplyRows(vectorElements, target, 0, ROWS);
+    }
+
+    private void multiplyRows(final double[] vectorElements, final double[] target, final int from, final int to)
+    {
+        if (columnStride == 1)
+        {
+            for (int i = from; i < to; i++)
+            {
+                target[i] = Kernels.dot(elements, index(i, 0), vectorElements, 0, COLUMNS);
+            }
+            return;
+        }
+
+        for (int i = from; i < to; i++)
+        {
+            double sum = 0D;
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                sum += elements[source] * vectorElements[j];
+            }
+            target[i] = sum;
+        }
+    }
+
+    /**
+     * Treats this square {@link Matrix} as an affine transform in homogeneous coordinates, of points with one dimension fewer than its size.
+     *
+     * @param shiftingVector The translation, with 1 dimension fewer than this Matrix has rows. (Cannot be null)
+     * @return a new {@link Matrix} applying this transform followed by the translation.
+     * @throws AssertionException If shiftingVector is null or has the wrong dimensions, or if this Matrix is not square with at least 2 rows.
+     * @see Matrix4#translate(double, double, double)
+     */
+    public Matrix translate(final Vector shiftingVector)
+    {
+        final int dimensions = homogeneousDimensions();
+        Verifier.assertNotNull("Cannot translate by a null Vector.", shiftingVector);
+        Verifier.Equality.assertEqual("The translation must have 1 dimension fewer than the Matrix has rows.", shiftingVector.RANK, dimensions);
+
+        final Matrix transform = identity(ROWS);
+        for (int i = 0; i < dimensions; i++)
+        {
+            transform.elements[transform.index(i, dimensions)] = shiftingVector.elements[i];
+        }
+
+        return transform.dotProduct(this);
+    }
+
+    /**
+     * Treats this square {@link Matrix} as an affine transform in homogeneous coordinates, of points with one dimension fewer than its size.
+     *
+     * @param scalingVector The scale along each axis, with 1 dimension fewer than this Matrix has rows. (Cannot be null)
+     * @return a new {@link Matrix} applying this transform followed by the scaling about the origin.
+     * @throws AssertionException If scalingVector is null or has the wrong dimensions, or if this Matrix is not square with at least 2 rows.
+     * @see Matrix4#scale(double, double, double)
+     */
+    public Matrix scale(final Vector scalingVector)
+    {
+        final int dimensions = homogeneousDimensions();
+        Verifier.assertNotNull("Cannot scale by a null Vector.", scalingVector);
+        Verifier.Equality.assertEqual("The scaling must have 1 dimension fewer than the Matrix has rows.", scalingVector.RANK, dimensions);
+
+        final Matrix transform = identity(ROWS);
+        for (int i = 0; i < dimensions; i++)
+        {
+            transform.elements[transform.index(i, i)] = scalingVector.elements[i];
+        }
+
+        return transform.dotProduct(this);
+    }
+
+    /**
+     * Treats this square {@link Matrix} as an affine transform in homogeneous coordinates, of 2 or 3 dimensional points.
+     *
+     * @param rotatingVector In 2 dimensions, the single angle in radians to rotate counter-clockwise. In 3 dimensions, the rotation vector, whose
+     *            direction is the axis and whose magnitude is the angle in radians. (Cannot be null)
+     * @return a new {@link Matrix} applying this transform followed by the rotation about the origin.
+     * @throws AssertionException If rotatingVector is null or has the wrong dimensions, or if this Matrix is not 3x3 or 4x4.
+     * @see Matrix3#rotate(double)
+     * @see Matrix4#rotate(Vector3, double)
+     */
+    public Matrix rotate(final Vector rotatingVector)
+    {
+        final int dimensions = homogeneousDimensions();
+        Verifier.assertNotNull("Cannot rotate by a null Vector.", rotatingVector);
+        Verifier.Ranges.assertInsideRange_Inclusive("Rotation is only defined for 2 and 3 dimensions.", dimensions, 2, 3);
+        Verifier.Equality.assertEqual("The rotation must have 1 angle in 2 dimensions, or 3 in 3 dimensions.", rotatingVector.RANK,
+                                      dimensions == 2 ? 1 : 3);
+
+        final Matrix transform;
+        if (dimensions == 2)
+        {
+            transform = Matrix3.rotation(rotatingVector.elements[0]).toMatrix();
+        }
+        else
+        {
+            final Vector3 axis = Vector3.of(rotatingVector);
+            final double angle = axis.getMagnitude();
+            transform = angle == 0D ? identity(ROWS) : Matrix4.rotation(axis, angle).toMatrix();
+        }
+
+        return transform.dotProduct(this);
+    }
+
+    /**
+     * Treats this square {@link Matrix} as an affine transform in homogeneous coordinates, of points with one dimension fewer than its size.
+     *
+     * @param shearingVectors One Vector per axis <code>i</code>, whose element <code>j</code> is the multiple of coordinate <code>i</code> added
+     *            to coordinate <code>j</code>. Element <code>i</code> of the i<sup>th</sup> Vector is ignored. (Cannot be null, or contain null)
+     * @return a new {@link Matrix} applying this transform followed by the shear.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>shearingVectors is null, empty or contains null</li>
+     *             <li>There is not one Vector per dimension, each with 1 dimension fewer than this Matrix has rows</li>
+     *             <li>This Matrix is not square with at least 2 rows</li>
+     *             </ul>
+     * @see Matrix4#shear(double, double, double, double, double, double)
+     */
+    public Matrix shear(final Vector[] shearingVectors)
+    {
+        final int dimensions = homogeneousDimensions();
+        Verifier.Collections.assertNotEmpty("Shearing Vectors must not be null or empty.", shearingVectors);
+        Verifier.Collections.assertContainsNoValue("Shearing Vectors must not contain null.", shearingVectors, null);
+        Verifier.Equality.assertEqual("There must be one shearing Vector per dimension.", shearingVectors.length, dimensions);
+
+        final Matrix transform = identity(ROWS);
+        for (int i = 0; i < dimensions; i++)
+        {
+            Verifier.Equality.assertEqual("Each shearing Vector must have 1 dimension fewer than the Matrix has rows.", shearingVectors[i].RANK,
+                                          dimensions);
+            for (int j = 0; j < dimensions; j++)
+            {
+                if (i != j)
+                {
+                    transform.elements[transform.index(j, i)] = shearingVectors[i].elements[j];
+                }
+            }
+        }
+
+        return transform.dotProduct(this);
+    }
+
+    /**
+     * @return the number of dimensions of the points transformed by this Matrix in homogeneous coordinates.
+     * @throws AssertionException If this Matrix is not square with at least 2 rows.
+     */
+    private int homogeneousDimensions()
+    {
+        Verifier.Equality.assertEqual("Only square Matrices are affine transforms.", ROWS, COLUMNS);
+        Verifier.Inequality.assertGreaterThan("An affine transform must have at least 2 rows.", ROWS, 1);
+
+        return ROWS - 1;
+    }
+
+    /**
+     * @return a new array of rows holding a copy of the elements of this {@link Matrix}.
+     */
+    public double[][] toArray()
+    {
+        final double[][] rows = new double[ROWS][COLUMNS];
+        for (int i = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                rows[i][j] = elements[source];
+            }
+        }
+
+        return rows;
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("[{0}]", Arrays.deepToString(toArray()));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + COLUMNS;
+        int elementsHash = 1;
+        for (int i = 0; i < ROWS; i++)
+        {
+            for (int j = 0, source = index(i, 0); j < COLUMNS; j++, source += columnStride)
+            {
+                final long bits = Double.doubleToLongBits(elements[source]);
+                elementsHash = prime * elementsHash + (int) (bits ^ bits >>> 32);
+            }
+        }
+        result = prime * result + elementsHash;
+        result = prime * result + ROWS;
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (obj == null)
+        {
+            return false;
+        }
+        if (!(obj instanceof Matrix))
+        {
+            return false;
+        }
+        final Matrix other = (Matrix) obj;
+        if (COLUMNS != other.COLUMNS)
+        {
+            return false;
+        }
+        if (ROWS != other.ROWS)
+        {
+            return false;
+        }
+        for (int i = 0; i < ROWS; i++)
+        {
+            for (int j = 0; j < COLUMNS; j++)
+            {
+                if (Double.doubleToLongBits(elements[index(i, j)]) != Double.doubleToLongBits(other.elements[other.index(i, j)]))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
\ No newline at end of file
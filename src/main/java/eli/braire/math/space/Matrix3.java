@@ -0,0 +1,257 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * An immutable 3x3 Matrix, held in scalar fields rather than an array. It serves both as a linear transform of {@link Vector3}s and as an affine
+ * transform of {@link Vector2}s in homogeneous coordinates, where the last column holds the translation. Transforms act on column vectors, so
+ * <code>a.multiply(b)</code> applies <code>b</code> first, and the composing methods such as {@link #translate(double, double)} apply their
+ * transform after this one. As with {@link Vector2}, the operands of the transforms are not verified.
+ * <p>
+ * Element <code>Mij</code> is that of row <code>i</code> and column <code>j</code>, as given to {@link Matrix#getElement(int, int)}.
+ *
+ * @author The Architect
+ */
+public final class Matrix3
+{
+    public static final Matrix3 IDENTITY = new Matrix3(1D, 0D, 0D, 0D, 1D, 0D, 0D, 0D, 1D);
+
+    public final double M11, M12, M13;
+    public final double M21, M22, M23;
+    public final double M31, M32, M33;
+
+    private Matrix3(final double m11, final double m12, final double m13, final double m21, final double m22, final double m23, final double m31,
+                    final double m32, final double m33)
+    {
+        M11 = m11;
+        M12 = m12;
+        M13 = m13;
+        M21 = m21;
+        M22 = m22;
+        M23 = m23;
+        M31 = m31;
+        M32 = m32;
+        M33 = m33;
+    }
+
+    /**
+     * @return a new {@link Matrix3} with the elements given row by row.
+     */
+    public static Matrix3 create(final double m11, final double m12, final double m13, final double m21, final double m22, final double m23,
+                                 final double m31, final double m32, final double m33)
+    {
+        return new Matrix3(m11, m12, m13, m21, m22, m23, m31, m32, m33);
+    }
+
+    /**
+     * @param matrix A 3x3 {@link Matrix}. (Cannot be null)
+     * @return a new {@link Matrix3} with the same elements.
+     * @throws AssertionException If matrix is null or is not 3x3.
+     */
+    public static Matrix3 of(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot convert a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("Only a 3x3 Matrix can be converted.", matrix.ROWS, 3);
+        Verifier.Equality.assertEqual("Only a 3x3 Matrix can be converted.", matrix.COLUMNS, 3);
+
+        final double[] e = new double[9];
+        for (int i = 0; i < 3; i++)
+        {
+            for (int j = 0, source = matrix.index(i, 0); j < 3; j++, source += matrix.columnStride)
+            {
+                e[i * 3 + j] = matrix.elements[source];
+            }
+        }
+        return new Matrix3(e[0], e[1], e[2], e[3], e[4], e[5], e[6], e[7], e[8]);
+    }
+
+    /**
+     * @return the affine transform translating 2-dimensional points by <code>(x, y)</code>.
+     */
+    public static Matrix3 translation(final double x, final double y)
+    {
+        return new Matrix3(1D, 0D, x, 0D, 1D, y, 0D, 0D, 1D);
+    }
+
+    /**
+     * @return the affine transform scaling 2-dimensional points by <code>x</code> and <code>y</code> along their respective axes.
+     */
+    public static Matrix3 scaling(final double x, final double y)
+    {
+        return new Matrix3(x, 0D, 0D, 0D, y, 0D, 0D, 0D, 1D);
+    }
+
+    /**
+     * @param angle The angle in radians, where positive angles rotate counter-clockwise.
+     * @return the affine transform rotating 2-dimensional points about the origin.
+     */
+    public static Matrix3 rotation(final double angle)
+    {
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+        return new Matrix3(cos, -sin, 0D, sin, cos, 0D, 0D, 0D, 1D);
+    }
+
+    /**
+     * @param xy The multiple of <code>y</code> added to <code>x</code>.
+     * @param yx The multiple of <code>x</code> added to <code>y</code>.
+     * @return the affine transform shearing 2-dimensional points.
+     */
+    public static Matrix3 shearing(final double xy, final double yx)
+    {
+        return new Matrix3(1D, xy, 0D, yx, 1D, 0D, 0D, 0D, 1D);
+    }
+
+    /**
+     * @return a new 3x3 {@link Matrix} with the same elements.
+     */
+    public Matrix toMatrix()
+    {
+        return Matrix.create(new double[] { M11, M12, M13 }, new double[] { M21, M22, M23 }, new double[] { M31, M32, M33 });
+    }
+
+    /**
+     * @return the product <code>this &middot; matrix</code>, which transforms by <code>matrix</code> and then by this.
+     */
+    public Matrix3 multiply(final Matrix3 matrix)
+    {
+        return new Matrix3(M11 * matrix.M11 + M12 * matrix.M21 + M13 * matrix.M31, M11 * matrix.M12 + M12 * matrix.M22 + M13 * matrix.M32,
+                           M11 * matrix.M13 + M12 * matrix.M23 + M13 * matrix.M33, M21 * matrix.M11 + M22 * matrix.M21 + M23 * matrix.M31,
+                           M21 * matrix.M12 + M22 * matrix.M22 + M23 * matrix.M32, M21 * matrix.M13 + M22 * matrix.M23 + M23 * matrix.M33,
+                           M31 * matrix.M11 + M32 * matrix.M21 + M33 * matrix.M31, M31 * matrix.M12 + M32 * matrix.M22 + M33 * matrix.M32,
+                           M31 * matrix.M13 + M32 * matrix.M23 + M33 * matrix.M33);
+    }
+
+    /**
+     * @return this transform followed by {@link #translation(double, double)}.
+     */
+    public Matrix3 translate(final double x, final double y)
+    {
+        return new Matrix3(M11 + x * M31, M12 + x * M32, M13 + x * M33, M21 + y * M31, M22 + y * M32, M23 + y * M33, M31, M32, M33);
+    }
+
+    /**
+     * @return this transform followed by {@link #scaling(double, double)}.
+     */
+    public Matrix3 scale(final double x, final double y)
+    {
+        return new Matrix3(x * M11, x * M12, x * M13, y * M21, y * M22, y * M23, M31, M32, M33);
+    }
+
+    /**
+     * @return this transform followed by {@link #rotation(double)}.
+     */
+    public Matrix3 rotate(final double angle)
+    {
+        return rotation(angle).multiply(this);
+    }
+
+    /**
+     * @return this transform followed by {@link #shearing(double, double)}.
+     */
+    public Matrix3 shear(final double xy, final double yx)
+    {
+        return shearing(xy, yx).multiply(this);
+    }
+
+    public Matrix3 transverse()
+    {
+        return new Matrix3(M11, M21, M31, M12, M22, M32, M13, M23, M33);
+    }
+
+    public double determinant()
+    {
+        return M11 * (M22 * M33 - M23 * M32) - M12 * (M21 * M33 - M23 * M31) + M13 * (M21 * M32 - M22 * M31);
+    }
+
+    /**
+     * @return the inverse of this Matrix, by its adjugate.
+     * @throws AssertionException If this Matrix is singular.
+     */
+    public Matrix3 inverse()
+    {
+        final double c11 = M22 * M33 - M23 * M32;
+        final double c12 = M23 * M31 - M21 * M33;
+        final double c13 = M21 * M32 - M22 * M31;
+        final double determinant = M11 * c11 + M12 * c12 + M13 * c13;
+        Verifier.Equality.assertNotEqual("Cannot invert a singular Matrix.", determinant, 0D, 0D);
+
+        final double scale = 1D / determinant;
+        return new Matrix3(c11 * scale, (M13 * M32 - M12 * M33) * scale, (M12 * M23 - M13 * M22) * scale, c12 * scale,
+                           (M11 * M33 - M13 * M31) * scale, (M13 * M21 - M11 * M23) * scale, c13 * scale, (M12 * M31 - M11 * M32) * scale,
+                           (M11 * M22 - M12 * M21) * scale);
+    }
+
+    /**
+     * @return the linear transform <code>this &middot; vector</code>.
+     */
+    public Vector3 transform(final Vector3 vector)
+    {
+        return Vector3.create(M11 * vector.X + M12 * vector.Y + M13 * vector.Z, M21 * vector.X + M22 * vector.Y + M23 * vector.Z,
+                              M31 * vector.X + M32 * vector.Y + M33 * vector.Z);
+    }
+
+    /**
+     * @return the 2-dimensional point transformed in homogeneous coordinates, including translation and, unless the last row is
+     *         <code>(0, 0, 1)</code>, the perspective division.
+     */
+    public Vector2 transformPoint(final Vector2 point)
+    {
+        final double x = M11 * point.X + M12 * point.Y + M13;
+        final double y = M21 * point.X + M22 * point.Y + M23;
+        final double w = M31 * point.X + M32 * point.Y + M33;
+        return w == 1D ? Vector2.create(x, y) : Vector2.create(x / w, y / w);
+    }
+
+    /**
+     * @return the 2-dimensional direction transformed by the linear part only, ignoring translation.
+     */
+    public Vector2 transformDirection(final Vector2 direction)
+    {
+        return Vector2.create(M11 * direction.X + M12 * direction.Y, M21 * direction.X + M22 * direction.Y);
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("[[{0}, {1}, {2}], [{3}, {4}, {5}], [{6}, {7}, {8}]]", M11, M12, M13, M21, M22, M23, M31, M32, M33);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        for (final double element : new double[] { M11, M12, M13, M21, M22, M23, M31, M32, M33 })
+        {
+            result = prime * result + Double.hashCode(element);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (!(obj instanceof Matrix3))
+        {
+            return false;
+        }
+        final Matrix3 o = (Matrix3) obj;
+        return Double.compare(M11, o.M11) == 0 && Double.compare(M12, o.M12) == 0 && Double.compare(M13, o.M13) == 0
+               && Double.compare(M21, o.M21) == 0 && Double.compare(M22, o.M22) == 0 && Double.compare(M23, o.M23) == 0
+               && Double.compare(M31, o.M31) == 0 && Double.compare(M32, o.M32) == 0 && Double.compare(M33, o.M33) == 0;
+    }
+}
@@ -0,0 +1,373 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * An immutable 4x4 Matrix, held in scalar fields rather than an array, for transforming {@link Vector3}s in homogeneous coordinates. The last
+ * column holds the translation and, for projective transforms, the last row the perspective. Transforms act on column vectors, so
+ * <code>a.multiply(b)</code> applies <code>b</code> first, and the composing methods such as {@link #translate(double, double, double)} apply
+ * their transform after this one. As with {@link Vector3}, the operands of the transforms are not verified.
+ * <p>
+ * Element <code>Mij</code> is that of row <code>i</code> and column <code>j</code>, as given to {@link Matrix#getElement(int, int)}.
+ *
+ * @author The Architect
+ */
+public final class Matrix4
+{
+    public static final Matrix4 IDENTITY = new Matrix4(1D, 0D, 0D, 0D, 0D, 1D, 0D, 0D, 0D, 0D, 1D, 0D, 0D, 0D, 0D, 1D);
+
+    public final double M11, M12, M13, M14;
+    public final double M21, M22, M23, M24;
+    public final double M31, M32, M33, M34;
+    public final double M41, M42, M43, M44;
+
+    private Matrix4(final double m11, final double m12, final double m13, final double m14, final double m21, final double m22, final double m23,
+                    final double m24, final double m31, final double m32, final double m33, final double m34, final double m41, final double m42,
+                    final double m43, final double m44)
+    {
+        M11 = m11;
+        M12 = m12;
+        M13 = m13;
+        M14 = m14;
+        M21 = m21;
+        M22 = m22;
+        M23 = m23;
+        M24 = m24;
+        M31 = m31;
+        M32 = m32;
+        M33 = m33;
+        M34 = m34;
+        M41 = m41;
+        M42 = m42;
+        M43 = m43;
+        M44 = m44;
+    }
+
+    /**
+     * @return a new {@link Matrix4} with the elements given row by row.
+     */
+    public static Matrix4 create(final double m11, final double m12, final double m13, final double m14, final double m21, final double m22,
+                                 final double m23, final double m24, final double m31, final double m32, final double m33, final double m34,
+                                 final double m41, final double m42, final double m43, final double m44)
+    {
+        return new Matrix4(m11, m12, m13, m14, m21, m22, m23, m24, m31, m32, m33, m34, m41, m42, m43, m44);
+    }
+
+    /**
+     * @param matrix A 4x4 {@link Matrix}. (Cannot be null)
+     * @return a new {@link Matrix4} with the same elements.
+     * @throws AssertionException If matrix is null or is not 4x4.
+     */
+    public static Matrix4 of(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot convert a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("Only a 4x4 Matrix can be converted.", matrix.ROWS, 4);
+        Verifier.Equality.assertEqual("Only a 4x4 Matrix can be converted.", matrix.COLUMNS, 4);
+
+        final double[] e = new double[16];
+        for (int i = 0; i < 4; i++)
+        {
+            for (int j = 0, source = matrix.index(i, 0); j < 4; j++, source += matrix.columnStride)
+            {
+                e[i * 4 + j] = matrix.elements[source];
+            }
+        }
+        return new Matrix4(e[0], e[1], e[2], e[3], e[4], e[5], e[6], e[7], e[8], e[9], e[10], e[11], e[12], e[13], e[14], e[15]);
+    }
+
+    /**
+     * @return the affine transform translating points by <code>(x, y, z)</code>.
+     */
+    public static Matrix4 translation(final double x, final double y, final double z)
+    {
+        return new Matrix4(1D, 0D, 0D, x, 0D, 1D, 0D, y, 0D, 0D, 1D, z, 0D, 0D, 0D, 1D);
+    }
+
+    /**
+     * @param offset The translation. (Cannot be null)
+     * @return the affine transform translating points by the offset.
+     */
+    public static Matrix4 translation(final Vector3 offset)
+    {
+        return translation(offset.X, offset.Y, offset.Z);
+    }
+
+    /**
+     * @return the affine transform scaling points by <code>x</code>, <code>y</code> and <code>z</code> along their respective axes.
+     */
+    public static Matrix4 scaling(final double x, final double y, final double z)
+    {
+        return new Matrix4(x, 0D, 0D, 0D, 0D, y, 0D, 0D, 0D, 0D, z, 0D, 0D, 0D, 0D, 1D);
+    }
+
+    /**
+     * @param axis The axis of rotation, which need not be normalized. (Cannot be null or zero)
+     * @param angle The angle in radians, where positive angles rotate counter-clockwise when looking from the axis towards the origin.
+     * @return the affine transform rotating points about the axis through the origin, by Rodrigues' formula.
+     * @throws AssertionException If the axis has no magnitude.
+     */
+    public static Matrix4 rotation(final Vector3 axis, final double angle)
+    {
+        final Vector3 unit = axis.normalize();
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+        final double t = 1D - cos;
+        final double x = unit.X;
+        final double y = unit.Y;
+        final double z = unit.Z;
+        return new Matrix4(cos + x * x * t, x * y * t - z * sin, x * z * t + y * sin, 0D, y * x * t + z * sin, cos + y * y * t, y * z * t - x * sin,
+                           0D, z * x * t - y * sin, z * y * t + x * sin, cos + z * z * t, 0D, 0D, 0D, 0D, 1D);
+    }
+
+    /**
+     * @return the affine transform rotating points about the x axis by the angle in radians.
+     */
+    public static Matrix4 rotationX(final double angle)
+    {
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+        return new Matrix4(1D, 0D, 0D, 0D, 0D, cos, -sin, 0D, 0D, sin, cos, 0D, 0D, 0D, 0D, 1D);
+    }
+
+    /**
+     * @return the affine transform rotating points about the y axis by the angle in radians.
+     */
+    public static Matrix4 rotationY(final double angle)
+    {
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+        return new Matrix4(cos, 0D, sin, 0D, 0D, 1D, 0D, 0D, -sin, 0D, cos, 0D, 0D, 0D, 0D, 1D);
+    }
+
+    /**
+     * @return the affine transform rotating points about the z axis by the angle in radians.
+     */
+    public static Matrix4 rotationZ(final double angle)
+    {
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+        return new Matrix4(cos, -sin, 0D, 0D, sin, cos, 0D, 0D, 0D, 0D, 1D, 0D, 0D, 0D, 0D, 1D);
+    }
+
+    /**
+     * @param xy The multiple of <code>y</code> added to <code>x</code>.
+     * @param xz The multiple of <code>z</code> added to <code>x</code>.
+     * @param yx The multiple of <code>x</code> added to <code>y</code>.
+     * @param yz The multiple of <code>z</code> added to <code>y</code>.
+     * @param zx The multiple of <code>x</code> added to <code>z</code>.
+     * @param zy The multiple of <code>y</code> added to <code>z</code>.
+     * @return the affine transform shearing points.
+     */
+    public static Matrix4 shearing(final double xy, final double xz, final double yx, final double yz, final double zx, final double zy)
+    {
+        return new Matrix4(1D, xy, xz, 0D, yx, 1D, yz, 0D, zx, zy, 1D, 0D, 0D, 0D, 0D, 1D);
+    }
+
+    /**
+     * @return a new 4x4 {@link Matrix} with the same elements.
+     */
+    public Matrix toMatrix()
+    {
+        return Matrix.create(new double[] { M11, M12, M13, M14 }, new double[] { M21, M22, M23, M24 }, new double[] { M31, M32, M33, M34 },
+                             new double[] { M41, M42, M43, M44 });
+    }
+
+    /**
+     * @return true if the last row is <code>(0, 0, 0, 1)</code>, so that the transform involves no perspective.
+     */
+    public boolean isAffine()
+    {
+        return M41 == 0D && M42 == 0D && M43 == 0D && M44 == 1D;
+    }
+
+    /**
+     * @return the product <code>this &middot; matrix</code>, which transforms by <code>matrix</code> and then by this.
+     */
+    public Matrix4 multiply(final Matrix4 m)
+    {
+        return new Matrix4(M11 * m.M11 + M12 * m.M21 + M13 * m.M31 + M14 * m.M41, M11 * m.M12 + M12 * m.M22 + M13 * m.M32 + M14 * m.M42,
+                           M11 * m.M13 + M12 * m.M23 + M13 * m.M33 + M14 * m.M43, M11 * m.M14 + M12 * m.M24 + M13 * m.M34 + M14 * m.M44,
+                           M21 * m.M11 + M22 * m.M21 + M23 * m.M31 + M24 * m.M41, M21 * m.M12 + M22 * m.M22 + M23 * m.M32 + M24 * m.M42,
+                           M21 * m.M13 + M22 * m.M23 + M23 * m.M33 + M24 * m.M43, M21 * m.M14 + M22 * m.M24 + M23 * m.M34 + M24 * m.M44,
+                           M31 * m.M11 + M32 * m.M21 + M33 * m.M31 + M34 * m.M41, M31 * m.M12 + M32 * m.M22 + M33 * m.M32 + M34 * m.M42,
+                           M31 * m.M13 + M32 * m.M23 + M33 * m.M33 + M34 * m.M43, M31 * m.M14 + M32 * m.M24 + M33 * m.M34 + M34 * m.M44,
+                           M41 * m.M11 + M42 * m.M21 + M43 * m.M31 + M44 * m.M41, M41 * m.M12 + M42 * m.M22 + M43 * m.M32 + M44 * m.M42,
+                           M41 * m.M13 + M42 * m.M23 + M43 * m.M33 + M44 * m.M43, M41 * m.M14 + M42 * m.M24 + M43 * m.M34 + M44 * m.M44);
+    }
+
+    /**
+     * @return this transform followed by {@link #translation(double, double, double)}.
+     */
+    public Matrix4 translate(final double x, final double y, final double z)
+    {
+        return new Matrix4(M11 + x * M41, M12 + x * M42, M13 + x * M43, M14 + x * M44, M21 + y * M41, M22 + y * M42, M23 + y * M43, M24 + y * M44,
+                           M31 + z * M41, M32 + z * M42, M33 + z * M43, M34 + z * M44, M41, M42, M43, M44);
+    }
+
+    /**
+     * @return this transform followed by {@link #scaling(double, double, double)}.
+     */
+    public Matrix4 scale(final double x, final double y, final double z)
+    {
+        return new Matrix4(x * M11, x * M12, x * M13, x * M14, y * M21, y * M22, y * M23, y * M24, z * M31, z * M32, z * M33, z * M34, M41, M42, M43,
+                           M44);
+    }
+
+    /**
+     * @return this transform followed by {@link #rotation(Vector3, double)}.
+     * @throws AssertionException If the axis has no magnitude.
+     */
+    public Matrix4 rotate(final Vector3 axis, final double angle)
+    {
+        return rotation(axis, angle).multiply(this);
+    }
+
+    /**
+     * @return this transform followed by {@link #shearing(double, double, double, double, double, double)}.
+     */
+    public Matrix4 shear(final double xy, final double xz, final double yx, final double yz, final double zx, final double zy)
+    {
+        return shearing(xy, xz, yx, yz, zx, zy).multiply(this);
+    }
+
+    public Matrix4 transverse()
+    {
+        return new Matrix4(M11, M21, M31, M41, M12, M22, M32, M42, M13, M23, M33, M43, M14, M24, M34, M44);
+    }
+
+    public double determinant()
+    {
+        final double s0 = M11 * M22 - M21 * M12;
+        final double s1 = M11 * M23 - M21 * M13;
+        final double s2 = M11 * M24 - M21 * M14;
+        final double s3 = M12 * M23 - M22 * M13;
+        final double s4 = M12 * M24 - M22 * M14;
+        final double s5 = M13 * M24 - M23 * M14;
+        final double c5 = M33 * M44 - M43 * M34;
+        final double c4 = M32 * M44 - M42 * M34;
+        final double c3 = M32 * M43 - M42 * M33;
+        final double c2 = M31 * M44 - M41 * M34;
+        final double c1 = M31 * M43 - M41 * M33;
+        final double c0 = M31 * M42 - M41 * M32;
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    }
+
+    /**
+     * @return the inverse of this Matrix, by its adjugate expanded over the 2x2 minors of its upper and lower halves.
+     * @throws AssertionException If this Matrix is singular.
+     */
+    public Matrix4 inverse()
+    {
+        final double s0 = M11 * M22 - M21 * M12;
+        final double s1 = M11 * M23 - M21 * M13;
+        final double s2 = M11 * M24 - M21 * M14;
+        final double s3 = M12 * M23 - M22 * M13;
+        final double s4 = M12 * M24 - M22 * M14;
+        final double s5 = M13 * M24 - M23 * M14;
+        final double c5 = M33 * M44 - M43 * M34;
+        final double c4 = M32 * M44 - M42 * M34;
+        final double c3 = M32 * M43 - M42 * M33;
+        final double c2 = M31 * M44 - M41 * M34;
+        final double c1 = M31 * M43 - M41 * M33;
+        final double c0 = M31 * M42 - M41 * M32;
+        final double determinant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        Verifier.Equality.assertNotEqual("Cannot invert a singular Matrix.", determinant, 0D, 0D);
+
+        final double k = 1D / determinant;
+        return new Matrix4((M22 * c5 - M23 * c4 + M24 * c3) * k, (-M12 * c5 + M13 * c4 - M14 * c3) * k, (M42 * s5 - M43 * s4 + M44 * s3) * k,
+                           (-M32 * s5 + M33 * s4 - M34 * s3) * k, (-M21 * c5 + M23 * c2 - M24 * c1) * k, (M11 * c5 - M13 * c2 + M14 * c1) * k,
+                           (-M41 * s5 + M43 * s2 - M44 * s1) * k, (M31 * s5 - M33 * s2 + M34 * s1) * k, (M21 * c4 - M22 * c2 + M24 * c0) * k,
+                           (-M11 * c4 + M12 * c2 - M14 * c0) * k, (M41 * s4 - M42 * s2 + M44 * s0) * k, (-M31 * s4 + M32 * s2 - M34 * s0) * k,
+                           (-M21 * c3 + M22 * c1 - M23 * c0) * k, (M11 * c3 - M12 * c1 + M13 * c0) * k, (-M41 * s3 + M42 * s1 - M43 * s0) * k,
+                           (M31 * s3 - M32 * s1 + M33 * s0) * k);
+    }
+
+    /**
+     * @return the point transformed in homogeneous coordinates, including translation and, unless the last row is <code>(0, 0, 0, 1)</code>,
+     *         the perspective division.
+     */
+    public Vector3 transformPoint(final Vector3 point)
+    {
+        final double x = M11 * point.X + M12 * point.Y + M13 * point.Z + M14;
+        final double y = M21 * point.X + M22 * point.Y + M23 * point.Z + M24;
+        final double z = M31 * point.X + M32 * point.Y + M33 * point.Z + M34;
+        final double w = M41 * point.X + M42 * point.Y + M43 * point.Z + M44;
+        return w == 1D ? Vector3.create(x, y, z) : Vector3.create(x / w, y / w, z / w);
+    }
+
+    /**
+     * @return the direction transformed by the linear part only, ignoring translation and perspective.
+     */
+    public Vector3 transformDirection(final Vector3 direction)
+    {
+        return Vector3.create(M11 * direction.X + M12 * direction.Y + M13 * direction.Z, M21 * direction.X + M22 * direction.Y + M23 * direction.Z,
+                              M31 * direction.X + M32 * direction.Y + M33 * direction.Z);
+    }
+
+    /**
+     * Transforms every point of the source into the destination, as {@link PointBuffer#transform(Matrix, PointBuffer, PointBuffer)}.
+     *
+     * @param source The 3-dimensional points to transform. (Cannot be null)
+     * @param destination The 3-dimensional buffer to overwrite with the transformed points, which may be the source. (Cannot be null)
+     * @return the destination.
+     * @throws AssertionException If either buffer is null, does not have 3 dimensions, or if they differ in size.
+     */
+    public PointBuffer transform(final PointBuffer source, final PointBuffer destination)
+    {
+        Verifier.assertNotNull("Cannot transform a null PointBuffer.", source);
+        Verifier.assertNotNull("Cannot transform into a null PointBuffer.", destination);
+        Verifier.Equality.assertEqual("Only 3-dimensional points can be transformed.", source.RANK, 3);
+        Verifier.Equality.assertEqual("Only 3-dimensional points can be transformed.", destination.RANK, 3);
+
+        final double[] coefficients = { M11, M12, M13, M14, M21, M22, M23, M24, M31, M32, M33, M34, M41, M42, M43, M44 };
+        return PointBuffer.transform(coefficients, 4, 4, source, destination);
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("[[{0}, {1}, {2}, {3}], [{4}, {5}, {6}, {7}], [{8}, {9}, {10}, {11}], [{12}, {13}, {14}, {15}]]", M11, M12, M13,
+                                    M14, M21, M22, M23, M24, M31, M32, M33, M34, M41, M42, M43, M44);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        for (final double element : new double[] { M11, M12, M13, M14, M21, M22, M23, M24, M31, M32, M33, M34, M41, M42, M43, M44 })
+        {
+            result = prime * result + Double.hashCode(element);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (!(obj instanceof Matrix4))
+        {
+            return false;
+        }
+        final Matrix4 o = (Matrix4) obj;
+        return Double.compare(M11, o.M11) == 0 && Double.compare(M12, o.M12) == 0 && Double.compare(M13, o.M13) == 0
+               && Double.compare(M14, o.M14) == 0 && Double.compare(M21, o.M21) == 0 && Double.compare(M22, o.M22) == 0
+               && Double.compare(M23, o.M23) == 0 && Double.compare(M24, o.M24) == 0 && Double.compare(M31, o.M31) == 0
+               && Double.compare(M32, o.M32) == 0 && Double.compare(M33, o.M33) == 0 && Double.compare(M34, o.M34) == 0
+               && Double.compare(M41, o.M41) == 0 && Double.compare(M42, o.M42) == 0 && Double.compare(M43, o.M43) == 0
+               && Double.compare(M44, o.M44) == 0;
+    }
+}
@@ -0,0 +1,617 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A mutable collection of {@link #SIZE} independent square matrices of {@link #ORDER} rows and columns, stored as structure-of-arrays: one
+ * <code>double[]</code> per element position, holding that element of every matrix. Operations over the whole batch, such as
+ * {@link #inverse(MatrixBatch)} and {@link #solve(PointBuffer, PointBuffer)}, run each formula across the matrices in tight loops over those
+ * arrays, which the JIT compiles to SIMD instructions, without allocating a {@link Matrix} per matrix. They are split across the common fork-join
+ * pool when large.
+ * <p>
+ * Matrices of order 2, 3 and 4 are inverted and solved by their adjugates, in closed form; larger ones by Gaussian elimination with partial
+ * pivoting, one matrix at a time. A singular matrix is not reported, as one among millions should not fail the whole batch: its inverse or solution
+ * holds infinite or NaN elements instead, and its determinant identifies it.
+ *
+ * @author The Architect
+ */
+public final class MatrixBatch
+{
+    /**
+     * The minimum number of matrices before an operation is split across the common fork-join pool.
+     */
+    static final int         PARALLEL_THRESHOLD = 1 << 14;
+    /**
+     * The number of matrices processed together, so that the partial results of a block stay in the L1 cache.
+     */
+    private static final int BLOCK              = 256;
+
+    /**
+     * The number of rows and columns of each matrix.
+     */
+    public final int         ORDER;
+    /**
+     * The number of matrices.
+     */
+    public final int         SIZE;
+    /**
+     * The elements, by row-major position within a matrix and then by matrix.
+     */
+    final double[][]         elements;
+
+    private MatrixBatch(final int order, final int size)
+    {
+        ORDER = order;
+        SIZE = size;
+        elements = new double[order * order][size];
+    }
+
+    /**
+     * @param order The positive number of rows and columns of each matrix.
+     * @param size The number of matrices, which are all initially zero.
+     * @return a new {@link MatrixBatch}.
+     * @throws AssertionException If order is less than 1, or if size is negative.
+     */
+    public static MatrixBatch create(final int order, final int size)
+    {
+        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 row.", order, 0);
+        Verifier.Inequality.assertGreaterThanOrEqual("A MatrixBatch cannot have a negative size.", size, 0);
+
+        return new MatrixBatch(order, size);
+    }
+
+    /**
+     * @param matrices A non-empty array of square {@link Matrix} instances of the same order.
+     * @return a new {@link MatrixBatch} holding a copy of the matrices.
+     * @throws AssertionException If matrices is null, empty or contains null, or if the matrices are not square or differ in order.
+     */
+    public static MatrixBatch of(final Matrix ... matrices)
+    {
+        Verifier.Collections.assertNotEmpty("Matrices must not be null or empty.", matrices);
+        Verifier.Collections.assertContainsNoValue("Matrices must not contain null.", matrices, null);
+        Verifier.Equality.assertEqual("A MatrixBatch can only hold square Matrices.", matrices[0].COLUMNS, matrices[0].ROWS);
+
+        final MatrixBatch batch = create(matrices[0].ROWS, matrices.length);
+        for (int index = 0; index < matrices.length; index++)
+        {
+            batch.setMatrix(index + 1, matrices[index]);
+        }
+
+        return batch;
+    }
+
+    /**
+     * @param rowDimension A row dimension [1, {@link #ORDER}].
+     * @param columnDimension A column dimension [1, {@link #ORDER}].
+     * @return the backing array of the specified element of every matrix, which is not a copy.
+     * @throws AssertionException If either dimension is out of range.
+     */
+    public double[] getElements(final int rowDimension, final int columnDimension)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix row index must be within the defined range.", rowDimension, 1, ORDER);
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix column index must be within the defined range.", columnDimension, 1, ORDER);
+        }
+
+        return elements[(rowDimension - 1) * ORDER + columnDimension - 1];
+    }
+
+    /**
+     * @param index A matrix index between 1 (inclusive) and {@link #SIZE} (inclusive).
+     * @return a new {@link Matrix} holding a copy of the elements of the matrix.
+     * @throws AssertionException If index is out of range.
+     */
+    public Matrix getMatrix(final int index)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix index must be within the defined range.", index, 1, SIZE);
+        }
+
+        final double[] matrix = new double[elements.length];
+        for (int position = 0; position < elements.length; position++)
+        {
+            matrix[position] = elements[position][index - 1];
+        }
+
+        return Matrix.wrap(matrix, ORDER, ORDER);
+    }
+
+    /**
+     * @param index A matrix index between 1 (inclusive) and {@link #SIZE} (inclusive).
+     * @param matrix The {@link Matrix} whose elements to copy, with {@link #ORDER} rows and columns. (Cannot be null)
+     * @throws AssertionException If index is out of range, or if matrix is null or has the wrong dimensions.
+     */
+    public void setMatrix(final int index, final Matrix matrix)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix index must be within the defined range.", index, 1, SIZE);
+        }
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot set a null Matrix.", matrix);
+            Verifier.Equality.assertEqual("The Matrix must have as many rows as the batch order.", matrix.ROWS, ORDER);
+            Verifier.Equality.assertEqual("The Matrix must have as many columns as the batch order.", matrix.COLUMNS, ORDER);
+        }
+
+        for (int i = 0; i < ORDER; i++)
+        {
+            for (int j = 0; j < ORDER; j++)
+            {
+                elements[i * ORDER + j][index - 1] = matrix.elements[matrix.index(i, j)];
+            }
+        }
+    }
+
+    /**
+     * Multiplies each matrix of this batch by the corresponding matrix of another, <code>destination[k] = this[k] &middot; right[k]</code>.
+     *
+     * @param right The right-hand {@link MatrixBatch}, of the same order and size. (Cannot be null)
+     * @param destination The batch to overwrite with the products, of the same order and size, which may be either operand. (Cannot be null)
+     * @return the destination.
+     * @throws AssertionException If either argument is null, or differs in order or size.
+     */
+    public MatrixBatch multiply(final MatrixBatch right, final MatrixBatch destination)
+    {
+        verifyOperand(right);
+        verifyOperand(destination);
+
+        final int order = ORDER;
+        final double[][] a = elements;
+        final double[][] b = right.elements;
+        final double[][] c = destination.elements;
+        ParallelRanges.forEach(SIZE, SIZE >= PARALLEL_THRESHOLD, (from, to) ->
+        {
+            // Each product element is accumulated in a scratch row, so that the destination may also be an operand
+            final double[][] scratch = new double[order * order][BLOCK];
+            for (int start = from; start < to; start += BLOCK)
+            {
+                final int length = Math.min(BLOCK, to - start);
+                for (int i = 0; i < order; i++)
+                {
+                    for (int j = 0; j < order; j++)
+                    {
+                        final double[] sum = scratch[i * order + j];
+                        final double[] x = a[i * order];
+                        final double[] y = b[j];
+                        for (int p = 0; p < length; p++)
+                        {
+                            sum[p] = x[start + p] * y[start + p];
+                        }
+                        for (int k = 1; k < order; k++)
+                        {
+                            final double[] xk = a[i * order + k];
+                            final double[] yk = b[k * order + j];
+                            for (int p = 0; p < length; p++)
+                            {
+                                sum[p] += xk[start + p] * yk[start + p];
+                            }
+                        }
+                    }
+                }
+                for (int position = 0; position < c.length; position++)
+                {
+                    System.arraycopy(scratch[position], 0, c[position], start, length);
+                }
+            }
+        });
+
+        return destination;
+    }
+
+    /**
+     * @param destination The array to overwrite with the determinant of each matrix, with at least {@link #SIZE} elements. (Cannot be null)
+     * @return the destination.
+     * @throws AssertionException If destination is null or too short.
+     */
+    public double[] determinant(final double[] destination)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot write into a null array.", destination);
+            Verifier.Inequality.assertGreaterThanOrEqual("The destination must have an element for each Matrix.", destination.length, SIZE);
+        }
+
+        ParallelRanges.forEach(SIZE, SIZE >= PARALLEL_THRESHOLD, (from, to) ->
+        {
+            final double[][] a = elements;
+            switch (ORDER)
+            {
+                case 1:
+                    System.arraycopy(a[0], from, destination, from, to - from);
+                    break;
+                case 2:
+                    for (int p = from; p < to; p++)
+                    {
+                        destination[p] = a[0][p] * a[3][p] - a[1][p] * a[2][p];
+                    }
+                    break;
+                case 3:
+                    for (int p = from; p < to; p++)
+                    {
+                        destination[p] = a[0][p] * (a[4][p] * a[8][p] - a[5][p] * a[7][p]) - a[1][p] * (a[3][p] * a[8][p] - a[5][p] * a[6][p])
+                                         + a[2][p] * (a[3][p] * a[7][p] - a[4][p] * a[6][p]);
+                    }
+                    break;
+                case 4:
+                    for (int p = from; p < to; p++)
+                    {
+                        final double s0 = a[0][p] * a[5][p] - a[4][p] * a[1][p];
+                        final double s1 = a[0][p] * a[6][p] - a[4][p] * a[2][p];
+                        final double s2 = a[0][p] * a[7][p] - a[4][p] * a[3][p];
+                        final double s3 = a[1][p] * a[6][p] - a[5][p] * a[2][p];
+                        final double s4 = a[1][p] * a[7][p] - a[5][p] * a[3][p];
+                        final double s5 = a[2][p] * a[7][p] - a[6][p] * a[3][p];
+                        final double c5 = a[10][p] * a[15][p] - a[14][p] * a[11][p];
+                        final double c4 = a[9][p] * a[15][p] - a[13][p] * a[11][p];
+                        final double c3 = a[9][p] * a[14][p] - a[13][p] * a[10][p];
+                        final double c2 = a[8][p] * a[15][p] - a[12][p] * a[11][p];
+                        final double c1 = a[8][p] * a[14][p] - a[12][p] * a[10][p];
+                        final double c0 = a[8][p] * a[13][p] - a[12][p] * a[9][p];
+                        destination[p] = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+                    }
+                    break;
+                default:
+                    final double[] matrix = new double[ORDER * ORDER];
+                    for (int p = from; p < to; p++)
+                    {
+                        gather(p, matrix);
+                        destination[p] = eliminate(matrix, ORDER, null, 0);
+                    }
+            }
+        });
+
+        return destination;
+    }
+
+    /**
+     * Inverts every matrix of this batch. Singular matrices are inverted to infinite or NaN elements rather than failing.
+     *
+     * @param destination The batch to overwrite with the inverses, of the same order and size, which may be this batch. (Cannot be null)
+     * @return the destination.
+     * @throws AssertionException If destination is null, or differs in order or size.
+     */
+    public MatrixBatch inverse(final MatrixBatch destination)
+    {
+        verifyOperand(destination);
+
+        ParallelRanges.forEach(SIZE, SIZE >= PARALLEL_THRESHOLD, (from, to) -> invert(from, to, destination.elements, from));
+
+        return destination;
+    }
+
+    /**
+     * Solves <code>this[k] &middot; x[k] == b[k]</code> for every matrix of this batch, where each right-hand side and solution is a point of a
+     * {@link PointBuffer}, so that, for instance, a system per vertex of a mesh is solved in one call. Singular systems are solved to infinite or
+     * NaN elements rather than failing.
+     *
+     * @param rightHandSides The points <code>b</code>, with {@link #ORDER} dimensions and one per matrix. (Cannot be null)
+     * @param destination The buffer to overwrite with the solutions, of the same dimensions and size, which may be the right-hand sides. (Cannot be
+     *            null)
+     * @return the destination.
+     * @throws AssertionException If either argument is null, or does not have {@link #ORDER} dimensions and a point per matrix.
+     */
+    public PointBuffer solve(final PointBuffer rightHandSides, final PointBuffer destination)
+    {
+        verifyOperand(rightHandSides);
+        verifyOperand(destination);
+
+        final int order = ORDER;
+        final double[][] b = rightHandSides.axes;
+        final double[][] x = destination.axes;
+        ParallelRanges.forEach(SIZE, SIZE >= PARALLEL_THRESHOLD, (from, to) ->
+        {
+            if (order > 4)
+            {
+                final double[] matrix = new double[order * order];
+                final double[] solution = new double[order];
+                for (int p = from; p < to; p++)
+                {
+                    gather(p, matrix);
+                    for (int i = 0; i < order; i++)
+                    {
+                        solution[i] = b[i][p];
+                    }
+                    eliminate(matrix, order, solution, 1);
+                    for (int i = 0; i < order; i++)
+                    {
+                        x[i][p] = solution[i];
+                    }
+                }
+                return;
+            }
+
+            // Small systems are solved by multiplying by their inverses, a block at a time
+            final double[][] inverse = new double[order * order][BLOCK];
+            final double[][] solution = new double[order][BLOCK];
+            for (int start = from; start < to; start += BLOCK)
+            {
+                final int length = Math.min(BLOCK, to - start);
+                invert(start, start + length, inverse, 0);
+                for (int i = 0; i < order; i++)
+                {
+                    final double[] sum = solution[i];
+                    final double[] first = inverse[i * order];
+                    final double[] b0 = b[0];
+                    for (int p = 0; p < length; p++)
+                    {
+                        sum[p] = first[p] * b0[start + p];
+                    }
+                    for (int j = 1; j < order; j++)
+                    {
+                        final double[] coefficients = inverse[i * order + j];
+                        final double[] bj = b[j];
+                        for (int p = 0; p < length; p++)
+                        {
+                            sum[p] += coefficients[p] * bj[start + p];
+                        }
+                    }
+                }
+                for (int i = 0; i < order; i++)
+                {
+                    System.arraycopy(solution[i], 0, x[i], start, length);
+                }
+            }
+        });
+
+        return destination;
+    }
+
+    /**
+     * Writes the inverses of matrices <code>[from, to)</code> into <code>target</code>, starting at <code>offset</code>, reading each matrix
+     * fully before writing its inverse so that the target may be this batch.
+     */
+    private void invert(final int from, final int to, final double[][] target, final int offset)
+    {
+        final double[][] a = elements;
+        final int shift = offset - from;
+        switch (ORDER)
+        {
+            case 1:
+                for (int p = from; p < to; p++)
+                {
+                    target[0][p + shift] = 1D / a[0][p];
+                }
+                break;
+            case 2:
+                for (int p = from; p < to; p++)
+                {
+                    final double a11 = a[0][p];
+                    final double a12 = a[1][p];
+                    final double a21 = a[2][p];
+                    final double a22 = a[3][p];
+                    final double k = 1D / (a11 * a22 - a12 * a21);
+                    target[0][p + shift] = a22 * k;
+                    target[1][p + shift] = -a12 * k;
+                    target[2][p + shift] = -a21 * k;
+                    target[3][p + shift] = a11 * k;
+                }
+                break;
+            case 3:
+                for (int p = from; p < to; p++)
+                {
+                    final double m11 = a[0][p];
+                    final double m12 = a[1][p];
+                    final double m13 = a[2][p];
+                    final double m21 = a[3][p];
+                    final double m22 = a[4][p];
+                    final double m23 = a[5][p];
+                    final double m31 = a[6][p];
+                    final double m32 = a[7][p];
+                    final double m33 = a[8][p];
+                    final double c11 = m22 * m33 - m23 * m32;
+                    final double c12 = m23 * m31 - m21 * m33;
+                    final double c13 = m21 * m32 - m22 * m31;
+                    final double k = 1D / (m11 * c11 + m12 * c12 + m13 * c13);
+                    target[0][p + shift] = c11 * k;
+                    target[1][p + shift] = (m13 * m32 - m12 * m33) * k;
+                    target[2][p + shift] = (m12 * m23 - m13 * m22) * k;
+                    target[3][p + shift] = c12 * k;
+                    target[4][p + shift] = (m11 * m33 - m13 * m31) * k;
+                    target[5][p + shift] = (m13 * m21 - m11 * m23) * k;
+                    target[6][p + shift] = c13 * k;
+                    target[7][p + shift] = (m12 * m31 - m11 * m32) * k;
+                    target[8][p + shift] = (m11 * m22 - m12 * m21) * k;
+                }
+                break;
+            case 4:
+                for (int p = from; p < to; p++)
+                {
+                    invert4(a, p, target, p + shift);
+                }
+                break;
+            default:
+                final double[] matrix = new double[ORDER * ORDER];
+                final double[] inverse = new double[ORDER * ORDER];
+                for (int p = from; p < to; p++)
+                {
+                    gather(p, matrix);
+                    for (int i = 0; i < inverse.length; i++)
+                    {
+                        inverse[i] = i % (ORDER + 1) == 0 ? 1D : 0D;
+                    }
+                    eliminate(matrix, ORDER, inverse, ORDER);
+                    for (int position = 0; position < inverse.length; position++)
+                    {
+                        target[position][p + shift] = inverse[position];
+                    }
+                }
+        }
+    }
+
+    /**
+     * Inverts the 4x4 matrix at index <code>p</code> by its adjugate expanded over the 2x2 minors of its upper and lower halves, as
+     * {@link Matrix4#inverse()} does.
+     */
+    private static void invert4(final double[][] a, final int p, final double[][] target, final int q)
+    {
+        final double m11 = a[0][p];
+        final double m12 = a[1][p];
+        final double m13 = a[2][p];
+        final double m14 = a[3][p];
+        final double m21 = a[4][p];
+        final double m22 = a[5][p];
+        final double m23 = a[6][p];
+        final double m24 = a[7][p];
+        final double m31 = a[8][p];
+        final double m32 = a[9][p];
+        final double m33 = a[10][p];
+        final double m34 = a[11][p];
+        final double m41 = a[12][p];
+        final double m42 = a[13][p];
+        final double m43 = a[14][p];
+        final double m44 = a[15][p];
+        final double s0 = m11 * m22 - m21 * m12;
+        final double s1 = m11 * m23 - m21 * m13;
+        final double s2 = m11 * m24 - m21 * m14;
+        final double s3 = m12 * m23 - m22 * m13;
+        final double s4 = m12 * m24 - m22 * m14;
+        final double s5 = m13 * m24 - m23 * m14;
+        final double c5 = m33 * m44 - m43 * m34;
+        final double c4 = m32 * m44 - m42 * m34;
+        final double c3 = m32 * m43 - m42 * m33;
+        final double c2 = m31 * m44 - m41 * m34;
+        final double c1 = m31 * m43 - m41 * m33;
+        final double c0 = m31 * m42 - m41 * m32;
+        final double k = 1D / (s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0);
+        target[0][q] = (m22 * c5 - m23 * c4 + m24 * c3) * k;
+        target[1][q] = (-m12 * c5 + m13 * c4 - m14 * c3) * k;
+        target[2][q] = (m42 * s5 - m43 * s4 + m44 * s3) * k;
+        target[3][q] = (-m32 * s5 + m33 * s4 - m34 * s3) * k;
+        target[4][q] = (-m21 * c5 + m23 * c2 - m24 * c1) * k;
+        target[5][q] = (m11 * c5 - m13 * c2 + m14 * c1) * k;
+        target[6][q] = (-m41 * s5 + m43 * s2 - m44 * s1) * k;
+        target[7][q] = (m31 * s5 - m33 * s2 + m34 * s1) * k;
+        target[8][q] = (m21 * c4 - m22 * c2 + m24 * c0) * k;
+        target[9][q] = (-m11 * c4 + m12 * c2 - m14 * c0) * k;
+        target[10][q] = (m41 * s4 - m42 * s2 + m44 * s0) * k;
+        target[11][q] = (-m31 * s4 + m32 * s2 - m34 * s0) * k;
+        target[12][q] = (-m21 * c3 + m22 * c1 - m23 * c0) * k;
+        target[13][q] = (m11 * c3 - m12 * c1 + m13 * c0) * k;
+        target[14][q] = (-m41 * s3 + m42 * s1 - m43 * s0) * k;
+        target[15][q] = (m31 * s3 - m32 * s1 + m33 * s0) * k;
+    }
+
+    /**
+     * Copies the matrix at index <code>p</code> into a row-major array.
+     */
+    private void gather(final int p, final double[] matrix)
+    {
+        for (int position = 0; position < matrix.length; position++)
+        {
+            matrix[position] = elements[position][p];
+        }
+    }
+
+    /**
+     * Reduces a row-major matrix to the identity by Gauss-Jordan elimination with partial pivoting, applying the same row operations to the
+     * right-hand sides, which are thereby overwritten with the solutions. Zero pivots are divided by regardless, giving infinite or NaN solutions.
+     *
+     * @param matrix The row-major matrix, which is overwritten.
+     * @param order The number of rows and columns of the matrix.
+     * @param rightHandSides The row-major right-hand sides, or null to find only the determinant.
+     * @param columns The number of right-hand sides.
+     * @return the determinant of the matrix.
+     */
+    private static double eliminate(final double[] matrix, final int order, final double[] rightHandSides, final int columns)
+    {
+        double determinant = 1D;
+        for (int column = 0; column < order; column++)
+        {
+            int best = column;
+            for (int i = column + 1; i < order; i++)
+            {
+                if (Math.abs(matrix[i * order + column]) > Math.abs(matrix[best * order + column]))
+                {
+                    best = i;
+                }
+            }
+            if (best != column)
+            {
+                swapRows(matrix, order, best, column);
+                if (rightHandSides != null)
+                {
+                    swapRows(rightHandSides, columns, best, column);
+                }
+                determinant = -determinant;
+            }
+
+            final double pivot = matrix[column * order + column];
+            determinant *= pivot;
+            for (int i = 0; i < order; i++)
+            {
+                final double multiplier = matrix[i * order + column] / pivot;
+                if (i == column || rightHandSides == null && i < column || multiplier == 0D)
+                {
+                    continue;
+                }
+                for (int j = column; j < order; j++)
+                {
+                    matrix[i * order + j] -= multiplier * matrix[column * order + j];
+                }
+                if (rightHandSides != null)
+                {
+                    for (int j = 0; j < columns; j++)
+                    {
+                        rightHandSides[i * columns + j] -= multiplier * rightHandSides[column * columns + j];
+                    }
+                }
+            }
+        }
+        if (rightHandSides != null)
+        {
+            for (int i = 0; i < order; i++)
+            {
+                final double pivot = matrix[i * order + i];
+                for (int j = 0; j < columns; j++)
+                {
+                    rightHandSides[i * columns + j] /= pivot;
+                }
+            }
+        }
+
+        return determinant;
+    }
+
+    private static void swapRows(final double[] matrix, final int columns, final int first, final int second)
+    {
+        for (int j = 0; j < columns; j++)
+        {
+            final double swapped = matrix[first * columns + j];
+            matrix[first * columns + j] = matrix[second * columns + j];
+            matrix[second * columns + j] = swapped;
+        }
+    }
+
+    private void verifyOperand(final MatrixBatch batch)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null MatrixBatch.", batch);
+            Verifier.Equality.assertEqual("Both batches must have the same order.", batch.ORDER, ORDER);
+            Verifier.Equality.assertEqual("Both batches must have the same size.", batch.SIZE, SIZE);
+        }
+    }
+
+    private void verifyOperand(final PointBuffer buffer)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot solve with a null PointBuffer.", buffer);
+            Verifier.Equality.assertEqual("The PointBuffer must have a dimension per Matrix row.", buffer.RANK, ORDER);
+            Verifier.Equality.assertEqual("The PointBuffer must have a point per Matrix.", buffer.SIZE, SIZE);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("MatrixBatch[order={0}, size={1,number,#}]", ORDER, SIZE);
+    }
+}
@@ -0,0 +1,253 @@
+package eli.braire.math.space;
+
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A mutable {@link Matrix}, intended to be allocated once and reused as the destination of operations such as
+ * {@link Matrix#dotProductInto(Matrix, MatrixBuffer)}, or updated in place by methods such as {@link #addInPlace(Matrix)} and
+ * {@link #axpy(double, Matrix)}. A buffer can be passed anywhere a Matrix is expected, and always reflects its current elements.
+ * <p>
+ * Views of a buffer observe its later writes, so they should not be retained beyond the computation they serve. Use {@link #toMatrix()} to
+ * capture an immutable snapshot.
+ *
+ * @author The Architect
+ */
+public final class MatrixBuffer extends Matrix
+{
+    private MatrixBuffer(final double[] elements, final int rows, final int columns)
+    {
+        super(elements, rows, columns, 0, columns, 1);
+    }
+
+    /**
+     * @param rows The total (positive) number of rows.
+     * @param columns The total (positive) number of columns.
+     * @return a new {@link MatrixBuffer} of zeros.
+     * @throws AssertionException If rows or columns is less than 1.
+     */
+    public static MatrixBuffer create(final int rows, final int columns)
+    {
+        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 row.", rows, 0);
+        Verifier.Inequality.assertGreaterThan("A Matrix must have at least 1 column.", columns, 0);
+
+        return new MatrixBuffer(new double[rows * columns], rows, columns);
+    }
+
+    /**
+     * @param matrix The {@link Matrix} to copy.
+     * @return a new {@link MatrixBuffer} with the same dimensions and elements.
+     * @throws AssertionException If matrix is null.
+     */
+    public static MatrixBuffer of(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot copy a null Matrix.", matrix);
+
+        return new MatrixBuffer(matrix.clone().elements, matrix.ROWS, matrix.COLUMNS);
+    }
+
+    /**
+     * @param rowDimension A row dimension [1, total rows].
+     * @param columnDimension A column dimension [1, total columns].
+     * @param value The new value of the element.
+     * @return this {@link MatrixBuffer}.
+     * @throws AssertionException If either dimension is outside of the defined range.
+     */
+    public MatrixBuffer setElement(final int rowDimension, final int columnDimension, final double value)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix row index must be within the defined range.", rowDimension, 1, ROWS);
+            Verifier.Ranges.assertInsideRange_Inclusive("Matrix column index must be within the defined range.", columnDimension, 1, COLUMNS);
+        }
+
+        elements[(rowDimension - 1) * COLUMNS + columnDimension - 1] = value;
+        return this;
+    }
+
+    /**
+     * @param matrix The {@link Matrix} whose elements are copied into this buffer.
+     * @return this {@link MatrixBuffer}.
+     * @throws AssertionException If matrix is null, has different dimensions, or is a view of this buffer.
+     */
+    public MatrixBuffer set(final Matrix matrix)
+    {
+        return matrix.multiplyInto(1D, this);
+    }
+
+    /**
+     * @param value The new value of every element.
+     * @return this {@link MatrixBuffer}.
+     */
+    public MatrixBuffer fill(final double value)
+    {
+        Arrays.fill(elements, value);
+        return this;
+    }
+
+    /**
+     * @param matrix A {@link Matrix} with the same number of rows and columns.
+     * @return this {@link MatrixBuffer}, after adding each element of the Matrix to its own.
+     * @throws AssertionException If matrix is null, has different dimensions, or is a view of this buffer.
+     */
+    public MatrixBuffer addInPlace(final Matrix matrix)
+    {
+        return addInto(matrix, this);
+    }
+
+    /**
+     * @param matrix A {@link Matrix} with the same number of rows and columns.
+     * @return this {@link MatrixBuffer}, after subtracting each element of the Matrix from its own.
+     * @throws AssertionException If matrix is null, has different dimensions, or is a view of this buffer.
+     */
+    public MatrixBuffer subtractInPlace(final Matrix matrix)
+    {
+        return subtractInto(matrix, this);
+    }
+
+    /**
+     * @param scalar The factor applied to each element.
+     * @return this {@link MatrixBuffer}, after scaling each of its elements.
+     */
+    public MatrixBuffer multiplyInPlace(final double scalar)
+    {
+        Kernels.scale(scalar, elements, 0, elements, 0, elements.length);
+
+        return this;
+    }
+
+    /**
+     * @return this {@link MatrixBuffer}, after negating each of its elements.
+     */
+    public MatrixBuffer negateInPlace()
+    {
+        return multiplyInPlace(-1D);
+    }
+
+    /**
+     * Performs the fused update <code>this = this + alpha &middot; matrix</code> in a single pass.
+     *
+     * @param alpha The factor applied to each element of the Matrix.
+     * @param matrix A {@link Matrix} with the same number of rows and columns.
+     * @return this {@link MatrixBuffer}.
+     * @throws AssertionException If matrix is null, has different dimensions, or is a view of this buffer.
+     */
+    public MatrixBuffer axpy(final double alpha, final Matrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of rows.", matrix.ROWS, ROWS);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of columns.", matrix.COLUMNS, COLUMNS);
+        }
+        verifyNotViewed(matrix);
+
+        addScaledElements(matrix, alpha, elements);
+        return this;
+    }
+
+    /**
+     * Performs the fused update <code>this = this + left &middot; right</code> without forming the product separately.
+     *
+     * @param left A {@link Matrix} with as many rows as this buffer.
+     * @param right A {@link Matrix} with as many rows as left has columns, and as many columns as this buffer.
+     * @return this {@link MatrixBuffer}.
+     * @throws AssertionException If either Matrix is null, if any dimensions differ, or if either Matrix shares elements with this buffer.
+     */
+    public MatrixBuffer addProduct(final Matrix left, final Matrix right)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", left);
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", right);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", right.ROWS, left.COLUMNS);
+            Verifier.Equality.assertEqual("The product must have as many rows as this Matrix.", left.ROWS, ROWS);
+            Verifier.Equality.assertEqual("The product must have as many columns as this Matrix.", right.COLUMNS, COLUMNS);
+            Verifier.Equality.assertNotEqual("The destination cannot share elements with the Left-Matrix.", elements, left.elements);
+            Verifier.Equality.assertNotEqual("The destination cannot share elements with the Right-Matrix.", elements, right.elements);
+        }
+
+        MatrixMultiplication.multiplyAdd(left, right, elements, 0, COLUMNS, true);
+        return this;
+    }
+
+    /**
+     * @return a new immutable {@link Matrix} holding a copy of the current elements.
+     */
+    public Matrix toMatrix()
+    {
+        return clone();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The factorisation of a buffer is never cached, as its elements may change at any time.
+     */
+    @Override
+    public LUDecomposition getLUDecomposition()
+    {
+        return LUDecomposition.of(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The factorisation of a buffer is never cached, as its elements may change at any time.
+     */
+    @Override
+    public QRDecomposition getQRDecomposition()
+    {
+        return QRDecomposition.of(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The factorisation of a buffer is never cached, as its elements may change at any time.
+     */
+    @Override
+    public CholeskyDecomposition getCholeskyDecomposition()
+    {
+        return CholeskyDecomposition.of(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The factorisation of a buffer is never cached, as its elements may change at any time.
+     */
+    @Override
+    public SingularValueDecomposition getSingularValueDecomposition()
+    {
+        return SingularValueDecomposition.of(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The decomposition of a buffer is never cached, as its elements may change at any time.
+     */
+    @Override
+    public SymmetricEigenDecomposition getSymmetricEigenDecomposition()
+    {
+        return SymmetricEigenDecomposition.of(this);
+    }
+
+    /**
+     * Elementwise operations read and write the same index of this buffer, so they may only alias it through the buffer itself, never through a
+     * view with a different layout.
+     *
+     * @throws AssertionException If the operand is a view sharing the elements of this buffer.
+     */
+    void verifyNotViewed(final Matrix operand)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS && operand != this)
+        {
+            Verifier.Equality.assertNotEqual("The destination cannot share elements with a view of itself.", operand.elements, elements);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A plan for the product of a chain of {@link Matrix} operands, <code>A<sub>1</sub> &middot; A<sub>2</sub> &middot; ... &middot;
+ * A<sub>n</sub></code>. Every parenthesisation of the chain gives the same product, but the work differs enormously with the shapes involved: a
+ * chain ending in a single column is far cheaper multiplied right to left. The plan chooses the parenthesisation with the fewest floating-point
+ * operations by the classic dynamic program over the dimensions of the chain, in <code>O(n<sup>3</sup>)</code> time for <code>n</code>
+ * operands, and reports its cost against naive left-to-right evaluation.
+ * <p>
+ * {@link #multiply()} then evaluates the plan, each product by the blocked kernels of {@link Matrix#dotProduct(Matrix)}.
+ *
+ * @author The Architect
+ * @see Matrix#multiplyChain(Matrix...)
+ */
+public final class MatrixChain
+{
+    private final Matrix[] matrices;
+    /**
+     * The dimensions of the chain: operand <code>i</code> has <code>dimensions[i]</code> rows and <code>dimensions[i + 1]</code> columns.
+     */
+    private final int[]    dimensions;
+    /**
+     * <code>splits[i][j]</code> is the last operand of the left factor of the optimal product of operands <code>i</code> to <code>j</code>.
+     */
+    private final int[][]  splits;
+    private final long     flops;
+    private final long     naiveFlops;
+
+    private MatrixChain(final Matrix[] matrices)
+    {
+        this.matrices = matrices;
+        final int count = matrices.length;
+        dimensions = new int[count + 1];
+        for (int i = 0; i < count; i++)
+        {
+            dimensions[i] = matrices[i].ROWS;
+        }
+        dimensions[count] = matrices[count - 1].COLUMNS;
+
+        // costs[i][j] is the fewest multiply-adds for the product of operands i to j, over products of increasing length
+        final long[][] costs = new long[count][count];
+        splits = new int[count][count];
+        for (int length = 2; length <= count; length++)
+        {
+            for (int i = 0, j = length - 1; j < count; i++, j++)
+            {
+                costs[i][j] = Long.MAX_VALUE;
+                for (int split = i; split < j; split++)
+                {
+                    final long cost = costs[i][split] + costs[split + 1][j] + (long) dimensions[i] * dimensions[split + 1] * dimensions[j + 1];
+                    if (cost < costs[i][j])
+                    {
+                        costs[i][j] = cost;
+                        splits[i][j] = split;
+                    }
+                }
+            }
+        }
+        flops = 2L * costs[0][count - 1];
+
+        long naive = 0L;
+        for (int j = 1; j < count; j++)
+        {
+            naive += (long) dimensions[0] * dimensions[j] * dimensions[j + 1];
+        }
+        naiveFlops = 2L * naive;
+    }
+
+    /**
+     * @param matrices The non-empty chain of operands, each with as many rows as the previous one has columns.
+     * @return a new {@link MatrixChain} holding the optimal plan for the product of the chain.
+     * @throws AssertionException If matrices is null or empty, contains a null Matrix, or if any adjacent dimensions do not match.
+     */
+    public static MatrixChain of(final Matrix ... matrices)
+    {
+        Verifier.Collections.assertNotEmpty("A chain must contain at least 1 Matrix.", matrices);
+        Verifier.Collections.assertContainsNoValue("A chain cannot contain a null Matrix.", matrices, null);
+        for (int i = 1; i < matrices.length; i++)
+        {
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", matrices[i].ROWS, matrices[i - 1].COLUMNS);
+        }
+
+        return new MatrixChain(matrices.clone());
+    }
+
+    /**
+     * @return the number of floating-point operations of the chosen parenthesisation, counting each multiply-add as 2.
+     */
+    public long getFlops()
+    {
+        return flops;
+    }
+
+    /**
+     * @return the number of floating-point operations of evaluating the chain from left to right, counting each multiply-add as 2.
+     */
+    public long getNaiveFlops()
+    {
+        return naiveFlops;
+    }
+
+    /**
+     * @return the chosen parenthesisation, such as <code>(A1 (A2 A3))</code>, with operands numbered from 1.
+     */
+    public String getOrder()
+    {
+        return order(0, matrices.length - 1);
+    }
+
+    private String order(final int first, final int last)
+    {
+        if (first == last)
+        {
+            return "A" + (first + 1);
+        }
+
+        final int split = splits[first][last];
+        return MessageFormat.format("({0} {1})", order(first, split), order(split + 1, last));
+    }
+
+    /**
+     * @return a new {@link Matrix} holding the product of the chain, evaluated in the chosen order. A chain of one operand returns that operand.
+     */
+    public Matrix multiply()
+    {
+        return multiply(0, matrices.length - 1);
+    }
+
+    private Matrix multiply(final int first, final int last)
+    {
+        if (first == last)
+        {
+            return matrices[first];
+        }
+
+        final int split = splits[first][last];
+        return MatrixMultiplication.multiply(multiply(first, split), multiply(split + 1, last));
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("{0}: {1} flops, against {2} from left to right", getOrder(), flops, naiveFlops);
+    }
+}
@@ -0,0 +1,343 @@
+package eli.braire.math.space;
+
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A lazily evaluated formula over {@link Matrix} operands. Chained element-wise operations such as
+ * <code>a.lazy().add(b).multiply(s).subtract(c)</code> are only recorded, and {@link #evaluate()} then computes the whole formula in a single pass,
+ * reading each operand once and writing the result once, rather than materialising an intermediate Matrix at every step.
+ * <p>
+ * Every element-wise operation of Matrix is linear, so an expression is held in its reduced form: a sum of operands, each with a coefficient.
+ * Operations on the same Matrix instance are merged into one term, so <code>a.lazy().add(a)</code> reads <code>a</code> only once. Products are not
+ * element-wise, and are evaluated as soon as they are requested, becoming a single term of the expression.
+ * <p>
+ * Expressions are immutable, and capture their operands by reference: a {@link MatrixBuffer} operand contributes its elements as they are when
+ * the expression is evaluated.
+ *
+ * @author The Architect
+ */
+public final class MatrixExpression
+{
+    /**
+     * The number of columns of each row evaluated at a time, so that the partial row being accumulated remains in the L1 cache while each term
+     * is added into it.
+     */
+    private static final int  BLOCK              = 1024;
+    /**
+     * Results with fewer elements than this are not worth distributing across threads.
+     */
+    private static final long PARALLEL_THRESHOLD = 256L * 256L;
+
+    /**
+     * The total number of row dimensions of the result.
+     */
+    public final int          ROWS;
+    /**
+     * The total number of column dimensions of the result.
+     */
+    public final int          COLUMNS;
+    private final Matrix[]    operands;
+    private final double[]    coefficients;
+
+    private MatrixExpression(final Matrix[] operands, final double[] coefficients)
+    {
+        ROWS = operands[0].ROWS;
+        COLUMNS = operands[0].COLUMNS;
+        this.operands = operands;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * @param matrix The operand of the new expression.
+     * @return a new {@link MatrixExpression} which evaluates to the matrix itself.
+     */
+    static MatrixExpression of(final Matrix matrix)
+    {
+        return new MatrixExpression(new Matrix[] { matrix }, new double[] { 1D });
+    }
+
+    /**
+     * @return the number of operands which evaluation reads, after merging repeated operands.
+     */
+    int getTermCount()
+    {
+        return operands.length;
+    }
+
+    /**
+     * @param matrix A {@link Matrix} with the same number of rows and columns. (Cannot be null)
+     * @return a new {@link MatrixExpression} for <code>this + matrix</code>.
+     * @throws AssertionException If matrix is null or has different dimensions.
+     */
+    public MatrixExpression add(final Matrix matrix)
+    {
+        verifyOperand(matrix);
+
+        return combine(new Matrix[] { matrix }, new double[] { 1D }, 1D);
+    }
+
+    /**
+     * @param expression A {@link MatrixExpression} with the same number of rows and columns. (Cannot be null)
+     * @return a new {@link MatrixExpression} for <code>this + expression</code>.
+     * @throws AssertionException If expression is null or has different dimensions.
+     */
+    public MatrixExpression add(final MatrixExpression expression)
+    {
+        verifyOperand(expression);
+
+        return combine(expression.operands, expression.coefficients, 1D);
+    }
+
+    /**
+     * @param matrix A {@link Matrix} with the same number of rows and columns. (Cannot be null)
+     * @return a new {@link MatrixExpression} for <code>this - matrix</code>.
+     * @throws AssertionException If matrix is null or has different dimensions.
+     */
+    public MatrixExpression subtract(final Matrix matrix)
+    {
+        verifyOperand(matrix);
+
+        return combine(new Matrix[] { matrix }, new double[] { 1D }, -1D);
+    }
+
+    /**
+     * @param expression A {@link MatrixExpression} with the same number of rows and columns. (Cannot be null)
+     * @return a new {@link MatrixExpression} for <code>this - expression</code>.
+     * @throws AssertionException If expression is null or has different dimensions.
+     */
+    public MatrixExpression subtract(final MatrixExpression expression)
+    {
+        verifyOperand(expression);
+
+        return combine(expression.operands, expression.coefficients, -1D);
+    }
+
+    /**
+     * @param scalar The factor applied to each element.
+     * @return a new {@link MatrixExpression} for <code>scalar &middot; this</code>.
+     */
+    public MatrixExpression multiply(final double scalar)
+    {
+        final double[] newCoefficients = coefficients.clone();
+        for (int term = 0; term < newCoefficients.length; term++)
+        {
+            newCoefficients[term] *= scalar;
+        }
+
+        return new MatrixExpression(operands, newCoefficients);
+    }
+
+    /**
+     * @param scalar The non-zero divisor of each element.
+     * @return a new {@link MatrixExpression} for <code>this / scalar</code>.
+     * @throws AssertionException If scalar is zero.
+     */
+    public MatrixExpression divide(final double scalar)
+    {
+        Verifier.Equality.assertNotEqual("Cannot divide Matrix elements by zero scalar.", scalar, 0, 0.0000001D);
+
+        return multiply(1D / scalar);
+    }
+
+    /**
+     * @return a new {@link MatrixExpression} for <code>-this</code>.
+     */
+    public MatrixExpression negate()
+    {
+        return multiply(-1D);
+    }
+
+    /**
+     * Evaluates the product immediately. A scaled operand, such as <code>a.lazy().multiply(s)</code>, is multiplied without being evaluated
+     * first, its coefficient being carried over to the product instead.
+     *
+     * @param matrix A {@link Matrix} with as many rows as this expression has columns. (Cannot be null)
+     * @return a new single-term {@link MatrixExpression} holding the product <code>this &middot; matrix</code>.
+     * @throws AssertionException If matrix is null, or if its rows do not match the columns of this expression.
+     */
+    public MatrixExpression dotProduct(final Matrix matrix)
+    {
+        return dotProduct(of(matrix));
+    }
+
+    /**
+     * Evaluates both operands and their product immediately, except that scaled operands carry their coefficients over to the product rather
+     * than being evaluated.
+     *
+     * @param expression A {@link MatrixExpression} with as many rows as this expression has columns. (Cannot be null)
+     * @return a new single-term {@link MatrixExpression} holding the product <code>this &middot; expression</code>.
+     * @throws AssertionException If expression is null, or if its rows do not match the columns of this expression.
+     */
+    public MatrixExpression dotProduct(final MatrixExpression expression)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", expression);
+            Verifier.Equality.assertEqual("Left-Matrix columns must match the Right-Matrix rows.", expression.ROWS, COLUMNS);
+        }
+
+        final Matrix product = MatrixMultiplication.multiply(operand(), expression.operand());
+        return new MatrixExpression(new Matrix[] { product }, new double[] { coefficient() * expression.coefficient() });
+    }
+
+    /**
+     * @return the single operand of a single-term expression, otherwise the evaluated expression, to be scaled by {@link #coefficient()}.
+     */
+    private Matrix operand()
+    {
+        return operands.length == 1 ? operands[0] : evaluate();
+    }
+
+    private double coefficient()
+    {
+        return operands.length == 1 ? coefficients[0] : 1D;
+    }
+
+    /**
+     * @return a new contiguous {@link Matrix} holding the value of this expression, computed in a single pass over the operands.
+     */
+    public Matrix evaluate()
+    {
+        final double[] result = new double[ROWS * COLUMNS];
+        evaluate(operands, coefficients, result);
+
+        return Matrix.wrap(result, ROWS, COLUMNS);
+    }
+
+    /**
+     * Evaluates this expression directly into a destination, which may itself be one of the operands, such as in
+     * <code>buffer.lazy().multiply(s).add(a).evaluateInto(buffer)</code>.
+     *
+     * @param destination The {@link MatrixBuffer} to overwrite with the value of this expression.
+     * @return the destination.
+     * @throws AssertionException If the destination is null, has different dimensions, or shares elements with a view among the operands.
+     */
+    public MatrixBuffer evaluateInto(final MatrixBuffer destination)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot write into a null MatrixBuffer.", destination);
+            Verifier.Equality.assertEqual("The destination must have the same number of rows.", destination.ROWS, ROWS);
+            Verifier.Equality.assertEqual("The destination must have the same number of columns.", destination.COLUMNS, COLUMNS);
+        }
+        for (final Matrix operand : operands)
+        {
+            destination.verifyNotViewed(operand);
+        }
+
+        // The term reading the destination must come first, so that it is scaled in place before the others are added to it
+        final Matrix[] ordered = operands.clone();
+        final double[] orderedCoefficients = coefficients.clone();
+        for (int term = 1; term < ordered.length; term++)
+        {
+            if (ordered[term] == destination)
+            {
+                ordered[term] = ordered[0];
+                ordered[0] = destination;
+                orderedCoefficients[term] = orderedCoefficients[0];
+                orderedCoefficients[0] = coefficients[term];
+            }
+        }
+        evaluate(ordered, orderedCoefficients, destination.elements);
+
+        return destination;
+    }
+
+    /**
+     * Writes <code>&sum; coefficients[t] &middot; operands[t]</code> row-major into a contiguous target, a block of each row at a time, so that
+     * the block is accumulated in the cache while every operand is streamed through it once.
+     */
+    private void evaluate(final Matrix[] operands, final double[] coefficients, final double[] target)
+    {
+        final boolean parallel = (long) ROWS * COLUMNS >= PARALLEL_THRESHOLD;
+        ParallelRanges.forEach(ROWS, parallel, (from, to) ->
+        {
+            for (int i = from; i < to; i++)
+            {
+                for (int j = 0; j < COLUMNS; j += BLOCK)
+                {
+                    final int length = Math.min(BLOCK, COLUMNS - j);
+                    final int targetIndex = i * COLUMNS + j;
+                    for (int term = 0; term < operands.length; term++)
+                    {
+                        final Matrix operand = operands[term];
+                        final double coefficient = coefficients[term];
+                        final int source = operand.index(i, j);
+                        if (operand.columnStride == 1)
+                        {
+                            if (term == 0)
+                            {
+                                Kernels.scale(coefficient, operand.elements, source, target, targetIndex, length);
+                            }
+                            else
+                            {
+                                Kernels.axpy(coefficient, operand.elements, source, target, targetIndex, length);
+                            }
+                            continue;
+                        }
+                        for (int k = 0, index = source; k < length; k++, index += operand.columnStride)
+                        {
+                            final double value = coefficient * operand.elements[index];
+                            target[targetIndex + k] = term == 0 ? value : target[targetIndex + k] + value;
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * @return a new expression adding <code>scalar &middot; &sum; coefficients[t] &middot; operands[t]</code> to this one, merging terms over the
+     *         same Matrix instance.
+     */
+    private MatrixExpression combine(final Matrix[] otherOperands, final double[] otherCoefficients, final double scalar)
+    {
+        Matrix[] newOperands = Arrays.copyOf(operands, operands.length + otherOperands.length);
+        double[] newCoefficients = Arrays.copyOf(coefficients, newOperands.length);
+        int count = operands.length;
+        for (int other = 0; other < otherOperands.length; other++)
+        {
+            int term = 0;
+            while (term < count && newOperands[term] != otherOperands[other])
+            {
+                term++;
+            }
+            if (term == count)
+            {
+                newOperands[count++] = otherOperands[other];
+            }
+            newCoefficients[term] += scalar * otherCoefficients[other];
+        }
+        if (count < newOperands.length)
+        {
+            newOperands = Arrays.copyOf(newOperands, count);
+            newCoefficients = Arrays.copyOf(newCoefficients, count);
+        }
+
+        return new MatrixExpression(newOperands, newCoefficients);
+    }
+
+    private void verifyOperand(final Matrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of rows.", matrix.ROWS, ROWS);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of columns.", matrix.COLUMNS, COLUMNS);
+        }
+    }
+
+    private void verifyOperand(final MatrixExpression expression)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", expression);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of rows.", expression.ROWS, ROWS);
+            Verifier.Equality.assertEqual("Both Matrices must have the same number of columns.", expression.COLUMNS, COLUMNS);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package eli.braire.math.space;
+
+import java.util.Arrays;
+
+/**
+ * Powers and the exponential of square {@link Matrix} instances, each computed in <code>O(log n)</code> products by the blocked kernels of
+ * {@link Matrix#dotProduct(Matrix)}.
+ * <p>
+ * Repeated squaring alternates between two preallocated buffers, so that raising to a power allocates nothing per step, whatever the exponent.
+ * The exponential is Higham's scaling and squaring method: the Matrix is halved until its norm is small enough for a diagonal Pad&eacute;
+ * approximant of degree 3, 5, 7, 9 or 13 to be accurate to double precision, and the approximant is then squared back up.
+ *
+ * @author The Architect
+ * @see Matrix#pow(long)
+ * @see Matrix#exp()
+ */
+final class MatrixFunctions
+{
+    /**
+     * The largest 1-norms for which the Pad&eacute; approximants of degrees 3, 5, 7 and 9 are accurate to double precision.
+     */
+    private static final double[]   THETA    = { 1.495585217958292E-2, 2.539398330063230E-1, 9.504178996162932E-1, 2.097847961257068E0 };
+    /**
+     * The coefficients of the numerators of the Pad&eacute; approximants of degrees 3, 5, 7 and 9, in increasing powers.
+     */
+    private static final double[][] PADE     = { { 120D, 60D, 12D, 1D }, { 30240D, 15120D, 3360D, 420D, 30D, 1D },
+                                                 { 17297280D, 8648640D, 1995840D, 277200D, 25200D, 1512D, 56D, 1D },
+                                                 { 17643225600D, 8821612800D, 2075673600D, 302702400D, 30270240D, 2162160D, 110880D, 3960D, 90D, 1D } };
+    /**
+     * The largest 1-norm for which the Pad&eacute; approximant of degree 13 is accurate to double precision, which larger matrices are scaled to.
+     */
+    private static final double     THETA_13 = 5.371920351148152D;
+    private static final double[]   PADE_13  = { 64764752532480000D, 32382376266240000D, 7771770303897600D, 1187353796428800D, 129060195264000D,
+                                                 10559470521600D, 670442572800D, 33522128640D, 1323241920D, 40840800D, 960960D, 16380D, 182D, 1D };
+
+    private MatrixFunctions()
+    {
+    }
+
+    /**
+     * Raises by binary exponentiation, from the most significant bit of the exponent: each bit squares the power so far, and each set bit then
+     * multiplies it by the Matrix once more, for at most <code>2 log<sub>2</sub>|exponent|</code> products.
+     *
+     * @param matrix The square {@link Matrix} to raise.
+     * @param exponent The exponent, which inverts the Matrix if it is negative.
+     * @return a new contiguous {@link Matrix} holding <code>matrix<sup>exponent</sup></code>.
+     */
+    static Matrix power(final Matrix matrix, final long exponent)
+    {
+        if (exponent == 0L)
+        {
+            return Matrix.identity(matrix.ROWS);
+        }
+
+        // The magnitude of Long.MIN_VALUE overflows back to itself, which is still 2^63 as an unsigned number
+        final Matrix base = exponent < 0L ? matrix.inverse() : matrix;
+        final long bits = exponent < 0L ? -exponent : exponent;
+        Matrix power = base.clone();
+        Matrix spare = Matrix.wrap(new double[power.elements.length], matrix.ROWS, matrix.ROWS);
+        for (int bit = 62 - Long.numberOfLeadingZeros(bits); bit >= 0; bit--)
+        {
+            multiply(power, power, spare);
+            Matrix swapped = power;
+            power = spare;
+            spare = swapped;
+            if ((bits >>> bit & 1L) != 0L)
+            {
+                multiply(power, base, spare);
+                swapped = power;
+                power = spare;
+                spare = swapped;
+            }
+        }
+
+        return power;
+    }
+
+    /**
+     * @param matrix The square {@link Matrix} to exponentiate.
+     * @return a new contiguous {@link Matrix} holding <code>e<sup>matrix</sup></code>, which is NaN throughout if the Matrix holds a non-finite
+     *         element.
+     */
+    static Matrix exponential(final Matrix matrix)
+    {
+        final int size = matrix.ROWS;
+        final double norm = norm(matrix);
+        if (!(norm < Double.POSITIVE_INFINITY))
+        {
+            final double[] elements = new double[size * size];
+            Arrays.fill(elements, Double.NaN);
+            return Matrix.wrap(elements, size, size);
+        }
+
+        for (int degree = 0; degree < THETA.length; degree++)
+        {
+            if (norm <= THETA[degree])
+            {
+                return pade(matrix.clone(), PADE[degree]);
+            }
+        }
+
+        // e^A = (e^(A / 2^s))^(2^s), for the least s which brings the norm within reach of the approximant
+        final int squarings = norm <= THETA_13 ? 0 : Math.getExponent(norm / THETA_13) + 1;
+        final Matrix scaled = Matrix.wrap(new double[size * size], size, size);
+        matrix.scaleElements(Math.scalb(1D, -squarings), scaled.elements);
+
+        Matrix exponential = pade13(scaled);
+        Matrix spare = scaled;
+        for (int step = 0; step < squarings; step++)
+        {
+            multiply(exponential, exponential, spare);
+            final Matrix swapped = exponential;
+            exponential = spare;
+            spare = swapped;
+        }
+
+        return exponential;
+    }
+
+    /**
+     * Evaluates a Pad&eacute; approximant of degree 3 to 9 from the even powers of the Matrix, as <code>(V - U)<sup>-1</sup> &middot;
+     * (V + U)</code>, where <code>U</code> holds the odd terms of the numerator and <code>V</code> the even ones.
+     */
+    private static Matrix pade(final Matrix a, final double[] coefficients)
+    {
+        final int size = a.ROWS;
+        final double[] odd = new double[size * size];
+        final double[] even = new double[size * size];
+        addIdentity(odd, size, coefficients[1]);
+        addIdentity(even, size, coefficients[0]);
+
+        final Matrix square = product(a, a);
+        Matrix power = square;
+        for (int k = 2; k < coefficients.length; k += 2)
+        {
+            if (k > 2)
+            {
+                power = product(power, square);
+            }
+            Kernels.axpy(coefficients[k], power.elements, 0, even, 0, even.length);
+            Kernels.axpy(coefficients[k + 1], power.elements, 0, odd, 0, odd.length);
+        }
+
+        return quotient(product(a, Matrix.wrap(odd, size, size)), even);
+    }
+
+    /**
+     * Evaluates the Pad&eacute; approximant of degree 13 in six products, from the powers 2, 4 and 6 of the Matrix alone.
+     */
+    private static Matrix pade13(final Matrix a)
+    {
+        final int size = a.ROWS;
+        final double[] b = PADE_13;
+        final Matrix a2 = product(a, a);
+        final Matrix a4 = product(a2, a2);
+        final Matrix a6 = product(a4, a2);
+
+        // U = A . (A6 . (b13 A6 + b11 A4 + b9 A2) + b7 A6 + b5 A4 + b3 A2 + b1 I)
+        final Matrix odd = product(a6, combine(a6, a4, a2, b[13], b[11], b[9], 0D));
+        add(odd.elements, combine(a6, a4, a2, b[7], b[5], b[3], b[1]).elements);
+
+        // V = A6 . (b12 A6 + b10 A4 + b8 A2) + b6 A6 + b4 A4 + b2 A2 + b0 I
+        final Matrix even = product(a6, combine(a6, a4, a2, b[12], b[10], b[8], 0D));
+        add(even.elements, combine(a6, a4, a2, b[6], b[4], b[2], b[0]).elements);
+
+        return quotient(product(a, odd), even.elements);
+    }
+
+    /**
+     * @return a new <code>x6 A6 + x4 A4 + x2 A2 + x0 I</code>.
+     */
+    private static Matrix combine(final Matrix a6, final Matrix a4, final Matrix a2, final double x6, final double x4, final double x2,
+                                  final double x0)
+    {
+        final int size = a6.ROWS;
+        final double[] sum = new double[size * size];
+        Kernels.scale(x6, a6.elements, 0, sum, 0, sum.length);
+        Kernels.axpy(x4, a4.elements, 0, sum, 0, sum.length);
+        Kernels.axpy(x2, a2.elements, 0, sum, 0, sum.length);
+        addIdentity(sum, size, x0);
+        return Matrix.wrap(sum, size, size);
+    }
+
+    /**
+     * @return a new <code>(V - U)<sup>-1</sup> &middot; (V + U)</code>, overwriting both arrays.
+     */
+    private static Matrix quotient(final Matrix odd, final double[] even)
+    {
+        final int size = odd.ROWS;
+        final double[] u = odd.elements;
+        for (int index = 0; index < u.length; index++)
+        {
+            final double v = even[index];
+            even[index] = v - u[index];
+            u[index] += v;
+        }
+
+        return Matrix.wrap(even, size, size).solve(odd);
+    }
+
+    /**
+     * @return the 1-norm of the Matrix, which is its largest absolute column sum.
+     */
+    private static double norm(final Matrix matrix)
+    {
+        final double[] sums = new double[matrix.COLUMNS];
+        for (int i = 0; i < matrix.ROWS; i++)
+        {
+            for (int j = 0, index = matrix.index(i, 0); j < matrix.COLUMNS; j++, index += matrix.columnStride)
+            {
+                sums[j] += Math.abs(matrix.elements[index]);
+            }
+        }
+
+        double norm = 0D;
+        for (final double sum : sums)
+        {
+            // NaN propagates, rather than losing to the comparison
+            norm = sum > norm || sum != sum ? sum : norm;
+        }
+        return norm;
+    }
+
+    private static void addIdentity(final double[] elements, final int size, final double scalar)
+    {
+        for (int index = 0; index < size; index++)
+        {
+            elements[index * size + index] += scalar;
+        }
+    }
+
+    private static void add(final double[] target, final double[] elements)
+    {
+        Kernels.axpy(1D, elements, 0, target, 0, target.length);
+    }
+
+    private static Matrix product(final Matrix left, final Matrix right)
+    {
+        return MatrixMultiplication.multiply(left, right);
+    }
+
+    /**
+     * Overwrites the contiguous target, which must not share elements with either operand, with <code>left &middot; right</code>.
+     */
+    private static void multiply(final Matrix left, final Matrix right, final Matrix target)
+    {
+        Arrays.fill(target.elements, 0D);
+        MatrixMultiplication.multiplyAdd(left, right, target.elements, 0, target.COLUMNS, true);
+    }
+}
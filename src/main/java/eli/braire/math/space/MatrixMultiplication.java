@@ -0,0 +1,349 @@
+package eli.braire.math.space;
+
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Cache-blocked general matrix multiplication (GEMM) kernels for {@link Matrix}.
+ * <p>
+ * The product is computed in the classic GotoBLAS order. A <code>KC x NC</code> panel of the right operand is packed into contiguous strips of
+ * {@link #NR} columns. The rows of the left operand are then processed in blocks of {@link #MC} rows, each packed into contiguous strips of
+ * {@link #MR} rows, and every <code>MR x NR</code> tile of the result is accumulated in registers by a micro-kernel that streams through both packed
+ * strips sequentially. Row blocks are independent and are distributed across the common fork-join pool for large products.
+ * <p>
+ * Operands may be any {@link Matrix} view; strides are only honoured while packing, so the micro-kernel always runs over contiguous data.
+ *
+ * @author The Architect
+ */
+final class MatrixMultiplication
+{
+    /**
+     * The number of rows of the register-blocked micro-kernel.
+     */
+    static final int          MR                 = 4;
+    /**
+     * The number of columns of the register-blocked micro-kernel.
+     */
+    static final int          NR                 = 4;
+    /**
+     * The depth of each packed panel, sized so that a packed strip of each operand remains in the L1 cache.
+     */
+    static final int          KC                 = 256;
+    /**
+     * The number of rows of the left operand packed at a time, sized so that the packed block remains in the L2 cache.
+     */
+    static final int          MC                 = 64;
+    /**
+     * The number of columns of the right operand packed at a time, sized so that the packed panel remains in the L3 cache.
+     */
+    static final int          NC                 = 2048;
+    /**
+     * Products with fewer multiply-adds than this use a simple loop, as packing would cost more than it saves.
+     */
+    private static final long BLOCKED_THRESHOLD  = 32L * 32L * 32L;
+    /**
+     * Products with fewer multiply-adds than this are not worth distributing across threads.
+     */
+    private static final long PARALLEL_THRESHOLD = 128L * 128L * 128L;
+    /**
+     * Packing buffers reused by each thread, so that repeated sequential products do not allocate.
+     */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private MatrixMultiplication()
+    {
+    }
+
+    /**
+     * @param left The left operand.
+     * @param right The right operand, with as many rows as <code>left</code> has columns.
+     * @return a new contiguous {@link Matrix} holding <code>left &middot; right</code>.
+     */
+    static Matrix multiply(final Matrix left, final Matrix right)
+    {
+        final double[] result = new double[left.ROWS * right.COLUMNS];
+        multiplyAdd(left, right, result, 0, right.COLUMNS, true);
+
+        return Matrix.wrap(result, left.ROWS, right.COLUMNS);
+    }
+
+    /**
+     * Accumulates <code>left &middot; right</code> into a row-major destination array, such that
+     * <code>result[offset + i * stride + j] += (left &middot; right)[i][j]</code>.
+     *
+     * @param left The left operand.
+     * @param right The right operand, with as many rows as <code>left</code> has columns.
+     * @param result The destination array.
+     * @param offset The index within <code>result</code> of the first element of the product.
+     * @param stride The distance within <code>result</code> between vertically adjacent elements of the product.
+     * @param parallel true if the product may be distributed across the common fork-join pool.
+     */
+    static void multiplyAdd(final Matrix left, final Matrix right, final double[] result, final int offset, final int stride, final boolean parallel)
+    {
+        final int m = left.ROWS;
+        final int k = left.COLUMNS;
+        final int n = right.COLUMNS;
+        final long work = (long) m * n * k;
+        if (work < BLOCKED_THRESHOLD || m < MR || n < NR)
+        {
+            multiplySimple(left, right, result, offset, stride);
+            return;
+        }
+
+        final Scratch scratch = SCRATCH.get();
+        final double[] packedRight = scratch.packedRight(KC * roundUp(Math.min(NC, n), NR));
+        final int rowBlocks = (m + MC - 1) / MC;
+        final boolean fork = parallel && work >= PARALLEL_THRESHOLD && rowBlocks > 1 && !ForkJoinTask.inForkJoinPool();
+        for (int jc = 0; jc < n; jc += NC)
+        {
+            final int nc = Math.min(NC, n - jc);
+            for (int pc = 0; pc < k; pc += KC)
+            {
+                final int kc = Math.min(KC, k - pc);
+                packRight(right, pc, kc, jc, nc, packedRight);
+                if (fork)
+                {
+                    new RowBlocks(new Panel(left, packedRight, pc, kc, jc, nc, result, offset, stride), 0, rowBlocks).invoke();
+                }
+                else
+                {
+                    multiplyPanel(left, packedRight, pc, kc, jc, nc, result, offset, stride, 0, rowBlocks, scratch.packedLeft());
+                }
+            }
+        }
+    }
+
+    /**
+     * A straightforward i-k-j loop, which walks both the right operand and the result along their rows.
+     */
+    private static void multiplySimple(final Matrix left, final Matrix right, final double[] result, final int offset, final int stride)
+    {
+        final double[] a = left.elements;
+        final double[] b = right.elements;
+        for (int i = 0; i < left.ROWS; i++)
+        {
+            final int row = offset + i * stride;
+            for (int p = 0, aIndex = left.index(i, 0); p < left.COLUMNS; p++, aIndex += left.columnStride)
+            {
+                final double scalar = a[aIndex];
+                for (int j = 0, bIndex = right.index(p, 0); j < right.COLUMNS; j++, bIndex += right.columnStride)
+                {
+                    result[row + j] += scalar * b[bIndex];
+                }
+            }
+        }
+    }
+
+    private static int roundUp(final int value, final int multiple)
+    {
+        return (value + multiple - 1) / multiple * multiple;
+    }
+
+    /**
+     * Packs <code>right[pc, pc + kc)[jc, jc + nc)</code> into strips of {@link #NR} columns, each stored row by row, padding the final strip with
+     * zeros.
+     */
+    private static void packRight(final Matrix right, final int pc, final int kc, final int jc, final int nc, final double[] packed)
+    {
+        final double[] b = right.elements;
+        int target = 0;
+        for (int jr = 0; jr < nc; jr += NR)
+        {
+            final int nr = Math.min(NR, nc - jr);
+            for (int p = 0; p < kc; p++)
+            {
+                int source = right.index(pc + p, jc + jr);
+                for (int jj = 0; jj < nr; jj++, source += right.columnStride)
+                {
+                    packed[target++] = b[source];
+                }
+                for (int jj = nr; jj < NR; jj++)
+                {
+                    packed[target++] = 0D;
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs <code>left[ic, ic + mc)[pc, pc + kc)</code> into strips of {@link #MR} rows, each stored column by column, padding the final strip
+     * with zeros.
+     */
+    private static void packLeft(final Matrix left, final int ic, final int mc, final int pc, final int kc, final double[] packed)
+    {
+        final double[] a = left.elements;
+        int target = 0;
+        for (int ir = 0; ir < mc; ir += MR)
+        {
+            final int mr = Math.min(MR, mc - ir);
+            for (int p = 0; p < kc; p++)
+            {
+                int source = left.index(ic + ir, pc + p);
+                for (int ii = 0; ii < mr; ii++, source += left.rowStride)
+                {
+                    packed[target++] = a[source];
+                }
+                for (int ii = mr; ii < MR; ii++)
+                {
+                    packed[target++] = 0D;
+                }
+            }
+        }
+    }
+
+    /**
+     * Accumulates a partial <code>mr x nr</code> tile at the bottom or right edge of the result.
+     */
+    private static void edgeKernel(final int kc, final double[] a, final int aStart, final double[] b, final int bStart, final double[] c,
+                                   final int cStart, final int stride, final int mr, final int nr)
+    {
+        for (int ii = 0; ii < mr; ii++)
+        {
+            for (int jj = 0; jj < nr; jj++)
+            {
+                double sum = 0D;
+                for (int p = 0, ai = aStart + ii, bi = bStart + jj; p < kc; p++, ai += MR, bi += NR)
+                {
+                    sum += a[ai] * b[bi];
+                }
+                c[cStart + ii * stride + jj] += sum;
+            }
+        }
+    }
+
+    /**
+     * Multiplies a range of row blocks of the left operand against a packed panel of the right operand.
+     *
+     * @param fromBlock The first row block to compute (inclusive).
+     * @param toBlock The last row block to compute (exclusive).
+     * @param packedLeft A scratch array of at least <code>MC * KC</code> elements.
+     */
+    private static void multiplyPanel(final Matrix left, final double[] packedRight, final int pc, final int kc, final int jc, final int nc,
+                                      final double[] result, final int offset, final int stride, final int fromBlock, final int toBlock,
+                                      final double[] packedLeft)
+    {
+        for (int block = fromBlock; block < toBlock; block++)
+        {
+            final int ic = block * MC;
+            final int mc = Math.min(MC, left.ROWS - ic);
+            packLeft(left, ic, mc, pc, kc, packedLeft);
+            for (int jr = 0; jr < nc; jr += NR)
+            {
+                final int nr = Math.min(NR, nc - jr);
+                final int bStart = jr * kc;
+                for (int ir = 0; ir < mc; ir += MR)
+                {
+                    final int mr = Math.min(MR, mc - ir);
+                    final int aStart = ir * kc;
+                    final int cStart = offset + (ic + ir) * stride + jc + jr;
+                    if (mr == MR && nr == NR)
+                    {
+                        Kernels.multiply4x4(kc, packedLeft, aStart, packedRight, bStart, result, cStart, stride);
+                    }
+                    else
+                    {
+                        edgeKernel(kc, packedLeft, aStart, packedRight, bStart, result, cStart, stride, mr, nr);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The packing buffers of one thread.
+     */
+    private static final class Scratch
+    {
+        private double[] packedRight = new double[0];
+        private double[] packedLeft  = null;
+
+        private double[] packedRight(final int length)
+        {
+            if (packedRight.length < length)
+            {
+                packedRight = new double[length];
+            }
+
+            return packedRight;
+        }
+
+        private double[] packedLeft()
+        {
+            if (packedLeft == null)
+            {
+                packedLeft = new double[MC * KC];
+            }
+
+            return packedLeft;
+        }
+    }
+
+    /**
+     * A packed panel of the right operand, together with everything needed for forked tasks to multiply any block of rows of the left operand
+     * against it.
+     */
+    private static final class Panel
+    {
+        private final Matrix   left;
+        private final double[] packedRight;
+        private final int      pc;
+        private final int      kc;
+        private final int      jc;
+        private final int      nc;
+        private final double[] result;
+        private final int      offset;
+        private final int      stride;
+
+        private Panel(final Matrix left, final double[] packedRight, final int pc, final int kc, final int jc, final int nc, final double[] result,
+                      final int offset, final int stride)
+        {
+            this.left = left;
+            this.packedRight = packedRight;
+            this.pc = pc;
+            this.kc = kc;
+            this.jc = jc;
+            this.nc = nc;
+            this.result = result;
+            this.offset = offset;
+            this.stride = stride;
+        }
+
+        private void compute(final int fromBlock, final int toBlock, final double[] packedLeft)
+        {
+            multiplyPanel(left, packedRight, pc, kc, jc, nc, result, offset, stride, fromBlock, toBlock, packedLeft);
+        }
+    }
+
+    /**
+     * Recursively splits a range of row blocks across the fork-join pool. Each row block writes a disjoint set of rows of the result.
+     */
+    private static final class RowBlocks extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Panel panel;
+        private final int   fromBlock;
+        private final int   toBlock;
+
+        private RowBlocks(final Panel panel, final int fromBlock, final int toBlock)
+        {
+            this.panel = panel;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (toBlock - fromBlock <= 1)
+            {
+                // Workers pack into their own buffer, as the calling thread's right-hand buffer is still in use
+                panel.compute(fromBlock, toBlock, SCRATCH.get().packedLeft());
+                return;
+            }
+
+            final int middle = (fromBlock + toBlock) >>> 1;
+            invokeAll(new RowBlocks(panel, fromBlock, middle), new RowBlocks(panel, middle, toBlock));
+        }
+    }
+}
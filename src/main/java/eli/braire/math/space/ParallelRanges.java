@@ -0,0 +1,83 @@
+package eli.braire.math.space;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits a range of independent indices, such as the rows of a product, across the common fork-join pool.
+ *
+ * @author The Architect
+ */
+final class ParallelRanges
+{
+    /**
+     * An action applied to each sub-range of indices.
+     */
+    @FunctionalInterface
+    static interface RangeAction
+    {
+        /**
+         * @param from The first index of the sub-range (inclusive).
+         * @param to The last index of the sub-range (exclusive).
+         */
+        void apply(int from, int to);
+    }
+
+    /**
+     * The number of sub-ranges per worker thread, so that uneven sub-ranges still balance across the pool.
+     */
+    private static final int SPLITS_PER_THREAD = 8;
+
+    private ParallelRanges()
+    {
+    }
+
+    /**
+     * @param count The number of indices, which are <code>[0, count)</code>.
+     * @param parallel true if the range may be distributed across the common fork-join pool, otherwise it is applied as one sub-range.
+     * @param action The action applied to each sub-range.
+     */
+    static void forEach(final int count, final boolean parallel, final RangeAction action)
+    {
+        final int threads = ForkJoinPool.getCommonPoolParallelism();
+        if (!parallel || threads < 2 || count < 2)
+        {
+            action.apply(0, count);
+            return;
+        }
+
+        final int grain = Math.max(1, count / (threads * SPLITS_PER_THREAD));
+        new Range(action, 0, count, grain).invoke();
+    }
+
+    private static final class Range extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeAction action;
+        private final int         from;
+        private final int         to;
+        private final int         grain;
+
+        private Range(final RangeAction action, final int from, final int to, final int grain)
+        {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from <= grain)
+            {
+                action.apply(from, to);
+                return;
+            }
+
+            final int middle = (from + to) >>> 1;
+            invokeAll(new Range(action, from, middle, grain), new Range(action, middle, to, grain));
+        }
+    }
+}
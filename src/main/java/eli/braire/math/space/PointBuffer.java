@@ -0,0 +1,318 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A mutable collection of {@link #SIZE} points of {@link #RANK} dimensions, stored as structure-of-arrays: one <code>double[]</code> per axis.
+ * Whole clouds of points are transformed by {@link #transform(Matrix, PointBuffer, PointBuffer)} in tight loops over those arrays, without
+ * allocating a {@link Point} per point, and split across the common fork-join pool when large.
+ *
+ * @author The Architect
+ */
+public final class PointBuffer
+{
+    /**
+     * The minimum number of points before a transform is split across the common fork-join pool.
+     */
+    static final int         PARALLEL_THRESHOLD = 1 << 15;
+    /**
+     * The number of points transformed together, so that the partial results of a block stay in the L1 cache.
+     */
+    private static final int BLOCK              = 512;
+
+    /**
+     * The number of dimensions of each point.
+     */
+    public final int         RANK;
+    /**
+     * The number of points.
+     */
+    public final int         SIZE;
+    /**
+     * The coordinates, by axis and then by point.
+     */
+    final double[][]         axes;
+
+    private PointBuffer(final double[][] axes)
+    {
+        RANK = axes.length;
+        SIZE = axes[0].length;
+        this.axes = axes;
+    }
+
+    /**
+     * @param rank The positive number of dimensions of each point.
+     * @param size The number of points, which are all initially at the origin.
+     * @return a new {@link PointBuffer}.
+     * @throws AssertionException If rank is less than 1, or if size is negative.
+     */
+    public static PointBuffer create(final int rank, final int size)
+    {
+        Verifier.Inequality.assertGreaterThan("A point must have at least 1 dimension.", rank, 0);
+        Verifier.Inequality.assertGreaterThanOrEqual("A PointBuffer cannot have a negative size.", size, 0);
+
+        return new PointBuffer(new double[rank][size]);
+    }
+
+    /**
+     * @param points A non-empty array of {@link Point}s of the same number of dimensions.
+     * @return a new {@link PointBuffer} holding a copy of the points.
+     * @throws AssertionException If points is null, empty or contains null, or if the points differ in dimensions.
+     */
+    public static PointBuffer of(final Point ... points)
+    {
+        Verifier.Collections.assertNotEmpty("Points must not be null or empty.", points);
+        Verifier.Collections.assertContainsNoValue("Points must not contain null.", points, null);
+
+        final PointBuffer buffer = create(points[0].RANK, points.length);
+        for (int index = 0; index < points.length; index++)
+        {
+            Verifier.Equality.assertEqual("All points must have the same number of dimensions.", points[index].RANK, buffer.RANK);
+            for (int axis = 0; axis < buffer.RANK; axis++)
+            {
+                buffer.axes[axis][index] = points[index].elements[axis];
+            }
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Wraps existing coordinate arrays without copying, so that changes through either are visible to both.
+     *
+     * @param axes A non-empty array of coordinate arrays, one per dimension, all of the same length.
+     * @return a new {@link PointBuffer} backed by the arrays.
+     * @throws AssertionException If axes is null, empty or contains null, or if the arrays differ in length.
+     */
+    public static PointBuffer wrap(final double[] ... axes)
+    {
+        Verifier.Collections.assertNotEmpty("Coordinate axes must not be null or empty.", axes);
+        Verifier.Collections.assertContainsNoValue("Coordinate axes must not contain null.", axes, (double[]) null);
+        for (int axis = 1; axis < axes.length; axis++)
+        {
+            Verifier.Equality.assertEqual("All coordinate axes must have the same length.", axes[axis].length, axes[0].length);
+        }
+
+        return new PointBuffer(axes.clone());
+    }
+
+    /**
+     * @param dimension A dimension index between 1 (inclusive) and {@link #RANK} (inclusive).
+     * @return the backing array of the coordinates of every point along the axis, which is not a copy.
+     * @throws AssertionException If dimension is out of range.
+     */
+    public double[] getAxis(final int dimension)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Dimension index must be within the defined range.", dimension, 1, RANK);
+        }
+
+        return axes[dimension - 1];
+    }
+
+    /**
+     * @param index A point index between 1 (inclusive) and {@link #SIZE} (inclusive).
+     * @param dimension A dimension index between 1 (inclusive) and {@link #RANK} (inclusive).
+     * @return the coordinate of the point along the dimension.
+     * @throws AssertionException If either index is out of range.
+     */
+    public double getCoordinate(final int index, final int dimension)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Point index must be within the defined range.", index, 1, SIZE);
+            Verifier.Ranges.assertInsideRange_Inclusive("Dimension index must be within the defined range.", dimension, 1, RANK);
+        }
+
+        return axes[dimension - 1][index - 1];
+    }
+
+    /**
+     * @param index A point index between 1 (inclusive) and {@link #SIZE} (inclusive).
+     * @param dimension A dimension index between 1 (inclusive) and {@link #RANK} (inclusive).
+     * @param value The new coordinate of the point along the dimension.
+     * @throws AssertionException If either index is out of range.
+     */
+    public void setCoordinate(final int index, final int dimension, final double value)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Point index must be within the defined range.", index, 1, SIZE);
+            Verifier.Ranges.assertInsideRange_Inclusive("Dimension index must be within the defined range.", dimension, 1, RANK);
+        }
+
+        axes[dimension - 1][index - 1] = value;
+    }
+
+    /**
+     * @param index A point index between 1 (inclusive) and {@link #SIZE} (inclusive).
+     * @return a new {@link Point} holding a copy of the coordinates of the point.
+     * @throws AssertionException If index is out of range.
+     */
+    public Point getPoint(final int index)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Point index must be within the defined range.", index, 1, SIZE);
+        }
+
+        final double[] coordinates = new double[RANK];
+        for (int axis = 0; axis < RANK; axis++)
+        {
+            coordinates[axis] = axes[axis][index - 1];
+        }
+
+        return Point.create(coordinates);
+    }
+
+    /**
+     * @param index A point index between 1 (inclusive) and {@link #SIZE} (inclusive).
+     * @param point The {@link Point} whose coordinates to copy, with {@link #RANK} dimensions. (Cannot be null)
+     * @throws AssertionException If index is out of range, or if point is null or has the wrong dimensions.
+     */
+    public void setPoint(final int index, final Point point)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Point index must be within the defined range.", index, 1, SIZE);
+        }
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot set a null Point.", point);
+            Verifier.Equality.assertEqual("The Point must have the same number of dimensions as the buffer.", point.RANK, RANK);
+        }
+
+        for (int axis = 0; axis < RANK; axis++)
+        {
+            axes[axis][index - 1] = point.elements[axis];
+        }
+    }
+
+    /**
+     * Transforms every point of the source into the destination, which may be the source itself. The {@link Matrix} is applied as either:
+     * <ul>
+     * <li>a linear transform, if it has a column per source dimension and a row per destination dimension, or</li>
+     * <li>a transform in homogeneous coordinates, if it has one more column than there are source dimensions, and either a row per destination
+     * dimension, or one more with which each point is divided as a perspective projection.</li>
+     * </ul>
+     *
+     * @param matrix The transform. (Cannot be null)
+     * @param source The points to transform. (Cannot be null)
+     * @param destination The buffer to overwrite with the transformed points, of the same size as the source. (Cannot be null)
+     * @return the destination.
+     * @throws AssertionException If any argument is null, if the buffers differ in size, or if the Matrix does not fit the buffers' dimensions.
+     */
+    public static PointBuffer transform(final Matrix matrix, final PointBuffer source, final PointBuffer destination)
+    {
+        Verifier.assertNotNull("Cannot transform by a null Matrix.", matrix);
+
+        final double[] coefficients = new double[matrix.ROWS * matrix.COLUMNS];
+        for (int i = 0; i < matrix.ROWS; i++)
+        {
+            for (int j = 0, index = matrix.index(i, 0); j < matrix.COLUMNS; j++, index += matrix.columnStride)
+            {
+                coefficients[i * matrix.COLUMNS + j] = matrix.elements[index];
+            }
+        }
+
+        return transform(coefficients, matrix.ROWS, matrix.COLUMNS, source, destination);
+    }
+
+    /**
+     * @param coefficients The row-major elements of the transform.
+     */
+    static PointBuffer transform(final double[] coefficients, final int rows, final int columns, final PointBuffer source,
+                                 final PointBuffer destination)
+    {
+        Verifier.assertNotNull("Cannot transform a null PointBuffer.", source);
+        Verifier.assertNotNull("Cannot transform into a null PointBuffer.", destination);
+        Verifier.Equality.assertEqual("The destination must hold as many points as the source.", destination.SIZE, source.SIZE);
+        final boolean homogeneous = columns == source.RANK + 1;
+        if (!homogeneous)
+        {
+            Verifier.Equality.assertEqual("The Matrix must have a column per source dimension, or one more.", columns, source.RANK);
+        }
+        final boolean perspective = homogeneous && rows == destination.RANK + 1;
+        if (!perspective)
+        {
+            Verifier.Equality.assertEqual("The Matrix must have a row per destination dimension, or one more.", rows, destination.RANK);
+        }
+
+        // 3-dimensional affine transforms run as a single fused pass, which reads and writes each coordinate once
+        final boolean affine3 = homogeneous && source.RANK == 3 && destination.RANK == 3
+                                && (!perspective || coefficients[12] == 0D && coefficients[13] == 0D && coefficients[14] == 0D && coefficients[15] == 1D);
+        ParallelRanges.forEach(source.SIZE, source.SIZE >= PARALLEL_THRESHOLD, (from, to) ->
+        {
+            if (affine3)
+            {
+                Kernels.transformAffine3(coefficients, source.axes, destination.axes, from, to);
+            }
+            else
+            {
+                transformBlocks(coefficients, rows, columns, homogeneous, perspective, source.axes, destination.axes, from, to);
+            }
+        });
+
+        return destination;
+    }
+
+    /**
+     * Any other transform, a block of points at a time: each output axis is accumulated in a scratch row by streaming over the input axes, which
+     * also allows the destination to be the source.
+     */
+    private static void transformBlocks(final double[] m, final int rows, final int columns, final boolean homogeneous, final boolean perspective,
+                                        final double[][] source, final double[][] target, final int from, final int to)
+    {
+        final int inputs = source.length;
+        final double[][] scratch = new double[rows][BLOCK];
+        for (int start = from; start < to; start += BLOCK)
+        {
+            final int length = Math.min(BLOCK, to - start);
+            for (int i = 0; i < rows; i++)
+            {
+                final double[] sum = scratch[i];
+                final double constant = homogeneous ? m[i * columns + inputs] : 0D;
+                for (int p = 0; p < length; p++)
+                {
+                    sum[p] = constant;
+                }
+                for (int j = 0; j < inputs; j++)
+                {
+                    Kernels.axpy(m[i * columns + j], source[j], start, sum, 0, length);
+                }
+            }
+
+            if (perspective)
+            {
+                final double[] w = scratch[rows - 1];
+                for (int i = 0; i < target.length; i++)
+                {
+                    final double[] sum = scratch[i];
+                    final double[] axis = target[i];
+                    for (int p = 0; p < length; p++)
+                    {
+                        axis[start + p] = sum[p] / w[p];
+                    }
+                }
+            }
+            else
+            {
+                for (int i = 0; i < target.length; i++)
+                {
+                    System.arraycopy(scratch[i], 0, target[i], start, length);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("PointBuffer[rank={0}, size={1,number,#}]", RANK, SIZE);
+    }
+}
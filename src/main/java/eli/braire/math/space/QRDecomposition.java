@@ -0,0 +1,329 @@
+package eli.braire.math.space;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The Householder QR factorisation of a {@link Matrix} with column pivoting, such that <code>A &middot; P == Q &middot; R</code>, where
+ * <code>P</code> is a column permutation, <code>Q</code> has orthonormal columns and <code>R</code> is upper trapezoidal.
+ * <p>
+ * At each step the remaining column of largest norm is brought forward, so the diagonal of <code>R</code> decreases in magnitude and the
+ * factorisation stops as soon as it falls to the rounding error: the number of steps taken is then the numerical rank. This reveals rank far more
+ * reliably than elimination, and the factors give the least-squares solution of overdetermined systems without forming the ill-conditioned normal
+ * equations <code>A<sup>t</sup> &middot; A</code>.
+ * <p>
+ * The factors are held column-major, so that every reflector and every column it is applied to is a contiguous range, updated by the same kernels
+ * as {@link Matrix} itself. Instances are immutable and are cached by {@link Matrix#getQRDecomposition()}.
+ *
+ * @author The Architect
+ */
+public final class QRDecomposition
+{
+    /**
+     * Trailing updates with fewer elements than this are not worth distributing across threads.
+     */
+    private static final long PARALLEL_THRESHOLD = 256L * 256L;
+
+    /**
+     * The total number of rows of the factorised {@link Matrix}.
+     */
+    public final int          ROWS;
+    /**
+     * The total number of columns of the factorised {@link Matrix}.
+     */
+    public final int          COLUMNS;
+    /**
+     * The column-major factors, with <code>R</code> above the diagonal and the Householder vectors on and below it. Column <code>j</code> starts
+     * at <code>j * ROWS</code>.
+     */
+    private final double[]    qr;
+    /**
+     * The diagonal of <code>R</code>, which the Householder vectors displace from {@link #qr}.
+     */
+    private final double[]    diagonal;
+    /**
+     * Column <code>j</code> of the factors originates from column <code>permutation[j]</code> of the original {@link Matrix}.
+     */
+    private final int[]       permutation;
+    private final int         rank;
+
+    private QRDecomposition(final Matrix matrix)
+    {
+        ROWS = matrix.ROWS;
+        COLUMNS = matrix.COLUMNS;
+        qr = matrix.transposeView().clone().elements;
+        diagonal = new double[Math.min(ROWS, COLUMNS)];
+        permutation = new int[COLUMNS];
+
+        // The squared norms of the remaining part of each column, downdated after each step, and recomputed when cancellation sets in
+        final double[] norms = new double[COLUMNS];
+        final double[] exactNorms = new double[COLUMNS];
+        double largest = 0D;
+        for (int j = 0; j < COLUMNS; j++)
+        {
+            permutation[j] = j;
+            norms[j] = Kernels.dot(qr, j * ROWS, qr, j * ROWS, ROWS);
+            exactNorms[j] = norms[j];
+            largest = Math.max(largest, norms[j]);
+        }
+        // Columns no larger than the accumulated rounding error are treated as zero
+        final double tolerance = Math.max(ROWS, COLUMNS) * Math.ulp(Math.sqrt(largest));
+
+        int step = 0;
+        for (; step < diagonal.length; step++)
+        {
+            int best = step;
+            for (int j = step + 1; j < COLUMNS; j++)
+            {
+                if (norms[j] > norms[best])
+                {
+                    best = j;
+                }
+            }
+            if (best != step)
+            {
+                swapColumns(best, step);
+                swap(permutation, best, step);
+                swap(norms, best, step);
+                swap(exactNorms, best, step);
+            }
+
+            final int column = step * ROWS + step;
+            final int length = ROWS - step;
+            double norm = Math.sqrt(Kernels.dot(qr, column, qr, column, length));
+            if (norm <= tolerance)
+            {
+                break;
+            }
+
+            // The reflector is v = x / norm + e1, scaled so that H = I - v . v^t / v[0] maps x onto -norm . e1
+            if (qr[column] < 0D)
+            {
+                norm = -norm;
+            }
+            Kernels.scale(1D / norm, qr, column, qr, column, length);
+            qr[column] += 1D;
+            diagonal[step] = -norm;
+
+            final int current = step;
+            final boolean parallel = (long) length * (COLUMNS - step) >= PARALLEL_THRESHOLD;
+            ParallelRanges.forEach(COLUMNS - step - 1, parallel, (from, to) ->
+            {
+                for (int j = current + 1 + from; j <= current + to; j++)
+                {
+                    final int target = j * ROWS + current;
+                    Kernels.axpy(-Kernels.dot(qr, column, qr, target, length) / qr[column], qr, column, qr, target, length);
+
+                    final double removed = qr[target];
+                    norms[j] = Math.max(0D, norms[j] - removed * removed);
+                    if (norms[j] <= 1E-8 * exactNorms[j])
+                    {
+                        norms[j] = Kernels.dot(qr, target + 1, qr, target + 1, length - 1);
+                        exactNorms[j] = norms[j];
+                    }
+                }
+            });
+        }
+        rank = step;
+    }
+
+    /**
+     * @param matrix The {@link Matrix} to factorise.
+     * @return a new {@link QRDecomposition} of the specified {@link Matrix}.
+     */
+    static QRDecomposition of(final Matrix matrix)
+    {
+        return new QRDecomposition(matrix);
+    }
+
+    private void swapColumns(final int first, final int second)
+    {
+        final int firstStart = first * ROWS;
+        final int secondStart = second * ROWS;
+        for (int i = 0; i < ROWS; i++)
+        {
+            final double swapped = qr[firstStart + i];
+            qr[firstStart + i] = qr[secondStart + i];
+            qr[secondStart + i] = swapped;
+        }
+    }
+
+    private static void swap(final int[] array, final int first, final int second)
+    {
+        final int swapped = array[first];
+        array[first] = array[second];
+        array[second] = swapped;
+    }
+
+    private static void swap(final double[] array, final int first, final int second)
+    {
+        final double swapped = array[first];
+        array[first] = array[second];
+        array[second] = swapped;
+    }
+
+    /**
+     * @return the total number of linearly independent columns of the factorised {@link Matrix}.
+     */
+    public int getRank()
+    {
+        return rank;
+    }
+
+    /**
+     * @return true if the columns of the factorised {@link Matrix} are linearly independent, so that its least-squares solutions are unique.
+     */
+    public boolean isFullRank()
+    {
+        return rank == COLUMNS;
+    }
+
+    /**
+     * @return the column dimensions [1, total columns] of the original {@link Matrix}, in the order that they appear within the factors.
+     */
+    public int[] getPermutation()
+    {
+        final int[] dimensions = new int[COLUMNS];
+        for (int j = 0; j < COLUMNS; j++)
+        {
+            dimensions[j] = permutation[j] + 1;
+        }
+
+        return dimensions;
+    }
+
+    /**
+     * @return a new {@link Matrix} <code>Q</code> with orthonormal columns, with as many rows as the factorised Matrix and as many columns as the
+     *         lesser of its rows and columns.
+     */
+    public Matrix getQ()
+    {
+        // Applies the reflectors in reverse to the leading columns of the identity, column-major
+        final int columns = diagonal.length;
+        final double[] q = new double[columns * ROWS];
+        for (int j = 0; j < columns; j++)
+        {
+            q[j * ROWS + j] = 1D;
+        }
+        for (int step = rank - 1; step >= 0; step--)
+        {
+            for (int j = step; j < columns; j++)
+            {
+                reflect(step, q, j * ROWS + step);
+            }
+        }
+
+        return Matrix.wrap(q, columns, ROWS).transverse();
+    }
+
+    /**
+     * @return a new upper trapezoidal {@link Matrix} <code>R</code>, with as many rows as the lesser of the rows and columns of the factorised
+     *         Matrix, and as many columns as it has. Rows beneath the rank are zero.
+     */
+    public Matrix getR()
+    {
+        final int rows = diagonal.length;
+        final double[] r = new double[rows * COLUMNS];
+        for (int i = 0; i < rank; i++)
+        {
+            r[i * COLUMNS + i] = diagonal[i];
+            for (int j = i + 1; j < COLUMNS; j++)
+            {
+                r[i * COLUMNS + j] = qr[j * ROWS + i];
+            }
+        }
+
+        return Matrix.wrap(r, rows, COLUMNS);
+    }
+
+    /**
+     * Finds the least-squares solution, which minimises <code>|A &middot; x - b|</code>. If the columns of the factorised Matrix are dependent,
+     * this is the basic solution, with a zero for each column beyond the rank; {@link SingularValueDecomposition#solve(Vector)} instead finds
+     * the solution of least norm.
+     *
+     * @param vector The right-hand side <code>b</code>, with as many dimensions as the factorised Matrix has rows. (Cannot be null)
+     * @return a new {@link Vector} <code>x</code>, with as many dimensions as the factorised Matrix has columns.
+     * @throws AssertionException If vector is null, or does not have as many dimensions as the factorised Matrix has rows.
+     */
+    public Vector solve(final Vector vector)
+    {
+        Verifier.assertNotNull("Cannot solve for a null Vector.", vector);
+        Verifier.Equality.assertEqual("The Vector dimensions must match the Matrix rows.", vector.RANK, ROWS);
+
+        final double[] solution = vector.elements.clone();
+        solve(solution);
+
+        return Vector.create(permute(solution));
+    }
+
+    /**
+     * Finds the least-squares solution of each column of <code>B</code>, as for {@link #solve(Vector)}.
+     *
+     * @param matrix The right-hand sides <code>B</code>, with as many rows as the factorised Matrix. (Cannot be null)
+     * @return a new {@link Matrix} <code>X</code>, with as many rows as the factorised Matrix has columns.
+     * @throws AssertionException If matrix is null, or does not have as many rows as the factorised Matrix.
+     */
+    public Matrix solve(final Matrix matrix)
+    {
+        Verifier.assertNotNull("Cannot solve for a null Matrix.", matrix);
+        Verifier.Equality.assertEqual("The right-hand Matrix rows must match the Matrix rows.", matrix.ROWS, ROWS);
+
+        // Each right-hand side is solved as a contiguous column
+        final double[] columns = matrix.transposeView().clone().elements;
+        final double[] solution = new double[matrix.COLUMNS * COLUMNS];
+        final double[] column = new double[ROWS];
+        for (int k = 0; k < matrix.COLUMNS; k++)
+        {
+            System.arraycopy(columns, k * ROWS, column, 0, ROWS);
+            solve(column);
+            System.arraycopy(permute(column), 0, solution, k * COLUMNS, COLUMNS);
+        }
+
+        return Matrix.wrap(solution, matrix.COLUMNS, COLUMNS).transverse();
+    }
+
+    /**
+     * Overwrites the leading elements of <code>b</code> with the solution of <code>R &middot; y == Q<sup>t</sup> &middot; b</code> over the first
+     * {@link #rank} columns, in permuted order.
+     */
+    private void solve(final double[] b)
+    {
+        for (int step = 0; step < rank; step++)
+        {
+            reflect(step, b, step);
+        }
+        for (int i = rank - 1; i >= 0; i--)
+        {
+            double sum = b[i];
+            for (int j = i + 1; j < rank; j++)
+            {
+                sum -= qr[j * ROWS + i] * b[j];
+            }
+            b[i] = sum / diagonal[i];
+        }
+    }
+
+    /**
+     * @return the solution in the original column order, with zeros for the columns beyond the rank.
+     */
+    private double[] permute(final double[] b)
+    {
+        final double[] solution = new double[COLUMNS];
+        for (int j = 0; j < rank; j++)
+        {
+            solution[permutation[j]] = b[j];
+        }
+
+        return solution;
+    }
+
+    /**
+     * Applies the reflector of the specified step to the <code>ROWS - step</code> elements of <code>target</code> from <code>start</code>.
+     */
+    private void reflect(final int step, final double[] target, final int start)
+    {
+        final int column = step * ROWS + step;
+        final int length = ROWS - step;
+        Kernels.axpy(-Kernels.dot(qr, column, target, start, length) / qr[column], qr, column, target, start, length);
+    }
+}
@@ -0,0 +1,231 @@
+package eli.braire.math.space;
+
+/**
+ * The portable implementations of the innermost loops of {@link Matrix}, {@link Vector}, {@link MatrixMultiplication} and {@link PointBuffer},
+ * and of their single-precision counterparts {@link FloatMatrix}, {@link FloatVector} and {@link FloatMatrixMultiplication}. These are what {@link Kernels} runs on Java 8, and on later runtimes where SIMD is unavailable or disabled.
+ *
+ * @author The Architect
+ */
+final class ScalarKernels
+{
+    private ScalarKernels()
+    {
+    }
+
+    static double dot(final double[] x, final int xOffset, final double[] y, final int yOffset, final int length)
+    {
+        double sum = 0D;
+        for (int index = 0; index < length; index++)
+        {
+            sum += x[xOffset + index] * y[yOffset + index];
+        }
+
+        return sum;
+    }
+
+    static void addScaled(final double[] x, final int xOffset, final double scalar, final double[] y, final int yOffset, final double[] target,
+                          final int targetOffset, final int length)
+    {
+        for (int index = 0; index < length; index++)
+        {
+            target[targetOffset + index] = x[xOffset + index] + scalar * y[yOffset + index];
+        }
+    }
+
+    static void scale(final double scalar, final double[] x, final int xOffset, final double[] target, final int targetOffset, final int length)
+    {
+        for (int index = 0; index < length; index++)
+        {
+            target[targetOffset + index] = scalar * x[xOffset + index];
+        }
+    }
+
+    static void axpy(final double alpha, final double[] x, final int xOffset, final double[] y, final int yOffset, final int length)
+    {
+        for (int index = 0; index < length; index++)
+        {
+            y[yOffset + index] += alpha * x[xOffset + index];
+        }
+    }
+
+    static float dot(final float[] x, final int xOffset, final float[] y, final int yOffset, final int length)
+    {
+        float sum = 0F;
+        for (int index = 0; index < length; index++)
+        {
+            sum += x[xOffset + index] * y[yOffset + index];
+        }
+
+        return sum;
+    }
+
+    static void addScaled(final float[] x, final int xOffset, final float scalar, final float[] y, final int yOffset, final float[] target,
+                          final int targetOffset, final int length)
+    {
+        for (int index = 0; index < length; index++)
+        {
+            target[targetOffset + index] = x[xOffset + index] + scalar * y[yOffset + index];
+        }
+    }
+
+    static void scale(final float scalar, final float[] x, final int xOffset, final float[] target, final int targetOffset, final int length)
+    {
+        for (int index = 0; index < length; index++)
+        {
+            target[targetOffset + index] = scalar * x[xOffset + index];
+        }
+    }
+
+    static void axpy(final float alpha, final float[] x, final int xOffset, final float[] y, final int yOffset, final int length)
+    {
+        for (int index = 0; index < length; index++)
+        {
+            y[yOffset + index] += alpha * x[xOffset + index];
+        }
+    }
+
+    static void multiply4x4(final int kc, final double[] a, final int aStart, final double[] b, final int bStart, final double[] c, final int cStart,
+                            final int stride)
+    {
+        double c00 = 0D, c01 = 0D, c02 = 0D, c03 = 0D;
+        double c10 = 0D, c11 = 0D, c12 = 0D, c13 = 0D;
+        double c20 = 0D, c21 = 0D, c22 = 0D, c23 = 0D;
+        double c30 = 0D, c31 = 0D, c32 = 0D, c33 = 0D;
+        for (int p = 0, ai = aStart, bi = bStart; p < kc; p++, ai += 4, bi += 4)
+        {
+            final double a0 = a[ai];
+            final double a1 = a[ai + 1];
+            final double a2 = a[ai + 2];
+            final double a3 = a[ai + 3];
+            final double b0 = b[bi];
+            final double b1 = b[bi + 1];
+            final double b2 = b[bi + 2];
+            final double b3 = b[bi + 3];
+            c00 += a0 * b0;
+            c01 += a0 * b1;
+            c02 += a0 * b2;
+            c03 += a0 * b3;
+            c10 += a1 * b0;
+            c11 += a1 * b1;
+            c12 += a1 * b2;
+            c13 += a1 * b3;
+            c20 += a2 * b0;
+            c21 += a2 * b1;
+            c22 += a2 * b2;
+            c23 += a2 * b3;
+            c30 += a3 * b0;
+            c31 += a3 * b1;
+            c32 += a3 * b2;
+            c33 += a3 * b3;
+        }
+
+        int row = cStart;
+        c[row] += c00;
+        c[row + 1] += c01;
+        c[row + 2] += c02;
+        c[row + 3] += c03;
+        row += stride;
+        c[row] += c10;
+        c[row + 1] += c11;
+        c[row + 2] += c12;
+        c[row + 3] += c13;
+        row += stride;
+        c[row] += c20;
+        c[row + 1] += c21;
+        c[row + 2] += c22;
+        c[row + 3] += c23;
+        row += stride;
+        c[row] += c30;
+        c[row + 1] += c31;
+        c[row + 2] += c32;
+        c[row + 3] += c33;
+    }
+
+    /**
+     * Accumulates the tile as two <code>4 x 4</code> halves, as 32 scalar accumulators would not fit in registers.
+     */
+    static void multiply4x8(final int kc, final float[] a, final int aStart, final float[] b, final int bStart, final float[] c, final int cStart,
+                            final int stride)
+    {
+        multiply4x4Half(kc, a, aStart, b, bStart, c, cStart, stride);
+        multiply4x4Half(kc, a, aStart, b, bStart + 4, c, cStart + 4, stride);
+    }
+
+    /**
+     * Accumulates 4 of the 8 columns of a <code>4 x 8</code> tile, starting at the given column of the packed right-hand strip.
+     */
+    private static void multiply4x4Half(final int kc, final float[] a, final int aStart, final float[] b, final int bStart, final float[] c,
+                                        final int cStart, final int stride)
+    {
+        float c00 = 0F, c01 = 0F, c02 = 0F, c03 = 0F;
+        float c10 = 0F, c11 = 0F, c12 = 0F, c13 = 0F;
+        float c20 = 0F, c21 = 0F, c22 = 0F, c23 = 0F;
+        float c30 = 0F, c31 = 0F, c32 = 0F, c33 = 0F;
+        for (int p = 0, ai = aStart, bi = bStart; p < kc; p++, ai += 4, bi += 8)
+        {
+            final float a0 = a[ai];
+            final float a1 = a[ai + 1];
+            final float a2 = a[ai + 2];
+            final float a3 = a[ai + 3];
+            final float b0 = b[bi];
+            final float b1 = b[bi + 1];
+            final float b2 = b[bi + 2];
+            final float b3 = b[bi + 3];
+            c00 += a0 * b0;
+            c01 += a0 * b1;
+            c02 += a0 * b2;
+            c03 += a0 * b3;
+            c10 += a1 * b0;
+            c11 += a1 * b1;
+            c12 += a1 * b2;
+            c13 += a1 * b3;
+            c20 += a2 * b0;
+            c21 += a2 * b1;
+            c22 += a2 * b2;
+            c23 += a2 * b3;
+            c30 += a3 * b0;
+            c31 += a3 * b1;
+            c32 += a3 * b2;
+            c33 += a3 * b3;
+        }
+
+        int row = cStart;
+        c[row] += c00;
+        c[row + 1] += c01;
+        c[row + 2] += c02;
+        c[row + 3] += c03;
+        row += stride;
+        c[row] += c10;
+        c[row + 1] += c11;
+        c[row + 2] += c12;
+        c[row + 3] += c13;
+        row += stride;
+        c[row] += c20;
+        c[row + 1] += c21;
+        c[row + 2] += c22;
+        c[row + 3] += c23;
+        row += stride;
+        c[row] += c30;
+        c[row + 1] += c31;
+        c[row + 2] += c32;
+        c[row + 3] += c33;
+    }
+
+    static void transformAffine3(final double[] m, final double[][] source, final double[][] target, final int from, final int to)
+    {
+        final double m11 = m[0], m12 = m[1], m13 = m[2], m14 = m[3];
+        final double m21 = m[4], m22 = m[5], m23 = m[6], m24 = m[7];
+        final double m31 = m[8], m32 = m[9], m33 = m[10], m34 = m[11];
+        final double[] xs = source[0], ys = source[1], zs = source[2];
+        final double[] xt = target[0], yt = target[1], zt = target[2];
+        for (int index = from; index < to; index++)
+        {
+            final double x = xs[index];
+            final double y = ys[index];
+            final double z = zs[index];
+            xt[index] = m11 * x + m12 * y + m13 * z + m14;
+            yt[index] = m21 * x + m22 * y + m23 * z + m24;
+            zt[index] = m31 * x + m32 * y + m33 * z + m34;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package eli.braire.math.space;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The thin singular value decomposition of a {@link Matrix}, such that <code>A == U &middot; S &middot; V<sup>t</sup></code>, where
+ * <code>U</code> and <code>V</code> have orthonormal columns and <code>S</code> is the diagonal of non-negative singular values, in decreasing
+ * order. There are as many singular values as the lesser of the rows and columns of the factorised Matrix.
+ * <p>
+ * The decomposition is computed by one-sided Jacobi rotations, which orthogonalise the columns of the Matrix pairwise until they are mutually
+ * orthogonal, and which find even the smallest singular values to high relative accuracy. Every rotation combines two contiguous columns. A Matrix
+ * with more rows than columns is first reduced to the square factor <code>R</code> of its {@link QRDecomposition}, so that the sweeps run over
+ * columns no longer than the Matrix is wide; a Matrix with more columns than rows is decomposed through its transpose.
+ * <p>
+ * The decomposition gives the rank, the condition number, the pseudo-inverse and the least-squares solutions of least norm, even for rank
+ * deficient matrices. Instances are immutable and are cached by {@link Matrix#getSingularValueDecomposition()}.
+ *
+ * @author The Architect
+ */
+public final class SingularValueDecomposition
+{
+    /**
+     * Sweeps are abandoned after this many, although convergence is quadratic and usually takes fewer than ten.
+     */
+    private static final int MAXIMUM_SWEEPS = 60;
+
+    /**
+     * The total number of rows of the factorised {@link Matrix}.
+     */
+    public final int         ROWS;
+    /**
+     * The total number of columns of the factorised {@link Matrix}.
+     */
+    public final int         COLUMNS;
+    /**
+     * The column-major left singular vectors, column <code>k</code> starting at <code>k * ROWS</code>.
+     */
+    private final double[]   u;
+    /**
+     * The singular values, in decreasing order.
+     */
+    private final double[]   values;
+    /**
+     * The column-major right singular vectors, column <code>k</code> starting at <code>k * COLUMNS</code>.
+     */
+    private final double[]   v;
+    private final int        rank;
+
+    private SingularValueDecomposition(final int rows, final int columns, final double[] u, final double[] values, final double[] v)
+    {
+        ROWS = rows;
+        COLUMNS = columns;
+        this.u = u;
+        this.values = values;
+        this.v = v;
+
+        // Singular values no larger than the accumulated rounding error are treated as zero
+        final double tolerance = Math.max(rows, columns) * Math.ulp(values[0]);
+        int count = 0;
+        while (count < values.length && values[count] > tolerance)
+        {
+            count++;
+        }
+        rank = count;
+    }
+
+    /**
+     * @param matrix The {@link Matrix} to factorise.
+     * @return a new {@link SingularValueDecomposition} of the specified {@link Matrix}.
+     */
+    static SingularValueDecomposition of(final Matrix matrix)
+    {
+        if (matrix.ROWS < matrix.COLUMNS)
+        {
+            // A = (A^t)^t = (U . S . V^t)^t = V . S . U^t
+            final SingularValueDecomposition transposed = of(matrix.transposeView());
+            return new SingularValueDecomposition(matrix.ROWS, matrix.COLUMNS, transposed.v, transposed.values, transposed.u);
+        }
+
+        final int columns = matrix.COLUMNS;
+        final double[] u;
+        final double[] v;
+        if (matrix.ROWS == columns)
+        {
+            u = matrix.transposeView().clone().elements;
+            v = rotate(u, columns, columns);
+        }
+        else
+        {
+            // A . P = Q . R and R = Ur . S . Vr^t, so A = (Q . Ur) . S . (P . Vr)^t
+            final QRDecomposition qr = QRDecomposition.of(matrix);
+            final double[] r = qr.getR().transposeView().clone().elements;
+            final double[] rotations = rotate(r, columns, columns);
+            u = Matrix.wrap(r, columns, columns).dotProduct(qr.getQ().transposeView()).elements;
+
+            final int[] permutation = qr.getPermutation();
+            v = new double[columns * columns];
+            for (int k = 0; k < columns; k++)
+            {
+                for (int j = 0; j < columns; j++)
+                {
+                    v[k * columns + permutation[j] - 1] = rotations[k * columns + j];
+                }
+            }
+        }
+
+        return sorted(matrix.ROWS, columns, u, v);
+    }
+
+    /**
+     * Applies one-sided Jacobi rotations to the columns of <code>a</code> until they are mutually orthogonal, leaving <code>a</code> holding
+     * <code>U &middot; S</code>.
+     *
+     * @param a The column-major Matrix, overwritten by its rotated columns.
+     * @param rows The length of each column.
+     * @param columns The number of columns.
+     * @return the column-major accumulated rotations <code>V</code>.
+     */
+    private static double[] rotate(final double[] a, final int rows, final int columns)
+    {
+        final double[] v = new double[columns * columns];
+        for (int j = 0; j < columns; j++)
+        {
+            v[j * columns + j] = 1D;
+        }
+
+        final double epsilon = Math.ulp(1D);
+        boolean rotated = true;
+        for (int sweep = 0; rotated && sweep < MAXIMUM_SWEEPS; sweep++)
+        {
+            rotated = false;
+            for (int p = 0; p < columns - 1; p++)
+            {
+                for (int q = p + 1; q < columns; q++)
+                {
+                    final double alpha = Kernels.dot(a, p * rows, a, p * rows, rows);
+                    final double beta = Kernels.dot(a, q * rows, a, q * rows, rows);
+                    final double gamma = Kernels.dot(a, p * rows, a, q * rows, rows);
+                    if (Math.abs(gamma) <= epsilon * Math.sqrt(alpha * beta))
+                    {
+                        continue;
+                    }
+
+                    // The rotation which makes columns p and q orthogonal, taking the smaller of the two possible angles
+                    final double zeta = (beta - alpha) / (2D * gamma);
+                    final double t = Math.copySign(1D, zeta) / (Math.abs(zeta) + Math.sqrt(1D + zeta * zeta));
+                    final double c = 1D / Math.sqrt(1D + t * t);
+                    final double s = c * t;
+                    rotate(a, p * rows, q * rows, rows, c, s);
+                    rotate(v, p * columns, q * columns, columns, c, s);
+                    rotated = true;
+                }
+            }
+        }
+
+        return v;
+    }
+
+    private static void rotate(final double[] a, final int first, final int second, final int length, final double c, final double s)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            final double x = a[first + i];
+            final double y = a[second + i];
+            a[first + i] = c * x - s * y;
+            a[second + i] = s * x + c * y;
+        }
+    }
+
+    /**
+     * Normalises the columns of <code>U &middot; S</code> and orders them, and the columns of <code>V</code>, by decreasing singular value.
+     */
+    private static SingularValueDecomposition sorted(final int rows, final int columns, final double[] scaled, final double[] rotations)
+    {
+        final double[] norms = new double[columns];
+        final Integer[] order = new Integer[columns];
+        for (int k = 0; k < columns; k++)
+        {
+            norms[k] = Math.sqrt(Kernels.dot(scaled, k * rows, scaled, k * rows, rows));
+            order[k] = k;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((final Integer k) -> norms[k]).reversed());
+
+        final double[] u = new double[rows * columns];
+        final double[] values = new double[columns];
+        final double[] v = new double[columns * columns];
+        for (int k = 0; k < columns; k++)
+        {
+            final int source = order[k];
+            values[k] = norms[source];
+            if (values[k] > 0D)
+            {
+                Kernels.scale(1D / values[k], scaled, source * rows, u, k * rows, rows);
+            }
+            System.arraycopy(rotations, source * columns, v, k * columns, columns);
+        }
+
+        return new SingularValueDecomposition(rows, columns, u, values, v);
+    }
+
+    /**
+     * @return the total number of singular values which exceed the rounding error, which is the number of linearly independent rows or columns of
+     *         the factorised {@link Matrix}.
+     */
+    public int getRank()
+    {
+        return rank;
+    }
+
+    /**
+     * @return a new array of the singular values, in decreasing order.
+     */
+    public double[] getSingularValues()
+    {
+        return values.clone();
+    }
+
+    /**
+     * @return the ratio of the largest to the smallest singular value, which bounds how much a relative error in <code>b</code> can be magnified
+     *         in the solution of <code>A &middot; x == b</code>. It is infinite for rank deficient matrices.
+     */
+    public double conditionNumber()
+    {
+        return values[0] / values[values.length - 1];
+    }
+
+    /**
+     * @return a new {@link Matrix} <code>U</code> of left singular vectors, with as many rows as the factorised Matrix and one column per singular
+     *         value. The columns of zero singular values are zero.
+     */
+    public Matrix getU()
+    {
+        return Matrix.wrap(u.clone(), values.length, ROWS).transverse();
+    }
+
+    /**
+     * @return a new {@link Matrix} <code>V</code> of right singular vectors, with as many rows as the factorised Matrix has columns and one column
+     *         per singular value.
+     */
+    public Matrix getV()
+    {
+        return Matrix.wrap(v.clone(), values.length, COLUMNS).transverse();
+    }
+
+    /**
+     * @return a new Moore-Penrose pseudo-inverse <code>V &middot; S<sup>+</sup> &middot; U<sup>t</sup></code> of the factorised {@link Matrix},
+     *         with its rows and columns exchanged, where <code>S<sup>+</sup></code> inverts only the singular values within the rank. It equals the
+     *         inverse of a non-singular Matrix.
+     */
+    public Matrix pseudoInverse()
+    {
+        // The sum of the rank-1 products of each singular vector pair, one contiguous row of the result at a time
+        final double[] inverse = new double[COLUMNS * ROWS];
+        for (int k = 0; k < rank; k++)
+        {
+            for (int i = 0; i < COLUMNS; i++)
+            {
+                final double factor = v[k * COLUMNS + i] / values[k];
+                if (factor != 0D)
+                {
+                    Kernels.axpy(factor, u, k * ROWS, inverse, i * ROWS, ROWS);
+                }
+            }
+        }
+
+        return Matrix.wrap(inverse, COLUMNS, ROWS);
+    }
+
+    /**
+     * Finds the least-squares solution of least norm, which minimises <code>|A &middot; x - b|</code> and, among all such solutions,
+     * <code>|x|</code>.
+     *
+     * @param vector The right-hand side <code>b</code>, with as many dimensions as the factorised Matrix has rows. (Cannot be null)
+     * @return a new {@link Vector} <code>x</code>, with as many dimensions as the factorised Matrix has columns.
+     * @throws AssertionException If vector is null, or does not have as many dimensions as the factorised Matrix has rows.
+     */
+    public Vector solve(final Vector vector)
+    {
+        Verifier.assertNotNull("Cannot solve for a null Vector.", vector);
+        Verifier.Equality.assertEqual("The Vector dimensions must match the Matrix rows.", vector.RANK, ROWS);
+
+        final double[] solution = new double[COLUMNS];
+        for (int k = 0; k < rank; k++)
+        {
+            final double coefficient = Kernels.dot(u, k * ROWS, vector.elements, 0, ROWS) / values[k];
+            Kernels.axpy(coefficient, v, k * COLUMNS, solution, 0, COLUMNS);
+        }
+
+        return Vector.create(solution);
+    }
+}
@@ -0,0 +1,200 @@
+package eli.braire.math.space;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Strassen-Winograd matrix multiplication for {@link Matrix}, which replaces one of the eight half-size products of the classic recursive
+ * split with 15 additions, for <code>O(n^2.81)</code> multiplications overall.
+ * <p>
+ * Each level splits every dimension in half, rounding up, and copies the quadrants into contiguous arrays padded with zeros, so any shape may be
+ * multiplied. Once any dimension falls below the cutoff, the product is left to the blocked kernels of {@link MatrixMultiplication}. The seven
+ * sub-products of the upper levels are forked as separate tasks across the common fork-join pool.
+ * <p>
+ * The additions cost some accuracy: the error grows with the number of levels, by roughly a constant factor per level, rather than being
+ * bounded element by element as for the classic product.
+ *
+ * @author The Architect
+ */
+final class StrassenMultiplication
+{
+    /**
+     * Products with any dimension below this are computed by the classic kernels, which are faster than a further level of recursion.
+     */
+    static final int          CUTOFF         = 1024;
+    /**
+     * Sub-products with fewer multiplications than this are computed on the calling thread.
+     */
+    private static final long FORK_THRESHOLD = 256L * 256L * 256L;
+
+    private StrassenMultiplication()
+    {
+    }
+
+    /**
+     * @param left The left operand.
+     * @param right The right operand, with as many rows as <code>left</code> has columns.
+     * @param cutoff The dimension below which the classic kernels are used.
+     * @return a new contiguous {@link Matrix} holding <code>left &middot; right</code>.
+     */
+    static Matrix multiply(final Matrix left, final Matrix right, final int cutoff)
+    {
+        final int m = left.ROWS;
+        final int k = left.COLUMNS;
+        final int n = right.COLUMNS;
+        if (Math.min(m, Math.min(k, n)) < cutoff)
+        {
+            return MatrixMultiplication.multiply(left, right);
+        }
+
+        return Matrix.wrap(new Product(copy(left), copy(right), m, k, n, cutoff).invoke(), m, n);
+    }
+
+    /**
+     * @return the elements of the Matrix as a contiguous row-major array.
+     */
+    private static double[] copy(final Matrix matrix)
+    {
+        final double[] elements = new double[matrix.ROWS * matrix.COLUMNS];
+        for (int i = 0, target = 0; i < matrix.ROWS; i++)
+        {
+            for (int j = 0, source = matrix.index(i, 0); j < matrix.COLUMNS; j++, source += matrix.columnStride)
+            {
+                elements[target++] = matrix.elements[source];
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * @return a new <code>rows x columns</code> array holding the block of a row-major array starting at <code>(row, column)</code>, padded
+     *         with zeros where the block extends beyond the source.
+     */
+    private static double[] quadrant(final double[] source, final int sourceRows, final int sourceColumns, final int row, final int column,
+                                     final int rows, final int columns)
+    {
+        final double[] quadrant = new double[rows * columns];
+        final int copiedColumns = Math.min(columns, sourceColumns - column);
+        for (int i = 0, copiedRows = Math.min(rows, sourceRows - row); i < copiedRows; i++)
+        {
+            System.arraycopy(source, (row + i) * sourceColumns + column, quadrant, i * columns, copiedColumns);
+        }
+        return quadrant;
+    }
+
+    /**
+     * @return a new array holding <code>x + sign &middot; y</code>.
+     */
+    private static double[] add(final double[] x, final double sign, final double[] y)
+    {
+        final double[] sum = new double[x.length];
+        Kernels.addScaled(x, 0, sign, y, 0, sum, 0, x.length);
+        return sum;
+    }
+
+    /**
+     * The product of two contiguous row-major arrays, as a task whose result is a new <code>m x n</code> array.
+     */
+    private static final class Product extends RecursiveTask<double[]>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] a;
+        private final double[] b;
+        private final int      m;
+        private final int      k;
+        private final int      n;
+        private final int      cutoff;
+
+        private Product(final double[] a, final double[] b, final int m, final int k, final int n, final int cutoff)
+        {
+            this.a = a;
+            this.b = b;
+            this.m = m;
+            this.k = k;
+            this.n = n;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected double[] compute()
+        {
+            final double[] c = new double[m * n];
+            if (Math.min(m, Math.min(k, n)) < cutoff)
+            {
+                MatrixMultiplication.multiplyAdd(new Matrix(a, m, k, 0, k, 1), new Matrix(b, k, n, 0, n, 1), c, 0, n, true);
+                return c;
+            }
+
+            final int hm = (m + 1) / 2;
+            final int hk = (k + 1) / 2;
+            final int hn = (n + 1) / 2;
+            final double[] a11 = quadrant(a, m, k, 0, 0, hm, hk);
+            final double[] a12 = quadrant(a, m, k, 0, hk, hm, hk);
+            final double[] a21 = quadrant(a, m, k, hm, 0, hm, hk);
+            final double[] a22 = quadrant(a, m, k, hm, hk, hm, hk);
+            final double[] b11 = quadrant(b, k, n, 0, 0, hk, hn);
+            final double[] b12 = quadrant(b, k, n, 0, hn, hk, hn);
+            final double[] b21 = quadrant(b, k, n, hk, 0, hk, hn);
+            final double[] b22 = quadrant(b, k, n, hk, hn, hk, hn);
+
+            // Winograd's form: 8 additions of the operands' quadrants, 7 products, and 7 additions of the products
+            final double[] s1 = add(a21, 1D, a22);
+            final double[] s2 = add(s1, -1D, a11);
+            final double[] s3 = add(a11, -1D, a21);
+            final double[] s4 = add(a12, -1D, s2);
+            final double[] t1 = add(b12, -1D, b11);
+            final double[] t2 = add(b22, -1D, t1);
+            final double[] t3 = add(b22, -1D, b12);
+            final double[] t4 = add(t2, -1D, b21);
+
+            final Product[] products = { new Product(a11, b11, hm, hk, hn, cutoff), new Product(a12, b21, hm, hk, hn, cutoff),
+                                         new Product(s4, b22, hm, hk, hn, cutoff), new Product(a22, t4, hm, hk, hn, cutoff),
+                                         new Product(s1, t1, hm, hk, hn, cutoff), new Product(s2, t2, hm, hk, hn, cutoff),
+                                         new Product(s3, t3, hm, hk, hn, cutoff) };
+            final double[][] p = new double[products.length][];
+            if ((long) hm * hk * hn >= FORK_THRESHOLD)
+            {
+                invokeAll(products);
+                for (int i = 0; i < products.length; i++)
+                {
+                    p[i] = products[i].getRawResult();
+                }
+            }
+            else
+            {
+                for (int i = 0; i < products.length; i++)
+                {
+                    p[i] = products[i].compute();
+                }
+            }
+
+            final double[] u2 = add(p[0], 1D, p[5]);
+            final double[] u3 = add(u2, 1D, p[6]);
+            final double[] u4 = add(u2, 1D, p[4]);
+            final double[] c11 = add(p[0], 1D, p[1]);
+            final double[] c12 = add(u4, 1D, p[2]);
+            final double[] c21 = add(u3, -1D, p[3]);
+            final double[] c22 = add(u3, 1D, p[4]);
+            place(c11, c, 0, 0);
+            place(c12, c, 0, hn);
+            place(c21, c, hm, 0);
+            place(c22, c, hm, hn);
+
+            return c;
+        }
+
+        /**
+         * Copies the part of a <code>ceil(m / 2) x ceil(n / 2)</code> quadrant of the product which lies within this product's result.
+         */
+        private void place(final double[] quadrant, final double[] c, final int row, final int column)
+        {
+            final int quadrantColumns = (n + 1) / 2;
+            final int rows = Math.min((m + 1) / 2, m - row);
+            final int columns = Math.min(quadrantColumns, n - column);
+            for (int i = 0; i < rows; i++)
+            {
+                System.arraycopy(quadrant, i * quadrantColumns, c, (row + i) * n + column, columns);
+            }
+        }
+    }
+}
@@ -0,0 +1,561 @@
+package eli.braire.math.space;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * The eigen-decomposition of a symmetric {@link Matrix}, such that <code>A == V &middot; D &middot; V<sup>t</sup></code>, where the columns of
+ * <code>V</code> are orthonormal eigenvectors and <code>D</code> is the diagonal of the real eigenvalues, in decreasing order.
+ * <p>
+ * The complete decomposition, from {@link Matrix#getSymmetricEigenDecomposition()}, reduces the Matrix to tridiagonal form by Householder
+ * reflections, then diagonalises it by the implicit QL algorithm with Wilkinson shifts, in <code>O(n<sup>3</sup>)</code> time. Each reflection
+ * is applied as a symmetric rank-2 update, and each sweep of QL rotations is recorded and then applied to the eigenvectors, both distributed
+ * across the common fork-join pool by rows, so every thread streams through contiguous rows.
+ * <p>
+ * The partial decomposition, from {@link #largest(LinearOperator, int)}, finds only the largest eigenpairs by the Lanczos method, touching the
+ * operator only through {@link LinearOperator#apply(double[], double[])}. It is far cheaper when only the leading components are wanted, as in
+ * principal component analysis. As symmetry is assumed throughout, only the diagonal and the lower triangle of a Matrix are read.
+ *
+ * @author The Architect
+ */
+public final class SymmetricEigenDecomposition
+{
+    /**
+     * Updates with fewer elements than this are not worth distributing across threads.
+     */
+    private static final long PARALLEL_THRESHOLD = 128L * 128L;
+    /**
+     * The relative residual at which the Lanczos eigenpairs are accepted, by default.
+     */
+    private static final double DEFAULT_TOLERANCE = 1E-10;
+    /**
+     * The number of Lanczos steps between convergence tests.
+     */
+    private static final int CHECK_INTERVAL = 8;
+
+    /**
+     * The number of dimensions of the eigenvectors, which is the total number of rows and columns of the decomposed operator.
+     */
+    public final int         SIZE;
+    /**
+     * The number of eigenpairs held, which is {@link #SIZE} for a complete decomposition.
+     */
+    public final int         COUNT;
+    /**
+     * The eigenvalues, in decreasing order.
+     */
+    private final double[]   values;
+    /**
+     * The row-major eigenvectors, with {@link #COUNT} columns.
+     */
+    private final double[]   vectors;
+
+    private SymmetricEigenDecomposition(final int size, final double[] values, final double[] vectors)
+    {
+        SIZE = size;
+        COUNT = values.length;
+        this.values = values;
+        this.vectors = vectors;
+    }
+
+    /**
+     * @param matrix The square, symmetric {@link Matrix} to decompose.
+     * @return a new complete {@link SymmetricEigenDecomposition} of the specified {@link Matrix}.
+     * @throws AssertionException If the Matrix is not square.
+     */
+    static SymmetricEigenDecomposition of(final Matrix matrix)
+    {
+        Verifier.Equality.assertEqual("Only square Matrices have a symmetric eigen-decomposition.", matrix.COLUMNS, matrix.ROWS);
+
+        final int size = matrix.ROWS;
+        final double[] a = matrix.clone().elements;
+        for (int i = 0; i < size; i++)
+        {
+            for (int j = i + 1; j < size; j++)
+            {
+                a[i * size + j] = a[j * size + i];
+            }
+        }
+
+        final double[] diagonal = new double[size];
+        final double[] offDiagonal = new double[size];
+        final double[] vectors = tridiagonalise(a, size, diagonal, offDiagonal);
+        diagonalise(diagonal, offDiagonal, vectors, size, size);
+
+        return sorted(size, diagonal, vectors, size, size);
+    }
+
+    /**
+     * Finds the largest eigenvalues and their eigenvectors, to a relative residual of <code>10<sup>-10</sup></code>.
+     *
+     * @param operator A square, symmetric {@link LinearOperator}, such as a {@link Matrix} or a {@link CsrMatrix}. (Cannot be null)
+     * @param count The number of eigenpairs to find [1, total rows].
+     * @return a new partial {@link SymmetricEigenDecomposition} of the specified operator.
+     * @throws AssertionException If the operator is null or not square, or count is out of range.
+     * @see #largest(LinearOperator, int, double)
+     */
+    public static SymmetricEigenDecomposition largest(final LinearOperator operator, final int count)
+    {
+        return largest(operator, count, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Finds the largest eigenvalues and their eigenvectors by the Lanczos method with full reorthogonalisation. Each step applies the operator
+     * once; the Krylov subspace grows until the residual <code>|A &middot; v - &lambda; &middot; v|</code> of every wanted eigenpair falls to the
+     * tolerance, relative to the largest eigenvalue, and at most to the full dimension, where the result is exact.
+     *
+     * @param operator A square, symmetric {@link LinearOperator}, such as a {@link Matrix} or a {@link CsrMatrix}. (Cannot be null)
+     * @param count The number of eigenpairs to find [1, total rows].
+     * @param tolerance The positive relative residual at which the eigenpairs are accepted.
+     * @return a new partial {@link SymmetricEigenDecomposition} of the specified operator.
+     * @throws AssertionException If the operator is null or not square, count is out of range, or the tolerance is not positive.
+     */
+    public static SymmetricEigenDecomposition largest(final LinearOperator operator, final int count, final double tolerance)
+    {
+        Verifier.assertNotNull("Cannot decompose a null operator.", operator);
+        Verifier.Equality.assertEqual("Only square operators have a symmetric eigen-decomposition.", operator.getColumns(), operator.getRows());
+        Verifier.Ranges.assertInsideRange_Inclusive("The number of eigenpairs must be within the operator dimensions.", count, 1,
+                                                    operator.getRows());
+        Verifier.Inequality.assertGreaterThan("The tolerance must be positive.", tolerance, 0D, 0D);
+
+        final int size = operator.getRows();
+        final double[][] basis = new double[size][];
+        final double[] alphas = new double[size];
+        final double[] betas = new double[size];
+        final Random random = new Random(size);
+        basis[0] = randomDirection(random, basis, 0, size);
+
+        final double[] w = new double[size];
+        // An estimate of the norm of the operator, against which a vanishing beta is recognised
+        double norm = 0D;
+        int steps = 0;
+        double[] ritzValues = null;
+        double[] ritzVectors = null;
+        while (true)
+        {
+            final double[] q = basis[steps];
+            operator.apply(q, w);
+            alphas[steps] = Kernels.dot(q, 0, w, 0, size);
+            orthogonalise(w, basis, steps + 1, size);
+            orthogonalise(w, basis, steps + 1, size);
+            double beta = Math.sqrt(Kernels.dot(w, 0, w, 0, size));
+            norm = Math.max(norm, Math.abs(alphas[steps]) + beta);
+            steps++;
+
+            final boolean complete = steps == size;
+            if (complete || steps >= count && steps % CHECK_INTERVAL == 0)
+            {
+                // The eigenpairs of the tridiagonal projection are the Ritz pairs, whose residuals are beta times the last row of its eigenvectors
+                final double[] diagonal = Arrays.copyOf(alphas, steps);
+                final double[] offDiagonal = Arrays.copyOf(betas, steps);
+                final double[] rotations = new double[steps * steps];
+                for (int i = 0; i < steps; i++)
+                {
+                    rotations[i * steps + i] = 1D;
+                }
+                diagonalise(diagonal, offDiagonal, rotations, steps, steps);
+                final SymmetricEigenDecomposition projection = sorted(steps, diagonal, rotations, steps, count);
+                ritzValues = projection.values;
+                ritzVectors = projection.vectors;
+
+                double scale = 0D;
+                for (final double value : diagonal)
+                {
+                    scale = Math.max(scale, Math.abs(value));
+                }
+                boolean converged = true;
+                for (int i = 0; i < count && converged; i++)
+                {
+                    converged = Math.abs(beta * ritzVectors[(steps - 1) * count + i]) <= tolerance * scale;
+                }
+                if (complete || converged)
+                {
+                    break;
+                }
+            }
+
+            if (beta <= size * Math.ulp(norm))
+            {
+                // The subspace is invariant, so the search continues from a new direction orthogonal to it, which also uncovers any further copies
+                // of repeated eigenvalues
+                basis[steps] = randomDirection(random, basis, steps, size);
+                beta = 0D;
+            }
+            else
+            {
+                basis[steps] = new double[size];
+                Kernels.scale(1D / beta, w, 0, basis[steps], 0, size);
+            }
+            betas[steps - 1] = beta;
+        }
+
+        // Each eigenvector is the combination of the basis vectors weighted by the corresponding eigenvector of the projection
+        final int dimension = steps;
+        final double[] rotations = ritzVectors;
+        final double[] vectors = new double[size * count];
+        ParallelRanges.forEach(size, (long) size * dimension >= PARALLEL_THRESHOLD, (from, to) ->
+        {
+            for (int j = 0; j < dimension; j++)
+            {
+                final double[] q = basis[j];
+                for (int r = from; r < to; r++)
+                {
+                    Kernels.axpy(q[r], rotations, j * count, vectors, r * count, count);
+                }
+            }
+        });
+
+        return new SymmetricEigenDecomposition(size, ritzValues, vectors);
+    }
+
+    /**
+     * @return a new unit vector, orthogonal to the first <code>count</code> basis vectors.
+     */
+    private static double[] randomDirection(final Random random, final double[][] basis, final int count, final int size)
+    {
+        final double[] direction = new double[size];
+        double norm = 0D;
+        while (norm == 0D)
+        {
+            for (int i = 0; i < size; i++)
+            {
+                direction[i] = random.nextDouble() - 0.5D;
+            }
+            orthogonalise(direction, basis, count, size);
+            orthogonalise(direction, basis, count, size);
+            norm = Math.sqrt(Kernels.dot(direction, 0, direction, 0, size));
+        }
+        Kernels.scale(1D / norm, direction, 0, direction, 0, size);
+
+        return direction;
+    }
+
+    /**
+     * Removes from <code>w</code> its components along the first <code>count</code> basis vectors, by classical Gram-Schmidt. Applied twice, this
+     * is as stable as the modified form, while each pass computes all of its projections at once, distributed across threads by element ranges.
+     */
+    private static void orthogonalise(final double[] w, final double[][] basis, final int count, final int size)
+    {
+        final double[] projections = new double[count];
+        final boolean parallel = (long) size * count >= PARALLEL_THRESHOLD;
+        ParallelRanges.forEach(count, parallel, (from, to) ->
+        {
+            for (int j = from; j < to; j++)
+            {
+                projections[j] = Kernels.dot(basis[j], 0, w, 0, size);
+            }
+        });
+        ParallelRanges.forEach(size, parallel, (from, to) ->
+        {
+            for (int j = 0; j < count; j++)
+            {
+                Kernels.axpy(-projections[j], basis[j], from, w, from, to - from);
+            }
+        });
+    }
+
+    /**
+     * Reduces the symmetric row-major matrix <code>a</code> to tridiagonal form by Householder reflections, overwriting it. Each reflection
+     * <code>H = I - beta &middot; v &middot; v<sup>t</sup></code> is applied to the trailing block <code>B</code> as the symmetric rank-2 update
+     * <code>H &middot; B &middot; H = B - v &middot; w<sup>t</sup> - w &middot; v<sup>t</sup></code>, where
+     * <code>w = p - (beta &middot; p<sup>t</sup> &middot; v / 2) &middot; v</code> and <code>p = beta &middot; B &middot; v</code>. The product
+     * <code>p</code> of the next reflection is computed in the same pass over each row as the update, so the block is read only once per step.
+     *
+     * @return the column-major orthogonal matrix <code>Q</code> of the accumulated reflections, such that <code>A == Q &middot; T &middot;
+     *         Q<sup>t</sup></code>.
+     */
+    private static double[] tridiagonalise(final double[] a, final int size, final double[] diagonal, final double[] offDiagonal)
+    {
+        final double[] betas = new double[size];
+        double[] p = new double[size];
+        double[] next = new double[size];
+        if (size > 2)
+        {
+            final double beta = betas[0] = reflection(a, size, 0, diagonal, offDiagonal);
+            final double[] product = p;
+            ParallelRanges.forEach(size - 1, (long) size * size >= PARALLEL_THRESHOLD, (from, to) ->
+            {
+                for (int i = 1 + from; i <= to; i++)
+                {
+                    product[i] = beta * Kernels.dot(a, i * size + 1, a, 1, size - 1);
+                }
+            });
+        }
+        for (int k = 0; k < size - 2; k++)
+        {
+            final int first = k + 1;
+            final int start = k * size + first;
+            final int length = size - first;
+            final double beta = betas[k];
+            final double[] w = p;
+            if (beta != 0D)
+            {
+                Kernels.axpy(-beta * Kernels.dot(w, first, a, start, length) / 2D, a, start, w, first, length);
+                final int row = first * size + first;
+                Kernels.axpy(-a[start], w, first, a, row, length);
+                Kernels.axpy(-w[first], a, start, a, row, length);
+            }
+
+            // The next reflection only depends upon the first row of the updated block
+            final double nextBeta = first < size - 2 ? reflection(a, size, first, diagonal, offDiagonal) : 0D;
+            betas[first] = nextBeta;
+            final int nextStart = first * size + first + 1;
+            final double[] product = next;
+            ParallelRanges.forEach(length - 1, (long) length * length >= PARALLEL_THRESHOLD, (from, to) ->
+            {
+                for (int i = first + 1 + from; i <= first + to; i++)
+                {
+                    final int row = i * size + first;
+                    if (beta != 0D)
+                    {
+                        Kernels.axpy(-a[start + i - first], w, first, a, row, length);
+                        Kernels.axpy(-w[i], a, start, a, row, length);
+                    }
+                    if (nextBeta != 0D)
+                    {
+                        product[i] = nextBeta * Kernels.dot(a, row + 1, a, nextStart, length - 1);
+                    }
+                }
+            });
+            next = p;
+            p = product;
+        }
+        if (size > 1)
+        {
+            diagonal[size - 2] = a[(size - 2) * size + size - 2];
+            offDiagonal[size - 2] = a[(size - 2) * size + size - 1];
+        }
+        diagonal[size - 1] = a[size * size - 1];
+
+        // Q = H0 . H1 ..., so Q^t = ... H1 . H0, which is accumulated from the last reflection by updating the rows of Q^t, each a column of Q
+        final double[] q = new double[size * size];
+        for (int i = 0; i < size; i++)
+        {
+            q[i * size + i] = 1D;
+        }
+        for (int k = size - 3; k >= 0; k--)
+        {
+            final double beta = betas[k];
+            if (beta == 0D)
+            {
+                continue;
+            }
+            final int first = k + 1;
+            final int start = k * size + first;
+            final int length = size - first;
+            ParallelRanges.forEach(length, (long) length * length >= PARALLEL_THRESHOLD, (from, to) ->
+            {
+                for (int i = first + from; i < first + to; i++)
+                {
+                    final int row = i * size + first;
+                    Kernels.axpy(-beta * Kernels.dot(q, row, a, start, length), a, start, q, row, length);
+                }
+            });
+        }
+
+        return q;
+    }
+
+    /**
+     * Replaces row <code>k</code> of <code>a</code> beyond the diagonal by the vector <code>v</code> of the reflection mapping it onto
+     * <code>alpha &middot; e<sub>1</sub></code>, recording the diagonal element and <code>alpha</code>.
+     *
+     * @return the factor <code>beta</code> of the reflection, or zero if the row is already zero.
+     */
+    private static double reflection(final double[] a, final int size, final int k, final double[] diagonal, final double[] offDiagonal)
+    {
+        final int start = k * size + k + 1;
+        final double norm = Math.sqrt(Kernels.dot(a, start, a, start, size - k - 1));
+        diagonal[k] = a[start - 1];
+        if (norm == 0D)
+        {
+            offDiagonal[k] = 0D;
+            return 0D;
+        }
+
+        final double alpha = a[start] > 0D ? -norm : norm;
+        final double beta = 1D / (alpha * (alpha - a[start]));
+        a[start] -= alpha;
+        offDiagonal[k] = alpha;
+
+        return beta;
+    }
+
+    /**
+     * Diagonalises a symmetric tridiagonal matrix by the implicit QL algorithm, applying every rotation to the rows of <code>z</code>.
+     *
+     * @param diagonal The diagonal, overwritten by the eigenvalues.
+     * @param offDiagonal The elements beneath the diagonal, the last of which is ignored. It is overwritten.
+     * @param z The column-major matrix of <code>rows</code> rows and <code>size</code> columns to rotate, overwritten by its product with the
+     *            eigenvectors.
+     */
+    static void diagonalise(final double[] diagonal, final double[] offDiagonal, final double[] z, final int size, final int rows)
+    {
+        final double[] d = diagonal;
+        final double[] e = offDiagonal;
+        e[size - 1] = 0D;
+        final double[] cosines = new double[size];
+        final double[] sines = new double[size];
+        final double epsilon = Math.ulp(1D);
+        double shift = 0D;
+        double largest = 0D;
+        for (int l = 0; l < size; l++)
+        {
+            // Find the first negligible element beneath the diagonal, which splits off the block to diagonalise next
+            largest = Math.max(largest, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < size - 1 && Math.abs(e[m]) > epsilon * largest)
+            {
+                m++;
+            }
+
+            while (m > l)
+            {
+                // The Wilkinson shift, from the eigenvalue of the leading 2x2 block nearest its first element
+                double g = d[l];
+                double p = (d[l + 1] - g) / (2D * e[l]);
+                double r = Math.copySign(Math.hypot(p, 1D), p);
+                d[l] = e[l] / (p + r);
+                d[l + 1] = e[l] * (p + r);
+                final double next = d[l + 1];
+                double h = g - d[l];
+                for (int i = l + 2; i < size; i++)
+                {
+                    d[i] -= h;
+                }
+                shift += h;
+
+                // Chase the bulge from the bottom of the block to its top
+                p = d[m];
+                double c = 1D;
+                double c2 = 1D;
+                double c3 = 1D;
+                final double following = e[l + 1];
+                double s = 0D;
+                double s2 = 0D;
+                for (int i = m - 1; i >= l; i--)
+                {
+                    c3 = c2;
+                    c2 = c;
+                    s2 = s;
+                    g = c * e[i];
+                    h = c * p;
+                    r = Math.hypot(p, e[i]);
+                    e[i + 1] = s * r;
+                    s = e[i] / r;
+                    c = p / r;
+                    p = c * d[i] - s * g;
+                    d[i + 1] = h + s * (c * g + s * d[i]);
+                    cosines[i] = c;
+                    sines[i] = s;
+                }
+                p = -s * s2 * c3 * following * e[l] / next;
+                e[l] = s * p;
+                d[l] = c * p;
+                rotate(z, rows, l, m, cosines, sines);
+
+                if (Math.abs(e[l]) <= epsilon * largest)
+                {
+                    break;
+                }
+            }
+            d[l] += shift;
+            e[l] = 0D;
+        }
+    }
+
+    /**
+     * Applies the rotations of one QL sweep, between columns <code>i</code> and <code>i + 1</code> for each <code>i</code> from
+     * <code>last - 1</code> down to <code>first</code>, to the column-major <code>z</code>. Each rotation streams through two contiguous columns,
+     * the second of which the previous rotation has just written, and the rows are distributed across threads.
+     */
+    private static void rotate(final double[] z, final int rows, final int first, final int last, final double[] cosines, final double[] sines)
+    {
+        ParallelRanges.forEach(rows, (long) rows * (last - first) >= PARALLEL_THRESHOLD, (from, to) ->
+        {
+            for (int i = last - 1; i >= first; i--)
+            {
+                final double c = cosines[i];
+                final double s = sines[i];
+                final int left = i * rows;
+                final int right = left + rows;
+                for (int k = from; k < to; k++)
+                {
+                    final double h = z[right + k];
+                    z[right + k] = s * z[left + k] + c * h;
+                    z[left + k] = c * z[left + k] - s * h;
+                }
+            }
+        });
+    }
+
+    /**
+     * @return a decomposition of the leading <code>count</code> eigenpairs by decreasing eigenvalue, from the eigenvalues and the eigenvector
+     *         columns of the column-major <code>vectors</code>.
+     */
+    private static SymmetricEigenDecomposition sorted(final int size, final double[] eigenvalues, final double[] vectors, final int columns,
+                                                      final int count)
+    {
+        final Integer[] order = new Integer[columns];
+        for (int k = 0; k < columns; k++)
+        {
+            order[k] = k;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((final Integer k) -> eigenvalues[k]).reversed());
+
+        final double[] values = new double[count];
+        final double[] sortedVectors = new double[size * count];
+        for (int k = 0; k < count; k++)
+        {
+            values[k] = eigenvalues[order[k]];
+        }
+        for (int k = 0; k < count; k++)
+        {
+            final int column = order[k] * size;
+            for (int i = 0; i < size; i++)
+            {
+                sortedVectors[i * count + k] = vectors[column + i];
+            }
+        }
+
+        return new SymmetricEigenDecomposition(size, values, sortedVectors);
+    }
+
+    /**
+     * @return a new array of the eigenvalues, in decreasing order.
+     */
+    public double[] getEigenvalues()
+    {
+        return values.clone();
+    }
+
+    /**
+     * @return a new {@link Matrix} of {@link #SIZE} rows whose columns are the orthonormal eigenvectors, in the order of their eigenvalues.
+     */
+    public Matrix getEigenvectors()
+    {
+        return Matrix.wrap(vectors.clone(), SIZE, COUNT);
+    }
+
+    /**
+     * @param dimension The eigenpair dimension [1, {@link #COUNT}], in decreasing order of eigenvalue.
+     * @return a new unit {@link Vector} holding the eigenvector of the specified eigenpair.
+     * @throws AssertionException If dimension is out of range.
+     */
+    public Vector getEigenvector(final int dimension)
+    {
+        Verifier.Ranges.assertInsideRange_Inclusive("Eigenpair index must be within the defined range.", dimension, 1, COUNT);
+
+        final double[] eigenvector = new double[SIZE];
+        for (int i = 0; i < SIZE; i++)
+        {
+            eigenvector[i] = vectors[i * COUNT + dimension - 1];
+        }
+
+        return Vector.create(eigenvector);
+    }
+}
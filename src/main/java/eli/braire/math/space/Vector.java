@@ -1,350 +1,498 @@
-//package eli.braire.math.space;
-//
-//import java.text.MessageFormat;
-//import java.util.Arrays;
-//
-//import eli.veritas.Verifier;
-//import eli.veritas.exception.AssertionException;
-//
-///**
-// * An object corresponding to the abstract mathematical notion of a Vector. Vectors are entities within a Euclidean space consisting of a magnitude
-// * and direction. This also supports typical and relevant Vector transformations and operations.
-// *
-// * @author The Architect
-// */
-//public class Vector extends AbstractLinearConstruct
-//{
-//    protected final double[] elements;
-//
-//    protected Vector(final int rank)
-//    {
-//        super(rank);
-//        elements = new double[rank];
-//    }
-//
-//    protected Vector(final double ... elements)
-//    {
-//        super(elements.length);
-//        this.elements = elements.clone();
-//    }
-//
-//    protected Vector(final Point terminator)
-//    {
-//        super(terminator.RANK);
-//        elements = new double[RANK];
-//        for (int i = 0; i < RANK; i++)
-//        {
-//            elements[i] = terminator.d(i + 1);
-//        }
-//    }
-//
-//    /**
-//     * @param elements A non-empty <code>double</code> array.
-//     * @return a new non-empty {@link Vector} containing the specified elements.
-//     * @throws AssertionException If any of the following are true:
-//     *             <ul>
-//     *             <li>Elements is null</li>
-//     *             <li>Elements has less than 1 dimension</li>
-//     *             </ul>
-//     */
-//    public static Vector create(final double ... elements)
-//    {
-//        Verifier.Collections.assertNotEmpty("Vector elements must not be null or empty.", elements);
-//        Verifier.Inequality.assertGreaterThan("A Vector must have at least 1 element.", elements.length, 0);
-//
-//        return new Vector(elements);
-//    }
-//
-//    /**
-//     * @param terminator A terminating {@link Point} for the vector. (Non-null)
-//     * @return a new non-empty {@link Vector} containing the specified elements.
-//     * @throws AssertionException If any of the following are true:
-//     *             <ul>
-//     *             <li>Terminator is null</li>
-//     *             </ul>
-//     */
-//    public static Vector create(final Point terminator)
-//    {
-//        Verifier.assertNotNull("Terminating Point must be provided.", terminator);
-//
-//        return new Vector(terminator);
-//    }
-//
-//    /**
-//     * @return a new non-empty {@link Vector} with identical element values.
-//     */
-//    @Override
-//    public Vector clone()
-//    {
-//        return new Vector(elements);
-//    }
-//
-//    public Point toPoint()
-//    {
-//        return Point.create(elements);
-//    }
-//
-//    /**
-//     * @param dimension A dimension index. The index must be between 1 (inclusive) and the total number of dimensions (inclusive).
-//     * @return the <code>double</code> value corresponding to the {@link Vector} element at the specified position.
-//     * @throws AssertionException If any of the following are true:
-//     *             <ul>
-//     *             <li>dimension &lt;= 0 OR dimension &gt; {@link #RANK}</li>
-//     *             </ul>
-//     */
-//    public double d(final int dimension)
-//    {
-//        Verifier.Ranges.assertInsideRange_Inclusive("Vector element index must be within the defined range.", dimension, 1, RANK);
-//
-//        return elements[dimension - 1];
-//    }
-//
-//    /**
-//     * @param dimensions
-//     * @return
-//     * @throws AssertionException If any of the following are true for any of the provided dimensions:
-//     *             <ul>
-//     *             <li>dimension &lt;= 0 OR dimension &gt; {@link #RANK}</li>
-//     *             </ul>
-//     */
-//    public Vector subVector(final int ... dimensions)
-//    {
-//        Verifier.Collections.assertNotEmpty("", dimensions);
-//        Verifier.Inequality.assertLessThanOrEqual("", dimensions.length, RANK);
-//
-//        final Vector newVector = new Vector(dimensions.length);
-//        for (int i = 0; i < dimensions.length; i++)
-//        {
-//            Verifier.Ranges.assertInsideRange_Inclusive("", dimensions[i], 1, RANK);
-//            newVector.elements[i] = elements[dimensions[i] - 1];
-//        }
-//
-//        return newVector;
-//    }
-//
-//    /**
-//     * @return
-//     */
-//    public Vector negate()
-//    {
-//        final Vector newVector = new Vector(RANK);
-//        for (int i = 0; i < RANK; i++)
-//        {
-//            newVector.elements[i] = -elements[i];
-//        }
-//
-//        return newVector;
-//    }
-//
-//    /**
-//     * @param vector
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Vector add(final Vector vector)
-//    {
-//        Verifier.Equality.assertEqual("Both Vectors must have the same number of dimensions.", vector.RANK, RANK);
-//
-//        final Vector newVector = new Vector(RANK);
-//        for (int i = 0; i < RANK; i++)
-//        {
-//            newVector.elements[i] = elements[i] + vector.elements[i];
-//        }
-//
-//        return newVector;
-//    }
-//
-//    /**
-//     * @param vector
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Vector subtract(final Vector vector)
-//    {
-//        Verifier.Equality.assertEqual("Both Vectors must have the same number of dimensions.", vector.RANK, RANK);
-//
-//        final Vector newVector = new Vector(RANK);
-//        for (int i = 0; i < RANK; i++)
-//        {
-//            newVector.elements[i] = elements[i] - vector.elements[i];
-//        }
-//
-//        return newVector;
-//    }
-//
-//    /**
-//     * @param scalar
-//     * @return
-//     */
-//    public Vector multiply(final double scalar)
-//    {
-//        final Vector newVector = new Vector(RANK);
-//        for (int i = 0; i < RANK; i++)
-//        {
-//            newVector.elements[i] = elements[i] * scalar;
-//        }
-//
-//        return newVector;
-//    }
-//
-//    /**
-//     * @param scalar
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Vector divide(final double scalar)
-//    {
-//        Verifier.Equality.assertNotEqual("Cannot divide Vector elements by zero scalar.", scalar, 0, 0.0000001D);
-//
-//        final Vector newVector = new Vector(RANK);
-//        for (int i = 0; i < RANK; i++)
-//        {
-//            newVector.elements[i] = elements[i] / scalar;
-//        }
-//
-//        return newVector;
-//    }
-//
-//    /**
-//     * @param vector
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public double dotProduct(final Vector vector)
-//    {
-//        Verifier.Equality.assertEqual("Left-Vector dimensions must match the Right-Vector dimensions.", vector.RANK, RANK);
-//
-//        double scalar = 0D;
-//        for (int i = 0; i < RANK; i++)
-//        {
-//            scalar += elements[i] * vector.elements[i];
-//        }
-//
-//        return scalar;
-//    }
-//
-//    /**
-//     * @param matrix
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Vector dotProduct(final Matrix matrix)
-//    {
-//        Verifier.Equality.assertNotEqual("Cannot perform operations with a null Matrix.", matrix, null);
-//        Verifier.Equality.assertEqual("Left-Vector dimensions must match Right-Matrix rows.", matrix.ROWS, RANK);
-//
-//        final Vector newVector = new Vector(RANK);
-//        for (int j = 0; j < matrix.COLUMNS; j++)
-//        {
-//            for (int i = 0; i < RANK; i++)
-//            {
-//                newVector.elements[i] += elements[i] * matrix.getElement(i, j);
-//            }
-//        }
-//
-//        return newVector;
-//    }
-//
-//    /**
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Vector crossProduct()
-//    {
-//        Verifier.Equality.assertEqual("The cross-product of 1 Vector is only defined for 2 dimensions.", RANK, 2);
-//
-//        final Vector newVector = new Vector(2);
-//        newVector.elements[0] = elements[1];
-//        newVector.elements[1] = -elements[0];
-//
-//        return newVector;
-//    }
-//
-//    /**
-//     * @param vector
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Vector crossProduct(final Vector vector)
-//    {
-//        Verifier.Equality.assertEqual("The cross-product of 2 Vectors is only defined for 3 dimensions.", RANK, 3);
-//        Verifier.Equality.assertEqual("The cross-product is only defined for Vectors of the same number of dimensions.", vector.RANK, RANK);
-//
-//        final Vector newVector = new Vector(RANK);
-//        newVector.elements[0] = elements[1] * vector.elements[2] - elements[2] * vector.elements[1];
-//        newVector.elements[1] = elements[2] * vector.elements[0] - elements[0] * vector.elements[2];
-//        newVector.elements[2] = elements[0] * vector.elements[1] - elements[1] * vector.elements[0];
-//
-//        return newVector;
-//    }
-//
-//    /**
-//     * @param vectors
-//     * @return
-//     * @throws AssertionException
-//     */
-//    public Vector crossProduct(final Vector ... vectors)
-//    {
-//        Verifier.Inequality.assertGreaterThan("", RANK, 3);
-//        Verifier.Equality.assertEqual("", vectors.length, RANK - 2);
-//        for (final Vector vector : vectors)
-//        {
-//            Verifier.Equality.assertEqual("", vector.RANK, RANK);
-//        }
-//
-//        final Vector newVector = new Vector(RANK);
-//        final double[] elements = newVector.elements;
-//        // TODO Generate algorithm to calculate generalized crossProduct
-//
-//        return newVector;
-//    }
-//
-//    @Override
-//    public String toString()
-//    {
-//        return MessageFormat.format("<{0}>", Arrays.toString(elements));
-//    }
-//
-//    /**
-//     * {@inheritDoc}
-//     */
-//    @Override
-//    public int hashCode()
-//    {
-//        final int prime = 31;
-//        int result = 1;
-//        result = prime * result + RANK;
-//        result = prime * result + Arrays.hashCode(elements);
-//        return result;
-//    }
-//
-//    /**
-//     * {@inheritDoc}
-//     */
-//    @Override
-//    public boolean equals(final Object obj)
-//    {
-//        if (this == obj)
-//        {
-//            return true;
-//        }
-//        if (obj == null)
-//        {
-//            return false;
-//        }
-//        if (!(obj instanceof Vector))
-//        {
-//            return false;
-//        }
-//        final Vector other = (Vector) obj;
-//        if (RANK != other.RANK)
-//        {
-//            return false;
-//        }
-//        if (!Arrays.equals(elements, other.elements))
-//        {
-//            return false;
-//        }
-//        return true;
-//    }
-//}
\ No newline at end of file
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * An object corresponding to the abstract mathematical notion of a Vector. Vectors are entities within a Euclidean space consisting of a magnitude
+ * and direction. This also supports typical and relevant Vector transformations and operations.
+ *
+ * @author The Architect
+ */
+public class Vector extends AbstractLinearConstruct
+{
+    protected final double[] elements;
+
+    protected Vector(final int rank)
+    {
+        super(rank);
+        elements = new double[rank];
+    }
+
+    protected Vector(final double ... elements)
+    {
+        super(elements.length);
+        this.elements = elements.clone();
+    }
+
+    protected Vector(final Point terminator)
+    {
+        super(terminator.RANK);
+        elements = new double[RANK];
+        for (int i = 0; i < RANK; i++)
+        {
+            elements[i] = terminator.d(i + 1);
+        }
+    }
+
+    /**
+     * @param elements A non-empty <code>double</code> array.
+     * @return a new non-empty {@link Vector} containing the specified elements.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>Elements is null</li>
+     *             <li>Elements has less than 1 dimension</li>
+     *             </ul>
+     */
+    public static Vector create(final double ... elements)
+    {
+        Verifier.Collections.assertNotEmpty("Vector elements must not be null or empty.", elements);
+        Verifier.Inequality.assertGreaterThan("A Vector must have at least 1 element.", elements.length, 0);
+
+        return new Vector(elements);
+    }
+
+    /**
+     * @param terminator A terminating {@link Point} for the vector. (Non-null)
+     * @return a new non-empty {@link Vector} containing the specified elements.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>Terminator is null</li>
+     *             </ul>
+     */
+    public static Vector create(final Point terminator)
+    {
+        Verifier.assertNotNull("Terminating Point must be provided.", terminator);
+
+        return new Vector(terminator);
+    }
+
+    /**
+     * @param vector The {@link FloatVector} to convert. (Cannot be null)
+     * @return a new {@link Vector} holding the elements of the vector, which are represented exactly.
+     * @throws AssertionException If vector is null.
+     */
+    public static Vector of(final FloatVector vector)
+    {
+        Verifier.assertNotNull("Cannot convert a null Vector.", vector);
+
+        final Vector newVector = new Vector(vector.RANK);
+        for (int i = 0; i < vector.RANK; i++)
+        {
+            newVector.elements[i] = vector.elements[i];
+        }
+
+        return newVector;
+    }
+
+    /**
+     * @return a new non-empty {@link Vector} with identical element values.
+     */
+    @Override
+    public Vector clone()
+    {
+        return new Vector(elements);
+    }
+
+    public Point toPoint()
+    {
+        return Point.create(elements);
+    }
+
+    /**
+     * @param dimension A dimension index. The index must be between 1 (inclusive) and the total number of dimensions (inclusive).
+     * @return the <code>double</code> value corresponding to the {@link Vector} element at the specified position.
+     * @throws AssertionException If any of the following are true:
+     *             <ul>
+     *             <li>dimension &lt;= 0 OR dimension &gt; {@link #RANK}</li>
+     *             </ul>
+     */
+    public double d(final int dimension)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Vector element index must be within the defined range.", dimension, 1, RANK);
+        }
+
+        return elements[dimension - 1];
+    }
+
+    /**
+     * @param dimensions
+     * @return
+     * @throws AssertionException If any of the following are true for any of the provided dimensions:
+     *             <ul>
+     *             <li>dimension &lt;= 0 OR dimension &gt; {@link #RANK}</li>
+     *             </ul>
+     */
+    public Vector subVector(final int ... dimensions)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.Collections.assertNotEmpty("", dimensions);
+            Verifier.Inequality.assertLessThanOrEqual("", dimensions.length, RANK);
+        }
+
+        final Vector newVector = new Vector(dimensions.length);
+        for (int i = 0; i < dimensions.length; i++)
+        {
+            if (ValidationPolicy.CHECK_ELEMENTS)
+            {
+                Verifier.Ranges.assertInsideRange_Inclusive("", dimensions[i], 1, RANK);
+            }
+            newVector.elements[i] = elements[dimensions[i] - 1];
+        }
+
+        return newVector;
+    }
+
+    /**
+     * @return a new {@link VectorExpression} over this {@link Vector}, which records subsequent element-wise operations and evaluates them in a
+     *         single fused pass, rather than allocating an intermediate Vector at each step.
+     */
+    public VectorExpression lazy()
+    {
+        return VectorExpression.of(this);
+    }
+
+    /**
+     * @return
+     */
+    public Vector negate()
+    {
+        final Vector newVector = new Vector(RANK);
+        for (int i = 0; i < RANK; i++)
+        {
+            newVector.elements[i] = -elements[i];
+        }
+
+        return newVector;
+    }
+
+    /**
+     * @param destination The {@link VectorBuffer} to overwrite with the negated elements, which may be this Vector.
+     * @return the destination.
+     * @throws AssertionException If the destination is null or has different dimensions.
+     */
+    public VectorBuffer negateInto(final VectorBuffer destination)
+    {
+        return multiplyInto(-1D, destination);
+    }
+
+    /**
+     * @param vector
+     * @return
+     * @throws AssertionException
+     */
+    public Vector add(final Vector vector)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.Equality.assertEqual("Both Vectors must have the same number of dimensions.", vector.RANK, RANK);
+        }
+
+        final Vector newVector = new Vector(RANK);
+        addScaledElements(vector, 1D, newVector.elements);
+
+        return newVector;
+    }
+
+    /**
+     * @param vector A {@link Vector} with the same number of dimensions.
+     * @param destination The {@link VectorBuffer} to overwrite with the sum, which may be either operand.
+     * @return the destination.
+     * @throws AssertionException If the vector or destination is null, or if any dimensions differ.
+     */
+    public VectorBuffer addInto(final Vector vector, final VectorBuffer destination)
+    {
+        verifyElementwise(vector, destination);
+
+        addScaledElements(vector, 1D, destination.elements);
+        return destination;
+    }
+
+    /**
+     * @param vector
+     * @return
+     * @throws AssertionException
+     */
+    public Vector subtract(final Vector vector)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.Equality.assertEqual("Both Vectors must have the same number of dimensions.", vector.RANK, RANK);
+        }
+
+        final Vector newVector = new Vector(RANK);
+        addScaledElements(vector, -1D, newVector.elements);
+
+        return newVector;
+    }
+
+    /**
+     * @param vector A {@link Vector} with the same number of dimensions.
+     * @param destination The {@link VectorBuffer} to overwrite with the difference, which may be either operand.
+     * @return the destination.
+     * @throws AssertionException If the vector or destination is null, or if any dimensions differ.
+     */
+    public VectorBuffer subtractInto(final Vector vector, final VectorBuffer destination)
+    {
+        verifyElementwise(vector, destination);
+
+        addScaledElements(vector, -1D, destination.elements);
+        return destination;
+    }
+
+    /**
+     * Writes <code>this + scalar &middot; vector</code> into a target, which may be the elements of either operand.
+     */
+    final void addScaledElements(final Vector vector, final double scalar, final double[] target)
+    {
+        Kernels.addScaled(elements, 0, scalar, vector.elements, 0, target, 0, RANK);
+    }
+
+    private void verifyElementwise(final Vector vector, final VectorBuffer destination)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Vector.", vector);
+            Verifier.assertNotNull("Cannot write into a null VectorBuffer.", destination);
+            Verifier.Equality.assertEqual("Both Vectors must have the same number of dimensions.", vector.RANK, RANK);
+            Verifier.Equality.assertEqual("The destination must have the same number of dimensions.", destination.RANK, RANK);
+        }
+    }
+
+    /**
+     * @param scalar
+     * @return
+     */
+    public Vector multiply(final double scalar)
+    {
+        final Vector newVector = new Vector(RANK);
+        Kernels.scale(scalar, elements, 0, newVector.elements, 0, RANK);
+
+        return newVector;
+    }
+
+    /**
+     * @param scalar The factor applied to each element.
+     * @param destination The {@link VectorBuffer} to overwrite with the scaled elements, which may be this Vector.
+     * @return the destination.
+     * @throws AssertionException If the destination is null or has different dimensions.
+     */
+    public VectorBuffer multiplyInto(final double scalar, final VectorBuffer destination)
+    {
+        verifyElementwise(this, destination);
+
+        Kernels.scale(scalar, elements, 0, destination.elements, 0, RANK);
+        return destination;
+    }
+
+    /**
+     * @param scalar
+     * @return
+     * @throws AssertionException
+     */
+    public Vector divide(final double scalar)
+    {
+        Verifier.Equality.assertNotEqual("Cannot divide Vector elements by zero scalar.", scalar, 0, 0.0000001D);
+
+        final Vector newVector = new Vector(RANK);
+        for (int i = 0; i < RANK; i++)
+        {
+            newVector.elements[i] = elements[i] / scalar;
+        }
+
+        return newVector;
+    }
+
+    /**
+     * @param vector
+     * @return
+     * @throws AssertionException
+     */
+    public double dotProduct(final Vector vector)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.Equality.assertEqual("Left-Vector dimensions must match the Right-Vector dimensions.", vector.RANK, RANK);
+        }
+
+        return Kernels.dot(elements, 0, vector.elements, 0, RANK);
+    }
+
+    /**
+     * @param matrix
+     * @return
+     * @throws AssertionException
+     */
+    public Vector dotProduct(final Matrix matrix)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.Equality.assertNotEqual("Cannot perform operations with a null Matrix.", matrix, null);
+            Verifier.Equality.assertEqual("Left-Vector dimensions must match Right-Matrix rows.", matrix.ROWS, RANK);
+        }
+
+        final Vector newVector = new Vector(matrix.COLUMNS);
+        for (int i = 0; i < RANK; i++)
+        {
+            // Accumulate whole rows of the Matrix, which is the order its elements are stored in
+            for (int j = 0, source = matrix.index(i, 0); j < matrix.COLUMNS; j++, source += matrix.columnStride)
+            {
+                newVector.elements[j] += elements[i] * matrix.elements[source];
+            }
+        }
+
+        return newVector;
+    }
+
+    /**
+     * @param matrix A {@link Matrix} with as many rows as this Vector has dimensions.
+     * @param destination The {@link VectorBuffer} to overwrite with the product, which must not be this Vector.
+     * @return the destination.
+     * @throws AssertionException If the matrix or destination is null, if any dimensions differ, or if the destination is this Vector.
+     */
+    public VectorBuffer dotProductInto(final Matrix matrix, final VectorBuffer destination)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Matrix.", matrix);
+            Verifier.assertNotNull("Cannot write into a null VectorBuffer.", destination);
+            Verifier.Equality.assertEqual("Left-Vector dimensions must match Right-Matrix rows.", matrix.ROWS, RANK);
+            Verifier.Equality.assertEqual("The destination dimensions must match the Right-Matrix columns.", destination.RANK, matrix.COLUMNS);
+            Verifier.Equality.assertNotEqual("The destination cannot share elements with the Left-Vector.", destination.elements, elements);
+        }
+
+        Arrays.fill(destination.elements, 0D);
+        for (int i = 0; i < RANK; i++)
+        {
+            for (int j = 0, source = matrix.index(i, 0); j < matrix.COLUMNS; j++, source += matrix.columnStride)
+            {
+                destination.elements[j] += elements[i] * matrix.elements[source];
+            }
+        }
+        return destination;
+    }
+
+    /**
+     * @return
+     * @throws AssertionException
+     */
+    public Vector crossProduct()
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.Equality.assertEqual("The cross-product of 1 Vector is only defined for 2 dimensions.", RANK, 2);
+        }
+
+        final Vector newVector = new Vector(2);
+        newVector.elements[0] = elements[1];
+        newVector.elements[1] = -elements[0];
+
+        return newVector;
+    }
+
+    /**
+     * @param vector
+     * @return
+     * @throws AssertionException
+     */
+    public Vector crossProduct(final Vector vector)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.Equality.assertEqual("The cross-product of 2 Vectors is only defined for 3 dimensions.", RANK, 3);
+            Verifier.Equality.assertEqual("The cross-product is only defined for Vectors of the same number of dimensions.", vector.RANK, RANK);
+        }
+
+        final Vector newVector = new Vector(RANK);
+        newVector.elements[0] = elements[1] * vector.elements[2] - elements[2] * vector.elements[1];
+        newVector.elements[1] = elements[2] * vector.elements[0] - elements[0] * vector.elements[2];
+        newVector.elements[2] = elements[0] * vector.elements[1] - elements[1] * vector.elements[0];
+
+        return newVector;
+    }
+
+    /**
+     * @param vectors
+     * @return
+     * @throws AssertionException
+     */
+    public Vector crossProduct(final Vector ... vectors)
+    {
+        Verifier.Inequality.assertGreaterThan("", RANK, 3);
+        Verifier.Equality.assertEqual("", vectors.length, RANK - 2);
+        for (final Vector vector : vectors)
+        {
+            Verifier.Equality.assertEqual("", vector.RANK, RANK);
+        }
+
+        final Vector newVector = new Vector(RANK);
+        final double[] elements = newVector.elements;
+        // TODO Generate algorithm to calculate generalized crossProduct
+
+        return newVector;
+    }
+
+    /**
+     * @return a new array holding a copy of the elements of this {@link Vector}.
+     */
+    public double[] toArray()
+    {
+        return elements.clone();
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("<{0}>", Arrays.toString(elements));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + RANK;
+        result = prime * result + Arrays.hashCode(elements);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (obj == null)
+        {
+            return false;
+        }
+        if (!(obj instanceof Vector))
+        {
+            return false;
+        }
+        final Vector other = (Vector) obj;
+        if (RANK != other.RANK)
+        {
+            return false;
+        }
+        if (!Arrays.equals(elements, other.elements))
+        {
+            return false;
+        }
+        return true;
+    }
+}
\ No newline at end of file
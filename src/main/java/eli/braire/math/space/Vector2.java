@@ -0,0 +1,157 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * An immutable 2-dimensional Vector, held in scalar fields rather than an array. It is the fast path for 2-dimensional geometry: no operation
+ * allocates anything but its result, and the operands of arithmetic are not verified, so a null operand raises a {@link NullPointerException}.
+ * Use {@link #of(Vector)} and {@link #toVector()} to convert to and from the general {@link Vector}.
+ *
+ * @author The Architect
+ * @see Matrix3
+ */
+public final class Vector2
+{
+    public static final Vector2 ZERO = new Vector2(0D, 0D);
+
+    public final double X;
+    public final double Y;
+
+    private Vector2(final double x, final double y)
+    {
+        X = x;
+        Y = y;
+    }
+
+    /**
+     * @param x The first coordinate.
+     * @param y The second coordinate.
+     * @return a new {@link Vector2}.
+     */
+    public static Vector2 create(final double x, final double y)
+    {
+        return new Vector2(x, y);
+    }
+
+    /**
+     * @param vector A 2-dimensional {@link Vector}. (Cannot be null)
+     * @return a new {@link Vector2} with the same elements.
+     * @throws AssertionException If vector is null or does not have 2 dimensions.
+     */
+    public static Vector2 of(final Vector vector)
+    {
+        Verifier.assertNotNull("Cannot convert a null Vector.", vector);
+        Verifier.Equality.assertEqual("Only a 2-dimensional Vector can be converted.", vector.RANK, 2);
+
+        return new Vector2(vector.elements[0], vector.elements[1]);
+    }
+
+    /**
+     * @return a new 2-dimensional {@link Vector} with the same elements.
+     */
+    public Vector toVector()
+    {
+        return Vector.create(X, Y);
+    }
+
+    /**
+     * @return a new 2-dimensional {@link Point} at the terminator of this Vector.
+     */
+    public Point toPoint()
+    {
+        return Point.create(X, Y);
+    }
+
+    public Vector2 add(final Vector2 vector)
+    {
+        return new Vector2(X + vector.X, Y + vector.Y);
+    }
+
+    public Vector2 subtract(final Vector2 vector)
+    {
+        return new Vector2(X - vector.X, Y - vector.Y);
+    }
+
+    public Vector2 multiply(final double scalar)
+    {
+        return new Vector2(X * scalar, Y * scalar);
+    }
+
+    public Vector2 negate()
+    {
+        return new Vector2(-X, -Y);
+    }
+
+    public double dotProduct(final Vector2 vector)
+    {
+        return X * vector.X + Y * vector.Y;
+    }
+
+    /**
+     * @return the perpendicular {@link Vector2} <code>(y, -x)</code>, as {@link Vector#crossProduct()}.
+     */
+    public Vector2 crossProduct()
+    {
+        return new Vector2(Y, -X);
+    }
+
+    /**
+     * @return the Euclidean length of this Vector.
+     */
+    public double getMagnitude()
+    {
+        return Math.hypot(X, Y);
+    }
+
+    /**
+     * @return a new {@link Vector2} in the same direction with a magnitude of 1.
+     * @throws AssertionException If this Vector has no magnitude.
+     */
+    public Vector2 normalize()
+    {
+        final double magnitude = getMagnitude();
+        Verifier.Equality.assertNotEqual("Cannot normalize a Vector without magnitude.", magnitude, 0D, 0D);
+
+        return new Vector2(X / magnitude, Y / magnitude);
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("[{0}, {1}]", X, Y);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Double.hashCode(X);
+        result = prime * result + Double.hashCode(Y);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (!(obj instanceof Vector2))
+        {
+            return false;
+        }
+        final Vector2 other = (Vector2) obj;
+        return Double.compare(X, other.X) == 0 && Double.compare(Y, other.Y) == 0;
+    }
+}
@@ -0,0 +1,161 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * An immutable 3-dimensional Vector, held in scalar fields rather than an array. It is the fast path for 3-dimensional geometry: no operation
+ * allocates anything but its result, and the operands of arithmetic are not verified, so a null operand raises a {@link NullPointerException}.
+ * Use {@link #of(Vector)} and {@link #toVector()} to convert to and from the general {@link Vector}.
+ *
+ * @author The Architect
+ * @see Matrix4
+ */
+public final class Vector3
+{
+    public static final Vector3 ZERO   = new Vector3(0D, 0D, 0D);
+    public static final Vector3 UNIT_X = new Vector3(1D, 0D, 0D);
+    public static final Vector3 UNIT_Y = new Vector3(0D, 1D, 0D);
+    public static final Vector3 UNIT_Z = new Vector3(0D, 0D, 1D);
+
+    public final double X;
+    public final double Y;
+    public final double Z;
+
+    private Vector3(final double x, final double y, final double z)
+    {
+        X = x;
+        Y = y;
+        Z = z;
+    }
+
+    /**
+     * @param x The first coordinate.
+     * @param y The second coordinate.
+     * @param z The third coordinate.
+     * @return a new {@link Vector3}.
+     */
+    public static Vector3 create(final double x, final double y, final double z)
+    {
+        return new Vector3(x, y, z);
+    }
+
+    /**
+     * @param vector A 3-dimensional {@link Vector}. (Cannot be null)
+     * @return a new {@link Vector3} with the same elements.
+     * @throws AssertionException If vector is null or does not have 3 dimensions.
+     */
+    public static Vector3 of(final Vector vector)
+    {
+        Verifier.assertNotNull("Cannot convert a null Vector.", vector);
+        Verifier.Equality.assertEqual("Only a 3-dimensional Vector can be converted.", vector.RANK, 3);
+
+        return new Vector3(vector.elements[0], vector.elements[1], vector.elements[2]);
+    }
+
+    /**
+     * @return a new 3-dimensional {@link Vector} with the same elements.
+     */
+    public Vector toVector()
+    {
+        return Vector.create(X, Y, Z);
+    }
+
+    /**
+     * @return a new 3-dimensional {@link Point} at the terminator of this Vector.
+     */
+    public Point toPoint()
+    {
+        return Point.create(X, Y, Z);
+    }
+
+    public Vector3 add(final Vector3 vector)
+    {
+        return new Vector3(X + vector.X, Y + vector.Y, Z + vector.Z);
+    }
+
+    public Vector3 subtract(final Vector3 vector)
+    {
+        return new Vector3(X - vector.X, Y - vector.Y, Z - vector.Z);
+    }
+
+    public Vector3 multiply(final double scalar)
+    {
+        return new Vector3(X * scalar, Y * scalar, Z * scalar);
+    }
+
+    public Vector3 negate()
+    {
+        return new Vector3(-X, -Y, -Z);
+    }
+
+    public double dotProduct(final Vector3 vector)
+    {
+        return X * vector.X + Y * vector.Y + Z * vector.Z;
+    }
+
+    public Vector3 crossProduct(final Vector3 vector)
+    {
+        return new Vector3(Y * vector.Z - Z * vector.Y, Z * vector.X - X * vector.Z, X * vector.Y - Y * vector.X);
+    }
+
+    /**
+     * @return the Euclidean length of this Vector.
+     */
+    public double getMagnitude()
+    {
+        return Math.sqrt(X * X + Y * Y + Z * Z);
+    }
+
+    /**
+     * @return a new {@link Vector3} in the same direction with a magnitude of 1.
+     * @throws AssertionException If this Vector has no magnitude.
+     */
+    public Vector3 normalize()
+    {
+        final double magnitude = getMagnitude();
+        Verifier.Equality.assertNotEqual("Cannot normalize a Vector without magnitude.", magnitude, 0D, 0D);
+
+        return new Vector3(X / magnitude, Y / magnitude, Z / magnitude);
+    }
+
+    @Override
+    public String toString()
+    {
+        return MessageFormat.format("[{0}, {1}, {2}]", X, Y, Z);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Double.hashCode(X);
+        result = prime * result + Double.hashCode(Y);
+        result = prime * result + Double.hashCode(Z);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj)
+    {
+        if (this == obj)
+        {
+            return true;
+        }
+        if (!(obj instanceof Vector3))
+        {
+            return false;
+        }
+        final Vector3 other = (Vector3) obj;
+        return Double.compare(X, other.X) == 0 && Double.compare(Y, other.Y) == 0 && Double.compare(Z, other.Z) == 0;
+    }
+}
@@ -0,0 +1,156 @@
+package eli.braire.math.space;
+
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A mutable {@link Vector}, intended to be allocated once and reused as the destination of operations such as
+ * {@link Matrix#dotProductInto(Vector, VectorBuffer)}, or updated in place by methods such as {@link #addInPlace(Vector)} and
+ * {@link #axpy(double, Vector)}. A buffer can be passed anywhere a Vector is expected, and always reflects its current elements. Use
+ * {@link #toVector()} to capture an immutable snapshot.
+ *
+ * @author The Architect
+ */
+public final class VectorBuffer extends Vector
+{
+    private VectorBuffer(final int rank)
+    {
+        super(rank);
+    }
+
+    /**
+     * @param rank The total (positive) number of dimensions.
+     * @return a new {@link VectorBuffer} of zeros.
+     * @throws AssertionException If rank is less than 1.
+     */
+    public static VectorBuffer create(final int rank)
+    {
+        Verifier.Inequality.assertGreaterThan("A Vector must have at least 1 element.", rank, 0);
+
+        return new VectorBuffer(rank);
+    }
+
+    /**
+     * @param vector The {@link Vector} to copy.
+     * @return a new {@link VectorBuffer} with the same dimensions and elements.
+     * @throws AssertionException If vector is null.
+     */
+    public static VectorBuffer of(final Vector vector)
+    {
+        Verifier.assertNotNull("Cannot copy a null Vector.", vector);
+
+        return create(vector.RANK).set(vector);
+    }
+
+    /**
+     * @param dimension A dimension index [1, total dimensions].
+     * @param value The new value of the element.
+     * @return this {@link VectorBuffer}.
+     * @throws AssertionException If dimension is outside of the defined range.
+     */
+    public VectorBuffer setElement(final int dimension, final double value)
+    {
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            Verifier.Ranges.assertInsideRange_Inclusive("Vector element index must be within the defined range.", dimension, 1, RANK);
+        }
+
+        elements[dimension - 1] = value;
+        return this;
+    }
+
+    /**
+     * @param vector The {@link Vector} whose elements are copied into this buffer.
+     * @return this {@link VectorBuffer}.
+     * @throws AssertionException If vector is null or has different dimensions.
+     */
+    public VectorBuffer set(final Vector vector)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot copy a null Vector.", vector);
+            Verifier.Equality.assertEqual("Both Vectors must have the same number of dimensions.", vector.RANK, RANK);
+        }
+
+        System.arraycopy(vector.elements, 0, elements, 0, RANK);
+        return this;
+    }
+
+    /**
+     * @param value The new value of every element.
+     * @return this {@link VectorBuffer}.
+     */
+    public VectorBuffer fill(final double value)
+    {
+        Arrays.fill(elements, value);
+        return this;
+    }
+
+    /**
+     * @param vector A {@link Vector} with the same number of dimensions.
+     * @return this {@link VectorBuffer}, after adding each element of the Vector to its own.
+     * @throws AssertionException If vector is null or has different dimensions.
+     */
+    public VectorBuffer addInPlace(final Vector vector)
+    {
+        return addInto(vector, this);
+    }
+
+    /**
+     * @param vector A {@link Vector} with the same number of dimensions.
+     * @return this {@link VectorBuffer}, after subtracting each element of the Vector from its own.
+     * @throws AssertionException If vector is null or has different dimensions.
+     */
+    public VectorBuffer subtractInPlace(final Vector vector)
+    {
+        return subtractInto(vector, this);
+    }
+
+    /**
+     * @param scalar The factor applied to each element.
+     * @return this {@link VectorBuffer}, after scaling each of its elements.
+     */
+    public VectorBuffer multiplyInPlace(final double scalar)
+    {
+        return multiplyInto(scalar, this);
+    }
+
+    /**
+     * @return this {@link VectorBuffer}, after negating each of its elements.
+     */
+    public VectorBuffer negateInPlace()
+    {
+        return multiplyInto(-1D, this);
+    }
+
+    /**
+     * Performs the fused update <code>this = this + alpha &middot; vector</code> in a single pass.
+     *
+     * @param alpha The factor applied to each element of the Vector.
+     * @param vector A {@link Vector} with the same number of dimensions.
+     * @return this {@link VectorBuffer}.
+     * @throws AssertionException If vector is null or has different dimensions.
+     */
+    public VectorBuffer axpy(final double alpha, final Vector vector)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Vector.", vector);
+            Verifier.Equality.assertEqual("Both Vectors must have the same number of dimensions.", vector.RANK, RANK);
+        }
+
+        addScaledElements(vector, alpha, elements);
+        return this;
+    }
+
+    /**
+     * @return a new immutable {@link Vector} holding a copy of the current elements.
+     */
+    public Vector toVector()
+    {
+        return Vector.create(elements);
+    }
+}
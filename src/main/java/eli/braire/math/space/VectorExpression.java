@@ -0,0 +1,243 @@
+package eli.braire.math.space;
+
+import java.util.Arrays;
+
+import eli.braire.util.ValidationPolicy;
+import eli.veritas.Verifier;
+import eli.veritas.exception.AssertionException;
+
+/**
+ * A lazily evaluated formula over {@link Vector} operands, which {@link #evaluate()} computes in a single pass, reading each operand once.
+ * <p>
+ * As for {@link MatrixExpression}, the formula is held as a sum of operands, each with a coefficient, and operations on the same Vector instance
+ * are merged into one term.
+ *
+ * @author The Architect
+ */
+public final class VectorExpression
+{
+    /**
+     * The number of elements evaluated at a time, so that the block being accumulated remains in the L1 cache while each term is added into it.
+     */
+    private static final int BLOCK = 1024;
+
+    /**
+     * The number of dimensions of the result.
+     */
+    public final int         RANK;
+    private final Vector[]   operands;
+    private final double[]   coefficients;
+
+    private VectorExpression(final Vector[] operands, final double[] coefficients)
+    {
+        RANK = operands[0].RANK;
+        this.operands = operands;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * @param vector The operand of the new expression.
+     * @return a new {@link VectorExpression} which evaluates to the vector itself.
+     */
+    static VectorExpression of(final Vector vector)
+    {
+        return new VectorExpression(new Vector[] { vector }, new double[] { 1D });
+    }
+
+    /**
+     * @return the number of operands which evaluation reads, after merging repeated operands.
+     */
+    int getTermCount()
+    {
+        return operands.length;
+    }
+
+    /**
+     * @param vector A {@link Vector} with the same number of dimensions. (Cannot be null)
+     * @return a new {@link VectorExpression} for <code>this + vector</code>.
+     * @throws AssertionException If vector is null or has different dimensions.
+     */
+    public VectorExpression add(final Vector vector)
+    {
+        verifyOperand(vector);
+
+        return combine(new Vector[] { vector }, new double[] { 1D }, 1D);
+    }
+
+    /**
+     * @param expression A {@link VectorExpression} with the same number of dimensions. (Cannot be null)
+     * @return a new {@link VectorExpression} for <code>this + expression</code>.
+     * @throws AssertionException If expression is null or has different dimensions.
+     */
+    public VectorExpression add(final VectorExpression expression)
+    {
+        verifyOperand(expression);
+
+        return combine(expression.operands, expression.coefficients, 1D);
+    }
+
+    /**
+     * @param vector A {@link Vector} with the same number of dimensions. (Cannot be null)
+     * @return a new {@link VectorExpression} for <code>this - vector</code>.
+     * @throws AssertionException If vector is null or has different dimensions.
+     */
+    public VectorExpression subtract(final Vector vector)
+    {
+        verifyOperand(vector);
+
+        return combine(new Vector[] { vector }, new double[] { 1D }, -1D);
+    }
+
+    /**
+     * @param expression A {@link VectorExpression} with the same number of dimensions. (Cannot be null)
+     * @return a new {@link VectorExpression} for <code>this - expression</code>.
+     * @throws AssertionException If expression is null or has different dimensions.
+     */
+    public VectorExpression subtract(final VectorExpression expression)
+    {
+        verifyOperand(expression);
+
+        return combine(expression.operands, expression.coefficients, -1D);
+    }
+
+    /**
+     * @param scalar The factor applied to each element.
+     * @return a new {@link VectorExpression} for <code>scalar &middot; this</code>.
+     */
+    public VectorExpression multiply(final double scalar)
+    {
+        final double[] newCoefficients = coefficients.clone();
+        for (int term = 0; term < newCoefficients.length; term++)
+        {
+            newCoefficients[term] *= scalar;
+        }
+
+        return new VectorExpression(operands, newCoefficients);
+    }
+
+    /**
+     * @param scalar The non-zero divisor of each element.
+     * @return a new {@link VectorExpression} for <code>this / scalar</code>.
+     * @throws AssertionException If scalar is zero.
+     */
+    public VectorExpression divide(final double scalar)
+    {
+        Verifier.Equality.assertNotEqual("Cannot divide Vector elements by zero scalar.", scalar, 0, 0.0000001D);
+
+        return multiply(1D / scalar);
+    }
+
+    /**
+     * @return a new {@link VectorExpression} for <code>-this</code>.
+     */
+    public VectorExpression negate()
+    {
+        return multiply(-1D);
+    }
+
+    /**
+     * @return a new {@link Vector} holding the value of this expression, computed in a single pass over the operands.
+     */
+    public Vector evaluate()
+    {
+        final Vector newVector = new Vector(RANK);
+        evaluate(operands, coefficients, newVector.elements);
+
+        return newVector;
+    }
+
+    /**
+     * Evaluates this expression directly into a destination, which may itself be one of the operands.
+     *
+     * @param destination The {@link VectorBuffer} to overwrite with the value of this expression.
+     * @return the destination.
+     * @throws AssertionException If the destination is null or has different dimensions.
+     */
+    public VectorBuffer evaluateInto(final VectorBuffer destination)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot write into a null VectorBuffer.", destination);
+            Verifier.Equality.assertEqual("The destination must have the same number of dimensions.", destination.RANK, RANK);
+        }
+
+        // The term reading the destination must come first, so that it is scaled in place before the others are added to it
+        final Vector[] ordered = operands.clone();
+        final double[] orderedCoefficients = coefficients.clone();
+        for (int term = 1; term < ordered.length; term++)
+        {
+            if (ordered[term] == destination)
+            {
+                ordered[term] = ordered[0];
+                ordered[0] = destination;
+                orderedCoefficients[term] = orderedCoefficients[0];
+                orderedCoefficients[0] = coefficients[term];
+            }
+        }
+        evaluate(ordered, orderedCoefficients, destination.elements);
+
+        return destination;
+    }
+
+    private void evaluate(final Vector[] operands, final double[] coefficients, final double[] target)
+    {
+        for (int start = 0; start < RANK; start += BLOCK)
+        {
+            final int length = Math.min(BLOCK, RANK - start);
+            Kernels.scale(coefficients[0], operands[0].elements, start, target, start, length);
+            for (int term = 1; term < operands.length; term++)
+            {
+                Kernels.axpy(coefficients[term], operands[term].elements, start, target, start, length);
+            }
+        }
+    }
+
+    /**
+     * @return a new expression adding <code>scalar &middot; &sum; coefficients[t] &middot; operands[t]</code> to this one, merging terms over the
+     *         same Vector instance.
+     */
+    private VectorExpression combine(final Vector[] otherOperands, final double[] otherCoefficients, final double scalar)
+    {
+        Vector[] newOperands = Arrays.copyOf(operands, operands.length + otherOperands.length);
+        double[] newCoefficients = Arrays.copyOf(coefficients, newOperands.length);
+        int count = operands.length;
+        for (int other = 0; other < otherOperands.length; other++)
+        {
+            int term = 0;
+            while (term < count && newOperands[term] != otherOperands[other])
+            {
+                term++;
+            }
+            if (term == count)
+            {
+                newOperands[count++] = otherOperands[other];
+            }
+            newCoefficients[term] += scalar * otherCoefficients[other];
+        }
+        if (count < newOperands.length)
+        {
+            newOperands = Arrays.copyOf(newOperands, count);
+            newCoefficients = Arrays.copyOf(newCoefficients, count);
+        }
+
+        return new VectorExpression(newOperands, newCoefficients);
+    }
+
+    private void verifyOperand(final Vector vector)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Vector.", vector);
+            Verifier.Equality.assertEqual("Both Vectors must have the same number of dimensions.", vector.RANK, RANK);
+        }
+    }
+
+    private void verifyOperand(final VectorExpression expression)
+    {
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            Verifier.assertNotNull("Cannot perform operations with a null Vector.", expression);
+            Verifier.Equality.assertEqual("Both Vectors must have the same number of dimensions.", expression.RANK, RANK);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package eli.braire.util;
+
+import java.util.Locale;
+
+/**
+ * How much of its argument validation the library performs. The policy is read once, from the system property
+ * <code>eli.braire.validation</code>, when this class is initialised; the flags derived from it are constants, so the JIT removes the checks
+ * they disable entirely.
+ * <p>
+ * The policy covers the dense constructs of <code>eli.braire.math.space</code>. Checks on values rather than arguments (division by zero,
+ * singular matrices), the factories which build new constructs from caller data, and bulk operations whose checks cost nothing next to their work
+ * (transforms of a <code>PointBuffer</code>, sparse products) are performed under every policy.
+ *
+ * @author The Architect
+ */
+public enum ValidationPolicy
+{
+    /**
+     * Every argument is verified, including the index of each single element accessed. This is the default.
+     */
+    CHECKED,
+    /**
+     * Operations over whole constructs verify their operands, but accessors of single elements do not verify their indices; an index out of
+     * range fails with whatever the underlying array access throws.
+     */
+    BOUNDARY,
+    /**
+     * No operation verifies its arguments. Mismatched operands fail with whatever the underlying array access throws, or produce meaningless
+     * results.
+     */
+    UNCHECKED;
+
+    /**
+     * The system property naming the policy, case-insensitively.
+     */
+    public static final String           PROPERTY         = "eli.braire.validation";
+
+    /**
+     * The policy in effect, or {@link #CHECKED} where the property is absent or names no policy.
+     */
+    public static final ValidationPolicy ACTIVE           = parse(System.getProperty(PROPERTY));
+
+    /**
+     * True if accessors of single elements verify their indices.
+     */
+    public static final boolean          CHECK_ELEMENTS   = ACTIVE == CHECKED;
+
+    /**
+     * True if operations verify the shape of their operands and destinations.
+     */
+    public static final boolean          CHECK_OPERATIONS = ACTIVE != UNCHECKED;
+
+    static ValidationPolicy parse(final String name)
+    {
+        if (name == null)
+        {
+            return CHECKED;
+        }
+        try
+        {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (final IllegalArgumentException e)
+        {
+            return CHECKED;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package eli.braire.math.space;
+
+/**
+ * The innermost loops of {@link Matrix}, {@link Vector}, {@link MatrixMultiplication} and {@link PointBuffer}, and of their single-precision
+ * counterparts {@link FloatMatrix}, {@link FloatVector} and {@link FloatMatrixMultiplication}, over contiguous ranges of plain arrays. Callers
+ * have already verified their arguments, so nothing is checked here.
+ * <p>
+ * This is the Java 17 implementation from the multi-release jar. It runs {@link SimdKernels} when the <code>jdk.incubator.vector</code> module
+ * has been added to the runtime (<code>--add-modules jdk.incubator.vector</code>) and the hardware offers vectors of at least 256 bits, and
+ * {@link ScalarKernels} otherwise. Setting the system property <code>eli.braire.simd</code> to <code>false</code> forces the scalar
+ * implementations. The choice is made once, into a constant which the JIT folds away.
+ *
+ * @author The Architect
+ */
+final class Kernels
+{
+    private static final boolean SIMD = isSimdAvailable();
+
+    private Kernels()
+    {
+    }
+
+    private static boolean isSimdAvailable()
+    {
+        if (!Boolean.parseBoolean(System.getProperty("eli.braire.simd", "true")))
+        {
+            return false;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+        {
+            return false;
+        }
+        try
+        {
+            return SimdKernels.isProfitable();
+        }
+        catch (final LinkageError e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * @return true if the SIMD implementations are in use.
+     */
+    static boolean isVectorized()
+    {
+        return SIMD;
+    }
+
+    /**
+     * @return <code>&sum; x[i] &middot; y[i]</code> over the range.
+     */
+    static double dot(final double[] x, final int xOffset, final double[] y, final int yOffset, final int length)
+    {
+        return SIMD ? SimdKernels.dot(x, xOffset, y, yOffset, length) : ScalarKernels.dot(x, xOffset, y, yOffset, length);
+    }
+
+    /**
+     * <code>target = x + scalar &middot; y</code> over the range, where the target may be the same range of either operand.
+     */
+    static void addScaled(final double[] x, final int xOffset, final double scalar, final double[] y, final int yOffset, final double[] target,
+                          final int targetOffset, final int length)
+    {
+        if (SIMD)
+        {
+            SimdKernels.addScaled(x, xOffset, scalar, y, yOffset, target, targetOffset, length);
+        }
+        else
+        {
+            ScalarKernels.addScaled(x, xOffset, scalar, y, yOffset, target, targetOffset, length);
+        }
+    }
+
+    /**
+     * <code>target = scalar &middot; x</code> over the range, where the target may be the same range of the operand.
+     */
+    static void scale(final double scalar, final double[] x, final int xOffset, final double[] target, final int targetOffset, final int length)
+    {
+        if (SIMD)
+        {
+            SimdKernels.scale(scalar, x, xOffset, target, targetOffset, length);
+        }
+        else
+        {
+            ScalarKernels.scale(scalar, x, xOffset, target, targetOffset, length);
+        }
+    }
+
+    /**
+     * <code>y = y + alpha &middot; x</code> over the range.
+     */
+    static void axpy(final double alpha, final double[] x, final int xOffset, final double[] y, final int yOffset, final int length)
+    {
+        if (SIMD)
+        {
+            SimdKernels.axpy(alpha, x, xOffset, y, yOffset, length);
+        }
+        else
+        {
+            ScalarKernels.axpy(alpha, x, xOffset, y, yOffset, length);
+        }
+    }
+
+    /**
+     * @return <code>&sum; x[i] &middot; y[i]</code> over the range, accumulated in single precision.
+     */
+    static float dot(final float[] x, final int xOffset, final float[] y, final int yOffset, final int length)
+    {
+        return SIMD ? SimdKernels.dot(x, xOffset, y, yOffset, length) : ScalarKernels.dot(x, xOffset, y, yOffset, length);
+    }
+
+    /**
+     * <code>target = x + scalar &middot; y</code> over the range, where the target may be the same range of either operand.
+     */
+    static void addScaled(final float[] x, final int xOffset, final float scalar, final float[] y, final int yOffset, final float[] target,
+                          final int targetOffset, final int length)
+    {
+        if (SIMD)
+        {
+            SimdKernels.addScaled(x, xOffset, scalar, y, yOffset, target, targetOffset, length);
+        }
+        else
+        {
+            ScalarKernels.addScaled(x, xOffset, scalar, y, yOffset, target, targetOffset, length);
+        }
+    }
+
+    /**
+     * <code>target = scalar &middot; x</code> over the range, where the target may be the same range of the operand.
+     */
+    static void scale(final float scalar, final float[] x, final int xOffset, final float[] target, final int targetOffset, final int length)
+    {
+        if (SIMD)
+        {
+            SimdKernels.scale(scalar, x, xOffset, target, targetOffset, length);
+        }
+        else
+        {
+            ScalarKernels.scale(scalar, x, xOffset, target, targetOffset, length);
+        }
+    }
+
+    /**
+     * <code>y = y + alpha &middot; x</code> over the range.
+     */
+    static void axpy(final float alpha, final float[] x, final int xOffset, final float[] y, final int yOffset, final int length)
+    {
+        if (SIMD)
+        {
+            SimdKernels.axpy(alpha, x, xOffset, y, yOffset, length);
+        }
+        else
+        {
+            ScalarKernels.axpy(alpha, x, xOffset, y, yOffset, length);
+        }
+    }
+
+    /**
+     * The GEMM micro-kernel: accumulates the product of a packed <code>4 x kc</code> panel and a packed <code>kc x 4</code> panel into a
+     * <code>4 x 4</code> tile of <code>c</code>.
+     */
+    static void multiply4x4(final int kc, final double[] a, final int aStart, final double[] b, final int bStart, final double[] c, final int cStart,
+                            final int stride)
+    {
+        if (SIMD)
+        {
+            SimdKernels.multiply4x4(kc, a, aStart, b, bStart, c, cStart, stride);
+        }
+        else
+        {
+            ScalarKernels.multiply4x4(kc, a, aStart, b, bStart, c, cStart, stride);
+        }
+    }
+
+    /**
+     * The single-precision GEMM micro-kernel: accumulates the product of a packed <code>4 x kc</code> panel and a packed <code>kc x 8</code> panel
+     * into a <code>4 x 8</code> tile of <code>c</code>.
+     */
+    static void multiply4x8(final int kc, final float[] a, final int aStart, final float[] b, final int bStart, final float[] c, final int cStart,
+                            final int stride)
+    {
+        if (SIMD)
+        {
+            SimdKernels.multiply4x8(kc, a, aStart, b, bStart, c, cStart, stride);
+        }
+        else
+        {
+            ScalarKernels.multiply4x8(kc, a, aStart, b, bStart, c, cStart, stride);
+        }
+    }
+
+    /**
+     * Transforms the points <code>[from, to)</code> of three coordinate axes by the affine part of a row-major 4x4 matrix.
+     */
+    static void transformAffine3(final double[] m, final double[][] source, final double[][] target, final int from, final int to)
+    {
+        if (SIMD)
+        {
+            SimdKernels.transformAffine3(m, source, target, from, to);
+        }
+        else
+        {
+            ScalarKernels.transformAffine3(m, source, target, from, to);
+        }
+    }
+}
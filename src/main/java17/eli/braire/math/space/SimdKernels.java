@@ -0,0 +1,258 @@
+package eli.braire.math.space;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The SIMD implementations of {@link Kernels} over <code>jdk.incubator.vector</code>. Each loop runs whole 256-bit vectors and
+ * finishes the remainder with scalar code, so results differ from {@link ScalarKernels} only by the order of floating-point summation.
+ * <p>
+ * This class must only be loaded once {@link Kernels} has found the incubator module, or it fails to link.
+ *
+ * @author The Architect
+ */
+final class SimdKernels
+{
+    /**
+     * Every kernel runs the one 256-bit species, which holds a row of the 4x4 micro-kernel tile. Mixing it with the wider preferred species of
+     * AVX-512 hardware makes the shared call sites of {@link DoubleVector} polymorphic, which stops the JIT from intrinsifying them at all.
+     */
+    private static final VectorSpecies<Double> SPECIES       = DoubleVector.SPECIES_256;
+    /**
+     * The single-precision kernels run the same 256-bit width, which holds twice as many lanes. This import of {@link FloatVector} shadows the
+     * class of the same name in this package, which is not used here.
+     */
+    private static final VectorSpecies<Float>  FLOAT_SPECIES = FloatVector.SPECIES_256;
+
+    private SimdKernels()
+    {
+    }
+
+    /**
+     * @return true if the hardware offers vectors wide enough to hold a row of the micro-kernel tile, below which the scalar code is as fast.
+     */
+    static boolean isProfitable()
+    {
+        return DoubleVector.SPECIES_PREFERRED.vectorBitSize() >= SPECIES.vectorBitSize();
+    }
+
+    static double dot(final double[] x, final int xOffset, final double[] y, final int yOffset, final int length)
+    {
+        final int bound = SPECIES.loopBound(length);
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+        int index = 0;
+        for (; index < bound; index += SPECIES.length())
+        {
+            sum = DoubleVector.fromArray(SPECIES, x, xOffset + index).fma(DoubleVector.fromArray(SPECIES, y, yOffset + index), sum);
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; index < length; index++)
+        {
+            result += x[xOffset + index] * y[yOffset + index];
+        }
+
+        return result;
+    }
+
+    static void addScaled(final double[] x, final int xOffset, final double scalar, final double[] y, final int yOffset, final double[] target,
+                          final int targetOffset, final int length)
+    {
+        final int bound = SPECIES.loopBound(length);
+        int index = 0;
+        for (; index < bound; index += SPECIES.length())
+        {
+            DoubleVector.fromArray(SPECIES, y, yOffset + index).fma(DoubleVector.broadcast(SPECIES, scalar), DoubleVector.fromArray(SPECIES, x, xOffset + index))
+                        .intoArray(target, targetOffset + index);
+        }
+        for (; index < length; index++)
+        {
+            target[targetOffset + index] = x[xOffset + index] + scalar * y[yOffset + index];
+        }
+    }
+
+    static void scale(final double scalar, final double[] x, final int xOffset, final double[] target, final int targetOffset, final int length)
+    {
+        final int bound = SPECIES.loopBound(length);
+        int index = 0;
+        for (; index < bound; index += SPECIES.length())
+        {
+            DoubleVector.fromArray(SPECIES, x, xOffset + index).mul(scalar).intoArray(target, targetOffset + index);
+        }
+        for (; index < length; index++)
+        {
+            target[targetOffset + index] = scalar * x[xOffset + index];
+        }
+    }
+
+    static void axpy(final double alpha, final double[] x, final int xOffset, final double[] y, final int yOffset, final int length)
+    {
+        final int bound = SPECIES.loopBound(length);
+        int index = 0;
+        for (; index < bound; index += SPECIES.length())
+        {
+            DoubleVector.fromArray(SPECIES, x, xOffset + index).fma(DoubleVector.broadcast(SPECIES, alpha), DoubleVector.fromArray(SPECIES, y, yOffset + index))
+                        .intoArray(y, yOffset + index);
+        }
+        for (; index < length; index++)
+        {
+            y[yOffset + index] += alpha * x[xOffset + index];
+        }
+    }
+
+    static float dot(final float[] x, final int xOffset, final float[] y, final int yOffset, final int length)
+    {
+        final int bound = FLOAT_SPECIES.loopBound(length);
+        FloatVector sum = FloatVector.zero(FLOAT_SPECIES);
+        int index = 0;
+        for (; index < bound; index += FLOAT_SPECIES.length())
+        {
+            sum = FloatVector.fromArray(FLOAT_SPECIES, x, xOffset + index).fma(FloatVector.fromArray(FLOAT_SPECIES, y, yOffset + index), sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; index < length; index++)
+        {
+            result += x[xOffset + index] * y[yOffset + index];
+        }
+
+        return result;
+    }
+
+    static void addScaled(final float[] x, final int xOffset, final float scalar, final float[] y, final int yOffset, final float[] target,
+                          final int targetOffset, final int length)
+    {
+        final int bound = FLOAT_SPECIES.loopBound(length);
+        int index = 0;
+        for (; index < bound; index += FLOAT_SPECIES.length())
+        {
+            FloatVector.fromArray(FLOAT_SPECIES, y, yOffset + index)
+                       .fma(FloatVector.broadcast(FLOAT_SPECIES, scalar), FloatVector.fromArray(FLOAT_SPECIES, x, xOffset + index))
+                       .intoArray(target, targetOffset + index);
+        }
+        for (; index < length; index++)
+        {
+            target[targetOffset + index] = x[xOffset + index] + scalar * y[yOffset + index];
+        }
+    }
+
+    static void scale(final float scalar, final float[] x, final int xOffset, final float[] target, final int targetOffset, final int length)
+    {
+        final int bound = FLOAT_SPECIES.loopBound(length);
+        int index = 0;
+        for (; index < bound; index += FLOAT_SPECIES.length())
+        {
+            FloatVector.fromArray(FLOAT_SPECIES, x, xOffset + index).mul(scalar).intoArray(target, targetOffset + index);
+        }
+        for (; index < length; index++)
+        {
+            target[targetOffset + index] = scalar * x[xOffset + index];
+        }
+    }
+
+    static void axpy(final float alpha, final float[] x, final int xOffset, final float[] y, final int yOffset, final int length)
+    {
+        final int bound = FLOAT_SPECIES.loopBound(length);
+        int index = 0;
+        for (; index < bound; index += FLOAT_SPECIES.length())
+        {
+            FloatVector.fromArray(FLOAT_SPECIES, x, xOffset + index)
+                       .fma(FloatVector.broadcast(FLOAT_SPECIES, alpha), FloatVector.fromArray(FLOAT_SPECIES, y, yOffset + index))
+                       .intoArray(y, yOffset + index);
+        }
+        for (; index < length; index++)
+        {
+            y[yOffset + index] += alpha * x[xOffset + index];
+        }
+    }
+
+    /**
+     * Holds each row of the tile in one 256-bit vector, updated by a broadcast of the left element and a fused multiply-add per step.
+     */
+    static void multiply4x4(final int kc, final double[] a, final int aStart, final double[] b, final int bStart, final double[] c, final int cStart,
+                            final int stride)
+    {
+        DoubleVector c0 = DoubleVector.zero(SPECIES);
+        DoubleVector c1 = DoubleVector.zero(SPECIES);
+        DoubleVector c2 = DoubleVector.zero(SPECIES);
+        DoubleVector c3 = DoubleVector.zero(SPECIES);
+        for (int p = 0, ai = aStart, bi = bStart; p < kc; p++, ai += 4, bi += 4)
+        {
+            final DoubleVector row = DoubleVector.fromArray(SPECIES, b, bi);
+            c0 = row.fma(DoubleVector.broadcast(SPECIES, a[ai]), c0);
+            c1 = row.fma(DoubleVector.broadcast(SPECIES, a[ai + 1]), c1);
+            c2 = row.fma(DoubleVector.broadcast(SPECIES, a[ai + 2]), c2);
+            c3 = row.fma(DoubleVector.broadcast(SPECIES, a[ai + 3]), c3);
+        }
+
+        int row = cStart;
+        DoubleVector.fromArray(SPECIES, c, row).add(c0).intoArray(c, row);
+        row += stride;
+        DoubleVector.fromArray(SPECIES, c, row).add(c1).intoArray(c, row);
+        row += stride;
+        DoubleVector.fromArray(SPECIES, c, row).add(c2).intoArray(c, row);
+        row += stride;
+        DoubleVector.fromArray(SPECIES, c, row).add(c3).intoArray(c, row);
+    }
+
+    /**
+     * Holds each row of the tile in one 256-bit vector of 8 floats, exactly as {@link #multiply4x4} does for doubles.
+     */
+    static void multiply4x8(final int kc, final float[] a, final int aStart, final float[] b, final int bStart, final float[] c, final int cStart,
+                            final int stride)
+    {
+        FloatVector c0 = FloatVector.zero(FLOAT_SPECIES);
+        FloatVector c1 = FloatVector.zero(FLOAT_SPECIES);
+        FloatVector c2 = FloatVector.zero(FLOAT_SPECIES);
+        FloatVector c3 = FloatVector.zero(FLOAT_SPECIES);
+        for (int p = 0, ai = aStart, bi = bStart; p < kc; p++, ai += 4, bi += 8)
+        {
+            final FloatVector row = FloatVector.fromArray(FLOAT_SPECIES, b, bi);
+            c0 = row.fma(FloatVector.broadcast(FLOAT_SPECIES, a[ai]), c0);
+            c1 = row.fma(FloatVector.broadcast(FLOAT_SPECIES, a[ai + 1]), c1);
+            c2 = row.fma(FloatVector.broadcast(FLOAT_SPECIES, a[ai + 2]), c2);
+            c3 = row.fma(FloatVector.broadcast(FLOAT_SPECIES, a[ai + 3]), c3);
+        }
+
+        int row = cStart;
+        FloatVector.fromArray(FLOAT_SPECIES, c, row).add(c0).intoArray(c, row);
+        row += stride;
+        FloatVector.fromArray(FLOAT_SPECIES, c, row).add(c1).intoArray(c, row);
+        row += stride;
+        FloatVector.fromArray(FLOAT_SPECIES, c, row).add(c2).intoArray(c, row);
+        row += stride;
+        FloatVector.fromArray(FLOAT_SPECIES, c, row).add(c3).intoArray(c, row);
+    }
+
+    static void transformAffine3(final double[] m, final double[][] source, final double[][] target, final int from, final int to)
+    {
+        final double m11 = m[0], m12 = m[1], m13 = m[2], m14 = m[3];
+        final double m21 = m[4], m22 = m[5], m23 = m[6], m24 = m[7];
+        final double m31 = m[8], m32 = m[9], m33 = m[10], m34 = m[11];
+        final double[] xs = source[0], ys = source[1], zs = source[2];
+        final double[] xt = target[0], yt = target[1], zt = target[2];
+        final int bound = from + SPECIES.loopBound(to - from);
+        int index = from;
+        for (; index < bound; index += SPECIES.length())
+        {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, xs, index);
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, ys, index);
+            final DoubleVector z = DoubleVector.fromArray(SPECIES, zs, index);
+            z.fma(DoubleVector.broadcast(SPECIES, m13), y.fma(DoubleVector.broadcast(SPECIES, m12),
+                  x.fma(DoubleVector.broadcast(SPECIES, m11), DoubleVector.broadcast(SPECIES, m14)))).intoArray(xt, index);
+            z.fma(DoubleVector.broadcast(SPECIES, m23), y.fma(DoubleVector.broadcast(SPECIES, m22),
+                  x.fma(DoubleVector.broadcast(SPECIES, m21), DoubleVector.broadcast(SPECIES, m24)))).intoArray(yt, index);
+            z.fma(DoubleVector.broadcast(SPECIES, m33), y.fma(DoubleVector.broadcast(SPECIES, m32),
+                  x.fma(DoubleVector.broadcast(SPECIES, m31), DoubleVector.broadcast(SPECIES, m34)))).intoArray(zt, index);
+        }
+        for (; index < to; index++)
+        {
+            final double x = xs[index];
+            final double y = ys[index];
+            final double z = zs[index];
+            xt[index] = m11 * x + m12 * y + m13 * z + m14;
+            yt[index] = m21 * x + m22 * y + m23 * z + m24;
+            zt[index] = m31 * x + m32 * y + m33 * z + m34;
+        }
+    }
+}
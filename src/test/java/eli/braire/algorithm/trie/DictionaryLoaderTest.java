@@ -0,0 +1,137 @@
+package eli.braire.algorithm.trie;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DictionaryLoaderTest
+{
+    @Test
+    public void testLoad() throws IOException
+    {
+        final Path file = Files.createTempFile("dictionary", ".txt");
+        try
+        {
+            Files.write(file, "apple\nbanana\r\n\ncafé  naïve\tzürich\nbanana\n日本語".getBytes(StandardCharsets.UTF_8));
+            final Cache cache = TrieCache.create();
+            final AtomicLong progress = new AtomicLong();
+            final long words = DictionaryLoader.create(cache).load(file, (bytesRead, totalBytes, wordCount) -> progress.set(bytesRead));
+
+            Assert.assertEquals("Unexpected number of words.", 7, words);
+            Assert.assertEquals("Progress must reach the end of the file.", Files.size(file), progress.get());
+            final Set<String> expected = new TreeSet<>(Arrays.asList("apple", "banana", "café", "naïve", "zürich", "日本語"));
+            Assert.assertEquals("Unexpected words.", expected, cache.findWords("*").collect(Collectors.toCollection(TreeSet::new)));
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException
+    {
+        final Path file = Files.createTempFile("dictionary", ".txt");
+        try
+        {
+            final Cache cache = TrieCache.create();
+            Assert.assertEquals("Unexpected number of words.", 0, DictionaryLoader.create(cache).load(file));
+            Assert.assertTrue("Unexpected words.", cache.getRootNodes().isEmpty());
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testWindowBoundaries() throws IOException
+    {
+        // With 8-byte windows, the 2 bytes of 'é' span offsets 7 and 8, and the 3 bytes of '日' span offsets 15 to 17
+        final Path file = Files.createTempFile("dictionary", ".txt");
+        try
+        {
+            Files.write(file, "abcdefgé\nxyzab日 end".getBytes(StandardCharsets.UTF_8));
+            final Cache cache = TrieCache.create();
+            final AtomicLong windows = new AtomicLong();
+            final long words = DictionaryLoader.create(cache, StandardCharsets.UTF_8, 8)
+                                               .load(file, (bytesRead, totalBytes, wordCount) -> windows.incrementAndGet());
+
+            Assert.assertEquals("Unexpected number of words.", 3, words);
+            Assert.assertTrue("The file must span several windows.", windows.get() > 2);
+            final Set<String> expected = new TreeSet<>(Arrays.asList("abcdefgé", "xyzab日", "end"));
+            Assert.assertEquals("Unexpected words.", expected, cache.findWords("*").collect(Collectors.toCollection(TreeSet::new)));
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testEveryWindowOffset() throws IOException
+    {
+        // Characters of 1 to 4 bytes, so that the windows split every kind of character and word at some offset
+        final String text = "apple café\r\n日本語 naïve  \uD83D\uDE00smile\tzürich\nbanana";
+        final Set<String> expected = new TreeSet<>(Arrays.asList("apple", "café", "日本語", "naïve", "\uD83D\uDE00smile", "zürich", "banana"));
+        final Path file = Files.createTempFile("dictionary", ".txt");
+        try
+        {
+            Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+            for (int windowSize = 6; windowSize <= 20; windowSize++)
+            {
+                final Cache cache = TrieCache.create();
+                final AtomicLong progress = new AtomicLong();
+                final long words = DictionaryLoader.create(cache, StandardCharsets.UTF_8, windowSize)
+                                                   .load(file, (bytesRead, totalBytes, wordCount) -> progress.set(bytesRead));
+
+                Assert.assertEquals("Unexpected number of words for window " + windowSize + ".", 7, words);
+                Assert.assertEquals("Progress must reach the end of the file.", Files.size(file), progress.get());
+                Assert.assertEquals("Unexpected words for window " + windowSize + ".", expected,
+                                    cache.findWords("*").collect(Collectors.toCollection(TreeSet::new)));
+            }
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @Test(timeout = 10000L)
+    public void testSurrogatePairAfterFullBuffer() throws IOException
+    {
+        // The word leaves a single free character in the buffer, which cannot hold the surrogate pair that follows it
+        final char[] word = new char[DictionaryLoader.BUFFER_SIZE - 1];
+        Arrays.fill(word, 'a');
+        final String longWord = new String(word) + "\uD83D\uDE00";
+        final Path file = Files.createTempFile("dictionary", ".txt");
+        try
+        {
+            Files.write(file, (longWord + " b\n").getBytes(StandardCharsets.UTF_8));
+            final Cache cache = TrieCache.create();
+
+            Assert.assertEquals("Unexpected number of words.", 2, DictionaryLoader.create(cache).load(file));
+            Assert.assertEquals("Unexpected long word.", Arrays.asList(longWord), cache.findWords(longWord).collect(Collectors.toList()));
+            Assert.assertEquals("Unexpected short word.", Arrays.asList("b"), cache.findWords("b").collect(Collectors.toList()));
+        }
+        finally
+        {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWindowTooSmall()
+    {
+        DictionaryLoader.create(TrieCache.create(), StandardCharsets.UTF_8, 5);
+    }
+}
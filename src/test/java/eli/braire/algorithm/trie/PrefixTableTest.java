@@ -0,0 +1,70 @@
+package eli.braire.algorithm.trie;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrefixTableTest
+{
+    private static PrefixTable<String> routes()
+    {
+        final PrefixTable<String> table = PrefixTable.create();
+        table.put("/", "root");
+        table.put("/api", "api");
+        table.put("/api/v1/", "v1");
+        table.put("/api/v2/", "v2");
+        table.put("/static/", "static");
+        table.put("10.0.", "private");
+        table.put("10.0.0.", "subnet");
+        return table;
+    }
+
+    @Test
+    public void testLookupLongest()
+    {
+        final PrefixTable<String> table = routes();
+        Assert.assertEquals("Unexpected route.", "v1", table.lookupLongest("/api/v1/users"));
+        Assert.assertEquals("Unexpected route.", "api", table.lookupLongest("/api/v3/users"));
+        Assert.assertEquals("Unexpected route.", "api", table.lookupLongest("/api"));
+        Assert.assertEquals("Unexpected route.", "root", table.lookupLongest("/index.html"));
+        Assert.assertEquals("Unexpected route.", "subnet", table.lookupLongest("10.0.0.1"));
+        Assert.assertEquals("Unexpected route.", "private", table.lookupLongest("10.0.1.1"));
+        Assert.assertNull("Unexpected route.", table.lookupLongest("192.168.0.1"));
+        Assert.assertNull("Unexpected route.", table.lookupLongest(""));
+    }
+
+    @Test
+    public void testModification()
+    {
+        final PrefixTable<String> table = routes();
+        Assert.assertEquals("Unexpected size.", 7, table.size());
+        Assert.assertEquals("Unexpected previous value.", "api", table.put("/api", "api2"));
+        Assert.assertEquals("Unexpected removed value.", "v1", table.remove("/api/v1/"));
+        Assert.assertEquals("Unexpected route.", "api2", table.lookupLongest("/api/v1/users"));
+        Assert.assertNull("Unexpected exact value.", table.get("/api/v1"));
+        Assert.assertNull("Unexpected route.", table.lookupLongest("x"));
+        table.put("", "default");
+        Assert.assertEquals("Unexpected route.", "default", table.lookupLongest("x"));
+        Assert.assertEquals("Unexpected size.", 7, table.size());
+    }
+
+    @Test
+    public void testFrozen()
+    {
+        final PrefixTable<String> table = routes();
+        for (char character = 'a'; character <= 'z'; character++)
+        {
+            // Enough siblings to exercise the binary search of child ranges
+            table.put("/" + character + "/", String.valueOf(character));
+        }
+        final FrozenPrefixTable<String> frozen = table.freeze();
+        for (final String key : new String[] { "/api/v1/users", "/api/v3/users", "/api", "/index.html", "10.0.0.1", "10.0.1.1", "192.168.0.1",
+                                               "/q/x", "/z/", "/z", "" })
+        {
+            Assert.assertEquals("Frozen table must match the source table: " + key, table.lookupLongest(key), frozen.lookupLongest(key));
+        }
+        Assert.assertEquals("Unexpected prefix length.", 8, frozen.lookupLongestLength("/api/v2/users"));
+        Assert.assertEquals("Unexpected prefix length.", -1, frozen.lookupLongestLength("192"));
+        Assert.assertEquals("Unexpected exact value.", "static", frozen.get("/static/"));
+        Assert.assertEquals("Unexpected size.", table.size(), frozen.size());
+    }
+}
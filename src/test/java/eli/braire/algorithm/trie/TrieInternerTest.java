@@ -0,0 +1,46 @@
+package eli.braire.algorithm.trie;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TrieInternerTest
+{
+    @Test
+    public void testCanonicalInstance()
+    {
+        final TrieInterner interner = TrieInterner.create();
+        final String token = new String("token");
+        Assert.assertSame("First sighting must become canonical.", token, interner.intern(token));
+        Assert.assertSame("Equal sequences must return the canonical instance.", token, interner.intern(new StringBuilder("token")));
+        Assert.assertSame("Array slices must return the canonical instance.", token, interner.intern("a token!".toCharArray(), 2, 5));
+        Assert.assertSame("Sequence slices must return the canonical instance.", token, interner.intern("tokens", 0, 5));
+    }
+
+    @Test
+    public void testPrefixes()
+    {
+        final TrieInterner interner = TrieInterner.create();
+        final String longer = interner.intern("prefixes");
+        final String shorter = interner.intern("prefix");
+        Assert.assertEquals("Unexpected prefix value.", "prefix", shorter);
+        Assert.assertSame("Prefixes must not disturb longer strings.", longer, interner.intern("prefixes".toCharArray(), 0, 8));
+        Assert.assertSame("Longer strings must not disturb prefixes.", shorter, interner.intern("prefix!", 0, 6));
+        Assert.assertEquals("Unexpected number of canonical strings.", 2, interner.getSize());
+    }
+
+    @Test
+    public void testStatistics()
+    {
+        final TrieInterner interner = TrieInterner.create();
+        interner.intern("abc");
+        interner.intern("abd");
+        interner.intern("abc");
+        interner.intern("abc");
+        Assert.assertEquals("Unexpected hit count.", 2, interner.getHitCount());
+        Assert.assertEquals("Unexpected miss count.", 2, interner.getMissCount());
+        Assert.assertEquals("Unexpected node count.", 4, interner.getNodeCount());
+        Assert.assertTrue("Hits must report saved memory.", interner.getSavedBytes() > 0);
+        Assert.assertEquals("Empty sequences are always the empty string.", "", interner.intern(""));
+        Assert.assertNull("Null sequences are not interned.", interner.intern(null));
+    }
+}
@@ -0,0 +1,111 @@
+package eli.braire.algorithm.trie;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TriePatternTest
+{
+    private Cache cache;
+
+    @Before
+    public void before()
+    {
+        cache = TrieCache.create();
+        for (final String word : Arrays.asList("cat", "cot", "cut", "cart", "cats", "dog", "pre", "prefix", "present", "prism", "c-t"))
+        {
+            cache.insertWord(word);
+        }
+    }
+
+    private Set<String> find(final String pattern)
+    {
+        return cache.findWords(pattern).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Set<String> words(final String ... words)
+    {
+        return new TreeSet<>(Arrays.asList(words));
+    }
+
+    @Test
+    public void testLiteral()
+    {
+        Assert.assertEquals("Unexpected literal matches.", words("cat"), find("cat"));
+        Assert.assertEquals("Prefixes of words must not match.", words(), find("ca"));
+        Assert.assertEquals("Words that are prefixes of other words must match.", words("pre"), find("pre"));
+    }
+
+    @Test
+    public void testSingleCharacterWildcard()
+    {
+        Assert.assertEquals("Unexpected single character wildcard matches.", words("cat", "cot", "cut", "c-t"), find("c?t"));
+        Assert.assertEquals("Unexpected single character wildcard matches.", words("cats", "cart"), find("ca??"));
+    }
+
+    @Test
+    public void testSuffixWildcard()
+    {
+        Assert.assertEquals("Unexpected suffix wildcard matches.", words("pre", "prefix", "present"), find("pre*"));
+        Assert.assertEquals("Unexpected suffix wildcard matches.", words("cat", "cats", "cart"), find("ca*"));
+        Assert.assertEquals("A lone wildcard must match every word.", 11, find("*").size());
+    }
+
+    @Test
+    public void testCharacterSets()
+    {
+        Assert.assertEquals("Unexpected character set matches.", words("cat", "cot"), find("c[ao]t"));
+        Assert.assertEquals("Unexpected character range matches.", words("cat", "cot", "cut"), find("c[a-z]t"));
+        Assert.assertEquals("Unexpected negated character set matches.", words("cut", "c-t"), find("c[^ao]t"));
+        Assert.assertEquals("Unexpected literal '-' matches.", words("c-t"), find("c[-]t"));
+        Assert.assertEquals("Unexpected combined matches.", words("prefix", "present", "prism"), find("pr[ei]?*"));
+    }
+
+    @Test
+    public void testEscape()
+    {
+        cache.insertWord("a?b");
+        cache.insertWord("axb");
+        Assert.assertEquals("Escaped wildcards must match literally.", words("a?b"), find("a\\?b"));
+    }
+
+    @Test
+    public void testEmptyPattern()
+    {
+        Assert.assertEquals("An empty pattern must not match.", words(), find(""));
+        Assert.assertEquals("A null pattern must not match.", words(), find(null));
+    }
+
+    @Test
+    public void testLazyEvaluation()
+    {
+        Assert.assertEquals("Only the requested number of matches should be produced.", 2, cache.findWords("*").limit(2).count());
+    }
+
+    @Test
+    public void testMatches()
+    {
+        final TriePattern pattern = TriePattern.compile("c[a-o]?*");
+        Assert.assertTrue("Expected pattern to match.", pattern.matches("cat"));
+        Assert.assertTrue("Expected pattern to match.", pattern.matches("cots"));
+        Assert.assertFalse("Expected pattern not to match.", pattern.matches("cut"));
+        Assert.assertFalse("Expected pattern not to match.", pattern.matches("c"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInteriorSuffixWildcard()
+    {
+        TriePattern.compile("a*b");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnterminatedSet()
+    {
+        TriePattern.compile("a[bc");
+    }
+}
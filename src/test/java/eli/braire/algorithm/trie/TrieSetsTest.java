@@ -0,0 +1,75 @@
+package eli.braire.algorithm.trie;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TrieSetsTest
+{
+    private static final Cache left  = cache("apple", "app", "banana", "band", "can", "candle");
+    private static final Cache right = cache("app", "apply", "band", "bandana", "candle", "dog");
+
+    private static Cache cache(final String ... words)
+    {
+        final Cache cache = TrieCache.create();
+        for (final String word : words)
+        {
+            cache.insertWord(word);
+        }
+        return cache;
+    }
+
+    private static Set<String> words(final Cache cache)
+    {
+        return words(cache.findWords("*"));
+    }
+
+    private static Set<String> words(final Stream<String> words)
+    {
+        return words.collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Set<String> words(final String ... words)
+    {
+        return new TreeSet<>(Arrays.asList(words));
+    }
+
+    @Test
+    public void testUnion()
+    {
+        final Set<String> expected = words("apple", "app", "apply", "banana", "band", "bandana", "can", "candle", "dog");
+        Assert.assertEquals("Unexpected union.", expected, words(TrieSets.union(left, right)));
+        Assert.assertEquals("Unexpected streamed union.", expected, words(TrieSets.streamUnion(left, right)));
+    }
+
+    @Test
+    public void testIntersection()
+    {
+        final Set<String> expected = words("app", "band", "candle");
+        Assert.assertEquals("Unexpected intersection.", expected, words(TrieSets.intersection(left, right)));
+        Assert.assertEquals("Unexpected streamed intersection.", expected, words(TrieSets.streamIntersection(left, right)));
+    }
+
+    @Test
+    public void testDifference()
+    {
+        final Set<String> expected = words("apple", "banana", "can");
+        Assert.assertEquals("Unexpected difference.", expected, words(TrieSets.difference(left, right)));
+        Assert.assertEquals("Unexpected streamed difference.", expected, words(TrieSets.streamDifference(left, right)));
+        Assert.assertEquals("Unexpected reverse difference.", words("apply", "bandana", "dog"), words(TrieSets.difference(right, left)));
+    }
+
+    @Test
+    public void testEmpty()
+    {
+        final Cache empty = TrieCache.create();
+        Assert.assertEquals("Unexpected intersection.", words(), words(TrieSets.intersection(left, empty)));
+        Assert.assertEquals("Unexpected union.", words(left), words(TrieSets.union(empty, left)));
+        Assert.assertTrue("Results must prune empty branches.", TrieSets.intersection(cache("abc"), cache("abd")).getRootNodes().isEmpty());
+    }
+}
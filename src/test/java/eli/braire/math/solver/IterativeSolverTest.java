@@ -0,0 +1,173 @@
+package eli.braire.math.solver;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.braire.math.space.CooMatrixBuilder;
+import eli.braire.math.space.CsrMatrix;
+import eli.braire.math.space.LinearOperator;
+import eli.braire.math.space.Matrix;
+import eli.braire.math.space.Vector;
+import eli.veritas.exception.AssertionException;
+
+public class IterativeSolverTest
+{
+    private static final double TOLERANCE = 1E-10D;
+
+    /**
+     * The 5-point Laplacian on an n-by-n grid, which is symmetric positive-definite, optionally with a first order convection term which makes it
+     * non-symmetric.
+     */
+    private static CsrMatrix laplacian(final int n, final double convection)
+    {
+        final CooMatrixBuilder builder = CooMatrixBuilder.create(n * n, n * n, 5 * n * n);
+        for (int i = 0; i < n; i++)
+        {
+            for (int j = 0; j < n; j++)
+            {
+                final int row = i * n + j + 1;
+                builder.add(row, row, 4);
+                if (i > 0)
+                {
+                    builder.add(row, row - n, -1 - convection);
+                }
+                if (i < n - 1)
+                {
+                    builder.add(row, row + n, -1 + convection);
+                }
+                if (j > 0)
+                {
+                    builder.add(row, row - 1, -1 - convection);
+                }
+                if (j < n - 1)
+                {
+                    builder.add(row, row + 1, -1 + convection);
+                }
+            }
+        }
+
+        return builder.toCsr();
+    }
+
+    private static Vector ones(final int rank)
+    {
+        final double[] elements = new double[rank];
+        Arrays.fill(elements, 1D);
+        return Vector.create(elements);
+    }
+
+    private static void assertSolved(final String message, final LinearOperator operator, final Vector rightHandSide, final SolverResult result)
+    {
+        Assert.assertTrue(message + " did not converge: " + result, result.isConverged());
+        Assert.assertTrue(message + " left too large a residual: " + result, result.getRelativeResidual() < 1E-8D);
+
+        final double[] residual = new double[operator.getRows()];
+        operator.apply(result.getSolution().toArray(), residual);
+        final double[] b = rightHandSide.toArray();
+        double norm = 0D;
+        for (int index = 0; index < b.length; index++)
+        {
+            norm += (b[index] - residual[index]) * (b[index] - residual[index]);
+        }
+        Assert.assertEquals(message + " reported an inaccurate residual.", Math.sqrt(norm), result.getResidualNorm(), TOLERANCE);
+    }
+
+    @Test
+    public void testConjugateGradient()
+    {
+        final CsrMatrix matrix = laplacian(40, 0D);
+        final Vector b = ones(matrix.ROWS);
+        final ConvergenceCriteria criteria = ConvergenceCriteria.create(1E-10D, 0D, 1000);
+
+        final SolverResult plain = ConjugateGradientSolver.create(criteria).solve(matrix, b);
+        assertSolved("CG", matrix, b, plain);
+        Assert.assertEquals("Each CG iteration applies the operator once.", plain.getIterations() + 1, plain.getOperatorApplications());
+        Assert.assertEquals("The history holds the initial residual and one per iteration.", plain.getIterations() + 1,
+                            plain.getResidualHistory().length);
+
+        final SolverResult jacobi = ConjugateGradientSolver.create(criteria, JacobiPreconditioner.of(matrix)).solve(matrix, b);
+        assertSolved("Jacobi CG", matrix, b, jacobi);
+
+        final SolverResult ilu = ConjugateGradientSolver.create(criteria, IncompleteLUPreconditioner.of(matrix)).solve(matrix, b);
+        assertSolved("ILU CG", matrix, b, ilu);
+        Assert.assertTrue("ILU(0) should reduce the iterations needed.", ilu.getIterations() < plain.getIterations());
+    }
+
+    @Test
+    public void testNonSymmetricSolvers()
+    {
+        final CsrMatrix matrix = laplacian(30, 0.4D);
+        final Vector b = ones(matrix.ROWS);
+        final ConvergenceCriteria criteria = ConvergenceCriteria.create(1E-10D, 0D, 2000);
+
+        assertSolved("BiCGSTAB", matrix, b, BiCgStabSolver.create(criteria).solve(matrix, b));
+        final SolverResult bicgstab = BiCgStabSolver.create(criteria, IncompleteLUPreconditioner.of(matrix)).solve(matrix, b);
+        assertSolved("ILU BiCGSTAB", matrix, b, bicgstab);
+
+        final SolverResult gmres = GmresSolver.create(criteria, Preconditioner.IDENTITY, 20).solve(matrix, b);
+        assertSolved("GMRES", matrix, b, gmres);
+        final double[] history = gmres.getResidualHistory();
+        for (int index = 1; index < history.length; index++)
+        {
+            Assert.assertTrue("GMRES must never increase the residual.", history[index] <= history[index - 1] * (1D + 1E-12D));
+        }
+        assertSolved("Jacobi GMRES", matrix, b, GmresSolver.create(criteria, JacobiPreconditioner.of(matrix)).solve(matrix, b));
+    }
+
+    @Test
+    public void testDenseOperatorAndInitialGuess()
+    {
+        final Matrix matrix = Matrix.create(new double[] { 4, 1, 0 }, new double[] { 1, 3, 1 }, new double[] { 0, 1, 2 });
+        final Vector b = Vector.create(1, 2, 3);
+        final Vector expected = matrix.solve(b);
+
+        final SolverResult result = ConjugateGradientSolver.create().solve(matrix, b);
+        assertSolved("Dense CG", matrix, b, result);
+        Assert.assertTrue("CG terminates within n iterations in exact arithmetic.", result.getIterations() <= 4);
+        Assert.assertArrayEquals("Unexpected solution.", expected.toArray(), result.getSolution().toArray(), TOLERANCE);
+
+        final SolverResult exact = GmresSolver.create().solve(matrix, b, expected);
+        Assert.assertTrue("An exact initial guess needs no iterations.", exact.isConverged());
+        Assert.assertEquals("An exact initial guess needs no iterations.", 0, exact.getIterations());
+    }
+
+    @Test
+    public void testIterationLimit()
+    {
+        final CsrMatrix matrix = laplacian(30, 0D);
+        final Vector b = ones(matrix.ROWS);
+
+        final SolverResult result = ConjugateGradientSolver.create(ConvergenceCriteria.create(1E-12D, 0D, 5)).solve(matrix, b);
+        Assert.assertFalse("Five iterations cannot solve the system.", result.isConverged());
+        Assert.assertEquals("Unexpected iterations.", 5, result.getIterations());
+        Assert.assertEquals("The best approximation must still be returned.", matrix.ROWS, result.getSolution().RANK);
+    }
+
+    @Test
+    public void testBiCgStabBreakdown()
+    {
+        // A rotation is non-singular, but r . A r = 0 for every r, so the first step length would divide by zero
+        final Matrix rotation = Matrix.create(new double[] { 0, -1 }, new double[] { 1, 0 });
+        final Vector b = Vector.create(1, 0);
+
+        final SolverResult result = BiCgStabSolver.create().solve(rotation, b);
+        Assert.assertFalse("A breakdown cannot converge.", result.isConverged());
+        Assert.assertEquals("A breakdown must stop iterating.", 0, result.getIterations());
+        Assert.assertArrayEquals("The initial guess must be returned untouched.", new double[] { 0, 0 }, result.getSolution().toArray(), 0D);
+        Assert.assertEquals("Unexpected residual.", 1, result.getResidualNorm(), TOLERANCE);
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testNonSquareOperator()
+    {
+        BiCgStabSolver.create().solve(Matrix.create(new double[] { 1, 2 }), Vector.create(1));
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testMismatchedRightHandSide()
+    {
+        GmresSolver.create().solve(laplacian(3, 0D), Vector.create(1, 2, 3));
+    }
+}
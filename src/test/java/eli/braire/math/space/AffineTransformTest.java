@@ -0,0 +1,121 @@
+package eli.braire.math.space;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.veritas.exception.AssertionException;
+
+public class AffineTransformTest
+{
+    private static final double DELTA = 0.000000001d;
+
+    private static void assertEquals(final String message, final Vector3 expected, final Vector3 actual)
+    {
+        Assert.assertEquals(message, expected.X, actual.X, DELTA);
+        Assert.assertEquals(message, expected.Y, actual.Y, DELTA);
+        Assert.assertEquals(message, expected.Z, actual.Z, DELTA);
+    }
+
+    private static void assertEquals(final String message, final Matrix expected, final Matrix actual)
+    {
+        Assert.assertEquals(message, expected.ROWS, actual.ROWS);
+        Assert.assertEquals(message, expected.COLUMNS, actual.COLUMNS);
+        for (int i = 1; i <= expected.ROWS; i++)
+        {
+            for (int j = 1; j <= expected.COLUMNS; j++)
+            {
+                Assert.assertEquals(message, expected.getElement(i, j), actual.getElement(i, j), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void testVectors()
+    {
+        final Vector3 a = Vector3.create(1, 2, 3);
+        final Vector3 b = Vector3.create(-2, 0, 5);
+        Assert.assertEquals("Unexpected dot product.", 13, a.dotProduct(b), 0D);
+        Assert.assertEquals("Cross product must match the general Vector.", Vector3.of(a.toVector().crossProduct(b.toVector())), a.crossProduct(b));
+        Assert.assertEquals("Unexpected sum.", Vector3.create(-1, 2, 8), a.add(b));
+        Assert.assertEquals("Unexpected normalization.", 1, b.normalize().getMagnitude(), DELTA);
+        Assert.assertEquals("Round trip through Vector must be exact.", a, Vector3.of(a.toVector()));
+
+        final Vector2 c = Vector2.create(3, 4);
+        Assert.assertEquals("Unexpected magnitude.", 5, c.getMagnitude(), 0D);
+        Assert.assertEquals("Perpendicular must match the general Vector.", Vector2.of(c.toVector().crossProduct()), c.crossProduct());
+    }
+
+    @Test
+    public void testMatrix4Transforms()
+    {
+        final Vector3 point = Vector3.create(1, 2, 3);
+        assertEquals("Unexpected translation.", Vector3.create(2, 4, 6), Matrix4.translation(1, 2, 3).transformPoint(point));
+        assertEquals("Directions ignore translation.", point, Matrix4.translation(1, 2, 3).transformDirection(point));
+        assertEquals("Unexpected rotation.", Vector3.create(-2, 1, 3), Matrix4.rotationZ(Math.PI / 2).transformPoint(point));
+        assertEquals("Unexpected rotation.", Vector3.create(1, -3, 2), Matrix4.rotationX(Math.PI / 2).transformPoint(point));
+        assertEquals("Unexpected rotation.", Vector3.create(3, 2, -1), Matrix4.rotationY(Math.PI / 2).transformPoint(point));
+        assertEquals("Axis rotation must match the principal rotation.", Matrix4.rotationY(0.3).toMatrix(),
+                     Matrix4.rotation(Vector3.create(0, 2, 0), 0.3).toMatrix());
+        assertEquals("Unexpected shear.", Vector3.create(1 + 2 * 2, 2, 3), Matrix4.shearing(2, 0, 0, 0, 0, 0).transformPoint(point));
+
+        // Scale first, then rotate, then translate
+        final Matrix4 transform = Matrix4.IDENTITY.scale(2, 2, 2).rotate(Vector3.UNIT_Z, Math.PI / 2).translate(10, 0, 0);
+        assertEquals("Unexpected composition.", Vector3.create(6, 2, 6), transform.transformPoint(point));
+        assertEquals("Unexpected composition.", transform.transformPoint(point),
+                     Matrix4.translation(10, 0, 0).multiply(Matrix4.rotationZ(Math.PI / 2)).multiply(Matrix4.scaling(2, 2, 2)).transformPoint(point));
+        assertEquals("The inverse must undo the transform.", point, transform.inverse().transformPoint(transform.transformPoint(point)));
+        Assert.assertTrue("Affine transforms have no perspective.", transform.isAffine());
+    }
+
+    @Test
+    public void testMatrix4Algebra()
+    {
+        final Matrix4 matrix = Matrix4.create(2, 1, 0, 3, 0, 4, 1, 1, 5, 0, 3, 2, 1, 2, 0, 6);
+        final Matrix general = matrix.toMatrix();
+        Assert.assertEquals("Round trip through Matrix must be exact.", matrix, Matrix4.of(general));
+        Assert.assertEquals("Unexpected determinant.", general.determinant(), matrix.determinant(), DELTA);
+        assertEquals("Unexpected inverse.", general.inverse(), matrix.inverse().toMatrix());
+        assertEquals("Unexpected transpose.", general.transverse(), matrix.transverse().toMatrix());
+        assertEquals("Unexpected product.", general.dotProduct(general), matrix.multiply(matrix).toMatrix());
+
+        final Vector3 projected = matrix.transformPoint(Vector3.create(1, 1, 1));
+        final Vector homogeneous = general.dotProduct(Vector.create(1, 1, 1, 1));
+        assertEquals("Perspective division expected.", Vector3.create(homogeneous.d(1) / homogeneous.d(4), homogeneous.d(2) / homogeneous.d(4),
+                                                                       homogeneous.d(3) / homogeneous.d(4)),
+                     projected);
+    }
+
+    @Test
+    public void testMatrix3()
+    {
+        final Matrix3 matrix = Matrix3.create(2, 1, 0, 0, 4, 1, 5, 0, 3);
+        final Matrix general = matrix.toMatrix();
+        Assert.assertEquals("Round trip through Matrix must be exact.", matrix, Matrix3.of(general));
+        Assert.assertEquals("Unexpected determinant.", general.determinant(), matrix.determinant(), DELTA);
+        assertEquals("Unexpected inverse.", general.inverse(), matrix.inverse().toMatrix());
+        assertEquals("Unexpected product.", general.dotProduct(general), matrix.multiply(matrix).toMatrix());
+
+        final Vector2 point = Matrix3.IDENTITY.rotate(Math.PI / 2).translate(1, 1).transformPoint(Vector2.create(1, 0));
+        Assert.assertEquals("Unexpected 2D transform.", 1, point.X, DELTA);
+        Assert.assertEquals("Unexpected 2D transform.", 2, point.Y, DELTA);
+    }
+
+    @Test
+    public void testGeneralMatrixTransforms()
+    {
+        final Matrix base = Matrix4.rotationX(0.4).toMatrix();
+        assertEquals("Unexpected translation.", Matrix4.rotationX(0.4).translate(1, 2, 3).toMatrix(), base.translate(Vector.create(1, 2, 3)));
+        assertEquals("Unexpected scaling.", Matrix4.rotationX(0.4).scale(1, 2, 3).toMatrix(), base.scale(Vector.create(1, 2, 3)));
+        assertEquals("Unexpected rotation.", Matrix4.rotationX(0.4).rotate(Vector3.create(0, 0.6, 0.8), 0.5).toMatrix(),
+                     base.rotate(Vector.create(0, 0.3, 0.4)));
+        assertEquals("Unexpected shear.", Matrix4.rotationX(0.4).shear(1, 2, 3, 4, 5, 6).toMatrix(),
+                     base.shear(new Vector[] { Vector.create(0, 3, 5), Vector.create(1, 0, 6), Vector.create(2, 4, 0) }));
+        assertEquals("Unexpected 2D rotation.", Matrix3.rotation(0.7).toMatrix(), Matrix.identity(3).rotate(Vector.create(0.7)));
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testTranslateDimensions()
+    {
+        Matrix.identity(4).translate(Vector.create(1, 2, 3, 4));
+    }
+}
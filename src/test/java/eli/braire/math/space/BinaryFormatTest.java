@@ -0,0 +1,121 @@
+package eli.braire.math.space;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BinaryFormatTest
+{
+    private final TestMatrices matrices = new TestMatrices();
+    private final List<Path>   files    = new ArrayList<>();
+
+    private Path file() throws IOException
+    {
+        final Path file = Files.createTempFile("matrix", ".bin");
+        files.add(file);
+        return file;
+    }
+
+    @After
+    public void deleteFiles() throws IOException
+    {
+        for (final Path file : files)
+        {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void assertPoints(final PointBuffer expected, final PointBuffer actual)
+    {
+        Assert.assertEquals("Unexpected rank.", expected.RANK, actual.RANK);
+        for (int axis = 1; axis <= expected.RANK; axis++)
+        {
+            Assert.assertArrayEquals("Unexpected coordinates.", expected.getAxis(axis), actual.getAxis(axis), 0D);
+        }
+    }
+
+    @Test
+    public void testFiles() throws IOException
+    {
+        // Large enough to be mapped on read, and a transverse view which is not contiguous
+        final Matrix matrix = matrices.matrix(300, 500);
+        final Path file = file();
+        BinaryFormat.save(file, matrix.transposeView());
+        Assert.assertEquals("The file must hold a header and the elements.", BinaryFormat.HEADER + 300 * 500 * 8, Files.size(file));
+        Assert.assertEquals("A loaded Matrix must equal the saved one.", matrix.transverse(), BinaryFormat.loadMatrix(file));
+
+        final FloatMatrix floats = FloatMatrix.of(matrix);
+        BinaryFormat.save(file, floats);
+        Assert.assertEquals("A loaded FloatMatrix must equal the saved one.", floats, BinaryFormat.loadFloatMatrix(file));
+
+        final PointBuffer points = matrices.points(3, 100000, 1D);
+        BinaryFormat.save(file, points);
+        assertPoints(points, BinaryFormat.loadPointBuffer(file));
+    }
+
+    @Test
+    public void testStream() throws IOException
+    {
+        final Matrix matrix = matrices.matrix(400, 400);
+        final Vector vector = Vector.create(1, 2, 3);
+        final Point point = Point.create(-4, 5);
+        final PointBuffer points = matrices.points(2, 7, 1D);
+        final FloatMatrix floats = FloatMatrix.create(new float[] { 1, 2 }, new float[] { 3, 4 });
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final BinaryFormat.Writer writer = BinaryFormat.writer(Channels.newChannel(bytes)))
+        {
+            writer.write(matrix).write(vector).write(point).write(points).write(floats).write(PointBuffer.create(4, 0));
+        }
+
+        try (final BinaryFormat.Reader reader = BinaryFormat.reader(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray()))))
+        {
+            Assert.assertEquals("Unexpected record.", BinaryFormat.Kind.MATRIX, reader.peek());
+            Assert.assertEquals("Unexpected Matrix.", matrix, reader.readMatrix());
+            Assert.assertEquals("Unexpected Vector.", vector, reader.readVector());
+            Assert.assertEquals("Unexpected record.", BinaryFormat.Kind.POINT, reader.peek());
+            Assert.assertEquals("Unexpected Point.", point, reader.readPoint());
+            assertPoints(points, reader.readPointBuffer());
+            Assert.assertEquals("Unexpected FloatMatrix.", floats, reader.readFloatMatrix());
+            Assert.assertEquals("Unexpected empty PointBuffer.", 0, reader.readPointBuffer().SIZE);
+            Assert.assertNull("The stream must end after the last record.", reader.peek());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrongKind() throws IOException
+    {
+        final Path file = file();
+        BinaryFormat.save(file, matrices.points(3, 10, 1D));
+        BinaryFormat.loadMatrix(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testForeignFile() throws IOException
+    {
+        final Path file = file();
+        Files.write(file, new byte[100]);
+        BinaryFormat.loadMatrix(file);
+    }
+
+    @Test(expected = EOFException.class)
+    public void testTruncatedFile() throws IOException
+    {
+        final Path file = file();
+        BinaryFormat.save(file, matrices.matrix(400, 400));
+        final byte[] contents = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(contents, contents.length - 1));
+        BinaryFormat.loadMatrix(file);
+    }
+}
@@ -0,0 +1,61 @@
+package eli.braire.math.space;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.veritas.exception.AssertionException;
+
+public class CholeskyDecompositionTest
+{
+    private static final double DELTA = 0.0000001d;
+
+    private final Matrix        spd   = Matrix.create(new double[] { 4, 12, -16 }, new double[] { 12, 37, -43 }, new double[] { -16, -43, 98 });
+
+    @Test
+    public void testFactors()
+    {
+        final CholeskyDecomposition decomposition = spd.getCholeskyDecomposition();
+        Assert.assertEquals("Unexpected factor.",
+                            Matrix.create(new double[] { 2, 0, 0 }, new double[] { 6, 1, 0 }, new double[] { -8, 5, 3 }),
+                            decomposition.getLower());
+        Assert.assertEquals("Unexpected determinant.", 36, decomposition.determinant(), DELTA);
+        Assert.assertSame("The factorisation must be cached.", decomposition, spd.getCholeskyDecomposition());
+    }
+
+    @Test
+    public void testInverseAndSolve()
+    {
+        final CholeskyDecomposition decomposition = spd.getCholeskyDecomposition();
+        final Matrix product = spd.dotProduct(decomposition.inverse());
+        for (int i = 1; i <= 3; i++)
+        {
+            for (int j = 1; j <= 3; j++)
+            {
+                Assert.assertEquals("A . A^-1 must equal the identity.", i == j ? 1 : 0, product.getElement(i, j), DELTA);
+            }
+        }
+
+        final Vector solution = decomposition.solve(Vector.create(-12, -31, 82));
+        Assert.assertEquals("Unexpected solution.", 1, solution.d(1), DELTA);
+        Assert.assertEquals("Unexpected solution.", 0, solution.d(2), DELTA);
+        Assert.assertEquals("Unexpected solution.", 1, solution.d(3), DELTA);
+
+        // The right-hand sides of solutions (1, 0, 1) and (1, 1, 0), as a view
+        final Matrix rightHand = Matrix.create(new double[] { -12, -31, 82 }, new double[] { 16, 49, -59 }).transposeView();
+        final Matrix solutions = decomposition.solve(rightHand);
+        final double[][] expected = { { 1, 1 }, { 0, 1 }, { 1, 0 } };
+        for (int i = 1; i <= 3; i++)
+        {
+            for (int j = 1; j <= 2; j++)
+            {
+                Assert.assertEquals("Unexpected solutions.", expected[i - 1][j - 1], solutions.getElement(i, j), DELTA);
+            }
+        }
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testIndefinite()
+    {
+        Matrix.create(new double[] { 1, 2 }, new double[] { 2, 1 }).getCholeskyDecomposition();
+    }
+}
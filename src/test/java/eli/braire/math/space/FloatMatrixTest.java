@@ -0,0 +1,107 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FloatMatrixTest
+{
+    private static final float DELTA = 0.0001f;
+
+    private final TestMatrices matrices = new TestMatrices();
+    private final FloatMatrix  matrix   = FloatMatrix.create(new float[] { 1, 2, 3 }, new float[] { 4, 5, 6 }, new float[] { 7, 8, 9 },
+                                                           new float[] { 10, 11, 12 });
+
+    @Test
+    public void testConversions()
+    {
+        final Matrix original = matrices.matrix(7, 5);
+        final FloatMatrix converted = FloatMatrix.of(original);
+        TestMatrices.assertClose("Converted element", original, converted, 1E-7);
+        Assert.assertEquals("Widening must be exact.", converted, FloatMatrix.of(Matrix.of(converted)));
+        Assert.assertEquals("Views must convert as their copies.", FloatMatrix.of(original.transverse()), FloatMatrix.of(original.transposeView()));
+
+        final FloatVector vector = FloatVector.of(Vector.create(0.1, 0.2, 0.3));
+        Assert.assertEquals("Unexpected element.", 0.2F, vector.d(2), 0F);
+        Assert.assertEquals("Widening must be exact.", vector, FloatVector.of(Vector.of(vector)));
+
+        final FloatPoint point = FloatPoint.of(Point.create(1.5, -2.5));
+        Assert.assertEquals("Unexpected conversion.", Point.create(1.5, -2.5), Point.of(point));
+    }
+
+    @Test
+    public void testViews()
+    {
+        final FloatMatrix view = matrix.transposeView();
+        Assert.assertEquals("Unexpected element.", 6F, view.getElement(3, 2), 0F);
+        Assert.assertSame("Views must share the backing array.", matrix.elements, view.elements);
+        Assert.assertEquals("Views must equal their copies.", matrix.transverse(), view);
+        Assert.assertEquals("Views must hash like their copies.", matrix.transverse().hashCode(), view.hashCode());
+        Assert.assertEquals("Unexpected block.", FloatMatrix.create(new float[] { 5, 6 }, new float[] { 8, 9 }, new float[] { 11, 12 }),
+                            matrix.blockView(2, 2, 3, 2));
+        Assert.assertEquals("Unexpected column view.", FloatMatrix.create(new float[] { 2 }, new float[] { 5 }, new float[] { 8 }, new float[] { 11 }),
+                            matrix.columnView(2));
+    }
+
+    @Test
+    public void testElementWise()
+    {
+        final Matrix left = matrices.matrix(6, 9);
+        final Matrix right = matrices.matrix(9, 6).transposeView();
+        final FloatMatrix floatLeft = FloatMatrix.of(left);
+
+        TestMatrices.assertClose("Sum", left.add(right), floatLeft.add(FloatMatrix.of(right)), DELTA);
+        TestMatrices.assertClose("Difference", left.subtract(right), floatLeft.subtract(FloatMatrix.of(right)), DELTA);
+        TestMatrices.assertClose("Sum with a view", left.add(right), floatLeft.add(FloatMatrix.of(right.transverse()).transposeView()), DELTA);
+        TestMatrices.assertClose("Scaled", left.multiply(-2.5), floatLeft.multiply(-2.5F), DELTA);
+        TestMatrices.assertClose("Divided", left.divide(4), floatLeft.divide(4F), DELTA);
+        TestMatrices.assertClose("Negated", left.negate(), floatLeft.negate(), 1E-7);
+    }
+
+    @Test
+    public void testProducts()
+    {
+        // Small products take the simple loop, larger ones the packed kernels with edge tiles in both directions
+        for (final int size : new int[] { 3, 37, 133 })
+        {
+            final Matrix left = matrices.matrix(size, size + 5);
+            final Matrix right = matrices.matrix(size + 5, size + 11);
+            final FloatMatrix product = FloatMatrix.of(left).dotProduct(FloatMatrix.of(right));
+            TestMatrices.assertClose(MessageFormat.format("Product of size {0}", size), left.dotProduct(right), product, DELTA * size);
+            TestMatrices.assertClose(MessageFormat.format("Product of views of size {0}", size), left.dotProduct(right),
+                                     FloatMatrix.of(left.transverse()).transposeView().dotProduct(FloatMatrix.of(right)), DELTA * size);
+        }
+        Assert.assertEquals("Unexpected identity product.", matrix, matrix.dotProduct(FloatMatrix.identity(3)));
+    }
+
+    @Test
+    public void testVectorProducts()
+    {
+        final FloatVector vector = FloatVector.create(1, -1, 2);
+        Assert.assertEquals("Unexpected product.", FloatVector.create(5, 11, 17, 23), matrix.dotProduct(vector));
+        Assert.assertEquals("Unexpected product.", FloatPoint.create(5, 11, 17, 23), matrix.dotProduct(vector.toPoint()));
+        Assert.assertEquals("Unexpected product.", FloatVector.create(5, 11, 17, 23), matrix.transposeView().transverse().dotProduct(vector));
+        Assert.assertEquals("Unexpected row product.", FloatVector.create(18, 21, 24), FloatVector.create(1, 0, 1, 1).dotProduct(matrix));
+        Assert.assertEquals("Unexpected row product.", FloatPoint.create(18, 21, 24), FloatPoint.create(1, 0, 1, 1).dotProduct(matrix));
+        Assert.assertEquals("Unexpected dot product.", 6F, vector.dotProduct(vector), 0F);
+
+        final float[] target = new float[4];
+        matrix.apply(new float[] { 1, -1, 2 }, target);
+        Assert.assertArrayEquals("Unexpected application.", new float[] { 5, 11, 17, 23 }, target, 0F);
+    }
+
+    @Test
+    public void testVectorOperations()
+    {
+        final FloatVector a = FloatVector.create(1, 2, 3);
+        final FloatVector b = FloatVector.create(0.5F, -1, 4);
+        Assert.assertEquals("Unexpected sum.", FloatVector.create(1.5F, 1, 7), a.add(b));
+        Assert.assertEquals("Unexpected difference.", FloatVector.create(0.5F, 3, -1), a.subtract(b));
+        Assert.assertEquals("Unexpected scaling.", FloatVector.create(2, 4, 6), a.multiply(2));
+        Assert.assertEquals("Unexpected division.", FloatVector.create(0.5F, 1, 1.5F), a.divide(2));
+        Assert.assertEquals("Unexpected negation.", FloatVector.create(-1, -2, -3), a.negate());
+        Assert.assertEquals("Unexpected point sum.", FloatPoint.create(1.5F, 1, 7), a.toPoint().add(b.toPoint()));
+        Assert.assertEquals("Unexpected point difference.", FloatPoint.create(0.5F, 3, -1), a.toPoint().subtract(b.toPoint()));
+    }
+}
@@ -0,0 +1,96 @@
+package eli.braire.math.space;
+
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.veritas.exception.AssertionException;
+
+public class LUDecompositionTest
+{
+    private static final double DELTA = 0.0000001d;
+
+    private final TestMatrices matrices = new TestMatrices(DELTA);
+
+    private final Matrix square = Matrix.create(new double[] { 2, 1, 1 }, new double[] { 4, -6, 0 }, new double[] { -2, 7, 2 });
+
+    @Test
+    public void testFactors()
+    {
+        final LUDecomposition decomposition = square.getLUDecomposition();
+        final int[] pivot = decomposition.getPivot();
+        final double[][] permuted = new double[3][];
+        for (int i = 0; i < 3; i++)
+        {
+            permuted[i] = square.rowView(pivot[i]).toArray()[0];
+        }
+        matrices.assertClose("L . U must equal P . A.", Matrix.create(permuted), decomposition.getLower().dotProduct(decomposition.getUpper()));
+        Assert.assertSame("The factorisation must be cached.", decomposition, square.getLUDecomposition());
+    }
+
+    @Test
+    public void testDeterminant()
+    {
+        Assert.assertEquals("Unexpected determinant.", -16, square.determinant(), DELTA);
+        Assert.assertEquals("Unexpected identity determinant.", 1, Matrix.identity(5).determinant(), DELTA);
+        Assert.assertEquals("Unexpected transposed determinant.", -16, square.transposeView().determinant(), DELTA);
+        Assert.assertEquals("Singular Matrices must have a zero determinant.", 0,
+                            Matrix.create(new double[] { 1, 2 }, new double[] { 2, 4 }).determinant(), DELTA);
+    }
+
+    @Test
+    public void testInverseAndSolve()
+    {
+        matrices.assertClose("A . A^-1 must equal the identity.", Matrix.identity(3), square.dotProduct(square.inverse()));
+        final Vector solution = square.solve(Vector.create(5, -2, 9));
+        Assert.assertEquals("Unexpected solution.", 1, solution.d(1), DELTA);
+        Assert.assertEquals("Unexpected solution.", 1, solution.d(2), DELTA);
+        Assert.assertEquals("Unexpected solution.", 2, solution.d(3), DELTA);
+
+        final Matrix matrix = matrices.matrix(60, 60);
+        final Matrix expected = matrices.matrix(60, 3);
+        matrices.assertClose("A . X must equal B.", expected, matrix.dotProduct(matrix.solve(expected)));
+        final Matrix block = expected.blockView(1, 2, 60, 2);
+        matrices.assertClose("A . X must equal B for views.", block, matrix.transposeView().dotProduct(matrix.transposeView().solve(block)));
+    }
+
+    @Test
+    public void testBadlyScaled()
+    {
+        // Non-singular, although the smaller pivots are far beneath the rounding error of the largest element
+        final Matrix diagonal = Matrix.create(new double[] { 1e10, 0 }, new double[] { 0, 1e-10 });
+        Assert.assertEquals("Unexpected determinant.", 1, diagonal.determinant(), DELTA);
+        Assert.assertEquals("Unexpected inverse.", Matrix.create(new double[] { 1e-10, 0 }, new double[] { 0, 1e10 }), diagonal.inverse());
+
+        final Matrix rowScaled = Matrix.create(new double[] { 1e20, 0, 0 }, new double[] { 0, 1, 2 }, new double[] { 0, 3, 4 });
+        Assert.assertEquals("Unexpected determinant.", -2e20, rowScaled.determinant(), 1e20 * DELTA);
+        final Vector solution = rowScaled.solve(Vector.create(1e20, 5, 11));
+        Assert.assertEquals("Unexpected solution.", 1, solution.d(1), DELTA);
+        Assert.assertEquals("Unexpected solution.", 1, solution.d(2), DELTA);
+        Assert.assertEquals("Unexpected solution.", 2, solution.d(3), DELTA);
+        Assert.assertTrue("A badly scaled Matrix must still be invertible.", rowScaled.getLUDecomposition().isNonSingular());
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testSolveSingular()
+    {
+        Matrix.create(new double[] { 1, 2 }, new double[] { 2, 4 }).solve(Vector.create(1, 1));
+    }
+
+    @Test
+    public void testRankAndEchelonForms()
+    {
+        final Matrix matrix = Matrix.create(new double[] { 1, 2, 1, 1 }, new double[] { 2, 4, 0, 6 }, new double[] { 3, 6, 1, 7 });
+        Assert.assertEquals("Unexpected rank.", 2, matrix.getRank());
+        Assert.assertEquals("Unexpected transposed rank.", 2, matrix.transposeView().getRank());
+        Assert.assertEquals("Unexpected full rank.", 3, square.getRank());
+
+        final Matrix echelon = matrix.echelonForm();
+        Assert.assertEquals("Rows beneath the rank must be zero.", Matrix.create(new double[] { 0, 0, 0, 0 }), echelon.rowView(3));
+        Assert.assertEquals("Pivots must skip dependent columns.", 0, echelon.getElement(2, 2), DELTA);
+        matrices.assertClose("Unexpected reduced echelon form.",
+                             Matrix.create(new double[] { 1, 2, 0, 3 }, new double[] { 0, 0, 1, -2 }, new double[] { 0, 0, 0, 0 }),
+                             matrix.reducedEchelonForm());
+    }
+
+}
@@ -0,0 +1,200 @@
+package eli.braire.math.space;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MappedMatrixTest
+{
+    private static final double DELTA = 0.000000001d;
+
+    private final TestMatrices matrices = new TestMatrices();
+    private final List<Path>   files    = new ArrayList<>();
+
+    private Path file() throws IOException
+    {
+        final Path file = Files.createTempFile("matrix", ".bin");
+        files.add(file);
+        return file;
+    }
+
+    @After
+    public void deleteFiles() throws IOException
+    {
+        for (final Path file : files)
+        {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Copies a Matrix into tiles which do not divide its dimensions, so the edge tiles are padded.
+     */
+    private MappedMatrix mapped(final Matrix matrix, final int tile) throws IOException
+    {
+        final MappedMatrix mapped = MappedMatrix.create(file(), matrix.ROWS, matrix.COLUMNS, tile);
+        final double[][] rows = matrix.toArray();
+        for (int i = 0; i < matrix.ROWS; i++)
+        {
+            mapped.setRow(i + 1, rows[i]);
+        }
+        return mapped;
+    }
+
+    @Test
+    public void testElements() throws IOException
+    {
+        final Matrix matrix = matrices.matrix(11, 7);
+        try (final MappedMatrix mapped = mapped(matrix, 3))
+        {
+            Assert.assertEquals("Unexpected copy.", matrix, mapped.toMatrix());
+            Assert.assertEquals("Unexpected element.", matrix.getElement(10, 6), mapped.getElement(10, 6), 0D);
+
+            mapped.setElement(11, 7, 42D);
+            Assert.assertEquals("Unexpected element after setting it.", 42D, mapped.getElement(11, 7), 0D);
+            Assert.assertEquals("Setting an element must not disturb its neighbour.", matrix.getElement(11, 6), mapped.getElement(11, 6), 0D);
+        }
+    }
+
+    @Test
+    public void testReopen() throws IOException
+    {
+        final Matrix matrix = matrices.matrix(5, 9);
+        final Path file = file();
+        try (final MappedMatrix mapped = MappedMatrix.of(matrix, file))
+        {
+            Assert.assertEquals("Unexpected tile size.", MappedMatrix.DEFAULT_TILE, mapped.TILE);
+        }
+        try (final MappedMatrix reopened = MappedMatrix.open(file))
+        {
+            Assert.assertEquals("Unexpected rows.", 5, reopened.ROWS);
+            Assert.assertEquals("Unexpected columns.", 9, reopened.COLUMNS);
+            Assert.assertEquals("Unexpected contents after reopening.", matrix, reopened.toMatrix());
+        }
+    }
+
+    @Test
+    public void testPadding() throws IOException
+    {
+        // Neither dimension is a multiple of the tile size, so every tile but the first is an edge tile
+        final int tile = MappedMatrix.DEFAULT_TILE;
+        final Matrix matrix = matrices.matrix(tile + 3, tile + 2);
+        final Path file = file();
+        MappedMatrix.of(matrix, file).close();
+
+        final ByteBuffer contents = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        for (int tr = 0; tr < 2; tr++)
+        {
+            for (int tc = 0; tc < 2; tc++)
+            {
+                final int first = MappedMatrix.HEADER + (tr * 2 + tc) * tile * tile * Double.BYTES;
+                for (int r = 0; r < tile; r++)
+                {
+                    for (int c = 0; c < tile; c++)
+                    {
+                        final double element = contents.getDouble(first + (r * tile + c) * Double.BYTES);
+                        if (tr * tile + r >= matrix.ROWS || tc * tile + c >= matrix.COLUMNS)
+                        {
+                            Assert.assertEquals(MessageFormat.format("The padding of tile ({0}, {1}) must be zero.", tr, tc), 0D, element, 0D);
+                        }
+                        else
+                        {
+                            Assert.assertEquals("Unexpected element.", matrix.getElement(tr * tile + r + 1, tc * tile + c + 1), element, 0D);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenForeignFile() throws IOException
+    {
+        final Path file = file();
+        Files.write(file, new byte[100]);
+        MappedMatrix.open(file);
+    }
+
+    @Test
+    public void testTransverse() throws IOException
+    {
+        final Matrix matrix = matrices.matrix(10, 7);
+        try (final MappedMatrix mapped = mapped(matrix, 4); final MappedMatrix transverse = mapped.transverse(file()))
+        {
+            Assert.assertEquals("Unexpected transverse.", matrix.transverse(), transverse.toMatrix());
+        }
+    }
+
+    @Test
+    public void testDotProduct() throws IOException
+    {
+        for (final int tile : new int[] { 5, 16, 64 })
+        {
+            final Matrix left = matrices.matrix(37, 29);
+            final Matrix right = matrices.matrix(29, 41);
+            try (final MappedMatrix a = mapped(left, tile); final MappedMatrix b = mapped(right, tile);
+                 final MappedMatrix product = a.dotProduct(b, file()))
+            {
+                final Matrix expected = left.dotProduct(right);
+                final Matrix actual = product.toMatrix();
+                for (int i = 1; i <= expected.ROWS; i++)
+                {
+                    for (int j = 1; j <= expected.COLUMNS; j++)
+                    {
+                        Assert.assertEquals(MessageFormat.format("Product element ({0}, {1}) with tiles of {2}", i, j, tile), expected.getElement(i, j),
+                                            actual.getElement(i, j), DELTA);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testApply() throws IOException
+    {
+        final Matrix matrix = matrices.matrix(23, 17);
+        final double[] source = new double[17];
+        for (int j = 0; j < source.length; j++)
+        {
+            source[j] = matrices.nextDouble();
+        }
+        final double[] expected = new double[23];
+        final double[] actual = new double[23];
+        matrix.apply(source, expected);
+        try (final MappedMatrix mapped = mapped(matrix, 6))
+        {
+            mapped.apply(source, actual);
+        }
+        Assert.assertArrayEquals("Unexpected product with a vector.", expected, actual, DELTA);
+    }
+
+    @Test
+    public void testForEachRow() throws IOException
+    {
+        final Matrix matrix = matrices.matrix(9, 8);
+        final double[][] expected = matrix.toArray();
+        final int[] count = new int[1];
+        try (final MappedMatrix mapped = mapped(matrix, 4))
+        {
+            mapped.forEachRow((row, elements) ->
+            {
+                count[0]++;
+                Assert.assertEquals("Rows must be visited in order.", count[0], row);
+                for (int j = 0; j < 8; j++)
+                {
+                    Assert.assertEquals(MessageFormat.format("Element ({0}, {1})", row, j + 1), expected[row - 1][j], elements[j], 0D);
+                }
+            });
+        }
+        Assert.assertEquals("Every row must be visited.", 9, count[0]);
+    }
+}
@@ -0,0 +1,139 @@
+package eli.braire.math.space;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.veritas.exception.AssertionException;
+
+public class MatrixBatchTest
+{
+    private static final double DELTA = 0.000000001d;
+
+    private final TestMatrices matrices = new TestMatrices();
+
+    /**
+     * Diagonally dominant, so that every Matrix is well-conditioned.
+     */
+    private MatrixBatch random(final int order, final int size)
+    {
+        final MatrixBatch batch = MatrixBatch.create(order, size);
+        for (int i = 1; i <= order; i++)
+        {
+            for (int j = 1; j <= order; j++)
+            {
+                final double[] elements = batch.getElements(i, j);
+                for (int index = 0; index < size; index++)
+                {
+                    elements[index] = matrices.nextDouble() + (i == j ? order : 0);
+                }
+            }
+        }
+        return batch;
+    }
+
+    @Test
+    public void testAccessors()
+    {
+        final Matrix matrix = Matrix.create(new double[][] { { 1, 2 }, { 3, 4 } });
+        final MatrixBatch batch = MatrixBatch.of(Matrix.identity(2), matrix);
+        Assert.assertEquals("Unexpected order.", 2, batch.ORDER);
+        Assert.assertEquals("Unexpected size.", 2, batch.SIZE);
+        Assert.assertArrayEquals("Unexpected elements.", new double[] { 0, 3 }, batch.getElements(2, 1), 0D);
+        matrices.assertClose("Unexpected Matrix.", matrix, batch.getMatrix(2));
+
+        batch.setMatrix(1, matrix.transverse());
+        matrices.assertClose("Unexpected Matrix.", matrix.transverse(), batch.getMatrix(1));
+    }
+
+    @Test
+    public void testAgainstMatrix()
+    {
+        // The closed forms, the general elimination, and block edges
+        for (int order = 1; order <= 6; order++)
+        {
+            final int size = 300 + order * 97;
+            final MatrixBatch batch = random(order, size);
+            final MatrixBatch right = random(order, size);
+            final PointBuffer b = matrices.points(order, size, 5D);
+
+            final double[] determinants = batch.determinant(new double[size]);
+            final MatrixBatch inverses = batch.inverse(MatrixBatch.create(order, size));
+            final MatrixBatch products = batch.multiply(right, MatrixBatch.create(order, size));
+            final PointBuffer solutions = batch.solve(b, PointBuffer.create(order, size));
+            for (int index = 1; index <= size; index += 7)
+            {
+                final Matrix matrix = batch.getMatrix(index);
+                Assert.assertEquals("Unexpected determinant.", matrix.determinant(), determinants[index - 1], DELTA);
+                matrices.assertClose("Unexpected inverse.", matrix.inverse(), inverses.getMatrix(index));
+                matrices.assertClose("Unexpected product.", matrix.dotProduct(right.getMatrix(index)), products.getMatrix(index));
+
+                final Vector expected = matrix.solve(Vector.create(b.getPoint(index)));
+                for (int axis = 1; axis <= order; axis++)
+                {
+                    Assert.assertEquals("Unexpected solution.", expected.d(axis), solutions.getCoordinate(index, axis), DELTA);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInPlaceAndParallel()
+    {
+        final int size = MatrixBatch.PARALLEL_THRESHOLD * 3 + 17;
+        for (final int order : new int[] { 3, 4, 5 })
+        {
+            final MatrixBatch batch = random(order, size);
+            final MatrixBatch original = MatrixBatch.create(order, size);
+            for (int index = 1; index <= size; index++)
+            {
+                original.setMatrix(index, batch.getMatrix(index));
+            }
+            final PointBuffer points = matrices.points(order, size, 5D);
+            final PointBuffer b = PointBuffer.create(order, size);
+            for (int axis = 1; axis <= order; axis++)
+            {
+                System.arraycopy(points.getAxis(axis), 0, b.getAxis(axis), 0, size);
+            }
+
+            Assert.assertSame("The destination must be returned.", points, batch.solve(points, points));
+            Assert.assertSame("The destination must be returned.", batch, batch.multiply(batch, batch));
+            Assert.assertSame("The destination must be returned.", batch, batch.inverse(batch));
+            for (int index = 1; index <= size; index += 97)
+            {
+                final Matrix matrix = original.getMatrix(index);
+                matrices.assertClose("In-place inverse must match.", matrix.dotProduct(matrix).inverse(), batch.getMatrix(index));
+
+                final Vector expected = matrix.solve(Vector.create(b.getPoint(index)));
+                for (int axis = 1; axis <= order; axis++)
+                {
+                    Assert.assertEquals("In-place solution must match.", expected.d(axis), points.getCoordinate(index, axis), DELTA);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSingular()
+    {
+        final MatrixBatch batch = MatrixBatch.of(Matrix4.IDENTITY.toMatrix(), Matrix.create(new double[4][4]));
+        final double[] determinants = batch.determinant(new double[2]);
+        Assert.assertEquals("Unexpected determinant.", 1, determinants[0], 0D);
+        Assert.assertEquals("A singular Matrix must have a zero determinant.", 0, determinants[1], 0D);
+
+        final MatrixBatch inverses = batch.inverse(MatrixBatch.create(4, 2));
+        matrices.assertClose("A singular Matrix must not affect the others.", Matrix.identity(4), inverses.getMatrix(1));
+        Assert.assertFalse("A singular Matrix must have a non-finite inverse.", Double.isFinite(inverses.getElements(1, 1)[1]));
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testMismatchedSizes()
+    {
+        MatrixBatch.create(3, 4).inverse(MatrixBatch.create(3, 5));
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testMismatchedPoints()
+    {
+        MatrixBatch.create(3, 4).solve(PointBuffer.create(2, 4), PointBuffer.create(2, 4));
+    }
+}
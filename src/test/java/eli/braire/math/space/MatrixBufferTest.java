@@ -0,0 +1,79 @@
+package eli.braire.math.space;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.veritas.exception.AssertionException;
+
+public class MatrixBufferTest
+{
+    private final Matrix matrix = Matrix.create(new double[] { 1, 2 }, new double[] { 3, 4 });
+
+    @Test
+    public void testInPlaceOperations()
+    {
+        final MatrixBuffer buffer = MatrixBuffer.of(matrix);
+        Assert.assertEquals("Unexpected copy.", matrix, buffer);
+        buffer.addInPlace(matrix).multiplyInPlace(0.5D).axpy(2D, matrix.transposeView()).subtractInPlace(Matrix.identity(2));
+        Assert.assertEquals("Unexpected in-place result.", Matrix.create(new double[] { 2, 8 }, new double[] { 7, 11 }), buffer);
+        Assert.assertEquals("Unexpected negation.", Matrix.create(new double[] { -2, -8 }, new double[] { -7, -11 }), buffer.negateInPlace());
+
+        final Matrix snapshot = buffer.toMatrix();
+        buffer.fill(0D).setElement(2, 1, 5D);
+        Assert.assertEquals("Snapshots must not observe later writes.", -7, snapshot.getElement(2, 1), 0D);
+        Assert.assertEquals("Unexpected element.", 5, buffer.getElement(2, 1), 0D);
+    }
+
+    @Test
+    public void testDestinationOperations()
+    {
+        final MatrixBuffer destination = MatrixBuffer.create(2, 2);
+        Assert.assertSame("The destination must be returned.", destination, matrix.addInto(matrix, destination));
+        Assert.assertEquals("Unexpected sum.", matrix.add(matrix), destination);
+        Assert.assertEquals("Unexpected difference.", matrix.subtract(matrix.transposeView()), matrix.subtractInto(matrix.transposeView(), destination));
+        Assert.assertEquals("Unexpected product.", matrix.dotProduct(matrix), matrix.dotProductInto(matrix, destination));
+        Assert.assertEquals("Unexpected scaling.", matrix.multiply(3D), matrix.multiplyInto(3D, destination));
+        Assert.assertEquals("Unexpected fused product.", matrix.multiply(3D).add(matrix.dotProduct(matrix)), destination.addProduct(matrix, matrix));
+        Assert.assertEquals("Unexpected copy.", matrix.transposeView(), destination.set(matrix.transposeView()));
+
+        final VectorBuffer vector = VectorBuffer.create(2);
+        Assert.assertEquals("Unexpected Matrix-Vector product.", matrix.dotProduct(Vector.create(1, -1)), matrix.dotProductInto(Vector.create(1, -1), vector));
+        Assert.assertEquals("Unexpected Vector-Matrix product.", Vector.create(1, -1).dotProduct(matrix), Vector.create(1, -1).dotProductInto(matrix, vector));
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testAliasedViewRejected()
+    {
+        final MatrixBuffer buffer = MatrixBuffer.of(matrix);
+        buffer.addInPlace(buffer.transposeView());
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testAliasedProductRejected()
+    {
+        final MatrixBuffer buffer = MatrixBuffer.of(matrix);
+        buffer.dotProductInto(matrix, buffer);
+    }
+
+    @Test
+    public void testVectorBuffer()
+    {
+        final Vector vector = Vector.create(1, 2, 3);
+        final VectorBuffer buffer = VectorBuffer.of(vector);
+        buffer.addInPlace(vector).axpy(-0.5D, vector).multiplyInPlace(2D).subtractInPlace(Vector.create(1, 1, 1)).negateInPlace();
+        Assert.assertEquals("Unexpected in-place result.", Vector.create(-2, -5, -8), buffer);
+        Assert.assertEquals("Unexpected sum.", vector.add(vector), vector.addInto(vector, buffer));
+        Assert.assertEquals("Unexpected difference.", vector, buffer.subtractInto(vector, buffer));
+        Assert.assertEquals("Unexpected negation.", vector.negate(), vector.negateInto(buffer));
+        Assert.assertEquals("Unexpected snapshot.", Vector.create(0, -2, 0), buffer.setElement(1, 0).setElement(3, 0).toVector());
+    }
+
+    @Test
+    public void testFactorisationTracksWrites()
+    {
+        final MatrixBuffer buffer = MatrixBuffer.of(matrix);
+        Assert.assertEquals("Unexpected determinant.", -2, buffer.determinant(), 0.0000001d);
+        buffer.setElement(1, 1, 0D);
+        Assert.assertEquals("Determinants must reflect later writes.", -6, buffer.determinant(), 0.0000001d);
+    }
+}
@@ -0,0 +1,79 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.veritas.exception.AssertionException;
+
+public class MatrixChainTest
+{
+    private static final double DELTA = 0.000000001d;
+
+    private final TestMatrices matrices = new TestMatrices();
+
+    private Matrix[] chain(final int ... dimensions)
+    {
+        final Matrix[] chain = new Matrix[dimensions.length - 1];
+        for (int i = 0; i < chain.length; i++)
+        {
+            chain[i] = matrices.matrix(dimensions[i], dimensions[i + 1]);
+        }
+        return chain;
+    }
+
+    private static Matrix leftToRight(final Matrix ... matrices)
+    {
+        Matrix product = matrices[0];
+        for (int i = 1; i < matrices.length; i++)
+        {
+            product = product.dotProduct(matrices[i]);
+        }
+        return product;
+    }
+
+    @Test
+    public void testOptimalOrder()
+    {
+        // The textbook chain, whose optimum is 15125 multiply-adds
+        final MatrixChain plan = MatrixChain.of(chain(30, 35, 15, 5, 10, 20, 25));
+        Assert.assertEquals("Unexpected order.", "((A1 (A2 A3)) ((A4 A5) A6))", plan.getOrder());
+        Assert.assertEquals("Unexpected cost.", 2L * 15125L, plan.getFlops());
+        Assert.assertEquals("Unexpected naive cost.", 2L * (30 * 35 * 15 + 30 * 15 * 5 + 30 * 5 * 10 + 30 * 10 * 20 + 30 * 20 * 25), plan.getNaiveFlops());
+    }
+
+    @Test
+    public void testProduct()
+    {
+        // A projection pipeline ending in a single column, which is best multiplied right to left
+        final Matrix[] matrices = chain(40, 60, 50, 70, 1);
+        final MatrixChain plan = MatrixChain.of(matrices);
+        Assert.assertEquals("Unexpected order.", "(A1 (A2 (A3 A4)))", plan.getOrder());
+        Assert.assertTrue(plan.toString(), plan.getFlops() * 10 < plan.getNaiveFlops());
+
+        final Matrix expected = leftToRight(matrices);
+        final Matrix actual = Matrix.multiplyChain(matrices);
+        for (int i = 1; i <= expected.ROWS; i++)
+        {
+            Assert.assertEquals(MessageFormat.format("Element {0}", i), expected.getElement(i, 1), actual.getElement(i, 1), DELTA);
+        }
+    }
+
+    @Test
+    public void testShortChains()
+    {
+        final Matrix matrix = matrices.matrix(3, 4);
+        Assert.assertSame("A chain of one must be its operand.", matrix, Matrix.multiplyChain(matrix));
+        Assert.assertEquals("A chain of one costs nothing.", 0L, MatrixChain.of(matrix).getFlops());
+
+        final Matrix other = matrices.matrix(4, 2);
+        Assert.assertEquals("A chain of two is a single product.", matrix.dotProduct(other), Matrix.multiplyChain(matrix, other));
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testMismatchedChain()
+    {
+        Matrix.multiplyChain(matrices.matrix(3, 4), matrices.matrix(5, 2));
+    }
+}
@@ -0,0 +1,75 @@
+package eli.braire.math.space;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MatrixExpressionTest
+{
+    private final TestMatrices matrices = new TestMatrices();
+
+    @Test
+    public void testFusedFormula()
+    {
+        // Wider than one evaluation block, so rows are accumulated in several parts
+        final Matrix a = matrices.matrix(7, 1500);
+        final Matrix b = matrices.matrix(7, 1500);
+        final Matrix c = matrices.matrix(1500, 7).transposeView();
+
+        matrices.assertClose("Fused formula", a.add(b).multiply(2.5).subtract(c), a.lazy().add(b).multiply(2.5).subtract(c).evaluate());
+        matrices.assertClose("Nested expressions", a.subtract(b.add(c).negate()).divide(4),
+                             a.lazy().subtract(b.lazy().add(c).negate()).divide(4).evaluate());
+        Assert.assertEquals("An unmodified expression must evaluate to its operand.", a, a.lazy().evaluate());
+    }
+
+    @Test
+    public void testMergedTerms()
+    {
+        final Matrix a = matrices.matrix(5, 6);
+        final Matrix b = matrices.matrix(5, 6);
+        final MatrixExpression expression = a.lazy().add(b).add(a.lazy().multiply(3)).subtract(b);
+        Assert.assertEquals("Repeated operands must be read once.", 2, expression.getTermCount());
+        matrices.assertClose("Merged formula", a.multiply(4), expression.evaluate());
+    }
+
+    @Test
+    public void testEagerProducts()
+    {
+        final Matrix a = matrices.matrix(6, 4);
+        final Matrix b = matrices.matrix(6, 4);
+        final Matrix c = matrices.matrix(4, 5);
+        final Matrix d = matrices.matrix(6, 5);
+
+        matrices.assertClose("Product of a scaled operand", a.multiply(2).dotProduct(c), a.lazy().multiply(2).dotProduct(c).evaluate());
+        matrices.assertClose("Product of a formula", a.add(b).dotProduct(c.multiply(-1)).add(d),
+                             a.lazy().add(b).dotProduct(c.lazy().negate()).add(d).evaluate());
+        Assert.assertEquals("A product must be a single term.", 1, a.lazy().add(b).dotProduct(c).getTermCount());
+    }
+
+    @Test
+    public void testEvaluateInto()
+    {
+        final Matrix a = matrices.matrix(9, 8);
+        final Matrix b = matrices.matrix(9, 8);
+        final MatrixBuffer buffer = MatrixBuffer.of(b);
+
+        // The destination is read by the expression itself, as its last term
+        a.lazy().multiply(0.5).add(buffer.lazy().multiply(3)).evaluateInto(buffer);
+        matrices.assertClose("Evaluated into an operand", a.multiply(0.5).add(b.multiply(3)), buffer);
+
+        a.lazy().subtract(b).evaluateInto(buffer);
+        matrices.assertClose("Evaluated into a buffer", a.subtract(b), buffer);
+    }
+
+    @Test
+    public void testVectorExpressions()
+    {
+        final Vector a = Vector.create(1, 2, 3);
+        final Vector b = Vector.create(0.5, -1, 4);
+        Assert.assertEquals("Unexpected formula.", Vector.create(3, 2, 14), a.lazy().multiply(2).subtract(b).add(b.lazy().multiply(3)).evaluate());
+        Assert.assertEquals("Repeated operands must be read once.", 2, a.lazy().add(b).subtract(a).add(b).getTermCount());
+
+        final VectorBuffer buffer = VectorBuffer.of(b);
+        a.lazy().add(buffer.lazy().divide(0.5)).evaluateInto(buffer);
+        Assert.assertEquals("Evaluated into an operand", Vector.create(2, 0, 11), buffer.toVector());
+    }
+}
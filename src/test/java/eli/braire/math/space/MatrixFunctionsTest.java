@@ -0,0 +1,95 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.veritas.exception.AssertionException;
+
+public class MatrixFunctionsTest
+{
+    private static final double DELTA = 0.000000001d;
+
+    private final TestMatrices matrices = new TestMatrices();
+
+    @Test
+    public void testPower()
+    {
+        final Matrix matrix = matrices.matrix(40, 40, 0.25);
+        Matrix expected = Matrix.identity(40);
+        for (int exponent = 0; exponent <= 13; exponent++)
+        {
+            TestMatrices.assertClose(MessageFormat.format("Unexpected power {0}.", exponent), expected, matrix.pow(exponent), DELTA);
+            expected = expected.dotProduct(matrix);
+        }
+
+        TestMatrices.assertClose("A negative power must raise the inverse.", Matrix.identity(40), matrix.pow(-5).dotProduct(matrix.pow(5)), DELTA);
+        TestMatrices.assertClose("A view must be raised as its elements.", matrix.transverse().pow(3), matrix.transposeView().pow(3), DELTA);
+    }
+
+    @Test
+    public void testMarkovChain()
+    {
+        // Every row of a high power of a transition matrix converges to the stationary distribution
+        final Matrix transitions = Matrix.create(new double[] { 0.7, 0.3 }, new double[] { 0.1, 0.9 });
+        final Matrix limit = transitions.pow(1000000L);
+        TestMatrices.assertClose("Unexpected stationary distribution.", Matrix.create(new double[] { 0.25, 0.75 }, new double[] { 0.25, 0.75 }), limit, DELTA);
+    }
+
+    @Test
+    public void testExtremeExponents()
+    {
+        // A cyclic permutation has period 3, and every product of permutations is exact
+        final Matrix cycle = Matrix.create(new double[] { 0, 1, 0 }, new double[] { 0, 0, 1 }, new double[] { 1, 0, 0 });
+        Assert.assertEquals("Unexpected power.", cycle, cycle.pow(Long.MAX_VALUE));
+        Assert.assertEquals("Unexpected power.", cycle, cycle.pow(Long.MIN_VALUE));
+        Assert.assertEquals("Unexpected power.", cycle.transverse(), cycle.pow(-1));
+    }
+
+    @Test
+    public void testExponential()
+    {
+        // The exponential of a skew-symmetric generator is a rotation, across every degree of approximant and with scaling
+        for (final double angle : new double[] { 0, 0.001, 0.2, 0.5, 1.5, 3, 40, 1000 })
+        {
+            final Matrix generator = Matrix.create(new double[] { 0, -angle }, new double[] { angle, 0 });
+            final Matrix rotation = Matrix.create(new double[] { Math.cos(angle), -Math.sin(angle) }, new double[] { Math.sin(angle), Math.cos(angle) });
+            TestMatrices.assertClose(MessageFormat.format("Unexpected rotation by {0}.", angle), rotation, generator.exp(), DELTA);
+        }
+    }
+
+    @Test
+    public void testExponentialAgainstEigenvalues()
+    {
+        // e^S = V . e^D . V^t for a symmetric S, with a norm which needs several squarings
+        final Matrix random = matrices.matrix(30, 30, 0.5);
+        final Matrix symmetric = random.add(random.transverse());
+        final SymmetricEigenDecomposition eigen = symmetric.getSymmetricEigenDecomposition();
+        final double[] values = eigen.getEigenvalues();
+        final double[][] diagonal = new double[30][30];
+        for (int i = 0; i < 30; i++)
+        {
+            diagonal[i][i] = Math.exp(values[i]);
+        }
+        final Matrix vectors = eigen.getEigenvectors();
+        final Matrix expected = vectors.dotProduct(Matrix.create(diagonal)).dotProduct(vectors.transverse());
+        TestMatrices.assertClose("Unexpected exponential.", expected, symmetric.exp(), DELTA * Math.exp(values[0]));
+
+        final Matrix general = matrices.matrix(30, 30, 0.5);
+        TestMatrices.assertClose("e^A . e^-A must be the identity.", Matrix.identity(30), general.exp().dotProduct(general.negate().exp()), DELTA);
+    }
+
+    @Test
+    public void testNonFiniteExponential()
+    {
+        final Matrix exponential = Matrix.create(new double[] { 1, Double.NaN }, new double[] { 0, 1 }).exp();
+        Assert.assertTrue("A non-finite Matrix must have a NaN exponential.", Double.isNaN(exponential.getElement(2, 2)));
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testPowerNotSquare()
+    {
+        matrices.matrix(2, 3, 1).pow(2);
+    }
+}
@@ -0,0 +1,105 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MatrixMultiplicationTest
+{
+    private static final double DELTA = 0.000000001d;
+
+    private final TestMatrices matrices = new TestMatrices();
+
+    @Test
+    public void testSmallProducts()
+    {
+        assertProduct(matrices.matrix(1, 1), matrices.matrix(1, 1));
+        assertProduct(matrices.matrix(3, 5), matrices.matrix(5, 2));
+        assertProduct(matrices.matrix(1, 40), matrices.matrix(40, 1));
+        assertProduct(matrices.matrix(40, 1), matrices.matrix(1, 40));
+    }
+
+    @Test
+    public void testBlockedProducts()
+    {
+        // Sizes straddling the micro-kernel, row block and panel depth edges
+        assertProduct(matrices.matrix(4, 4), matrices.matrix(4, 36));
+        assertProduct(matrices.matrix(67, 131), matrices.matrix(131, 70));
+        assertProduct(matrices.matrix(129, 257), matrices.matrix(257, 131));
+    }
+
+    @Test
+    public void testParallelProducts()
+    {
+        assertProduct(matrices.matrix(300, 257), matrices.matrix(257, 301));
+        assertProduct(matrices.matrix(513, 64), matrices.matrix(64, 97));
+    }
+
+    @Test
+    public void testProductsOfViews()
+    {
+        final Matrix left = matrices.matrix(150, 90);
+        final Matrix right = matrices.matrix(150, 120);
+        assertProduct(left.transposeView(), right);
+        assertProduct(left.blockView(11, 3, 70, 80), right.blockView(5, 7, 80, 90));
+        assertProduct(right.transposeView().blockView(2, 2, 100, 140), left.blockView(1, 1, 140, 90));
+    }
+
+    @Test
+    public void testMultiplyAdd()
+    {
+        final Matrix left = matrices.matrix(70, 50);
+        final Matrix right = matrices.matrix(50, 60);
+        final int stride = 64;
+        final double[] result = new double[3 + 70 * stride];
+        result[3] = 1D;
+        MatrixMultiplication.multiplyAdd(left, right, result, 3, stride, false);
+        final Matrix expected = naive(left, right);
+        Assert.assertEquals("Existing elements must be accumulated.", 1D + expected.getElement(1, 1), result[3], DELTA);
+        for (int i = 0; i < 70; i++)
+        {
+            for (int j = 0; j < 60; j++)
+            {
+                Assert.assertEquals("Unexpected element.", expected.getElement(i + 1, j + 1) + (i == 0 && j == 0 ? 1D : 0D), result[3 + i * stride + j],
+                                    DELTA);
+            }
+            Assert.assertEquals("Padding must not be written.", 0D, result[3 + i * stride + 60], 0D);
+        }
+    }
+
+    private static Matrix naive(final Matrix left, final Matrix right)
+    {
+        final double[][] elements = new double[left.ROWS][right.COLUMNS];
+        for (int i = 0; i < left.ROWS; i++)
+        {
+            for (int j = 0; j < right.COLUMNS; j++)
+            {
+                double sum = 0D;
+                for (int k = 0; k < left.COLUMNS; k++)
+                {
+                    sum += left.elements[left.index(i, k)] * right.elements[right.index(k, j)];
+                }
+                elements[i][j] = sum;
+            }
+        }
+
+        return Matrix.create(elements);
+    }
+
+    private static void assertProduct(final Matrix left, final Matrix right)
+    {
+        final Matrix expected = naive(left, right);
+        final Matrix actual = left.dotProduct(right);
+        Assert.assertEquals("Unexpected rows.", expected.ROWS, actual.ROWS);
+        Assert.assertEquals("Unexpected columns.", expected.COLUMNS, actual.COLUMNS);
+        for (int i = 1; i <= expected.ROWS; i++)
+        {
+            for (int j = 1; j <= expected.COLUMNS; j++)
+            {
+                Assert.assertEquals(MessageFormat.format("Unexpected element ({0}, {1}) of a {2}x{3} product.", i, j, expected.ROWS, expected.COLUMNS),
+                                    expected.getElement(i, j), actual.getElement(i, j), DELTA);
+            }
+        }
+    }
+}
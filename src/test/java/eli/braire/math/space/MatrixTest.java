@@ -0,0 +1,66 @@
+package eli.braire.math.space;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MatrixTest
+{
+    private static final double DELTA = 0.0000001d;
+
+    private final Matrix matrix = Matrix.create(new double[] { 1, 2, 3 }, new double[] { 4, 5, 6 }, new double[] { 7, 8, 9 }, new double[] { 10, 11, 12 });
+
+    @Test
+    public void testGetElement()
+    {
+        Assert.assertEquals("Unexpected element.", 1, matrix.getElement(1, 1), DELTA);
+        Assert.assertEquals("Unexpected element.", 6, matrix.getElement(2, 3), DELTA);
+        Assert.assertEquals("Unexpected element.", 12, matrix.getElement(4, 3), DELTA);
+    }
+
+    @Test
+    public void testTransposeView()
+    {
+        final Matrix view = matrix.transposeView();
+        Assert.assertEquals("Unexpected rows.", 3, view.ROWS);
+        Assert.assertEquals("Unexpected columns.", 4, view.COLUMNS);
+        Assert.assertEquals("Unexpected element.", 6, view.getElement(3, 2), DELTA);
+        Assert.assertSame("Views must share the backing array.", matrix.elements, view.elements);
+        Assert.assertEquals("Views must equal their copies.", matrix.transverse(), view);
+        Assert.assertEquals("Views must hash like their copies.", matrix.transverse().hashCode(), view.hashCode());
+        Assert.assertEquals("Double transposition must restore the original.", matrix, view.transposeView());
+    }
+
+    @Test
+    public void testBlockViews()
+    {
+        final Matrix block = matrix.blockView(2, 2, 3, 2);
+        Assert.assertEquals("Unexpected block.", Matrix.create(new double[] { 5, 6 }, new double[] { 8, 9 }, new double[] { 11, 12 }), block);
+        Assert.assertEquals("Unexpected nested block.", Matrix.create(new double[] { 9 }, new double[] { 12 }), block.blockView(2, 2, 2, 1));
+        Assert.assertEquals("Unexpected block of a transposed view.", Matrix.create(new double[] { 5, 8 }, new double[] { 6, 9 }),
+                            matrix.transposeView().blockView(2, 2, 2, 2));
+        Assert.assertEquals("Unexpected row view.", Matrix.create(new double[] { 7, 8, 9 }), matrix.rowView(3));
+        Assert.assertEquals("Unexpected column view.", Matrix.create(new double[] { 2 }, new double[] { 5 }, new double[] { 8 }, new double[] { 11 }),
+                            matrix.columnView(2));
+    }
+
+    @Test
+    public void testOperationsOnViews()
+    {
+        final Matrix square = matrix.blockView(1, 1, 3, 3);
+        Assert.assertEquals("Unexpected sum.", Matrix.create(new double[] { 2, 6, 10 }, new double[] { 6, 10, 14 }, new double[] { 10, 14, 18 }),
+                            square.add(square.transposeView()));
+        Assert.assertEquals("Unexpected product.", Matrix.create(new double[] { 14, 32, 50 }, new double[] { 32, 77, 122 }, new double[] { 50, 122, 194 }),
+                            square.dotProduct(square.transposeView()));
+        Assert.assertEquals("Unexpected clone.", square, square.clone());
+        Assert.assertEquals("Unexpected sub-matrix.", Matrix.create(new double[] { 1, 3 }, new double[] { 7, 9 }), square.subMatrix(2, 2));
+    }
+
+    @Test
+    public void testVectorProducts()
+    {
+        final Vector vector = Vector.create(1, 0, -1);
+        Assert.assertEquals("Unexpected Matrix-Vector product.", Vector.create(-2, -2, -2, -2), matrix.dotProduct(vector));
+        Assert.assertEquals("Unexpected transposed product.", Vector.create(-9, -9, -9), matrix.transposeView().dotProduct(Vector.create(1, 0, 0, -1)));
+        Assert.assertEquals("Unexpected Vector-Matrix product.", Vector.create(-9, -9, -9), Vector.create(1, 0, 0, -1).dotProduct(matrix));
+    }
+}
@@ -0,0 +1,119 @@
+package eli.braire.math.space;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.veritas.exception.AssertionException;
+
+public class PointBufferTest
+{
+    private static final double DELTA = 0.000000001d;
+
+    private final TestMatrices matrices = new TestMatrices();
+
+    /**
+     * Transforms each point individually through the general {@link Matrix}, in homogeneous coordinates where the Matrix has an extra column.
+     */
+    private static Point expected(final Matrix matrix, final Point point, final int rank)
+    {
+        if (matrix.COLUMNS == point.RANK)
+        {
+            return matrix.dotProduct(point);
+        }
+
+        final double[] homogeneous = new double[point.RANK + 1];
+        for (int axis = 0; axis < point.RANK; axis++)
+        {
+            homogeneous[axis] = point.d(axis + 1);
+        }
+        homogeneous[point.RANK] = 1D;
+        final Point result = matrix.dotProduct(Point.create(homogeneous));
+        final double w = matrix.ROWS == rank ? 1D : result.d(rank + 1);
+        final double[] coordinates = new double[rank];
+        for (int axis = 0; axis < rank; axis++)
+        {
+            coordinates[axis] = result.d(axis + 1) / w;
+        }
+        return Point.create(coordinates);
+    }
+
+    private void assertTransform(final Matrix matrix, final int sourceRank, final int targetRank, final int size)
+    {
+        final PointBuffer source = matrices.points(sourceRank, size, 1D);
+        final PointBuffer target = PointBuffer.transform(matrix, source, PointBuffer.create(targetRank, size));
+        for (int index = 1; index <= size; index++)
+        {
+            final Point expected = expected(matrix, source.getPoint(index), targetRank);
+            for (int axis = 1; axis <= targetRank; axis++)
+            {
+                Assert.assertEquals("Unexpected coordinate.", expected.d(axis), target.getCoordinate(index, axis), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void testAccessors()
+    {
+        final PointBuffer buffer = PointBuffer.of(Point.create(1, 2), Point.create(3, 4), Point.create(5, 6));
+        Assert.assertEquals("Unexpected size.", 3, buffer.SIZE);
+        Assert.assertEquals("Unexpected rank.", 2, buffer.RANK);
+        Assert.assertArrayEquals("Unexpected axis.", new double[] { 2, 4, 6 }, buffer.getAxis(2), 0D);
+        Assert.assertEquals("Unexpected point.", Point.create(3, 4), buffer.getPoint(2));
+
+        buffer.setPoint(1, Point.create(-1, -2));
+        buffer.setCoordinate(3, 1, 7);
+        Assert.assertEquals("Unexpected point.", Point.create(-1, -2), buffer.getPoint(1));
+        Assert.assertEquals("Unexpected coordinate.", 7, buffer.getCoordinate(3, 1), 0D);
+
+        final double[] xs = { 1, 2 };
+        final PointBuffer wrapped = PointBuffer.wrap(xs, new double[] { 3, 4 });
+        xs[0] = 9;
+        Assert.assertEquals("A wrapped buffer must share its arrays.", 9, wrapped.getCoordinate(1, 1), 0D);
+    }
+
+    @Test
+    public void testTransforms()
+    {
+        // Linear, 3D affine, 3D projective, and general affine with a change of dimensions, across block edges
+        assertTransform(matrices.matrix(3, 3), 3, 3, 1000);
+        assertTransform(Matrix4.rotation(Vector3.create(1, 2, 3), 0.5).translate(1, -2, 3).toMatrix(), 3, 3, 1000);
+        assertTransform(matrices.matrix(3, 4), 3, 3, 513);
+        assertTransform(matrices.matrix(4, 4), 3, 3, 1025);
+        assertTransform(matrices.matrix(2, 5), 4, 2, 700);
+        assertTransform(matrices.matrix(3, 2), 2, 3, 10);
+    }
+
+    @Test
+    public void testInPlaceAndParallel()
+    {
+        final int size = PointBuffer.PARALLEL_THRESHOLD * 3 + 17;
+        final Matrix affine = Matrix4.rotationZ(0.25).scale(2, 3, 4).translate(1, 1, 1).toMatrix();
+        final Matrix projective = matrices.matrix(4, 4);
+        for (final Matrix matrix : new Matrix[] { affine, projective })
+        {
+            final PointBuffer points = matrices.points(3, size, 1D);
+            final PointBuffer original = PointBuffer.wrap(points.getAxis(1).clone(), points.getAxis(2).clone(), points.getAxis(3).clone());
+            Assert.assertSame("The destination must be returned.", points, PointBuffer.transform(matrix, points, points));
+            for (int index = 1; index <= size; index += 97)
+            {
+                final Point expected = expected(matrix, original.getPoint(index), 3);
+                for (int axis = 1; axis <= 3; axis++)
+                {
+                    Assert.assertEquals("In-place transform must match.", expected.d(axis), points.getCoordinate(index, axis), DELTA);
+                }
+            }
+        }
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testMismatchedSizes()
+    {
+        PointBuffer.transform(Matrix.identity(3), PointBuffer.create(3, 4), PointBuffer.create(3, 5));
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testMismatchedMatrix()
+    {
+        PointBuffer.transform(Matrix.identity(5), PointBuffer.create(3, 4), PointBuffer.create(3, 4));
+    }
+}
@@ -0,0 +1,91 @@
+package eli.braire.math.space;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.veritas.exception.AssertionException;
+
+public class QRDecompositionTest
+{
+    private static final double DELTA = 0.0000001d;
+
+    private final TestMatrices matrices = new TestMatrices(DELTA);
+
+    @Test
+    public void testFactors()
+    {
+        final Matrix matrix = matrices.matrix(7, 4);
+        final QRDecomposition decomposition = matrix.getQRDecomposition();
+        final Matrix q = decomposition.getQ();
+        matrices.assertClose("Q must have orthonormal columns.", Matrix.identity(4), q.transposeView().dotProduct(q));
+
+        final int[] permutation = decomposition.getPermutation();
+        final Vector[] columns = new Vector[4];
+        for (int j = 0; j < 4; j++)
+        {
+            columns[j] = Vector.create(columnOf(matrix, permutation[j]));
+        }
+        matrices.assertClose("Q . R must equal A . P.", Matrix.create(columns), q.dotProduct(decomposition.getR()));
+        for (int i = 2; i <= 4; i++)
+        {
+            Assert.assertTrue("The diagonal of R must not increase.",
+                              Math.abs(decomposition.getR().getElement(i, i)) <= Math.abs(decomposition.getR().getElement(i - 1, i - 1)));
+        }
+        Assert.assertSame("The factorisation must be cached.", decomposition, matrix.getQRDecomposition());
+    }
+
+    @Test
+    public void testRank()
+    {
+        // The third column is the sum of the first two, and the last row is twice the first
+        final Matrix matrix = Matrix.create(new double[] { 1, 2, 3, 4 }, new double[] { 0, 1, 1, 5 }, new double[] { 2, 4, 6, 8 });
+        Assert.assertEquals("Unexpected rank.", 2, matrix.getRank());
+        Assert.assertEquals("Unexpected transposed rank.", 2, matrix.transposeView().getRank());
+        Assert.assertEquals("Unexpected full rank.", 5, matrices.matrix(9, 5).getRank());
+        Assert.assertEquals("Unexpected zero rank.", 0, Matrix.create(new double[2][3]).getRank());
+    }
+
+    @Test
+    public void testLeastSquares()
+    {
+        // Noiseless observations of y = 3 + 2 x - x^2 are fitted exactly
+        final double[][] observations = new double[20][];
+        final double[] responses = new double[20];
+        for (int i = 0; i < 20; i++)
+        {
+            final double x = i / 4D;
+            observations[i] = new double[] { 1, x, x * x };
+            responses[i] = 3 + 2 * x - x * x;
+        }
+        final Vector coefficients = Matrix.create(observations).leastSquares(Vector.create(responses));
+        Assert.assertEquals("Unexpected intercept.", 3, coefficients.d(1), DELTA);
+        Assert.assertEquals("Unexpected slope.", 2, coefficients.d(2), DELTA);
+        Assert.assertEquals("Unexpected curvature.", -1, coefficients.d(3), DELTA);
+
+        // The residual of a least-squares solution is orthogonal to the columns
+        final Matrix matrix = matrices.matrix(30, 6);
+        final Matrix rightHand = matrices.matrix(30, 2);
+        final Matrix solution = matrix.leastSquares(rightHand);
+        matrices.assertClose("A^t . (A . X - B) must be zero.", Matrix.create(new double[6][2]),
+                             matrix.transposeView().dotProduct(matrix.dotProduct(solution).subtract(rightHand)));
+        matrices.assertClose("A square system must have the exact solution.", rightHand.blockView(1, 1, 6, 2),
+                             matrix.blockView(1, 1, 6, 6).dotProduct(matrix.blockView(1, 1, 6, 6).leastSquares(rightHand.blockView(1, 1, 6, 2))));
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testLeastSquaresMismatched()
+    {
+        matrices.matrix(5, 2).leastSquares(Vector.create(1, 2, 3));
+    }
+
+    private static double[] columnOf(final Matrix matrix, final int column)
+    {
+        final double[] elements = new double[matrix.ROWS];
+        for (int i = 0; i < matrix.ROWS; i++)
+        {
+            elements[i] = matrix.getElement(i + 1, column);
+        }
+        return elements;
+    }
+
+}
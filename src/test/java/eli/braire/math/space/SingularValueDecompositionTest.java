@@ -0,0 +1,85 @@
+package eli.braire.math.space;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SingularValueDecompositionTest
+{
+    private static final double DELTA = 0.0000001d;
+
+    private final TestMatrices matrices = new TestMatrices(DELTA);
+
+    @Test
+    public void testFactors()
+    {
+        // Square, tall and wide matrices take different paths
+        for (final Matrix matrix : new Matrix[] { matrices.matrix(6, 6), matrices.matrix(11, 4), matrices.matrix(3, 8) })
+        {
+            final SingularValueDecomposition decomposition = matrix.getSingularValueDecomposition();
+            final Matrix u = decomposition.getU();
+            final Matrix v = decomposition.getV();
+            final double[] values = decomposition.getSingularValues();
+            final int count = Math.min(matrix.ROWS, matrix.COLUMNS);
+            matrices.assertClose("U must have orthonormal columns.", Matrix.identity(count), u.transposeView().dotProduct(u));
+            matrices.assertClose("V must have orthonormal columns.", Matrix.identity(count), v.transposeView().dotProduct(v));
+
+            final double[][] diagonal = new double[count][count];
+            for (int k = 0; k < count; k++)
+            {
+                diagonal[k][k] = values[k];
+                if (k > 0)
+                {
+                    Assert.assertTrue("Singular values must decrease.", values[k] <= values[k - 1]);
+                }
+            }
+            matrices.assertClose("U . S . V^t must equal A.", matrix, u.dotProduct(Matrix.create(diagonal)).dotProduct(v.transposeView()));
+            Assert.assertEquals("Unexpected rank.", count, decomposition.getRank());
+        }
+    }
+
+    @Test
+    public void testKnownValues()
+    {
+        final SingularValueDecomposition decomposition = Matrix.create(new double[] { 3, 0 }, new double[] { 4, 5 }).getSingularValueDecomposition();
+        final double[] values = decomposition.getSingularValues();
+        Assert.assertEquals("Unexpected largest singular value.", 3 * Math.sqrt(5), values[0], DELTA);
+        Assert.assertEquals("Unexpected smallest singular value.", Math.sqrt(5), values[1], DELTA);
+        Assert.assertEquals("Unexpected condition number.", 3, decomposition.conditionNumber(), DELTA);
+    }
+
+    @Test
+    public void testPseudoInverse()
+    {
+        final Matrix square = matrices.matrix(5, 5);
+        matrices.assertClose("The pseudo-inverse must equal the inverse.", square.inverse(), square.pseudoInverse());
+
+        // A rank deficient Matrix still satisfies the Moore-Penrose conditions
+        final Matrix deficient = matrices.matrix(7, 2).dotProduct(matrices.matrix(2, 4));
+        final Matrix inverse = deficient.pseudoInverse();
+        Assert.assertEquals("Unexpected rank.", 2, deficient.getSingularValueDecomposition().getRank());
+        Assert.assertEquals("Unexpected pseudo-inverse rows.", 4, inverse.ROWS);
+        matrices.assertClose("A . A+ . A must equal A.", deficient, deficient.dotProduct(inverse).dotProduct(deficient));
+        matrices.assertClose("A+ . A . A+ must equal A+.", inverse, inverse.dotProduct(deficient).dotProduct(inverse));
+        final Matrix projection = deficient.dotProduct(inverse);
+        matrices.assertClose("A . A+ must be symmetric.", projection, projection.transverse());
+    }
+
+    @Test
+    public void testMinimumNormSolution()
+    {
+        // Every solution of x1 + x2 == 2 fits exactly, and (1, 1) is the shortest
+        final Vector solution = Matrix.create(new double[] { 1, 1 }, new double[] { 2, 2 }).getSingularValueDecomposition().solve(Vector.create(2, 4));
+        Assert.assertEquals("Unexpected solution.", 1, solution.d(1), DELTA);
+        Assert.assertEquals("Unexpected solution.", 1, solution.d(2), DELTA);
+
+        final Matrix matrix = matrices.matrix(12, 3);
+        final Vector rightHand = Vector.create(matrices.matrix(1, 12).toArray()[0]);
+        final Vector expected = matrix.leastSquares(rightHand);
+        final Vector actual = matrix.getSingularValueDecomposition().solve(rightHand);
+        for (int i = 1; i <= 3; i++)
+        {
+            Assert.assertEquals("Full rank solutions must agree with QR.", expected.d(i), actual.d(i), DELTA);
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package eli.braire.math.space;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SparseMatrixTest
+{
+    private final TestMatrices matrices = new TestMatrices();
+    private final Matrix       dense    = Matrix.create(new double[] { 4, 0, 0, 1 }, new double[] { 0, 0, 2, 0 }, new double[] { 0, 3, 0, 0 });
+
+    @Test
+    public void testBuilder()
+    {
+        final CooMatrixBuilder builder = CooMatrixBuilder.create(3, 4);
+        builder.add(3, 2, 3).add(1, 4, 1).add(1, 1, 1).add(2, 3, 2).add(1, 1, 3).add(2, 1, 5).add(2, 1, -5);
+        Assert.assertEquals("Unexpected triplet count.", 7, builder.size());
+
+        final CsrMatrix csr = builder.toCsr();
+        Assert.assertEquals("Duplicates must be summed, and cancellations dropped.", 4, csr.getNonZeroCount());
+        Assert.assertArrayEquals("Unexpected row pointers.", new int[] { 0, 2, 3, 4 }, csr.getRowPointers());
+        Assert.assertArrayEquals("Unexpected column indices.", new int[] { 0, 3, 2, 1 }, csr.getColumnIndices());
+        Assert.assertEquals("Unexpected dense form.", dense, csr.toMatrix());
+        Assert.assertEquals("Unexpected element.", 4, csr.getElement(1, 1), 0D);
+        Assert.assertEquals("Unexpected zero element.", 0, csr.getElement(3, 4), 0D);
+
+        final CscMatrix csc = builder.toCsc();
+        Assert.assertArrayEquals("Unexpected column pointers.", new int[] { 0, 1, 2, 3, 4 }, csc.getColumnPointers());
+        Assert.assertEquals("Unexpected dense form.", dense, csc.toMatrix());
+        Assert.assertEquals("Unexpected element.", 2, csc.getElement(2, 3), 0D);
+    }
+
+    @Test
+    public void testConversionsAndTransposition()
+    {
+        final CsrMatrix csr = CsrMatrix.of(dense);
+        Assert.assertEquals("Unexpected conversion.", dense, CscMatrix.of(dense).toCsr().toMatrix());
+        Assert.assertEquals("Unexpected conversion.", dense, csr.toCsc().toMatrix());
+        Assert.assertEquals("Unexpected transverse.", dense.transverse(), csr.transverse().toMatrix());
+        Assert.assertEquals("Unexpected transposed view.", dense.transverse(), csr.transposeView().toMatrix());
+        Assert.assertEquals("Unexpected CSC transverse.", dense.transverse(), csr.toCsc().transverse().toMatrix());
+        Assert.assertEquals("Unexpected conversion of a view.", dense.transverse(), CsrMatrix.of(dense.transposeView()).toMatrix());
+    }
+
+    @Test
+    public void testSmallProducts()
+    {
+        final Vector vector = Vector.create(1, 2, 3, 4);
+        Assert.assertEquals("Unexpected CSR product.", dense.dotProduct(vector), CsrMatrix.of(dense).dotProduct(vector));
+        Assert.assertEquals("Unexpected CSC product.", dense.dotProduct(vector), CscMatrix.of(dense).dotProduct(vector));
+        final Matrix right = Matrix.create(new double[] { 1, 2 }, new double[] { 3, 4 }, new double[] { 5, 6 }, new double[] { 7, 8 });
+        Assert.assertEquals("Unexpected CSR-dense product.", dense.dotProduct(right), CsrMatrix.of(dense).dotProduct(right));
+        Assert.assertEquals("Unexpected CSC-dense product.", dense.dotProduct(right), CscMatrix.of(dense).dotProduct(right));
+        Assert.assertEquals("Unexpected CSR-CSR product.", dense.dotProduct(dense.transposeView()),
+                            CsrMatrix.of(dense).dotProduct(CsrMatrix.of(dense).transverse()).toMatrix());
+        Assert.assertEquals("Unexpected CSC-CSC product.", dense.transposeView().dotProduct(dense),
+                            CscMatrix.of(dense).transverse().dotProduct(CscMatrix.of(dense)).toMatrix());
+    }
+
+    @Test
+    public void testLargeProducts()
+    {
+        // Enough non-zeros to split the rows across threads
+        final Random random = matrices.getRandom();
+        final int size = 3000;
+        final CooMatrixBuilder left = CooMatrixBuilder.create(size, size, 40000);
+        final CooMatrixBuilder right = CooMatrixBuilder.create(size, 40);
+        for (int index = 0; index < 40000; index++)
+        {
+            left.add(random.nextInt(size) + 1, random.nextInt(size) + 1, random.nextDouble());
+        }
+        for (int index = 0; index < 2000; index++)
+        {
+            right.add(random.nextInt(size) + 1, random.nextInt(40) + 1, random.nextDouble());
+        }
+        final CsrMatrix sparse = left.toCsr();
+        final Matrix leftDense = sparse.toMatrix();
+        final Matrix rightDense = right.toCsr().toMatrix();
+
+        final double[] elements = new double[size];
+        for (int index = 0; index < size; index++)
+        {
+            elements[index] = random.nextDouble();
+        }
+        final Vector vector = Vector.create(elements);
+        matrices.assertClose("Unexpected CSR product.", leftDense.dotProduct(Matrix.create(vector)), Matrix.create(sparse.dotProduct(vector)));
+        matrices.assertClose("Unexpected CSC product.", leftDense.dotProduct(Matrix.create(vector)), Matrix.create(left.toCsc().dotProduct(vector)));
+        matrices.assertClose("Unexpected CSR-dense product.", leftDense.dotProduct(rightDense), sparse.dotProduct(rightDense));
+        matrices.assertClose("Unexpected CSC-dense product.", leftDense.dotProduct(rightDense), left.toCsc().dotProduct(rightDense));
+        matrices.assertClose("Unexpected CSR-CSR product.", leftDense.dotProduct(rightDense), sparse.dotProduct(right.toCsr()).toMatrix());
+    }
+
+}
@@ -0,0 +1,92 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StrassenMultiplicationTest
+{
+    private final TestMatrices matrices = new TestMatrices();
+
+    private static double frobenius(final Matrix matrix)
+    {
+        double sum = 0D;
+        for (final double[] row : matrix.toArray())
+        {
+            for (final double element : row)
+            {
+                sum += element * element;
+            }
+        }
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * @return <code>|strassen - classic| / (|left| &middot; |right|)</code> in the Frobenius norm, the measure in which Strassen's error is
+     *         bounded.
+     */
+    private static double relativeError(final Matrix left, final Matrix right, final Matrix strassen)
+    {
+        return frobenius(strassen.subtract(left.dotProduct(right))) / (frobenius(left) * frobenius(right));
+    }
+
+    private void assertProduct(final Matrix left, final Matrix right, final int cutoff)
+    {
+        final Matrix strassen = StrassenMultiplication.multiply(left, right, cutoff);
+        Assert.assertEquals("Unexpected rows.", left.ROWS, strassen.ROWS);
+        Assert.assertEquals("Unexpected columns.", right.COLUMNS, strassen.COLUMNS);
+        final double error = relativeError(left, right, strassen);
+        Assert.assertTrue(MessageFormat.format("Relative error {0} of {1}x{2} by {3}x{4} with a cutoff of {5}", error, left.ROWS, left.COLUMNS,
+                                               right.ROWS, right.COLUMNS, cutoff),
+                          error < 1E-14);
+    }
+
+    @Test
+    public void testOddShapes()
+    {
+        // Odd dimensions are padded at every level
+        assertProduct(matrices.matrix(37, 29), matrices.matrix(29, 41), 8);
+        assertProduct(matrices.matrix(64, 64), matrices.matrix(64, 64), 4);
+        assertProduct(matrices.matrix(101, 9), matrices.matrix(9, 77), 4);
+    }
+
+    @Test
+    public void testViews()
+    {
+        final Matrix left = matrices.matrix(90, 70);
+        final Matrix right = matrices.matrix(90, 80);
+        assertProduct(left.transposeView(), right, 16);
+        assertProduct(left.blockView(3, 5, 60, 50), right.blockView(11, 7, 50, 60), 16);
+    }
+
+    @Test
+    public void testForkedProducts()
+    {
+        // Sub-products above the fork threshold run as separate tasks
+        assertProduct(matrices.matrix(600, 520), matrices.matrix(520, 560), 64);
+    }
+
+    @Test
+    public void testAccuracyBounded()
+    {
+        final Matrix left = matrices.matrix(512, 512);
+        final Matrix right = matrices.matrix(512, 512);
+        final double classic = relativeError(left, right, StrassenMultiplication.multiply(left, right, 513));
+        Assert.assertEquals("Below the cutoff the product must be the classic one.", 0D, classic, 0D);
+        for (int cutoff = 512, levels = 1; cutoff >= 32; cutoff /= 2, levels++)
+        {
+            final double error = relativeError(left, right, StrassenMultiplication.multiply(left, right, cutoff));
+            // Each level may multiply the error by a small constant, never by the size of the matrix
+            Assert.assertTrue(MessageFormat.format("Relative error {0} after {1} levels", error, levels), error < 1E-16 * Math.pow(4, levels));
+        }
+    }
+
+    @Test
+    public void testPublicProduct()
+    {
+        final Matrix left = matrices.matrix(40, 30);
+        final Matrix right = matrices.matrix(30, 20);
+        Assert.assertEquals("Below the cutoff the product must be the classic one.", left.dotProduct(right), left.strassenDotProduct(right));
+    }
+}
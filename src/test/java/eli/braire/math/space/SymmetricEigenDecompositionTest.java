@@ -0,0 +1,92 @@
+package eli.braire.math.space;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.veritas.exception.AssertionException;
+
+public class SymmetricEigenDecompositionTest
+{
+    private static final double DELTA = 0.0000001d;
+
+    private final TestMatrices matrices = new TestMatrices(DELTA);
+
+    /**
+     * @return a random symmetric Matrix, as the Gram matrix of random observations.
+     */
+    private Matrix randomSymmetric(final int size)
+    {
+        final Matrix observations = matrices.matrix(2 * size, size);
+        return observations.transposeView().dotProduct(observations);
+    }
+
+    @Test
+    public void testKnownValues()
+    {
+        final SymmetricEigenDecomposition decomposition = Matrix.create(new double[] { 2, 1, 0 }, new double[] { 1, 2, 0 }, new double[] { 0, 0, 5 })
+                                                                .getSymmetricEigenDecomposition();
+        Assert.assertArrayEquals("Unexpected eigenvalues.", new double[] { 5, 3, 1 }, decomposition.getEigenvalues(), DELTA);
+        final Vector first = decomposition.getEigenvector(1);
+        Assert.assertEquals("Unexpected eigenvector.", 1, Math.abs(first.d(3)), DELTA);
+        final Vector second = decomposition.getEigenvector(2);
+        Assert.assertEquals("Unexpected eigenvector.", second.d(1), second.d(2), DELTA);
+
+        Assert.assertArrayEquals("Unexpected single eigenvalue.", new double[] { -4 },
+                                 Matrix.create(new double[] { -4 }).getSymmetricEigenDecomposition().getEigenvalues(), DELTA);
+    }
+
+    @Test
+    public void testFactors()
+    {
+        final Matrix matrix = randomSymmetric(40);
+        final SymmetricEigenDecomposition decomposition = matrix.getSymmetricEigenDecomposition();
+        final Matrix vectors = decomposition.getEigenvectors();
+        final double[] values = decomposition.getEigenvalues();
+        matrices.assertClose("The eigenvectors must be orthonormal.", Matrix.identity(40), vectors.transposeView().dotProduct(vectors));
+
+        final double[][] diagonal = new double[40][40];
+        for (int k = 0; k < 40; k++)
+        {
+            diagonal[k][k] = values[k];
+            if (k > 0)
+            {
+                Assert.assertTrue("Eigenvalues must decrease.", values[k] <= values[k - 1]);
+            }
+        }
+        matrices.assertClose("V . D . V^t must equal A.", matrix, vectors.dotProduct(Matrix.create(diagonal)).dotProduct(vectors.transposeView()));
+        Assert.assertSame("The decomposition must be cached.", decomposition, matrix.getSymmetricEigenDecomposition());
+    }
+
+    @Test
+    public void testLanczos()
+    {
+        final Matrix matrix = randomSymmetric(150);
+        final double[] expected = matrix.getSymmetricEigenDecomposition().getEigenvalues();
+        final SymmetricEigenDecomposition partial = SymmetricEigenDecomposition.largest(matrix, 5);
+        Assert.assertEquals("Unexpected eigenpair count.", 5, partial.COUNT);
+        final double[] values = partial.getEigenvalues();
+        for (int k = 1; k <= 5; k++)
+        {
+            Assert.assertEquals("Unexpected eigenvalue.", expected[k - 1], values[k - 1], DELTA);
+            final Vector eigenvector = partial.getEigenvector(k);
+            final Vector residual = matrix.dotProduct(eigenvector).subtract(eigenvector.multiply(values[k - 1]));
+            Assert.assertEquals("A . v must equal lambda . v.", 0, Math.sqrt(residual.dotProduct(residual)), DELTA);
+        }
+
+        // A sparse operator with repeated eigenvalues, whose Krylov subspaces are exhausted early
+        final CooMatrixBuilder builder = CooMatrixBuilder.create(60, 60);
+        for (int i = 1; i <= 60; i++)
+        {
+            builder.add(i, i, i <= 3 ? 7 : 1);
+        }
+        Assert.assertArrayEquals("Unexpected repeated eigenvalues.", new double[] { 7, 7, 7, 1 },
+                                 SymmetricEigenDecomposition.largest(builder.toCsr(), 4).getEigenvalues(), DELTA);
+    }
+
+    @Test(expected = AssertionException.class)
+    public void testLanczosCount()
+    {
+        SymmetricEigenDecomposition.largest(Matrix.identity(3), 4);
+    }
+
+}
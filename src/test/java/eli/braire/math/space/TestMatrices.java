@@ -0,0 +1,121 @@
+package eli.braire.math.space;
+
+import java.util.Random;
+
+import org.junit.Assert;
+
+/**
+ * Reproducible random operands, drawn from a generator with a fixed seed, and element-wise assertions for the tests of this package.
+ */
+final class TestMatrices
+{
+    /**
+     * The default tolerance of {@link #assertClose(String, Matrix, Matrix)}.
+     */
+    static final double DELTA = 0.000000001d;
+
+    private final Random random = new Random(0L);
+    private final double delta;
+
+    TestMatrices()
+    {
+        this(DELTA);
+    }
+
+    /**
+     * @param delta The tolerance of {@link #assertClose(String, Matrix, Matrix)}, for suites whose results carry more rounding error.
+     */
+    TestMatrices(final double delta)
+    {
+        this.delta = delta;
+    }
+
+    /**
+     * @return the generator behind every operand, for tests which need other random values in the same reproducible sequence.
+     */
+    Random getRandom()
+    {
+        return random;
+    }
+
+    /**
+     * @return a uniformly distributed value within [-1, 1).
+     */
+    double nextDouble()
+    {
+        return random.nextDouble() * 2 - 1;
+    }
+
+    /**
+     * @return a new {@link Matrix} of values uniformly distributed within [-1, 1).
+     */
+    Matrix matrix(final int rows, final int columns)
+    {
+        return matrix(rows, columns, 1D);
+    }
+
+    /**
+     * @return a new {@link Matrix} of values uniformly distributed within [-scale, scale).
+     */
+    Matrix matrix(final int rows, final int columns, final double scale)
+    {
+        final double[][] elements = new double[rows][columns];
+        for (final double[] row : elements)
+        {
+            for (int j = 0; j < columns; j++)
+            {
+                row[j] = nextDouble() * scale;
+            }
+        }
+        return Matrix.create(elements);
+    }
+
+    /**
+     * @return a new {@link PointBuffer} of coordinates uniformly distributed within [-scale, scale).
+     */
+    PointBuffer points(final int rank, final int size, final double scale)
+    {
+        final PointBuffer buffer = PointBuffer.create(rank, size);
+        for (int axis = 1; axis <= rank; axis++)
+        {
+            final double[] coordinates = buffer.getAxis(axis);
+            for (int index = 0; index < size; index++)
+            {
+                coordinates[index] = nextDouble() * scale;
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Asserts that both matrices have the same dimensions, and that every element is within the tolerance of this suite.
+     */
+    void assertClose(final String message, final Matrix expected, final Matrix actual)
+    {
+        assertClose(message, expected, actual, delta);
+    }
+
+    /**
+     * Asserts that both matrices have the same dimensions, and that every element is within the tolerance.
+     */
+    static void assertClose(final String message, final Matrix expected, final Matrix actual, final double delta)
+    {
+        Assert.assertEquals(message, expected.ROWS, actual.ROWS);
+        Assert.assertEquals(message, expected.COLUMNS, actual.COLUMNS);
+        for (int i = 1; i <= expected.ROWS; i++)
+        {
+            for (int j = 1; j <= expected.COLUMNS; j++)
+            {
+                Assert.assertEquals(message, expected.getElement(i, j), actual.getElement(i, j), delta);
+            }
+        }
+    }
+
+    /**
+     * Asserts that the {@link FloatMatrix}, widened to double precision, is close to the expected {@link Matrix}.
+     */
+    static void assertClose(final String message, final Matrix expected, final FloatMatrix actual, final double delta)
+    {
+        assertClose(message, expected, Matrix.of(actual), delta);
+    }
+}
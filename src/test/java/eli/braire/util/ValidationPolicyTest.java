@@ -0,0 +1,69 @@
+package eli.braire.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eli.braire.math.space.Matrix;
+import eli.braire.math.space.Vector;
+import eli.veritas.exception.AssertionException;
+
+public class ValidationPolicyTest
+{
+    @Test
+    public void testParse()
+    {
+        Assert.assertEquals("An absent property must keep every check.", ValidationPolicy.CHECKED, ValidationPolicy.parse(null));
+        Assert.assertEquals("Names must be case-insensitive.", ValidationPolicy.BOUNDARY, ValidationPolicy.parse(" boundary "));
+        Assert.assertEquals("Unexpected policy.", ValidationPolicy.UNCHECKED, ValidationPolicy.parse("UNCHECKED"));
+        Assert.assertEquals("An unknown name must keep every check.", ValidationPolicy.CHECKED, ValidationPolicy.parse("none"));
+    }
+
+    @Test
+    public void testFlags()
+    {
+        Assert.assertEquals("Element checks must only run under CHECKED.", ValidationPolicy.ACTIVE == ValidationPolicy.CHECKED,
+                            ValidationPolicy.CHECK_ELEMENTS);
+        Assert.assertEquals("Operation checks must run unless UNCHECKED.", ValidationPolicy.ACTIVE != ValidationPolicy.UNCHECKED,
+                            ValidationPolicy.CHECK_OPERATIONS);
+    }
+
+    @Test
+    public void testActivePolicy()
+    {
+        final Vector vector = Vector.create(1, 2, 3);
+        if (ValidationPolicy.CHECK_ELEMENTS)
+        {
+            try
+            {
+                vector.d(4);
+                Assert.fail("An index out of range must be rejected.");
+            }
+            catch (final AssertionException e)
+            {
+                // Expected
+            }
+        }
+        if (ValidationPolicy.CHECK_OPERATIONS)
+        {
+            try
+            {
+                Matrix.identity(2).dotProduct(vector);
+                Assert.fail("Mismatched operands must be rejected.");
+            }
+            catch (final AssertionException e)
+            {
+                // Expected
+            }
+        }
+        // Factories verify under every policy
+        try
+        {
+            Matrix.create(new double[] { 1, 2 }, new double[] { 3 });
+            Assert.fail("Ragged rows must be rejected.");
+        }
+        catch (final AssertionException e)
+        {
+            // Expected
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package eli.braire.math.space;
+
+import java.text.MessageFormat;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Compares {@link SimdKernels} against {@link ScalarKernels} directly, so the SIMD code is covered whichever implementation {@link Kernels} has
+ * chosen. Requires <code>--add-modules jdk.incubator.vector</code>.
+ */
+public class SimdKernelsTest
+{
+    private static final double DELTA = 0.000000001d;
+
+    private final Random random = new Random(0L);
+
+    private double[] random(final int length)
+    {
+        final double[] values = new double[length];
+        for (int index = 0; index < length; index++)
+        {
+            values[index] = random.nextDouble() * 2 - 1;
+        }
+        return values;
+    }
+
+    private float[] randomFloats(final int length)
+    {
+        final float[] values = new float[length];
+        for (int index = 0; index < length; index++)
+        {
+            values[index] = random.nextFloat() * 2 - 1;
+        }
+        return values;
+    }
+
+    @Test
+    public void testElementWise()
+    {
+        // Odd lengths and offsets leave a scalar tail after the whole vectors
+        for (final int length : new int[] { 0, 1, 3, 8, 17, 1001 })
+        {
+            final double[] x = random(length + 3);
+            final double[] y = random(length + 5);
+
+            Assert.assertEquals(MessageFormat.format("Dot product of length {0}", length), ScalarKernels.dot(x, 3, y, 5, length),
+                                SimdKernels.dot(x, 3, y, 5, length), DELTA * (length + 1));
+
+            final double[] expected = new double[length + 1];
+            final double[] actual = new double[length + 1];
+            ScalarKernels.addScaled(x, 3, -1.5, y, 5, expected, 1, length);
+            SimdKernels.addScaled(x, 3, -1.5, y, 5, actual, 1, length);
+            Assert.assertArrayEquals(MessageFormat.format("Scaled sum of length {0}", length), expected, actual, DELTA);
+
+            ScalarKernels.scale(2.5, x, 3, expected, 1, length);
+            SimdKernels.scale(2.5, x, 3, actual, 1, length);
+            Assert.assertArrayEquals(MessageFormat.format("Scaling of length {0}", length), expected, actual, DELTA);
+
+            final double[] yExpected = y.clone();
+            final double[] yActual = y.clone();
+            ScalarKernels.axpy(0.75, x, 3, yExpected, 5, length);
+            SimdKernels.axpy(0.75, x, 3, yActual, 5, length);
+            Assert.assertArrayEquals(MessageFormat.format("Axpy of length {0}", length), yExpected, yActual, DELTA);
+        }
+    }
+
+    @Test
+    public void testMultiply4x4()
+    {
+        final int kc = 37;
+        final int stride = 9;
+        final double[] a = random(4 * kc + 2);
+        final double[] b = random(4 * kc + 6);
+        final double[] expected = random(4 * stride);
+        final double[] actual = expected.clone();
+
+        ScalarKernels.multiply4x4(kc, a, 2, b, 6, expected, 3, stride);
+        SimdKernels.multiply4x4(kc, a, 2, b, 6, actual, 3, stride);
+        Assert.assertArrayEquals("The micro-kernel must accumulate into the tile only", expected, actual, DELTA);
+    }
+
+    @Test
+    public void testSinglePrecision()
+    {
+        for (final int length : new int[] { 0, 1, 7, 16, 33, 1001 })
+        {
+            final float[] x = randomFloats(length + 3);
+            final float[] y = randomFloats(length + 5);
+
+            Assert.assertEquals(MessageFormat.format("Dot product of length {0}", length), ScalarKernels.dot(x, 3, y, 5, length),
+                                SimdKernels.dot(x, 3, y, 5, length), 1E-6F * (length + 1));
+
+            final float[] expected = new float[length + 1];
+            final float[] actual = new float[length + 1];
+            ScalarKernels.addScaled(x, 3, -1.5F, y, 5, expected, 1, length);
+            SimdKernels.addScaled(x, 3, -1.5F, y, 5, actual, 1, length);
+            Assert.assertArrayEquals(MessageFormat.format("Scaled sum of length {0}", length), expected, actual, 1E-6F);
+
+            ScalarKernels.scale(2.5F, x, 3, expected, 1, length);
+            SimdKernels.scale(2.5F, x, 3, actual, 1, length);
+            Assert.assertArrayEquals(MessageFormat.format("Scaling of length {0}", length), expected, actual, 1E-6F);
+
+            final float[] yExpected = y.clone();
+            final float[] yActual = y.clone();
+            ScalarKernels.axpy(0.75F, x, 3, yExpected, 5, length);
+            SimdKernels.axpy(0.75F, x, 3, yActual, 5, length);
+            Assert.assertArrayEquals(MessageFormat.format("Axpy of length {0}", length), yExpected, yActual, 1E-6F);
+        }
+
+        final int kc = 37;
+        final int stride = 13;
+        final float[] a = randomFloats(4 * kc + 2);
+        final float[] b = randomFloats(8 * kc + 6);
+        final float[] expected = randomFloats(4 * stride);
+        final float[] actual = expected.clone();
+        ScalarKernels.multiply4x8(kc, a, 2, b, 6, expected, 3, stride);
+        SimdKernels.multiply4x8(kc, a, 2, b, 6, actual, 3, stride);
+        Assert.assertArrayEquals("The micro-kernel must accumulate into the tile only", expected, actual, 1E-5F);
+    }
+
+    @Test
+    public void testTransformAffine3()
+    {
+        final int size = 1003;
+        final double[] m = random(16);
+        final double[][] source = { random(size), random(size), random(size) };
+        final double[][] expected = new double[3][size];
+        final double[][] actual = new double[3][size];
+
+        ScalarKernels.transformAffine3(m, source, expected, 5, size - 2);
+        SimdKernels.transformAffine3(m, source, actual, 5, size - 2);
+        for (int axis = 0; axis < 3; axis++)
+        {
+            Assert.assertArrayEquals(MessageFormat.format("Axis {0}", axis + 1), expected[axis], actual[axis], DELTA);
+        }
+
+        Assert.assertEquals("The range limits must be respected", 0D, actual[0][4], 0D);
+        Assert.assertEquals("The range limits must be respected", 0D, actual[2][size - 1], 0D);
+
+        // In place
+        ScalarKernels.transformAffine3(m, source, expected, 0, size);
+        SimdKernels.transformAffine3(m, source, source, 0, size);
+        for (int axis = 0; axis < 3; axis++)
+        {
+            Assert.assertArrayEquals(MessageFormat.format("Axis {0} in place", axis + 1), expected[axis], source[axis], DELTA);
+        }
+    }
+}